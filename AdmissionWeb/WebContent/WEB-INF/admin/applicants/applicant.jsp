@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.applicants_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.applicants_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,34 +21,34 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/applicants_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.applicant_review" bundle="${i18n}" />
+        <adm:message key="i18n.title.applicant_review" />
       </h1>
     </div>
     <c:choose>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.applicants.review" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.applicants.review" />
         </p>
       </c:when>
       <c:when test="${requestScope.notFound}">
         <p class="info-message">
-          <fmt:message key="i18n.info.admin.applicants.review_empty" bundle="${i18n}" />
+          <adm:message key="i18n.info.admin.applicants.review_empty" />
         </p>
       </c:when>
       <c:otherwise>
         <h3>
-          <fmt:message key="i18n.title.personal_inf" bundle="${i18n}" />
+          <adm:message key="i18n.title.personal_inf" />
         </h3>
         <div class="form-box">
           <div>
             <label>
-              <fmt:message key="i18n.label.name" bundle="${i18n}" />
+              <adm:message key="i18n.label.name" />
               :
             </label>
             <strong>${requestScope.appl.name}</strong>
@@ -59,35 +59,35 @@
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.birthdate" bundle="${i18n}" />
+              <adm:message key="i18n.label.birthdate" />
               :
             </label>
             ${requestScope.appl.birthdate}
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.phone" bundle="${i18n}" />
+              <adm:message key="i18n.label.phone" />
               :
             </label>
             ${requestScope.appl.phone}
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.address" bundle="${i18n}" />
+              <adm:message key="i18n.label.address" />
               :
             </label>
             ${requestScope.appl.address}
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.school" bundle="${i18n}" />
+              <adm:message key="i18n.label.school" />
               :
             </label>
             ${requestScope.appl.school}
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.year" bundle="${i18n}" />
+              <adm:message key="i18n.label.year" />
               :
             </label>
             ${requestScope.appl.gradYear}
@@ -96,12 +96,12 @@
         <c:choose>
           <c:when test="${empty requestScope.appl.record}">
             <p class="info-message">
-              <fmt:message key="i18n.info.admin.applicants.empty_record" bundle="${i18n}" />
+              <adm:message key="i18n.info.admin.applicants.empty_record" />
             </p>
           </c:when>
           <c:otherwise>
             <h3>
-              <fmt:message key="i18n.title.score_inf" bundle="${i18n}" />
+              <adm:message key="i18n.title.score_inf" />
             </h3>
             <div class="form-box">
               <c:forEach var="score" items="${requestScope.appl.record.scores}">
@@ -112,38 +112,36 @@
               </c:forEach>
               <div>
                 <label>
-                  <fmt:message key="i18n.label.certificate" bundle="${i18n}" />
+                  <adm:message key="i18n.label.certificate" />
                   :
                 </label>
                 ${requestScope.appl.record.certificateScore}
               </div>
               <div>
                 <label>
-                  <fmt:message key="i18n.label.total_score" bundle="${i18n}" />
+                  <adm:message key="i18n.label.total_score" />
                   :
                 </label>
                 ${requestScope.appl.record.totalScore}
               </div>
             </div>
             <h3>
-              <fmt:message key="i18n.title.status" bundle="${i18n}" />
+              <adm:message key="i18n.title.status" />
             </h3>
             <div class="form-box">
               <div>
                 <label>
-                  <fmt:message key="i18n.label.faculty" bundle="${i18n}" />
+                  <adm:message key="i18n.label.faculty" />
                   :
                 </label>
                 ${requestScope.appl.record.faculty.title}
               </div>
               <div>
                 <label>
-                  <fmt:message key="i18n.label.status" bundle="${i18n}" />
+                  <adm:message key="i18n.label.status" />
                   :
                 </label>
-                <fmt:message
-                  key="i18n.info.applicant.status.${requestScope.appl.record.status}"
-                  bundle="${i18n}" />
+                <adm:message key="i18n.info.applicant.status.${requestScope.appl.record.status}" />
               </div>
             </div>
           </c:otherwise>
@@ -154,4 +152,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.applicants_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.applicants_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,31 +21,41 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/applicants_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.applicants_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.applicants_managing" />
       </h1>
     </div>
+    <ul>
+      <li class="selected"><adm:message key="i18n.button.applicants_list" /></li>
+      <li>
+        <form action="Controller">
+          <input type="hidden" name="command" value="to-import-applicants-page" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.import_applicants" />" />
+        </form>
+      </li>
+    </ul>
     <h2>
-      <fmt:message key="i18n.title.applicants_list" bundle="${i18n}" />
+      <adm:message key="i18n.title.applicants_list" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.applicants.list" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.applicants.list" />
     </p>
 
     <c:choose>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.applicants.list" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.applicants.list" />
         </p>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <p class="info-message">
-          <fmt:message key="i18n.info.admin.applicants.list_empty" bundle="${i18n}" />
+          <adm:message key="i18n.info.admin.applicants.list_empty" />
         </p>
       </c:when>
       <c:otherwise>
@@ -54,7 +64,7 @@
             <input type="hidden" name="command" value="get-applicants-list" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -62,19 +72,19 @@
             <input type="hidden" name="command" value="get-applicants-list" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
               class="button" />
           </form>
         </div>
         <table>
           <thead>
             <tr>
-              <td><fmt:message key="i18n.label.name" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.birthdate" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.phone" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.address" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.school" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.year" bundle="${i18n}" /></td>
+              <td><adm:message key="i18n.label.name" /></td>
+              <td><adm:message key="i18n.label.birthdate" /></td>
+              <td><adm:message key="i18n.label.phone" /></td>
+              <td><adm:message key="i18n.label.address" /></td>
+              <td><adm:message key="i18n.label.school" /></td>
+              <td><adm:message key="i18n.label.year" /></td>
             </tr>
           </thead>
           <tbody>
@@ -102,4 +112,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -0,0 +1,123 @@
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
+
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+
+<fmt:setLocale value="${sessionScope.locale}" />
+
+<!DOCTYPE html>
+<html>
+<head>
+<meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
+<link rel="stylesheet" type="text/css" href="css/admission.css" />
+<link rel="shortcut icon" href="img/icon/shortcut.png" />
+<title><adm:message key="i18n.head.applicants_managing" /></title>
+</head>
+<body>
+  <%@include file="../../jspf/header.jspf"%>
+  <main>
+  <section>
+    <form action="Controller">
+      <input type="hidden" name="command" value="to-admin-login-page" />
+      <input type="submit"
+        value="<adm:message key="i18n.button.return_to_admin" />"
+        class="button admin" />
+    </form>
+    <div>
+      <img src="img/icon/applicants_icon.png" />
+      <h1>
+        <adm:message key="i18n.title.applicants_managing" />
+      </h1>
+    </div>
+    <ul>
+      <li>
+        <form action="Controller" method="post">
+          <input type="hidden" name="command" value="get-applicants-list" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.applicants_list" />" />
+        </form>
+      </li>
+      <li class="selected"><adm:message key="i18n.button.import_applicants" /></li>
+    </ul>
+
+    <h2>
+      <adm:message key="i18n.title.import_applicants" />
+    </h2>
+    <p>
+      <adm:message key="i18n.info.admin.applicants.import" />
+    </p>
+    <div>
+      <c:if test="${requestScope.error}">
+        <p class="error-message">
+          <adm:message key="i18n.error.admin.applicants.import" />
+        </p>
+      </c:if>
+      <c:if test="${requestScope.validationFailed}">
+        <p class="error-message">
+          <adm:message key="i18n.error.validate" />
+        </p>
+      </c:if>
+      <c:if test="${not empty requestScope.importResult}">
+        <p class="success-message">
+          <adm:message key="i18n.success.admin.applicants.import" />
+        </p>
+      </c:if>
+    </div>
+    <c:if test="${not empty requestScope.importResult}">
+      <div class="form-box">
+        <div>
+          <label>
+            <adm:message key="i18n.label.imported_applicants" />
+            :
+          </label>
+          <span>${requestScope.importResult.applicantsNumber}</span>
+        </div>
+        <div>
+          <label>
+            <adm:message key="i18n.label.imported_records" />
+            :
+          </label>
+          <span>${requestScope.importResult.recordsNumber}</span>
+        </div>
+        <div>
+          <label>
+            <adm:message key="i18n.label.rejected_lines" />
+            :
+          </label>
+          <span>${requestScope.importResult.rejectedNumber}</span>
+        </div>
+        <c:if test="${not empty requestScope.importResult.rejectedLines}">
+          <div>
+            <label>
+              <adm:message key="i18n.label.rejected_lines_numbers" />
+              :
+            </label>
+            <span>
+              <c:forEach var="line" items="${requestScope.importResult.rejectedLines}" varStatus="status">
+                ${line}<c:if test="${not status.last}">, </c:if>
+              </c:forEach>
+              <c:if test="${requestScope.importResult.rejectedNumber > requestScope.importResult.rejectedLines.size()}">...</c:if>
+            </span>
+          </div>
+        </c:if>
+      </div>
+    </c:if>
+    <form action="Controller" class="form-box" method="post" enctype="multipart/form-data">
+      <input type="hidden" name="command" value="import-applicants" />
+      <input type="hidden" name="key" value="${applicationScope.generator.generatedKey}" />
+      <div>
+        <label>
+          <adm:message key="i18n.label.file" />
+          :
+        </label>
+        <input type="file" name="file" accept=".csv,text/csv" required />
+      </div>
+      <input type="submit" value="<adm:message key="i18n.button.import_applicants" />"
+        class="button wide-button" />
+    </form>
+  </section>
+  </main>
+  <%@include file="../../jspf/footer.jspf"%>
+</body>
+</html>
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.admin_console" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.admin_console" /></title>
 </head>
 <body>
   <%@include file="../jspf/header.jspf"%>
@@ -23,10 +23,10 @@
       <form action="Controller" method="post">
         <input type="hidden" name="command" value="get-register">
         <input type="submit"
-          value="<fmt:message key="i18n.head.register_review" bundle="${i18n}" />" class="title" />
+          value="<adm:message key="i18n.head.register_review" />" class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.admin.register.review" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.register.review" />
       </p>
     </div>
     <div>
@@ -34,10 +34,10 @@
       <form action="Controller">
         <input type="hidden" name="command" value="get-enrolls-list">
         <input type="submit"
-          value="<fmt:message key="i18n.head.enrollment_managing" bundle="${i18n}" />" class="title" />
+          value="<adm:message key="i18n.head.enrollment_managing" />" class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.admin.enrollment_managing" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.enrollment_managing" />
       </p>
     </div>
     <div>
@@ -46,10 +46,10 @@
         <input type="hidden" name="command" value="get-faculties-list" />
         <input type="hidden" name="for-admin" value="true" />
         <input type="submit"
-          value="<fmt:message key="i18n.head.faculties_managing" bundle="${i18n}" />" class="title" />
+          value="<adm:message key="i18n.head.faculties_managing" />" class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.admin.faculties_managing" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.faculties_managing" />
       </p>
     </div>
     <div>
@@ -57,10 +57,10 @@
       <form action="Controller" method="post">
         <input type="hidden" name="command" value="get-applicants-list" />
         <input type="submit"
-          value="<fmt:message key="i18n.head.applicants_managing" bundle="${i18n}" />" class="title" />
+          value="<adm:message key="i18n.head.applicants_managing" />" class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.admin.applicants_managing" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.applicants_managing" />
       </p>
     </div>
     <div>
@@ -68,20 +68,20 @@
       <form action="Controller"  method="post">
         <input type="hidden" name="command" value="get-disciplines-list" />
         <input type="submit"
-          value="<fmt:message key="i18n.head.disciplines_managing" bundle="${i18n}" />"
+          value="<adm:message key="i18n.head.disciplines_managing" />"
           class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.admin.disciplines_managing" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.disciplines_managing" />
       </p>
     </div>
     <form action="Controller">
       <input type="hidden" name="command" value="logout" />
       <input class="button" type="submit"
-        value="<fmt:message key="i18n.button.logout" bundle="${i18n}" />" />
+        value="<adm:message key="i18n.button.logout" />" />
     </form>
   </section>
   </main>
   <%@include file="../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.disciplines_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.disciplines_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,44 +21,44 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/disciplines_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.disciplines_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.disciplines_managing" />
       </h1>
     </div>
     <ul>
-      <li class="selected"><fmt:message key="i18n.button.disciplines" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.disciplines" /></li>
       <li>
         <form action="Controller">
           <input type="hidden" name="command" value="to-add-discipline-page" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.add_discipline" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.add_discipline" />" />
         </form>
       </li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.disciplines" bundle="${i18n}" />
+      <adm:message key="i18n.title.disciplines" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.disciplines" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.disciplines" />
     </p>
     <c:choose>
       <c:when test="${requestScope.error}">
         <div>
           <p class="error-message">
-            <fmt:message key="i18n.error.admin.disciplines.list" bundle="${i18n}" />
+            <adm:message key="i18n.error.admin.disciplines.list" />
           </p>
         </div>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <div>
           <p class="info-message">
-            <fmt:message key="i18n.info.admin.disciplines.list_empty" bundle="${i18n}" />
+            <adm:message key="i18n.info.admin.disciplines.list_empty" />
           </p>
         </div>
       </c:when>
@@ -68,7 +68,7 @@
             <input type="hidden" name="command" value="get-disciplines-list" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -76,15 +76,15 @@
             <input type="hidden" name="command" value="get-disciplines-list" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
               class="button" />
           </form>
         </div>
         <table>
           <thead>
             <tr>
-              <td><fmt:message key="i18n.label.discipline_title" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.faculties" bundle="${i18n}" /></td>
+              <td><adm:message key="i18n.label.discipline_title" /></td>
+              <td><adm:message key="i18n.label.faculties" /></td>
             </tr>
           </thead>
           <tbody>
@@ -95,7 +95,7 @@
                     <input type="hidden" name="command" value="get-discipline" />
                     <input type="hidden" name="discipline-id" value="${discipline.id}" />
                     <input type="submit" value="${discipline.title}"
-                      title="<fmt:message key="i18n.button.edit" bundle="${i18n}" />">
+                      title="<adm:message key="i18n.button.edit" />">
                   </form>
                 </td>
                 <td><c:forEach var="faculty" items="${discipline.faculties}">
@@ -111,4 +111,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.disciplines_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.disciplines_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,83 +21,89 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/disciplines_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.disciplines_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.disciplines_managing" />
       </h1>
     </div>
 
     <h2>
-      <fmt:message key="i18n.title.edit_discipline" bundle="${i18n}" />
+      <adm:message key="i18n.title.edit_discipline" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.disciplines.edit" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.disciplines.edit" />
     </p>
     <c:choose>
       <c:when test="${requestScope.successDeleted}">
         <p class="success-message">
-          <fmt:message key="i18n.success.admin.disciplines.delete" bundle="${i18n}" />
+          <adm:message key="i18n.success.admin.disciplines.delete" />
         </p>
       </c:when>
       <c:when test="${requestScope.notFound}">
         <p class="info-message">
-          <fmt:message key="i18n.error.admin.disciplines.not_found" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.disciplines.not_found" />
         </p>
       </c:when>
       <c:otherwise>
         <c:if test="${requestScope.error}">
           <p class="error-message">
-            <fmt:message key="i18n.error.admin.disciplines.delete" bundle="${i18n}" />
+            <adm:message key="i18n.error.admin.disciplines.delete" />
           </p>
         </c:if>
         <c:if test="${requestScope.deleteUnable}">
           <p class="error-message">
-            <fmt:message key="i18n.error.admin.disciplines.delete_current_enroll" bundle="${i18n}" />
+            <adm:message key="i18n.error.admin.disciplines.delete_current_enroll" />
           </p>
         </c:if>
         <c:if test="${requestScope.validationFailed}">
           <p class="error-message">
-            <fmt:message key="i18n.error.validate" bundle="${i18n}" />
+            <adm:message key="i18n.error.validate" />
           </p>
         </c:if>
         <c:if test="${requestScope.alreadyExists}">
           <p class="error-message">
-            <fmt:message key="i18n.error.admin.disciplines.exist" bundle="${i18n}" />
+            <adm:message key="i18n.error.admin.disciplines.exist" />
+          </p>
+        </c:if>
+        <c:if test="${requestScope.modified}">
+          <p class="error-message">
+            <adm:message key="i18n.error.admin.disciplines.modified" />
           </p>
         </c:if>
         <c:if test="${requestScope.successUpdated}">
           <p class="success-message">
-            <fmt:message key="i18n.success.admin.disciplines.update" bundle="${i18n}" />
+            <adm:message key="i18n.success.admin.disciplines.update" />
           </p>
         </c:if>
         <form action="Controller" class="form-box" method="post">
           <input type="hidden" name="command" value="update-discipline" />
           <input type="hidden" name="discipline-id" value="${requestScope.discipline.id}"
             maxLength="30" required />
+          <input type="hidden" name="version" value="${requestScope.discipline.version}" />
           <div>
             <div></div>
             <div class="validate-message">
-              <fmt:message key="i18n.validate.discipline_title" bundle="${i18n}" />
+              <adm:message key="i18n.validate.discipline_title" />
             </div>
           </div>
           <div>
             <label>
-              <fmt:message key="i18n.label.discipline_title" bundle="${i18n}" />
+              <adm:message key="i18n.label.discipline_title" />
               :
             </label>
             <input type="text" name="title" value="${requestScope.discipline.title}" required />
           </div>
-          <input type="submit" value="<fmt:message key="i18n.button.edit" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.edit" />"
             class="button" />
         </form>
         <form>
           <input type="hidden" name="command" value="delete-discipline" />
           <input type="hidden" name="discipline-id" value="${requestScope.discipline.id}" />
-          <input type="submit" value="<fmt:message key="i18n.button.delete" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.delete" />"
             class="button" />
         </form>
       </c:otherwise>
@@ -106,4 +112,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.enrollment_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.enrollment_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,50 +21,50 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/enrollment_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.enrollment_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.enrollment_managing" />
       </h1>
     </div>
     <ul>
       <li>
         <form action="Controller"  method="post">
           <input type="hidden" name="command" value="get-enrolls-list" />
-          <input type="submit" value="<fmt:message key="i18n.button.enrolls" bundle="${i18n}" />" />
+          <input type="submit" value="<adm:message key="i18n.button.enrolls" />" />
         </form>
       </li>
-      <li class="selected"><fmt:message key="i18n.button.open_enroll" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.open_enroll" /></li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.start_enroll" bundle="${i18n}" />
+      <adm:message key="i18n.title.start_enroll" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.enrollment.start" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.enrollment.start" />
     </p>
     <div>
       <c:if test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.enrollment.open" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.enrollment.open" />
         </p>
       </c:if>
       <c:if test="${requestScope.validationFailed}">
         <p class="error-message">
-          <fmt:message key="i18n.error.validate" bundle="${i18n}" />
+          <adm:message key="i18n.error.validate" />
         </p>
       </c:if>
       <c:if test="${requestScope.isCurrentEnroll}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.enrollment.start_is_active" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.enrollment.start_is_active" />
         </p>
       </c:if>
       <c:if test="${requestScope.successStarted}">
         <p class="success-message">
-          <fmt:message key="i18n.success.admin.enrollment.open" bundle="${i18n}" />
+          <adm:message key="i18n.success.admin.enrollment.open" />
         </p>
       </c:if>
     </div>
@@ -73,7 +73,7 @@
       <input type="hidden" name="key" value="${applicationScope.generator.generatedKey}" />
       <div>
         <label>
-          <fmt:message key="i18n.label.begin_date" bundle="${i18n}" />
+          <adm:message key="i18n.label.begin_date" />
           :
         </label>
         <input type="date" name="begin-date"
@@ -82,23 +82,23 @@
       <div>
         <div></div>
         <div class="validate-message">
-          <fmt:message key="i18n.validate.date_format" bundle="${i18n}" />
+          <adm:message key="i18n.validate.date_format" />
         </div>
       </div>
       <div>
         <label>
-          <fmt:message key="i18n.label.end_date" bundle="${i18n}" />
+          <adm:message key="i18n.label.end_date" />
           :
         </label>
         <input type="date" name="end-date"
           value='<fmt:formatDate value="${requestScope.enroll.endDate}" pattern="yyyy-MM-dd"/>'
           required />
       </div>
-      <input type="submit" value="<fmt:message key="i18n.button.open_enroll" bundle="${i18n}" />"
+      <input type="submit" value="<adm:message key="i18n.button.open_enroll" />"
         class="button wide-button" />
     </form>
   </section>
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.faculties_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.faculties_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,13 +21,13 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/faculties_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.faculties_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.faculties_managing" />
       </h1>
     </div>
     <ul>
@@ -36,21 +36,20 @@
           <input type="hidden" name="for-admin" value="true" />
           <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.edit_faculty" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.edit_faculty" />" />
         </form></li>
       <c:choose>
         <c:when test="${requestScope.admitted}">
-          <li class="selected"><fmt:message key="i18n.button.admitted_applicants"
-              bundle="${i18n}" /></li>
+          <li class="selected"><adm:message key="i18n.button.admitted_applicants" /></li>
           <li><form action="Controller"  method="post">
               <input type="hidden" name="command" value="get-register-by-status" />
               <input type="hidden" name="admitted" value="false" />
               <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
               <input type="submit"
-                value="<fmt:message key="i18n.button.not_admitted_applicants" bundle="${i18n}" />" />
+                value="<adm:message key="i18n.button.not_admitted_applicants" />" />
             </form></li>
           <c:set var="title"
-            value="<fmt:message key='i18n.button.admitted_applicants' bundle='${i18n}' />" />
+            value="<adm:message key='i18n.button.admitted_applicants' />" />
         </c:when>
         <c:otherwise>
           <li><form action="Controller"  method="post">
@@ -58,26 +57,31 @@
               <input type="hidden" name="admitted" value="true" />
               <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
               <input type="submit"
-                value="<fmt:message key="i18n.button.admitted_applicants" bundle="${i18n}" />" />
+                value="<adm:message key="i18n.button.admitted_applicants" />" />
             </form></li>
-          <li class="selected"><fmt:message key="i18n.button.not_admitted_applicants"
-              bundle="${i18n}" /></li>
+          <li class="selected"><adm:message key="i18n.button.not_admitted_applicants" /></li>
           <c:set var="title"
-            value="<fmt:message key='i18n.button.not_admitted_applicants' bundle='${i18n}' />" />
+            value="<adm:message key='i18n.button.not_admitted_applicants' />" />
         </c:otherwise>
       </c:choose>
+      <li><form action="Controller" method="post">
+          <input type="hidden" name="command" value="simulate-plans" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.plan_simulator" />" />
+        </form></li>
     </ul>
     <h2>${requestScope.faculty.title}</h2>
     <h2>${title}</h2>
     <c:choose>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key='i18n.error.admin.faculties.applicants_rate' bundle='${i18n}' />
+          <adm:message key='i18n.error.admin.faculties.applicants_rate' />
         </p>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <p class="info-message">
-          <fmt:message key='i18n.info.admin.faculties.applicants_rate_empty' bundle='${i18n}' />
+          <adm:message key='i18n.info.admin.faculties.applicants_rate_empty' />
         </p>
       </c:when>
       <c:otherwise>
@@ -88,7 +92,7 @@
             <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -98,19 +102,35 @@
             <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
+              class="button" />
+          </form>
+          <form action="Controller" method="post">
+            <input type="hidden" name="command" value="export-register" />
+            <input type="hidden" name="admitted" value="${requestScope.admitted}" />
+            <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+            <input type="hidden" name="format" value="csv" />
+            <input type="submit" value="<adm:message key="i18n.button.export_csv" />"
+              class="button" />
+          </form>
+          <form action="Controller" method="post">
+            <input type="hidden" name="command" value="export-register" />
+            <input type="hidden" name="admitted" value="${requestScope.admitted}" />
+            <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+            <input type="hidden" name="format" value="xlsx" />
+            <input type="submit" value="<adm:message key="i18n.button.export_xlsx" />"
               class="button" />
           </form>
         </div>
         <table>
           <thead>
             <tr>
-              <td><fmt:message key="i18n.label.name" bundle="${i18n}" /></td>
+              <td><adm:message key="i18n.label.name" /></td>
               <c:forEach var="d" items="${requestScope.faculty.disciplines}">
                 <td class="center">${d.title}</td>
               </c:forEach>
-              <td class="center"><fmt:message key="i18n.label.certificate" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.total_score" bundle="${i18n}" /></td>
+              <td class="center"><adm:message key="i18n.label.certificate" /></td>
+              <td class="center"><adm:message key="i18n.label.total_score" /></td>
             </tr>
           </thead>
           <tbody>
@@ -136,4 +156,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.faculties_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.faculties_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,94 +21,107 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/faculties_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.faculties_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.faculties_managing" />
       </h1>
     </div>
     <ul>
-      <li class="selected"><fmt:message key="i18n.button.edit_faculty" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.edit_faculty" /></li>
       <li><form action="Controller" method="post">
           <input type="hidden" name="command" value="get-register-by-status" />
           <input type="hidden" name="admitted" value="true" />
           <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.admitted_applicants" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.admitted_applicants" />" />
         </form></li>
       <li><form action="Controller" method="post">
           <input type="hidden" name="command" value="get-register-by-status" />
           <input type="hidden" name="admitted" value="false" />
           <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.not_admitted_applicants" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.not_admitted_applicants" />" />
+        </form></li>
+      <li><form action="Controller" method="post">
+          <input type="hidden" name="command" value="simulate-plans" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.plan_simulator" />" />
         </form></li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.edit_faculty" bundle="${i18n}" />
+      <adm:message key="i18n.title.edit_faculty" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.faculties.edit" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.faculties.edit" />
     </p>
     <c:choose>
       <c:when test="${requestScope.successDeleted}">
         <p class="success-message">
-          <fmt:message key="i18n.success.admin.faculties.delete" bundle="${i18n}" />
+          <adm:message key="i18n.success.admin.faculties.delete" />
         </p>
       </c:when>
       <c:when test="${requestScope.notFound}">
         <p class="info-message">
-          <fmt:message key="i18n.error.faculty.not_found" bundle="${i18n}" />
+          <adm:message key="i18n.error.faculty.not_found" />
         </p>
       </c:when>
       <c:otherwise>
         <div>
           <c:if test="${requestScope.error}">
             <p class="error-message">
-              <fmt:message key="i18n.error.admin.faculties.edit" bundle="${i18n}" />
+              <adm:message key="i18n.error.admin.faculties.edit" />
             </p>
           </c:if>
           <c:if test="${requestScope.validationFailed}">
             <p class="error-message">
-              <fmt:message key="i18n.error.validate" bundle="${i18n}" />
+              <adm:message key="i18n.error.validate" />
             </p>
           </c:if>
           <c:if test="${requestScope.deleteUnable}">
             <p class="error-message">
-              <fmt:message key="i18n.error.admin.faculties.delete_unable" bundle="${i18n}" />
+              <adm:message key="i18n.error.admin.faculties.delete_unable" />
             </p>
           </c:if>
           <c:if test="${requestScope.alreadyExists}">
             <p class="error-message">
-              <fmt:message key="i18n.error.admin.faculties.exist" bundle="${i18n}" />
+              <adm:message key="i18n.error.admin.faculties.exist" />
+            </p>
+          </c:if>
+          <c:if test="${requestScope.modified}">
+            <p class="error-message">
+              <adm:message key="i18n.error.admin.faculties.modified" />
             </p>
           </c:if>
           <c:if test="${requestScope.successUpdated}">
             <p class="success-message">
-              <fmt:message key="i18n.success.admin.faculties.update" bundle="${i18n}" />
+              <adm:message key="i18n.success.admin.faculties.update" />
             </p>
           </c:if>
         </div>
         <form action="Controller" method="post">
           <input type="hidden" name="command" value="update-faculty" />
           <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="hidden" name="version" value="${requestScope.faculty.version}" />
+          <input type="hidden" name="loaded-plan" value="${requestScope.faculty.plan}" />
           <h3>
-            <fmt:message key="i18n.title.faculty_general_inf" bundle="${i18n}" />
+            <adm:message key="i18n.title.faculty_general_inf" />
           </h3>
           <div class="form-box">
             <div>
               <div></div>
               <div class="validate-message">
-                <fmt:message key="i18n.validate.faculty_title" bundle="${i18n}" />
+                <adm:message key="i18n.validate.faculty_title" />
               </div>
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.title" bundle="${i18n}" />
+                <adm:message key="i18n.label.title" />
                 :
               </label>
               <input type="text" name="title" value="${requestScope.faculty.title}" maxLength="65"
@@ -116,7 +129,7 @@
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.description" bundle="${i18n}" />
+                <adm:message key="i18n.label.description" />
                 :
               </label>
               <textarea name="description">${requestScope.faculty.description}</textarea>
@@ -124,12 +137,12 @@
             <div>
               <div></div>
               <div class="validate-message">
-                <fmt:message key="i18n.validate.faculty_logoname" bundle="${i18n}" />
+                <adm:message key="i18n.validate.faculty_logoname" />
               </div>
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.logo" bundle="${i18n}" />
+                <adm:message key="i18n.label.logo" />
                 :
               </label>
               <input type="text" name="logoname" value="${requestScope.faculty.logoname}"
@@ -137,18 +150,18 @@
             </div>
           </div>
           <h3>
-            <fmt:message key="i18n.title.contacts_inf" bundle="${i18n}" />
+            <adm:message key="i18n.title.contacts_inf" />
           </h3>
           <div class="form-box">
             <div>
               <div></div>
               <div class="validate-message">
-                <fmt:message key="i18n.validate.faculty_phone" bundle="${i18n}" />
+                <adm:message key="i18n.validate.faculty_phone" />
               </div>
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.phone" bundle="${i18n}" />
+                <adm:message key="i18n.label.phone" />
                 :
               </label>
               <input type="text" name="phone" value="${requestScope.faculty.phone}" maxLength="13"
@@ -157,12 +170,12 @@
             <div>
               <div></div>
               <div class="validate-message">
-                <fmt:message key="i18n.validate.faculty_address" bundle="${i18n}" />
+                <adm:message key="i18n.validate.faculty_address" />
               </div>
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.address" bundle="${i18n}" />
+                <adm:message key="i18n.label.address" />
                 :
               </label>
               <input type="text" name="address" value="${requestScope.faculty.address}"
@@ -171,12 +184,12 @@
             <div>
               <div></div>
               <div class="validate-message">
-                <fmt:message key="i18n.validate.faculty_dean" bundle="${i18n}" />
+                <adm:message key="i18n.validate.faculty_dean" />
               </div>
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.dean_name" bundle="${i18n}" />
+                <adm:message key="i18n.label.dean_name" />
                 :
               </label>
               <input type="text" name="dean" value="${requestScope.faculty.dean}" maxLength="40"
@@ -184,12 +197,12 @@
             </div>
           </div>
           <h3>
-            <fmt:message key="i18n.title.disciplines_plan" bundle="${i18n}" />
+            <adm:message key="i18n.title.disciplines_plan" />
           </h3>
           <div class="form-box">
             <div>
               <label>
-                <fmt:message key="i18n.label.disciplines" bundle="${i18n}" />
+                <adm:message key="i18n.label.disciplines" />
                 :
               </label>
               <c:forEach var="fDiscipline" items="${requestScope.faculty.disciplines}">
@@ -199,9 +212,8 @@
 
             <div>
               <label>
-                <fmt:message key="i18n.label.choose_disciplines" bundle="${i18n}" />
-                <span class="validate-message">(<fmt:message
-                    key="i18n.validate.faculties_disciplines" bundle="${i18n}" />)
+                <adm:message key="i18n.label.choose_disciplines" />
+                <span class="validate-message">(<adm:message key="i18n.validate.faculties_disciplines" />)
                 </span>:
               </label>
               <c:forEach var="d" items="${requestScope.dList}">
@@ -211,19 +223,19 @@
             </div>
             <div>
               <label>
-                <fmt:message key="i18n.label.plan" bundle="${i18n}" />
+                <adm:message key="i18n.label.plan" />
                 :
               </label>
               <input type="number" name="plan" value="${requestScope.faculty.plan}" />
             </div>
           </div>
-          <input type="submit" value="<fmt:message key="i18n.button.edit" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.edit" />"
             class="button" />
         </form>
         <form>
           <input type="hidden" name="command" value="delete-faculty" />
           <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
-          <input type="submit" value="<fmt:message key="i18n.button.delete" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.delete" />"
             class="button" />
         </form>
       </c:otherwise>
@@ -232,4 +244,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.faculties_managing" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.faculties_managing" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,42 +21,42 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/faculties_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.faculties_managing" bundle="${i18n}" />
+        <adm:message key="i18n.title.faculties_managing" />
       </h1>
     </div>
     <ul>
-      <li class="selected"><fmt:message key="i18n.button.faculties" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.faculties" /></li>
       <li><form action="Controller">
           <input type="hidden" name="command" value="to-add-faculty-page" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.add_faculty" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.add_faculty" />" />
         </form></li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.faculties" bundle="${i18n}" />
+      <adm:message key="i18n.title.faculties" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.faculties" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.faculties" />
     </p>
     <c:choose>
       <c:when test="${requestScope.error}">
         <div>
           <p class="error-message">
-            <fmt:message key="i18n.error.admin.faculties.list" bundle="${i18n}" />
+            <adm:message key="i18n.error.admin.faculties.list" />
           </p>
         </div>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <div>
           <p class="info-message">
-            <fmt:message key="i18n.info.admin.faculties.list_empty" bundle="${i18n}" />
+            <adm:message key="i18n.info.admin.faculties.list_empty" />
           </p>
         </div>
       </c:when>
@@ -67,7 +67,7 @@
             <input type="hidden" name="for-admin" value="true" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -76,18 +76,17 @@
             <input type="hidden" name="for-admin" value="true" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
               class="button" />
           </form>
         </div>
         <table>
           <thead>
             <tr>
-              <td><fmt:message key="i18n.label.faculty" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.plan" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.pass_rate" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.applicants_number"
-                  bundle="${i18n}" /></td>
+              <td><adm:message key="i18n.label.faculty" /></td>
+              <td class="center"><adm:message key="i18n.label.plan" /></td>
+              <td class="center"><adm:message key="i18n.label.pass_rate" /></td>
+              <td class="center"><adm:message key="i18n.label.applicants_number" /></td>
             </tr>
           </thead>
           <tbody>
@@ -99,7 +98,7 @@
                     <input type="hidden" name="faculty-id" value="${faculty.id}" />
                     <input type="hidden" name="for-admin" value="true" />
                     <input type="submit" value="${faculty.title}"
-                      title="<fmt:message key="i18n.button.edit" bundle="${i18n}" />">
+                      title="<adm:message key="i18n.button.edit" />">
                   </form>
                 </td>
                 <td class="center">${faculty.plan}</td>
@@ -115,4 +114,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -0,0 +1,122 @@
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
+
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+
+<fmt:setLocale value="${sessionScope.locale}" />
+
+<!DOCTYPE html>
+<html>
+<head>
+<meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
+<link rel="stylesheet" type="text/css" href="css/admission.css" />
+<link rel="shortcut icon" href="img/icon/shortcut.png" />
+<title><adm:message key="i18n.head.faculties_managing" /></title>
+</head>
+<body>
+  <%@include file="../../jspf/header.jspf"%>
+  <main>
+  <section>
+    <form action="Controller">
+      <input type="hidden" name="command" value="to-admin-login-page" />
+      <input type="submit"
+        value="<adm:message key="i18n.button.return_to_admin" />"
+        class="button admin" />
+    </form>
+    <div>
+      <img src="img/icon/faculties_icon.png" />
+      <h1>
+        <adm:message key="i18n.title.faculties_managing" />
+      </h1>
+    </div>
+    <ul>
+      <li><form action="Controller">
+          <input type="hidden" name="command" value="get-faculty" />
+          <input type="hidden" name="for-admin" value="true" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.edit_faculty" />" />
+        </form></li>
+      <li><form action="Controller" method="post">
+          <input type="hidden" name="command" value="get-register-by-status" />
+          <input type="hidden" name="admitted" value="true" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.admitted_applicants" />" />
+        </form></li>
+      <li><form action="Controller" method="post">
+          <input type="hidden" name="command" value="get-register-by-status" />
+          <input type="hidden" name="admitted" value="false" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <input type="submit"
+            value="<adm:message key="i18n.button.not_admitted_applicants" />" />
+        </form></li>
+      <li class="selected"><adm:message key="i18n.button.plan_simulator" /></li>
+    </ul>
+    <h2>${requestScope.faculty.title}</h2>
+    <p>
+      <adm:message key="i18n.info.admin.faculties.plan_simulator" />
+    </p>
+    <c:choose>
+      <c:when test="${requestScope.error}">
+        <p class="error-message">
+          <adm:message key="i18n.error.admin.faculties.plan_simulator" />
+        </p>
+      </c:when>
+      <c:when test="${requestScope.notFound}">
+        <p class="info-message">
+          <adm:message key="i18n.error.faculty.not_found" />
+        </p>
+      </c:when>
+      <c:otherwise>
+        <form action="Controller" method="post">
+          <input type="hidden" name="command" value="simulate-plans" />
+          <input type="hidden" name="faculty-id" value="${requestScope.faculty.id}" />
+          <div class="form-box">
+            <div>
+              <label>
+                <adm:message key="i18n.label.plans" />
+                :
+              </label>
+              <input type="text" name="plans" value="${requestScope.plans}" maxLength="500" required />
+            </div>
+          </div>
+          <input type="submit" value="<adm:message key="i18n.button.simulate" />"
+            class="button" />
+        </form>
+        <table>
+          <thead>
+            <tr>
+              <td class="center"><adm:message key="i18n.label.plan" /></td>
+              <td class="center"><adm:message key="i18n.label.admitted_number" /></td>
+              <td class="center"><adm:message key="i18n.label.simulated_pass_rate" /></td>
+              <td class="center"><adm:message key="i18n.label.tied_number" /></td>
+              <td><adm:message key="i18n.label.cutoff_applicant" /></td>
+            </tr>
+          </thead>
+          <tbody>
+            <c:forEach var="s" items="${requestScope.scenarios}">
+              <tr>
+                <td class="center">${s.plan}</td>
+                <td class="center">${s.admittedNumber}</td>
+                <td class="center">${s.passRate}</td>
+                <td class="center">${s.tiedNumber}</td>
+                <td><c:if test="${s.cutoffApplicantId > 0}">
+                    <form action="Controller">
+                      <input type="hidden" name="command" value="get-applicant" />
+                      <input type="hidden" name="applicant-id" value="${s.cutoffApplicantId}" />
+                      <input type="submit" value="${s.cutoffApplicantId}">
+                    </form>
+                  </c:if></td>
+              </tr>
+            </c:forEach>
+          </tbody>
+        </table>
+      </c:otherwise>
+    </c:choose>
+  </section>
+  </main>
+  <%@include file="../../jspf/footer.jspf"%>
+</body>
+</html>
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.register_review" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.register_review" /></title>
 </head>
 <body>
   <%@include file="../../jspf/header.jspf"%>
@@ -21,42 +21,42 @@
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
       <input type="submit"
-        value="<fmt:message key="i18n.button.return_to_admin" bundle="${i18n}" />"
+        value="<adm:message key="i18n.button.return_to_admin" />"
         class="button admin" />
     </form>
     <div>
       <img src="img/icon/register_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.register_review" bundle="${i18n}" />
+        <adm:message key="i18n.title.register_review" />
       </h1>
     </div>
     <ul>
-      <li class="selected"><fmt:message key="i18n.button.register" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.register" /></li>
       <li>
         <form action="Controller" method="post">
           <input type="hidden" name="command" value="get-general-statistics" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.general_stats" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.general_stats" />" />
         </form>
       </li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.register" bundle="${i18n}" />
+      <adm:message key="i18n.title.register" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.admin.register" bundle="${i18n}" />
+      <adm:message key="i18n.info.admin.register" />
     </p>
 
     <c:choose>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key='i18n.error.admin.register' bundle='${i18n}' />
+          <adm:message key='i18n.error.admin.register' />
         </p>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <p class="info-message">
-          <fmt:message key='i18n.info.admin.register.empty' bundle='${i18n}' />
+          <adm:message key='i18n.info.admin.register.empty' />
         </p>
       </c:when>
       <c:otherwise>
@@ -66,7 +66,7 @@
             <input type="hidden" name="command" value="get-register" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -74,17 +74,29 @@
             <input type="hidden" name="command" value="get-register" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
+              class="button" />
+          </form>
+          <form action="Controller" method="post">
+            <input type="hidden" name="command" value="export-register" />
+            <input type="hidden" name="format" value="csv" />
+            <input type="submit" value="<adm:message key="i18n.button.export_csv" />"
+              class="button" />
+          </form>
+          <form action="Controller" method="post">
+            <input type="hidden" name="command" value="export-register" />
+            <input type="hidden" name="format" value="xlsx" />
+            <input type="submit" value="<adm:message key="i18n.button.export_xlsx" />"
               class="button" />
           </form>
         </div>
         <table>
           <thead>
             <tr>
-              <td><fmt:message key="i18n.label.name" bundle="${i18n}" /></td>
-              <td><fmt:message key="i18n.label.faculty" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.total_score" bundle="${i18n}" /></td>
-              <td class="center"><fmt:message key="i18n.label.status" bundle="${i18n}" /></td>
+              <td><adm:message key="i18n.label.name" /></td>
+              <td><adm:message key="i18n.label.faculty" /></td>
+              <td class="center"><adm:message key="i18n.label.total_score" /></td>
+              <td class="center"><adm:message key="i18n.label.status" /></td>
             </tr>
           </thead>
           <tbody>
@@ -105,4 +117,4 @@
   </main>
   <%@include file="../../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -0,0 +1,13 @@
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
+<%@ page language="java" contentType="application/json; charset=UTF-8" pageEncoding="UTF-8" trimDirectiveWhitespaces="true"%>
+<c:choose>
+  <c:when test="${requestScope.error}">
+{"error":true}
+  </c:when>
+  <c:when test="${empty requestScope.applicantRank}">
+{"registered":false}
+  </c:when>
+  <c:otherwise>
+{"registered":true,"position":${requestScope.applicantRank.position},"applicantsNumber":${requestScope.applicantRank.applicantsNumber},"admittedNumber":${requestScope.applicantRank.admittedNumber},"passRate":${requestScope.applicantRank.passRate},"gap":${requestScope.applicantRank.gap},"admitted":${requestScope.applicantRank.admitted}}
+  </c:otherwise>
+</c:choose>
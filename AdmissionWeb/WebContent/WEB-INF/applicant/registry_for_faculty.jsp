@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.registry_for_faculty" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.registry_for_faculty" /></title>
 </head>
 <body>
   <%@include file="../jspf/header.jspf"%>
@@ -21,51 +21,51 @@
     <div>
       <img src="img/icon/registry_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.registry_for_faculty" bundle="${i18n}" />
+        <adm:message key="i18n.title.registry_for_faculty" />
       </h1>
     </div>
     <h2>${requestScope.faculty.title}</h2>
     <c:choose>
       <c:when test="${requestScope.notFound}">
         <p class="info-message">
-          <fmt:message key="i18n.error.faculty.not_found" bundle="${i18n}" />
+          <adm:message key="i18n.error.faculty.not_found" />
         </p>
       </c:when>
       <c:when test="${requestScope.successRegistered}">
         <p class="success-message">
-          <fmt:message key="i18n.success.applicant.registry" bundle="${i18n}" />
-          <fmt:message key="i18n.success.applicant.registry.account" bundle="${i18n}" />
+          <adm:message key="i18n.success.applicant.registry" />
+          <adm:message key="i18n.success.applicant.registry.account" />
         </p>
       </c:when>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registry" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registry" />
         </p>
       </c:when>
       <c:when test="${requestScope.noCurrentEnroll}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registry.no_current_enroll" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registry.no_current_enroll" />
         </p>
       </c:when>
       <c:when test="${requestScope.unregistrated}">
         <p class="error-message">
-          <fmt:message key="i18n.error.unregistrated" bundle="${i18n}" />
+          <adm:message key="i18n.error.unregistrated" />
         </p>
       </c:when>
       <c:when test="${requestScope.registered}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registry.not_empty_record" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registry.not_empty_record" />
         </p>
       </c:when>
       <c:otherwise>
         <div>
           <p>
-            <fmt:message key="i18n.info.applicant.registry" bundle="${i18n}" />
+            <adm:message key="i18n.info.applicant.registry" />
           </p>
         </div>
         <c:if test="${requestScope.validationFailed}">
           <p class="error-message">
-            <fmt:message key="i18n.error.validate" bundle="${i18n}" />
+            <adm:message key="i18n.error.validate" />
           </p>
         </c:if>
         <form class="form-box" action="Controller">
@@ -82,13 +82,13 @@
           </c:forEach>
           <div>
             <label>
-              <fmt:message key="i18n.label.certificate" bundle="${i18n}" />
+              <adm:message key="i18n.label.certificate" />
               :
             </label>
             <input type="number" name="certificate-score" value="${requestScope.certificate}"
               required />
           </div>
-          <input type="submit" value="<fmt:message key="i18n.button.registry" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.registry" />"
             class="button" />
         </form>
       </c:otherwise>
@@ -97,4 +97,4 @@
   </main>
   <%@include file="../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
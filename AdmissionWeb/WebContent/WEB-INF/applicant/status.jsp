@@ -5,7 +5,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -13,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.applicant_account" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.applicant_account" /></title>
 </head>
 <body>
   <%@include file="../jspf/header.jspf"%>
@@ -22,7 +21,7 @@
     <div>
       <img src="img/icon/personal_account_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.applicant_account" bundle="${i18n}" />
+        <adm:message key="i18n.title.applicant_account" />
       </h1>
     </div>
     <ul>
@@ -30,39 +29,39 @@
         <form action="Controller">
           <input type="hidden" name="command" value="enter-account" />
           <input type="submit"
-            value="<fmt:message key="i18n.button.personal_inf" bundle="${i18n}" />" />
+            value="<adm:message key="i18n.button.personal_inf" />" />
         </form>
       </li>
-      <li class="selected"><fmt:message key="i18n.button.status" bundle="${i18n}" /></li>
+      <li class="selected"><adm:message key="i18n.button.status" /></li>
     </ul>
 
     <h2>
-      <fmt:message key="i18n.title.status" bundle="${i18n}" />
+      <adm:message key="i18n.title.status" />
     </h2>
     <p>
-      <fmt:message key="i18n.info.applicant.status" bundle="${i18n}" />
+      <adm:message key="i18n.info.applicant.status" />
     </p>
     <div>
       <c:if test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registry.cancel_error" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registry.cancel_error" />
         </p>
       </c:if>
       <c:if test="${requestScope.deleteUnable}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registry.cancel" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registry.cancel" />
         </p>
       </c:if>
     </div>
     <c:choose>
       <c:when test="${requestScope.notRegistered}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.empty_record" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.empty_record" />
         </p>
       </c:when>
       <c:when test="${requestScope.successDeleted}">
         <p class="success-message">
-          <fmt:message key="i18n.success.applicant.registry.cancel" bundle="${i18n}" />
+          <adm:message key="i18n.success.applicant.registry.cancel" />
         </p>
       </c:when>
       <c:otherwise>
@@ -70,51 +69,83 @@
           <input type="hidden" name="command" value="cancel-registry-for-faculty" />
           <dl>
             <dt>
-              <fmt:message key="i18n.label.current_enroll" bundle="${i18n}" />
+              <adm:message key="i18n.label.current_enroll" />
             </dt>
             <dd>
-              <fmt:formatDate value="${sessionScope.applicant.record.enroll.beginDate}"
+              <fmt:formatDate value="${requestScope.applicant.record.enroll.beginDate}"
                 pattern="dd.MM.yyyy" />
               -
-              <fmt:formatDate value="${sessionScope.applicant.record.enroll.endDate}"
+              <fmt:formatDate value="${requestScope.applicant.record.enroll.endDate}"
                 pattern="dd.MM.yyyy" />
             </dd>
             <dt>
-              <fmt:message key="i18n.label.applicant_faculty" bundle="${i18n}" />
+              <adm:message key="i18n.label.applicant_faculty" />
             </dt>
             <dd>
-              <strong>${sessionScope.applicant.record.faculty.title}</strong>
+              <strong>${requestScope.applicant.record.faculty.title}</strong>
             </dd>
             <dt>
-              <fmt:message key="i18n.label.applicant_scores" bundle="${i18n}" />
+              <adm:message key="i18n.label.applicant_scores" />
             </dt>
             <dd>
-              <c:forEach var="d" items="${sessionScope.applicant.record.scores}">
+              <c:forEach var="d" items="${requestScope.applicant.record.scores}">
               ${d.key.title} : ${d.value}<br />
               </c:forEach>
-              <fmt:message key="i18n.label.certificate" bundle="${i18n}" />
-              : ${sessionScope.applicant.record.certificateScore}<br /> <strong><fmt:message
-                  key="i18n.label.total_score" bundle="${i18n}" />:
-                ${sessionScope.applicant.record.totalScore}</strong>
+              <adm:message key="i18n.label.certificate" />
+              : ${requestScope.applicant.record.certificateScore}<br /> <strong><adm:message key="i18n.label.total_score" />:
+                ${requestScope.applicant.record.totalScore}</strong>
             </dd>
             <dt>
-              <fmt:message key="i18n.label.pass_rate" bundle="${i18n}" />
+              <adm:message key="i18n.label.pass_rate" />
             </dt>
             <dd>
-              <strong>${sessionScope.applicant.record.faculty.passRate}</strong>
+              <strong>${requestScope.applicant.record.faculty.passRate}</strong>
             </dd>
             <dt>
-              <fmt:message key="i18n.label.status" bundle="${i18n}" />
+              <adm:message key="i18n.label.status" />
             </dt>
             <dd>
-              <strong> <fmt:message
-                  key="i18n.info.applicant.status.${sessionScope.applicant.record.status}"
-                  bundle="${i18n}" />
+              <strong> <adm:message key="i18n.info.applicant.status.${requestScope.applicant.record.status}" />
               </strong>
 
             </dd>
+            <c:if test="${not empty requestScope.applicantRank}">
+              <dt>
+                <adm:message key="i18n.label.rank_position" />
+              </dt>
+              <dd>
+                <strong><adm:message key="i18n.info.applicant.rank.position">
+                    <adm:param value="${requestScope.applicantRank.position}" />
+                    <adm:param value="${requestScope.applicantRank.applicantsNumber}" />
+                    <adm:param value="${requestScope.applicantRank.admittedNumber}" />
+                  </adm:message></strong>
+              </dd>
+              <dt>
+                <adm:message key="i18n.label.rank_gap" />
+              </dt>
+              <dd>
+                <c:choose>
+                  <c:when test="${requestScope.applicantRank.passRate == 0}">
+                    <adm:message key="i18n.info.applicant.rank.not_filled" />
+                  </c:when>
+                  <c:when test="${requestScope.applicantRank.gap > 0}">
+                    <adm:message key="i18n.info.applicant.rank.above">
+                      <adm:param value="${requestScope.applicantRank.gap}" />
+                    </adm:message>
+                  </c:when>
+                  <c:when test="${requestScope.applicantRank.gap < 0}">
+                    <adm:message key="i18n.info.applicant.rank.below">
+                      <adm:param value="${-requestScope.applicantRank.gap}" />
+                    </adm:message>
+                  </c:when>
+                  <c:otherwise>
+                    <adm:message key="i18n.info.applicant.rank.equal" />
+                  </c:otherwise>
+                </c:choose>
+              </dd>
+            </c:if>
           </dl>
-          <input type="submit" value="<fmt:message key="i18n.button.cancel" bundle="${i18n}" />"
+          <input type="submit" value="<adm:message key="i18n.button.cancel" />"
             class="button" />
         </form>
       </c:otherwise>
@@ -123,4 +154,4 @@
   </main>
   <%@include file="../jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.admin_login" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.admin_login" /></title>
 </head>
 <body>
   <%@include file="WEB-INF/jspf/header.jspf"%>
@@ -21,39 +21,39 @@
     <div>
       <img src="img/icon/admin_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.admin_login" bundle="${i18n}" />
+        <adm:message key="i18n.title.admin_login" />
       </h1>
     </div>
     <div>
       <p>
-        <fmt:message key="i18n.info.admin.login" bundle="${i18n}" />
+        <adm:message key="i18n.info.admin.login" />
       </p>
       <c:if test="${requestScope.loginFailed}">
         <p class="error-message">
-          <fmt:message key="i18n.error.login_failed" bundle="${i18n}" />
+          <adm:message key="i18n.error.login_failed" />
         </p>
       </c:if>
       <c:if test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.login" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.login" />
         </p>
       </c:if>
     </div>
     <form action="Controller" method="get" class="form-box">
       <input type="hidden" name="command" value="login-admin" />
       <div>
-        <label><fmt:message key="i18n.label.login" bundle="${i18n}" />:</label> <input type="text"
+        <label><adm:message key="i18n.label.login" />:</label> <input type="text"
           name="login"/>
       </div>
       <div>
-        <label><fmt:message key="i18n.label.password" bundle="${i18n}" />:</label> <input
+        <label><adm:message key="i18n.label.password" />:</label> <input
           type="password" name="password"/>
       </div>
-      <input type="submit" value="<fmt:message key="i18n.button.login" bundle="${i18n}" />"
+      <input type="submit" value="<adm:message key="i18n.button.login" />"
         class="button" />
     </form>
   </section>
   </main>
   <%@include file="WEB-INF/jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
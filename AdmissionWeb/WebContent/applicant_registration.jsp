@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.applicant_registration" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.applicant_registration" /></title>
 </head>
 <body>
   <%@include file="WEB-INF/jspf/header.jspf"%>
@@ -21,28 +21,28 @@
     <div>
       <img src="img/icon/registrate_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.applicant_registration" bundle="${i18n}" />
+        <adm:message key="i18n.title.applicant_registration" />
       </h1>
     </div>
     <div>
       <c:if test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.registration" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.registration" />
         </p>
       </c:if>
       <c:if test="${requestScope.validationFailed}">
         <p class="error-message">
-          <fmt:message key="i18n.error.validate" bundle="${i18n}" />
+          <adm:message key="i18n.error.validate" />
         </p>
       </c:if>
       <c:if test="${requestScope.alreadyExists}">
         <p class="error-message">
-          <fmt:message key="i18n.error.applicant.exist" bundle="${i18n}" />
+          <adm:message key="i18n.error.applicant.exist" />
         </p>
       </c:if>
       <c:if test="${requestScope.successRegistrated}">
         <p class="success-message">
-          <fmt:message key="i18n.success.applicant.registration" bundle="${i18n}" />
+          <adm:message key="i18n.success.applicant.registration" />
         </p>
       </c:if>
     </div>
@@ -50,49 +50,60 @@
       <input type="hidden" name="command" value="registrate-applicant" />
       <input type="hidden" name="key" value="${applicationScope.generator.generatedKey}" />
       <h3>
-        <fmt:message key="i18n.title.data_for_account" bundle="${i18n}" />
+        <adm:message key="i18n.title.data_for_account" />
       </h3>
       <div class="form-box">
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.appl_login" bundle="${i18n}" />
+            <adm:message key="i18n.validate.appl_login" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.login" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.login" />:</label>
           <input type="text" name="login" value="${requestScope.appl.login}" maxLength="40" required />
         </div>
+        <div>
+          <div></div>
+          <div>
+            <span id="login-available" class="success-message" hidden>
+              <adm:message key="i18n.info.applicant.login_available" />
+            </span>
+            <span id="login-taken" class="error-message" hidden>
+              <adm:message key="i18n.error.applicant.exist" />
+            </span>
+          </div>
+        </div>
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.appl_password" bundle="${i18n}" />
+            <adm:message key="i18n.validate.appl_password" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.password" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.password" />:</label>
           <input type="password" name="password" maxLength="40"
             value="${requestScope.appl.password}" required />
         </div>
       </div>
       <h3>
-        <fmt:message key="i18n.title.personal_inf" bundle="${i18n}" />
+        <adm:message key="i18n.title.personal_inf" />
       </h3>
       <div class="form-box">
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.appl_name" bundle="${i18n}" />
+            <adm:message key="i18n.validate.appl_name" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.name" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.name" />:</label>
           <input type="text" name="name" value="${requestScope.appl.name}" maxLength="40" required />
         </div>
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.appl_email" bundle="${i18n}" />
+            <adm:message key="i18n.validate.appl_email" />
           </div>
         </div>
         <div>
@@ -103,11 +114,11 @@
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.date_format" bundle="${i18n}" />
+            <adm:message key="i18n.validate.date_format" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.birthdate" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.birthdate" />:</label>
           <input type="date" name="birthdate"
             value='<fmt:formatDate value="${requestScope.appl.birthdate}" pattern="yyyy-MM-dd"/>'
             required />
@@ -115,46 +126,76 @@
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.faculty_phone" bundle="${i18n}" />
+            <adm:message key="i18n.validate.faculty_phone" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.phone" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.phone" />:</label>
           <input type="text" name="phone" value="${requestScope.appl.phone}" maxLength="12" required />
         </div>
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.faculty_address" bundle="${i18n}" />
+            <adm:message key="i18n.validate.faculty_address" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.address" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.address" />:</label>
           <input type="text" name="address" value="${requestScope.appl.address}" maxLength="55"
             required />
         </div>
         <div>
           <div></div>
           <div class="validate-message">
-            <fmt:message key="i18n.validate.appl_school" bundle="${i18n}" />
+            <adm:message key="i18n.validate.appl_school" />
           </div>
         </div>
         <div>
-          <label><fmt:message key="i18n.label.school" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.school" />:</label>
           <input type="text" name="school" value="${requestScope.appl.school}" maxLength="70"
             required />
         </div>
         <div>
-          <label><fmt:message key="i18n.label.year" bundle="${i18n}" />:</label>
+          <label><adm:message key="i18n.label.year" />:</label>
           <input type="number" name="gradyear" value="${requestScope.appl.gradYear}" maxLength="4"
             required />
         </div>
       </div>
-      <input type="submit" value="<fmt:message key="i18n.button.registration" bundle="${i18n}" />"
+      <input type="submit" value="<adm:message key="i18n.button.registration" />"
         class="button" />
     </form>
   </section>
   </main>
   <%@include file="WEB-INF/jspf/footer.jspf"%>
+  <script>
+    (function() {
+      var input = document.querySelector('input[name="login"]');
+      var available = document.getElementById('login-available');
+      var taken = document.getElementById('login-taken');
+      var timer = null;
+      function check() {
+        var login = input.value;
+        available.hidden = true;
+        taken.hidden = true;
+        if (login.length === 0) {
+          return;
+        }
+        var xhr = new XMLHttpRequest();
+        xhr.open('GET', 'Controller?command=check-login&login=' + encodeURIComponent(login));
+        xhr.onload = function() {
+          if (xhr.status === 200 && input.value === login) {
+            var isAvailable = JSON.parse(xhr.responseText).available;
+            available.hidden = !isAvailable;
+            taken.hidden = isAvailable;
+          }
+        };
+        xhr.send();
+      }
+      input.addEventListener('input', function() {
+        clearTimeout(timer);
+        timer = setTimeout(check, 400);
+      });
+    })();
+  </script>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.faculties_list" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.faculties_list" /></title>
 </head>
 <body>
   <%@include file="WEB-INF/jspf/header.jspf"%>
@@ -21,23 +21,23 @@
     <div>
       <img src="img/icon/faculties_list_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.faculties_list" bundle="${i18n}" />
+        <adm:message key="i18n.title.faculties_list" />
       </h1>
     </div>
     <div>
       <p>
-        <fmt:message key="i18n.info.faculties_list" bundle="${i18n}" />
+        <adm:message key="i18n.info.faculties_list" />
       </p>
     </div>
     <c:choose>
       <c:when test="${requestScope.error}">
         <p class="error-message">
-          <fmt:message key="i18n.error.admin.faculties.list" bundle="${i18n}" />
+          <adm:message key="i18n.error.admin.faculties.list" />
         </p>
       </c:when>
       <c:when test="${empty requestScope.list}">
         <p class="info-message">
-          <fmt:message key="i18n.info.admin.faculties.list_empty" bundle="${i18n}" />
+          <adm:message key="i18n.info.admin.faculties.list_empty" />
         </p>
       </c:when>
       <c:otherwise>
@@ -47,7 +47,7 @@
             <input type="hidden" name="for-admin" value="false" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="false" />
-            <input type="submit" value="<fmt:message key="i18n.button.previous" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.previous" />"
               class="button" />
           </form>
           <span>${requestScope.requiredPage}/${requestScope.pagesNumber}</span>
@@ -56,7 +56,7 @@
             <input type="hidden" name="for-admin" value="false" />
             <input type="hidden" name="current-page" value="${requestScope.requiredPage}" />
             <input type="hidden" name="next" value="true" />
-            <input type="submit" value="<fmt:message key="i18n.button.next" bundle="${i18n}" />"
+            <input type="submit" value="<adm:message key="i18n.button.next" />"
               class="button" />
           </form>
         </div>
@@ -79,4 +79,4 @@
   </main>
   <%@include file="WEB-INF/jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
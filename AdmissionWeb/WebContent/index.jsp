@@ -1,10 +1,10 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt"%>
+<%@ taglib uri="/WEB-INF/tld/admissiontaglib.tld" prefix="adm"%>
 
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +12,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.main" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.main" /></title>
 </head>
 <body>
   <%@include file="WEB-INF/jspf/header.jspf"%>
@@ -23,29 +23,28 @@
       <form action="Controller">
         <input type="hidden" name="command" value="enter-account">
         <input type="submit"
-          value="<fmt:message key="i18n.head.applicant_login" bundle="${i18n}" />" class="title" />
+          value="<adm:message key="i18n.head.applicant_login" />" class="title" />
       </form>
       <c:choose>
-        <c:when test="${!empty sessionScope.applicant}">
+        <c:when test="${!empty requestScope.applicant}">
           <p>
-            <fmt:message key="i18n.info.applicant.login.not_empty.hello" bundle="${i18n}" />
-            , ${sessionScope.applicant.name}.
-            <fmt:message key="i18n.info.applicant.login.not_empty" bundle="${i18n}" />
+            <adm:message key="i18n.info.applicant.login.not_empty.hello" />
+            , ${requestScope.applicant.name}.
+            <adm:message key="i18n.info.applicant.login.not_empty" />
           </p>
         </c:when>
         <c:otherwise>
           <p>
-            <fmt:message key="i18n.info.applicant.login.empty" bundle="${i18n}" />
+            <adm:message key="i18n.info.applicant.login.empty" />
           </p>
         </c:otherwise>
       </c:choose>
     </div>
     <div>
       <img src="img/icon/registrate_icon.png" alt="reg_icon" /> <a
-        href="applicant_registration.jsp" class="title link-button"><fmt:message
-          key="i18n.head.applicant_registration" bundle="${i18n}" /></a>
+        href="applicant_registration.jsp" class="title link-button"><adm:message key="i18n.head.applicant_registration" /></a>
       <p>
-        <fmt:message key="i18n.info.applicant.registration" bundle="${i18n}" />
+        <adm:message key="i18n.info.applicant.registration" />
       </p>
     </div>
     <div>
@@ -53,20 +52,20 @@
       <form action="Controller" method="post"  method="post">
         <input type="hidden" name="command" value="get-faculties-list">
         <input type="hidden" name="for-admin" value="false">
-        <input type="submit" value="<fmt:message key="i18n.head.faculties_list" bundle="${i18n}" />"
+        <input type="submit" value="<adm:message key="i18n.head.faculties_list" />"
           class="title" />
       </form>
       <p>
-        <fmt:message key="i18n.info.faculties_list" bundle="${i18n}" />
+        <adm:message key="i18n.info.faculties_list" />
       </p>
     </div>
     <form action="Controller">
       <input type="hidden" name="command" value="to-admin-login-page" />
-      <input type="submit" value="<fmt:message key="i18n.button.admin_login" bundle="${i18n}" />"
+      <input type="submit" value="<adm:message key="i18n.button.admin_login" />"
         class="button" />
     </form>
   </section>
   </main>
   <%@include file="WEB-INF/jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -4,7 +4,6 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 
 <fmt:setLocale value="${sessionScope.locale}" />
-<fmt:setBundle basename="${initParam.i18n}" var="i18n" />
 
 <!DOCTYPE html>
 <html>
@@ -12,7 +11,7 @@
 <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
 <link rel="stylesheet" type="text/css" href="css/admission.css" />
 <link rel="shortcut icon" href="img/icon/shortcut.png" />
-<title><fmt:message key="i18n.head.settings" bundle="${i18n}" /></title>
+<title><adm:message key="i18n.head.settings" /></title>
 </head>
 <body>
   <%@include file="WEB-INF/jspf/header.jspf"%>
@@ -21,16 +20,16 @@
     <div>
       <img src="img/icon/settings_icon.png" />
       <h1>
-        <fmt:message key="i18n.title.settings" bundle="${i18n}" />
+        <adm:message key="i18n.title.settings" />
       </h1>
     </div>
     <div>
       <p>
-        <fmt:message key="i18n.info.settings" bundle="${i18n}" />
+        <adm:message key="i18n.info.settings" />
       </p>
       <c:if test="${requestScope.successCompleted}">
         <p class="success-message">
-          <fmt:message key="i18n.success.settings" bundle="${i18n}" />
+          <adm:message key="i18n.success.settings" />
         </p>
       </c:if>
     </div>
@@ -38,34 +37,34 @@
       <input type="hidden" name="command" value="accept-settings" />
       <div>
         <label>
-          <fmt:message key="i18n.label.interface_language" bundle="${i18n}" />
+          <adm:message key="i18n.label.interface_language" />
           :
         </label>
         <select name="lang">
           <c:choose>
             <c:when test="${sessionScope.locale eq 'en'}">
-              <option value="ru"><fmt:message key="i18n.label.ru" bundle="${i18n}" /></option>
-              <option value="en" selected><fmt:message key="i18n.label.en" bundle="${i18n}" /></option>
+              <option value="ru"><adm:message key="i18n.label.ru" /></option>
+              <option value="en" selected><adm:message key="i18n.label.en" /></option>
             </c:when>
             <c:otherwise>
-              <option value="ru" selected><fmt:message key="i18n.label.ru" bundle="${i18n}" /></option>
-              <option value="en"><fmt:message key="i18n.label.en" bundle="${i18n}" /></option>
+              <option value="ru" selected><adm:message key="i18n.label.ru" /></option>
+              <option value="en"><adm:message key="i18n.label.en" /></option>
             </c:otherwise>
           </c:choose>
         </select>
       </div>
       <div>
         <label>
-          <fmt:message key="i18n.label.elements_number" bundle="${i18n}" />
+          <adm:message key="i18n.label.elements_number" />
           :
         </label>
         <adm:formatSelect variants="5,10,15,20" />
       </div>
-      <input type="submit" value="<fmt:message key="i18n.button.accept" bundle="${i18n}" />"
+      <input type="submit" value="<adm:message key="i18n.button.accept" />"
         class="button" />
     </form>
   </section>
   </main>
   <%@include file="WEB-INF/jspf/footer.jspf"%>
 </body>
-</html>
\ No newline at end of file
+</html>
\ No newline at end of file
@@ -0,0 +1,171 @@
+package bench.by.epam.admissionweb.tag;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import main.by.epam.admissionweb.tag.MessageTable;
+
+/**
+ * Класс <code>MessageTableBenchmark</code> представляет собой JMH-бенчмарк и
+ * предназначен для сравнения вывода сообщений интернационализации тегом
+ * <code>adm:message</code> ({@link MessageTable}) и тегами JSTL.
+ * <p>
+ * Путь JSTL моделируется так же, как его выполняют теги при обработке
+ * страницы: <code>fmt:setBundle</code> получает ресурс интернационализации
+ * для языка страницы, каждый <code>fmt:message</code> извлекает из него
+ * сообщение, а сообщение с параметрами каждый раз разбирается заново объектом
+ * <code>MessageFormat</code>. Набор ключей соответствует заголовку и подвалу
+ * страницы (<code>header.jspf</code>, <code>footer.jspf</code>).
+ * <p>
+ * Бенчмарк вынесен в отдельный каталог исходных кодов <code>bench</code>,
+ * который не входит в сборку приложения и тестов. Для его компиляции к
+ * каталогам <code>src/main</code> и <code>bench</code> подключаются
+ * библиотеки <code>jmh-core</code> и <code>jmh-generator-annprocess</code>
+ * (обработчик аннотаций); бенчмарк запускается методом <code>main()</code>.
+ *
+ * @author Daria Krupenko
+ * @see MessageTable
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTableBenchmark {
+
+	/**
+	 * Базовое имя ресурса интернационализации
+	 */
+	private static final String BASENAME = "main.by.epam.admissionweb.i18n.i18n";
+
+	/**
+	 * Поддерживаемые языки
+	 */
+	private static final String LOCALES = "ru,en";
+
+	/**
+	 * Ключи сообщений заголовка и подвала страницы
+	 */
+	private static final String[] PAGE_KEYS = { "i18n.label.applicant", "i18n.label.admin_console",
+			"i18n.label.settings", "i18n.title.bsuir", "i18n.title.admission", "i18n.info.footer" };
+
+	/**
+	 * Ключ сообщения, которое разбирается объектом <code>MessageFormat</code>
+	 */
+	private static final String FORMAT_KEY = "i18n.info.admin.login";
+
+	/**
+	 * Параметры форматируемого сообщения
+	 */
+	private static final Object[] FORMAT_ARGS = { "admin" };
+
+	/**
+	 * Язык страницы
+	 */
+	@Param({ "ru", "en" })
+	private String lang;
+
+	/**
+	 * Язык страницы
+	 */
+	private Locale locale;
+
+	/**
+	 * Таблица сообщений
+	 */
+	private MessageTable table;
+
+	/**
+	 * Загрузка таблицы сообщений
+	 */
+	@Setup
+	public void setUp() {
+		locale = new Locale(lang);
+		table = MessageTable.getInstance();
+		table.load(BASENAME, LOCALES);
+	}
+
+	/**
+	 * Вывод сообщений страницы тегами JSTL
+	 *
+	 * @param bh
+	 *            приемник результатов
+	 */
+	@Benchmark
+	public void jstlPageMessages(Blackhole bh) {
+		ResourceBundle bundle = ResourceBundle.getBundle(BASENAME, locale);
+		for (String key : PAGE_KEYS) {
+			bh.consume(bundle.getString(key));
+		}
+	}
+
+	/**
+	 * Вывод сообщений страницы тегом <code>adm:message</code>
+	 *
+	 * @param bh
+	 *            приемник результатов
+	 */
+	@Benchmark
+	public void tablePageMessages(Blackhole bh) {
+		for (String key : PAGE_KEYS) {
+			bh.consume(table.getMessage(locale, key, null));
+		}
+	}
+
+	/**
+	 * Вывод сообщения с параметрами тегами JSTL
+	 *
+	 * @return текст сообщения
+	 */
+	@Benchmark
+	public String jstlFormattedMessage() {
+		ResourceBundle bundle = ResourceBundle.getBundle(BASENAME, locale);
+		MessageFormat format = new MessageFormat("");
+		format.setLocale(locale);
+		format.applyPattern(bundle.getString(FORMAT_KEY));
+		return format.format(FORMAT_ARGS);
+	}
+
+	/**
+	 * Вывод сообщения с параметрами тегом <code>adm:message</code>
+	 *
+	 * @return текст сообщения
+	 */
+	@Benchmark
+	public String tableFormattedMessage() {
+		return table.getMessage(locale, FORMAT_KEY, FORMAT_ARGS);
+	}
+
+	/**
+	 * Запуск бенчмарка
+	 *
+	 * @param args
+	 *            не используются
+	 * @throws RunnerException
+	 *             при выполнении бенчмарка произошла ошибка
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MessageTableBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -14,6 +15,7 @@ import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,6 +26,8 @@ import main.by.epam.admissionweb.entity.Discipline;
 import main.by.epam.admissionweb.entity.Enroll;
 import main.by.epam.admissionweb.entity.Faculty;
 import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.service.DataVersionService;
+import main.by.epam.admissionweb.service.ServiceFactory;
 
 /**
  * Класс <code>CommandHelper</code> предназначен для выполнения действий, общих
@@ -58,6 +62,12 @@ public class CommandHelper {
 	 */
 	private static final int ELEMENTS_PER_PAGE_DEFAULT = 10;
 
+	/**
+	 * Максимальное количество вариантов плана набора в одном запросе на
+	 * симуляцию
+	 */
+	private static final int PLANS_MAX = 100;
+
 	/**
 	 * Формат даты (используется при конвертировании строк в формат даты)
 	 */
@@ -92,6 +102,47 @@ public class CommandHelper {
 	 */
 	private static final String DELIMETER = ".";
 
+	/**
+	 * Заголовок HTTP-ответа с тегом версии ресурса
+	 */
+	private static final String HEADER_ETAG = "ETag";
+
+	/**
+	 * Заголовок HTTP-запроса с тегами версий ресурса, сохраненными клиентом
+	 */
+	private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+	/**
+	 * Заголовок HTTP-ответа со временем последнего изменения ресурса
+	 */
+	private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+	/**
+	 * Заголовок HTTP-ответа с политикой кэширования
+	 */
+	private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+
+	/**
+	 * Политика кэширования страниц, поддерживающих условные запросы: ответ
+	 * зависит от сессии и должен перепроверяться при каждом обращении
+	 */
+	private static final String CACHE_CONTROL_REVALIDATE = "private, no-cache";
+
+	/**
+	 * HTTP-метод, для которого поддерживаются условные запросы
+	 */
+	private static final String METHOD_GET = "GET";
+
+	/**
+	 * Тег, совпадающий с любой версией ресурса
+	 */
+	private static final String ANY_ETAG = "*";
+
+	/**
+	 * Префикс слабого тега версии
+	 */
+	private static final String WEAK_ETAG_PREFIX = "W/";
+
 	/**
 	 * Объект класса <code>CommandHelper</code>, создается один раз при загрузке
 	 * класса в память
@@ -259,6 +310,37 @@ public class CommandHelper {
 		}
 	}
 
+	/**
+	 * Преобразование списка вариантов плана набора, разделенных запятыми или
+	 * пробелами, в массив. Некорректные и отрицательные значения пропускаются,
+	 * учитываются не более {@value #PLANS_MAX} значений.
+	 * 
+	 * @param plansStr
+	 *            строка вариантов плана набора
+	 * @return массив вариантов плана набора; пустой массив - если
+	 *         <code>plansStr</code> равна null или не содержит корректных
+	 *         значений
+	 */
+	public int[] parsePlans(String plansStr) {
+		if (plansStr == null) {
+			return new int[0];
+		}
+		String[] parts = plansStr.trim().split("[,;\\s]+");
+		int[] plans = new int[Math.min(parts.length, PLANS_MAX)];
+		int count = 0;
+		for (int i = 0; i < parts.length && count < plans.length; i++) {
+			try {
+				int plan = Integer.parseInt(parts[i]);
+				if (plan >= 0) {
+					plans[count++] = plan;
+				}
+			} catch (NumberFormatException ex) {
+				LOGGER.debug("COMMAND HELPER : invalid plan value {}", parts[i]);
+			}
+		}
+		return Arrays.copyOf(plans, count);
+	}
+
 	/**
 	 * Преобразование строки, представленной параметром <code>str</code>, в
 	 * дату.
@@ -303,6 +385,26 @@ public class CommandHelper {
 			return -1;
 		}
 	}
+
+	/**
+	 * Преобразование версии объекта в формате строки (параметр
+	 * <code>versionStr</code>) в тип данных int
+	 * 
+	 * @param versionStr
+	 *            версия объекта в формате строки
+	 * @return версия объекта в формате типа данных int или -1, если
+	 *         <code>versionStr</code> имеет неверный формат или равна
+	 *         <code>null</code> (такая версия не совпадает ни с одной версией
+	 *         объекта в источнике данных)
+	 */
+	public int parseVersion(String versionStr) {
+		try {
+			return Integer.parseInt(versionStr);
+		} catch (NumberFormatException ex) {
+			LOGGER.error("COMMAND HELPER : invalid version parameter format", ex);
+			return -1;
+		}
+	}
 	
 	/**
 	 * Преобразование балла сертификата в формате строки (параметр
@@ -636,6 +738,160 @@ public class CommandHelper {
 		}
 	}
 
+	/**
+	 * Получение абитуриента, вошедшего в систему.
+	 * <p>
+	 * В сессии хранятся только id и версия абитуриента. Сам абитуриент вместе
+	 * с записью в ведомости извлекается при каждом запросе через сервис
+	 * абитуриентов (из кэша абитуриентов) и помещается в контекст запроса.
+	 * 
+	 * @param request
+	 *            контекст запроса клиента
+	 * @return абитуриент, вошедший в систему; null - абитуриент не вошел в
+	 *         систему
+	 * @see #setSessionApplicant(HttpServletRequest, Applicant)
+	 */
+	public Applicant getSessionApplicant(HttpServletRequest request) {
+		Object applicantObj = request.getAttribute(AttributeName.APPLICANT);
+		if (applicantObj instanceof Applicant) {
+			return (Applicant) applicantObj;
+		}
+		return null;
+	}
+
+	/**
+	 * Сохранение в сессии id и текущей версии абитуриента, вошедшего в
+	 * систему, и помещение абитуриента в контекст запроса.
+	 * <p>
+	 * Атрибуты сессии перезаписываются, только если id или версия абитуриента
+	 * изменились, поэтому запросы без изменений не модифицируют сессию.
+	 * 
+	 * @param request
+	 *            контекст запроса клиента
+	 * @param a
+	 *            абитуриент, вошедший в систему
+	 * @see #getSessionApplicant(HttpServletRequest)
+	 */
+	public void setSessionApplicant(HttpServletRequest request, Applicant a) {
+		HttpSession session = request.getSession(true);
+		Long version = ServiceFactory.getInstance().getDataVersionService().getApplicantVersion(a.getId());
+		Integer id = a.getId();
+		if (!id.equals(session.getAttribute(AttributeName.APPLICANT_ID))) {
+			session.setAttribute(AttributeName.APPLICANT_ID, id);
+		}
+		if (!version.equals(session.getAttribute(AttributeName.APPLICANT_VERSION))) {
+			session.setAttribute(AttributeName.APPLICANT_VERSION, version);
+		}
+		request.setAttribute(AttributeName.APPLICANT, a);
+	}
+
+	/**
+	 * Удаление из сессии сведений об абитуриенте, вошедшем в систему
+	 * 
+	 * @param request
+	 *            контекст запроса клиента
+	 */
+	public void removeSessionApplicant(HttpServletRequest request) {
+		HttpSession session = request.getSession(true);
+		session.removeAttribute(AttributeName.APPLICANT_ID);
+		session.removeAttribute(AttributeName.APPLICANT_VERSION);
+		request.removeAttribute(AttributeName.APPLICANT);
+	}
+
+	/**
+	 * Построение тега версии (<code>ETag</code>) страницы.
+	 * <p>
+	 * Тег складывается из тега версии данных, полученного от сервиса
+	 * {@link DataVersionService}, и отпечатка атрибутов сессии, от которых
+	 * зависит отображение страницы (язык, количество элементов на странице,
+	 * вошедший администратор, id и версия вошедшего абитуриента).
+	 * <p>
+	 * Тег строится до обращения к данным, поэтому страница никогда не бывает
+	 * старее своего тега.
+	 * 
+	 * @param request
+	 *            контекст запроса клиента (используется для доступа к сессии)
+	 * @param dataTag
+	 *            тег версии данных, отображаемых на странице
+	 * @return слабый тег версии страницы
+	 * @see DataVersionService
+	 */
+	public String constructEntityTag(HttpServletRequest request, String dataTag) {
+		HttpSession session = request.getSession(true);
+		int sessionHash = Arrays.hashCode(new Object[] { session.getAttribute(AttributeName.LOCALE),
+				session.getAttribute(AttributeName.ELEMENTS_PER_PAGE),
+				session.getAttribute(AttributeName.ADMIN) != null, session.getAttribute(AttributeName.APPLICANT_ID),
+				session.getAttribute(AttributeName.APPLICANT_VERSION) });
+		return WEAK_ETAG_PREFIX + "\"" + dataTag + "-" + Integer.toHexString(sessionHash) + "\"";
+	}
+
+	/**
+	 * Проверка условного GET-запроса.
+	 * <p>
+	 * Если один из тегов заголовка <code>If-None-Match</code> совпадает с
+	 * текущим тегом версии страницы, метод устанавливает статус ответа 304 (Not
+	 * Modified) и возвращает true: команда должна завершить обработку запроса,
+	 * не обращаясь к сервисам и не формируя страницу.
+	 * 
+	 * @param request
+	 *            контекст запроса клиента
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @param eTag
+	 *            текущий тег версии страницы
+	 * @return true - у клиента актуальная версия страницы (ответ 304
+	 *         установлен); false - страницу необходимо сформировать
+	 */
+	public boolean isNotModified(HttpServletRequest request, HttpServletResponse response, String eTag) {
+		if (!METHOD_GET.equals(request.getMethod())) {
+			return false;
+		}
+		String ifNoneMatch = request.getHeader(HEADER_IF_NONE_MATCH);
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaqueTag = eTag.substring(WEAK_ETAG_PREFIX.length());
+		for (String tag : ifNoneMatch.split(",")) {
+			tag = tag.trim();
+			if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+				tag = tag.substring(WEAK_ETAG_PREFIX.length());
+			}
+			if (ANY_ETAG.equals(tag) || opaqueTag.equals(tag)) {
+				LOGGER.debug("COMMAND HELPER : not modified ({})", eTag);
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				response.setHeader(HEADER_ETAG, eTag);
+				response.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Установка валидаторов (<code>ETag</code>, <code>Last-Modified</code>) и
+	 * политики кэширования в ответ на GET-запрос.
+	 * <p>
+	 * Валидаторы не должны устанавливаться, если при обработке запроса
+	 * произошла ошибка, иначе клиент закэширует страницу ошибки.
+	 * 
+	 * @param request
+	 *            контекст запроса клиента
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @param eTag
+	 *            тег версии страницы
+	 * @param lastModified
+	 *            время последнего изменения данных страницы
+	 */
+	public void setValidators(HttpServletRequest request, HttpServletResponse response, String eTag,
+			long lastModified) {
+		if (METHOD_GET.equals(request.getMethod())) {
+			response.setHeader(HEADER_ETAG, eTag);
+			response.setDateHeader(HEADER_LAST_MODIFIED, lastModified);
+			response.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+		}
+	}
+
 	/**
 	 * Статический вложенный класс <code>AttributeName</code> содержит строковые
 	 * константы, представляющие собой названия атрибутов, которые могут быть
@@ -663,6 +919,10 @@ public class CommandHelper {
 		public static final String SUCCESS_UPDATED = "successUpdated";
 		public static final String NO_CURRENT_ENROLL = "noCurrentEnroll";
 		public static final String SUCCESS_COMPLETED = "successCompleted";
+		public static final String ENROLL_RESULTS = "enrollResults";
+		public static final String COMPLETION_PROGRESS = "completionProgress";
+		public static final String SCENARIOS = "scenarios";
+		public static final String PLANS = "plans";
 		public static final String IS_CURRENT_ENROLL = "isCurrentEnroll";
 		public static final String SUCCESS_STARTED = "successStarted";
 		public static final String ENROLL = "enroll";
@@ -671,6 +931,9 @@ public class CommandHelper {
 		public static final String STATUS = "admitted";
 		public static final String LOGIN_FAILED = "loginFailed";
 		public static final String APPLICANT = "applicant";
+		public static final String APPLICANT_ID = "applicantId";
+		public static final String APPLICANT_VERSION = "applicantVersion";
+		public static final String APPLICANT_RANK = "applicantRank";
 		public static final String NOT_REGISTERED = "notRegistered";
 		public static final String SUCCESS_REGISTRATED = "successRegistrated";
 		public static final String SCORES = "scores";
@@ -681,12 +944,15 @@ public class CommandHelper {
 		public static final String UNREGISTRATED = "unregistrated";
 		public static final String BEGIN_DATE = "beginDate";
 		public static final String ALREADY_EXISTS = "alreadyExists";
+		public static final String MODIFIED = "modified";
 		public static final String DISCIPLINE_KEY = "disciplineKey";
 		public static final String ENROLL_KEY = "enrollKey";
 		public static final String FACULTY_KEY = "facultyKey";
 		public static final String RECORD_KEY = "recordKey";
 		public static final String APPLICANT_KEY = "applicantKey";
 		public static final String NOT_FOUND = "notFound";
+		public static final String IMPORT_KEY = "importKey";
+		public static final String IMPORT_RESULT = "importResult";
 
 	}
 
@@ -715,7 +981,9 @@ public class CommandHelper {
 		public static final String DEAN = "dean";
 		public static final String ADDRESS = "address";
 		public static final String PLAN = "plan";
+		public static final String LOADED_PLAN = "loaded-plan";
 		public static final String FACULTY_ID = "faculty-id";
+		public static final String PLANS = "plans";
 		public static final String STATUS = "admitted";
 		public static final String LOGIN = "login";
 		public static final String PASSWORD = "password";
@@ -729,6 +997,9 @@ public class CommandHelper {
 		public static final String ELEMENTS_PER_PAGE = "elements-per-page";
 		public static final String FOR_ADMIN = "for-admin";
 		public static final String KEY = "key";
+		public static final String VERSION = "version";
+		public static final String FILE = "file";
+		public static final String FORMAT = "format";
 
 	}
 
@@ -750,6 +1021,7 @@ public class CommandHelper {
 		public static final String SETTINGS = "/settings.jsp";
 		public static final String APPLICANT = "/WEB-INF/admin/applicants/applicant.jsp";
 		public static final String APPLICANTS_LIST = "/WEB-INF/admin/applicants/applicants_list.jsp";
+		public static final String IMPORT_APPLICANTS = "/WEB-INF/admin/applicants/import_applicants.jsp";
 		public static final String ADD_DISCIPLINE = "/WEB-INF/admin/disciplines/add_discipline.jsp";
 		public static final String DISCIPLINES_LIST = "/WEB-INF/admin/disciplines/disciplines_list.jsp";
 		public static final String EDIT_DISCIPLINE = "/WEB-INF/admin/disciplines/edit_discipline.jsp";
@@ -757,6 +1029,7 @@ public class CommandHelper {
 		public static final String START_ENROLL = "/WEB-INF/admin/enrollment/start_enroll.jsp";
 		public static final String ADD_FACULTY = "/WEB-INF/admin/faculties/add_faculty.jsp";
 		public static final String APPLICANTS_RATE = "/WEB-INF/admin/faculties/applicants_rate.jsp";
+		public static final String PLAN_SIMULATOR = "/WEB-INF/admin/faculties/plan_simulator.jsp";
 		public static final String EDIT_FACULTY = "/WEB-INF/admin/faculties/edit_faculty.jsp";
 		public static final String FACULTIES_LIST_ADMIN = "/WEB-INF/admin/faculties/faculties_list_admin.jsp";
 		public static final String GENERAL_STATISTICS = "/WEB-INF/admin/register/general_statistics.jsp";
@@ -766,6 +1039,7 @@ public class CommandHelper {
 		public static final String FACULTY = "/WEB-INF/applicant/faculty.jsp";
 		public static final String REGISTRY_FOR_FACULTY = "/WEB-INF/applicant/registry_for_faculty.jsp";
 		public static final String STATUS = "/WEB-INF/applicant/status.jsp";
+		public static final String APPLICANT_RANK = "/WEB-INF/applicant/rank.jsp";
 		public static final String DEFAULT_ERROR = "/WEB-INF/error/default.jsp";
 	}
 
@@ -0,0 +1,108 @@
+package main.by.epam.admissionweb.command.impl.admin.applicant;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.Part;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.Command;
+import main.by.epam.admissionweb.command.exception.CommandException;
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.ImportResult;
+import main.by.epam.admissionweb.service.ApplicantService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>ImportApplicantsCommand</code> является реализацией интерфейса
+ * {@link Command} и инкапсулирует поведение команды по обработке запроса на
+ * импорт абитуриентов и их записей на факультеты из файла в формате CSV.
+ * <p>
+ * Данное действие доступно только для администратора системы.
+ *
+ * @author Daria Krupenko
+ * @see Command
+ * @see ImportResult
+ *
+ */
+public class ImportApplicantsCommand implements Command {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Метод описывает поведение команды по обработке запроса на импорт
+	 * абитуриентов из файла.
+	 * <p>
+	 * Файл передается в составной части запроса (multipart/form-data) в
+	 * кодировке UTF-8 и читается сервисом {@link ApplicantService} потоково,
+	 * без сохранения на диск. Метод поддерживает защиту от обработки запросов с
+	 * одинаковыми ключами. Итоги импорта устанавливаются в контекст запроса;
+	 * если файл не передан, в контекст запроса устанавливается атрибут
+	 * неуспешной валидации.
+	 * <p>
+	 * Если клиент не является администратором системы, запрос будет
+	 * перенаправлен на страницу авторизации администратора.
+	 * <p>
+	 * Если в процессе обработки возникла ошибка, обусловленная работой сервисов
+	 * приложения или чтением файла, в контекст запроса устанавливается флаг
+	 * ошибки.
+	 *
+	 * @param request
+	 *            контекст запроса (используется для получение доступа к
+	 *            парамаетрам запроса и атрибутам запроса/сессии/приложения)
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @throws CommandException
+	 *             если при перенаправлении запроса произошла ошибка
+	 * @see ApplicantService
+	 * @see CommandHelper
+	 */
+	@Override
+	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
+		LOGGER.debug("COMMAND : ImportApplicantsCommand");
+		CommandHelper helper = CommandHelper.getInstance();
+		String path = null;
+		Object adminObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.ADMIN);
+		if (adminObj == null) {
+			path = CommandHelper.PageName.ADMIN_LOGIN;
+		} else {
+			if (helper.isAdditionEnabled(CommandHelper.AttributeName.IMPORT_KEY, request)) {
+				try {
+					Part part = request.getPart(CommandHelper.ParameterName.FILE);
+					if (part == null || part.getSize() == 0) {
+						request.setAttribute(CommandHelper.AttributeName.NOT_VALID, true);
+					} else {
+						ApplicantService service = ServiceFactory.getInstance().getApplicantService();
+						try (Reader reader = new InputStreamReader(part.getInputStream(), StandardCharsets.UTF_8)) {
+							ImportResult result = service.importApplicants(reader);
+							LOGGER.debug("COMMAND : ImportApplicantsCommand (result = {})", result);
+							request.setAttribute(CommandHelper.AttributeName.IMPORT_RESULT, result);
+						}
+					}
+				} catch (ServiceException ex) {
+					LOGGER.error(ex);
+					request.setAttribute(CommandHelper.AttributeName.ERROR, true);
+				} catch (IOException | ServletException | IllegalStateException ex) {
+					LOGGER.error("COMMAND : Unable to read applicants file", ex);
+					request.setAttribute(CommandHelper.AttributeName.ERROR, true);
+				} finally {
+					request.getServletContext().removeAttribute(CommandHelper.AttributeName.IMPORT_KEY);
+				}
+			}
+			path = CommandHelper.PageName.IMPORT_APPLICANTS;
+		}
+		helper.redirectToPage(request, response, path);
+	}
+
+}
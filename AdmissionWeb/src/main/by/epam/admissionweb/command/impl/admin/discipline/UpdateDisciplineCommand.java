@@ -13,6 +13,7 @@ import main.by.epam.admissionweb.entity.Discipline;
 import main.by.epam.admissionweb.service.DisciplineService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.AlreadyExistsException;
+import main.by.epam.admissionweb.service.exception.ModifiedException;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -43,6 +44,10 @@ public class UpdateDisciplineCommand implements Command {
 	 * запроса устаналивается соответсвующий атрибут, если обновление произошло
 	 * успешно - атрибут успешного завершения.
 	 * <p>
+	 * Если дисциплина была изменена другим администратором после чтения
+	 * версии, переданной в запросе, в контекст запроса устанавливается атрибут
+	 * конфликта изменений и текущие данные дисциплины.
+	 * <p>
 	 * Если клиент не является администратором системы, запрос будет
 	 * перенаправлен на страницу авторизации администратора.
 	 * <p>
@@ -71,9 +76,11 @@ public class UpdateDisciplineCommand implements Command {
 			String idStr = request.getParameter(CommandHelper.ParameterName.DISCIPLINE_ID);
 			int id = helper.parseId(idStr);
 			String title = request.getParameter(CommandHelper.ParameterName.TITLE);
+			int version = helper.parseVersion(request.getParameter(CommandHelper.ParameterName.VERSION));
 			try {
 				DisciplineService service = ServiceFactory.getInstance().getDisciplineService();
 				Discipline d = helper.constructDiscipline(id, title, null);
+				d.setVersion(version);
 				LOGGER.debug("COMMAND : UpdateDisciplineCommand (d = {})", d);
 				try {
 					Discipline dNew = service.updateDiscipline(d);
@@ -86,6 +93,14 @@ public class UpdateDisciplineCommand implements Command {
 				} catch (AlreadyExistsException ex) {
 					LOGGER.error(ex);
 					request.setAttribute(CommandHelper.AttributeName.ALREADY_EXISTS, true);
+				} catch (ModifiedException ex) {
+					LOGGER.error(ex);
+					d = service.getDiscipline(id);
+					if (d == null) {
+						request.setAttribute(CommandHelper.AttributeName.NOT_FOUND, true);
+					} else {
+						request.setAttribute(CommandHelper.AttributeName.MODIFIED, true);
+					}
 				}
 				request.setAttribute(CommandHelper.AttributeName.DISCIPLINE, d);
 			} catch (ServiceException ex) {
@@ -1,5 +1,7 @@
 package main.by.epam.admissionweb.command.impl.admin.enrollment;
 
+import java.util.List;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -9,6 +11,7 @@ import org.apache.logging.log4j.Logger;
 import main.by.epam.admissionweb.command.Command;
 import main.by.epam.admissionweb.command.exception.CommandException;
 import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.FacultyEnrollResult;
 import main.by.epam.admissionweb.service.EnrollmentService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.ServiceException;
@@ -39,7 +42,8 @@ public class CompleteEnrollCommand implements Command {
 	 * В процессе работы метод обращается к сервису {@link EnrollmentService}.
 	 * Если завершение набора запрещено логикой приложения, в контекст запроса
 	 * устаналивается соответсвующий атрибут, если завершение произошло успешно
-	 * - атрибут успешного завершения. Далее управление передается команде
+	 * - атрибут успешного завершения и итоги набора по факультетам. Далее
+	 * управление передается команде
 	 * {@link GetEnrollsListCommand}.
 	 * <p>
 	 * Если клиент не является администратором системы, запрос будет
@@ -73,8 +77,9 @@ public class CompleteEnrollCommand implements Command {
 				if (!isCurrentEnroll) {
 					request.setAttribute(CommandHelper.AttributeName.NO_CURRENT_ENROLL, true);
 				} else {
-					service.completeCurrentEnroll();
+					List<FacultyEnrollResult> results = service.completeCurrentEnroll();
 					request.setAttribute(CommandHelper.AttributeName.SUCCESS_COMPLETED, true);
+					request.setAttribute(CommandHelper.AttributeName.ENROLL_RESULTS, results);
 				}
 				Command command = new GetEnrollsListCommand();
 				command.execute(request, response);
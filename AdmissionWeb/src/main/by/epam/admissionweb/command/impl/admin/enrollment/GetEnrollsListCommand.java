@@ -91,6 +91,10 @@ public class GetEnrollsListCommand implements Command {
 				request.setAttribute(CommandHelper.AttributeName.LIST, list);
 				request.setAttribute(CommandHelper.AttributeName.PAGE, requiredPage);
 				request.setAttribute(CommandHelper.AttributeName.PAGES_NUMBER, pagesNumber);
+				int progress = service.getCompletionProgress();
+				if (progress >= 0) {
+					request.setAttribute(CommandHelper.AttributeName.COMPLETION_PROGRESS, progress);
+				}
 			} catch (ServiceException ex) {
 				LOGGER.error(ex);
 				request.setAttribute(CommandHelper.AttributeName.ERROR, true);
@@ -0,0 +1,107 @@
+package main.by.epam.admissionweb.command.impl.admin.faculty;
+
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.Command;
+import main.by.epam.admissionweb.command.exception.CommandException;
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.ranking.PlanScenario;
+import main.by.epam.admissionweb.service.FacultyService;
+import main.by.epam.admissionweb.service.RegisterService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>SimulatePlansCommand</code> является реализацией интерфейса
+ * {@link Command} и инкапсулирует поведение команды по обработке запроса на
+ * симуляцию вариантов плана набора факультета.
+ * <p>
+ * Симуляция не изменяет план набора и ведомость факультета.
+ * <p>
+ * Данное действие доступно только для администратора системы.
+ * 
+ * @author Daria Krupenko
+ * @see Command
+ * @see PlanScenario
+ *
+ */
+public class SimulatePlansCommand implements Command {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Метод описывает поведение команды по обработке запроса на симуляцию
+	 * вариантов плана набора факультета.
+	 * <p>
+	 * Метод получает факультет через сервис {@link FacultyService} и
+	 * результаты симуляции вариантов плана через сервис
+	 * {@link RegisterService}. В результате работы метод устанавливает в
+	 * контекст запроса факультет, введенные варианты плана и результаты
+	 * симуляции. Если варианты плана не указаны, симулируется текущий план
+	 * факультета.
+	 * <p>
+	 * Если клиент не является администратором системы, запрос будет
+	 * перенаправлен на страницу авторизации администратора.
+	 * <p>
+	 * Если в процессе обработки возникла ошибка, обусловленная работой сервисов
+	 * приложения, в контекст запроса устанавливается флаг ошибки.
+	 * 
+	 * @param request
+	 *            контекст запроса (используется для получение доступа к
+	 *            парамаетрам запроса и атрибутам запроса/сессии/приложения)
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @throws CommandException
+	 *             если при перенаправлении запроса произошла ошибка
+	 * @see FacultyService
+	 * @see RegisterService
+	 * @see CommandHelper
+	 */
+	@Override
+	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
+		LOGGER.debug("COMMAND : SimulatePlansCommand");
+		CommandHelper helper = CommandHelper.getInstance();
+		String path = null;
+		Object adminObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.ADMIN);
+		if (adminObj == null) {
+			path = CommandHelper.PageName.ADMIN_LOGIN;
+		} else {
+			try {
+				int fId = helper.parseId(request.getParameter(CommandHelper.ParameterName.FACULTY_ID));
+				String plansStr = request.getParameter(CommandHelper.ParameterName.PLANS);
+				int[] plans = helper.parsePlans(plansStr);
+				LOGGER.debug("COMMAND : SimulatePlansCommand (fId = {}, plans = {})", fId, plansStr);
+				Faculty f = ServiceFactory.getInstance().getFacultyService().getFaculty(fId);
+				request.setAttribute(CommandHelper.AttributeName.FACULTY, f);
+				if (f != null) {
+					if (plans.length == 0) {
+						plans = new int[] { f.getPlan() };
+						plansStr = String.valueOf(f.getPlan());
+					}
+					RegisterService service = ServiceFactory.getInstance().getRegisterService();
+					List<PlanScenario> scenarios = service.simulatePlans(f, plans);
+					request.setAttribute(CommandHelper.AttributeName.SCENARIOS, scenarios);
+					request.setAttribute(CommandHelper.AttributeName.PLANS, plansStr);
+				} else {
+					request.setAttribute(CommandHelper.AttributeName.NOT_FOUND, true);
+				}
+			} catch (ServiceException ex) {
+				LOGGER.error(ex);
+				request.setAttribute(CommandHelper.AttributeName.ERROR, true);
+			}
+			path = CommandHelper.PageName.PLAN_SIMULATOR;
+		}
+		helper.redirectToPage(request, response, path);
+	}
+
+}
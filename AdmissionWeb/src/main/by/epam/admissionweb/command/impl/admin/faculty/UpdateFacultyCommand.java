@@ -17,6 +17,7 @@ import main.by.epam.admissionweb.service.DisciplineService;
 import main.by.epam.admissionweb.service.FacultyService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.AlreadyExistsException;
+import main.by.epam.admissionweb.service.exception.ModifiedException;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -48,6 +49,10 @@ public class UpdateFacultyCommand implements Command {
 	 * устаналивается соответсвующий атрибут, если обновление произошло успешно
 	 * - атрибут успешного завершения.
 	 * <p>
+	 * Если факультет был изменен другим администратором после чтения версии,
+	 * переданной в запросе, в контекст запроса устанавливается атрибут
+	 * конфликта изменений и текущие данные факультета.
+	 * <p>
 	 * Если клиент не является администратором системы, запрос будет
 	 * перенаправлен на страницу авторизации администратора.
 	 * <p>
@@ -82,10 +87,13 @@ public class UpdateFacultyCommand implements Command {
 			String address = request.getParameter(CommandHelper.ParameterName.ADDRESS);
 			String dean = request.getParameter(CommandHelper.ParameterName.DEAN);
 			int plan = helper.parsePlan(request.getParameter(CommandHelper.ParameterName.PLAN));
+			int version = helper.parseVersion(request.getParameter(CommandHelper.ParameterName.VERSION));
+			int loadedPlan = helper.parsePlan(request.getParameter(CommandHelper.ParameterName.LOADED_PLAN));
 			List<Discipline> disciplines = helper.parseDisciplines(request);
 			try {
 				Faculty f = helper.constructFaculty(id, title, description, logoname, phone, address, dean, plan,
 						disciplines);
+				f.setVersion(version);
 				LOGGER.debug("COMMAND : UpdateFacultyCommand (f = {})", f);
 				DisciplineService dService = ServiceFactory.getInstance().getDisciplineService();
 				List<Discipline> list = dService.getDisciplinesList(CommandHelper.REQUIRED_PAGE_DEFAULT,
@@ -93,7 +101,7 @@ public class UpdateFacultyCommand implements Command {
 				request.setAttribute(CommandHelper.AttributeName.D_LIST, list);
 				FacultyService service = ServiceFactory.getInstance().getFacultyService();
 				try {
-					Faculty fNew = service.updateFaculty(f);
+					Faculty fNew = service.updateFaculty(f, loadedPlan);
 					if (fNew == null) {
 						request.setAttribute(CommandHelper.AttributeName.NOT_VALID, true);
 					} else {
@@ -103,6 +111,14 @@ public class UpdateFacultyCommand implements Command {
 				} catch (AlreadyExistsException ex) {
 					LOGGER.error(ex);
 					request.setAttribute(CommandHelper.AttributeName.ALREADY_EXISTS, true);
+				} catch (ModifiedException ex) {
+					LOGGER.error(ex);
+					f = service.getFaculty(id);
+					if (f == null) {
+						request.setAttribute(CommandHelper.AttributeName.NOT_FOUND, true);
+					} else {
+						request.setAttribute(CommandHelper.AttributeName.MODIFIED, true);
+					}
 				}
 				request.setAttribute(CommandHelper.AttributeName.FACULTY, f);
 			} catch (ServiceException ex) {
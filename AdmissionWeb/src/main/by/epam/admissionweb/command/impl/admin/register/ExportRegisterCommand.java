@@ -0,0 +1,144 @@
+package main.by.epam.admissionweb.command.impl.admin.register;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.Command;
+import main.by.epam.admissionweb.command.exception.CommandException;
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.service.RegisterService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>ExportRegisterCommand</code> является реализацией интерфейса
+ * {@link Command} и инкапсулирует поведение команды по обработке запроса на
+ * выгрузку ведомости абитуриентов в файл формата CSV или XLSX.
+ * <p>
+ * Данная операция доступна только для администратора системы.
+ * <p>
+ * Файл записывается непосредственно в поток ответа по мере чтения ведомости из
+ * источника данных, поэтому ведомость не накапливается в памяти.
+ * 
+ * @author Daria Krupenko
+ * @see Command
+ * @see RegisterService
+ *
+ */
+public class ExportRegisterCommand implements Command {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Формат файла XLSX
+	 */
+	private static final String XLSX_FORMAT = "xlsx";
+
+	/**
+	 * Формат файла CSV (по умолчанию)
+	 */
+	private static final String CSV_FORMAT = "csv";
+
+	/**
+	 * Тип содержимого файла XLSX
+	 */
+	private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+	/**
+	 * Тип содержимого файла CSV
+	 */
+	private static final String CSV_CONTENT_TYPE = "text/csv;charset=UTF-8";
+
+	/**
+	 * Имя файла выгрузки (без расширения)
+	 */
+	private static final String FILE_NAME = "register";
+
+	/**
+	 * Метод описывает поведение команды по обработке запроса на выгрузку
+	 * ведомости абитуриентов в файл.
+	 * <p>
+	 * Если в запросе указан факультет, выгружаются записи ведомости с
+	 * указанными статусом и факультетом, иначе - вся ведомость последнего
+	 * набора. Формат файла определяется параметром запроса (по умолчанию CSV).
+	 * <p>
+	 * Если клиент не является администратором системы, запрос будет
+	 * перенаправлен на страницу авторизации администратора.
+	 * <p>
+	 * Если в процессе обработки возникла ошибка, обусловленная работой сервисов
+	 * приложения, и запись ответа еще не начата, запрос перенаправляется на
+	 * страницу ошибки; иначе передача файла прерывается.
+	 * 
+	 * @param request
+	 *            контекст запроса (используется для получение доступа к
+	 *            парамаетрам запроса и атрибутам сессии)
+	 * @param response
+	 *            контекст ответа на HTTP-запрос (в поток ответа записывается
+	 *            файл)
+	 * @throws CommandException
+	 *             если при перенаправлении запроса или записи ответа произошла
+	 *             ошибка
+	 * @see RegisterService
+	 * @see CommandHelper
+	 */
+	@Override
+	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
+		LOGGER.debug("COMMAND : ExportRegisterCommand");
+		CommandHelper helper = CommandHelper.getInstance();
+		Object adminObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.ADMIN);
+		if (adminObj == null) {
+			helper.redirectToPage(request, response, CommandHelper.PageName.ADMIN_LOGIN);
+			return;
+		}
+		String format = XLSX_FORMAT.equalsIgnoreCase(request.getParameter(CommandHelper.ParameterName.FORMAT))
+				? XLSX_FORMAT : CSV_FORMAT;
+		String fIdStr = request.getParameter(CommandHelper.ParameterName.FACULTY_ID);
+		try {
+			RegisterService service = ServiceFactory.getInstance().getRegisterService();
+			Faculty f = null;
+			if (fIdStr != null && !fIdStr.isEmpty()) {
+				int fId = helper.parseId(fIdStr);
+				f = ServiceFactory.getInstance().getFacultyService().getFaculty(fId);
+				if (f == null) {
+					request.setAttribute(CommandHelper.AttributeName.NOT_FOUND, true);
+					helper.redirectToPage(request, response, CommandHelper.PageName.APPLICANTS_RATE);
+					return;
+				}
+			}
+			response.setContentType(XLSX_FORMAT.equals(format) ? XLSX_CONTENT_TYPE : CSV_CONTENT_TYPE);
+			response.setHeader("Content-Disposition", "attachment; filename=\"" + FILE_NAME + "." + format + "\"");
+			response.setHeader("Cache-Control", "no-store");
+			OutputStream out = response.getOutputStream();
+			int count;
+			if (f != null) {
+				boolean isAdmitted = helper.parseStatus(request.getParameter(CommandHelper.ParameterName.STATUS));
+				count = service.exportRegisterByStatusAndFaculty(isAdmitted, f, format, out);
+			} else {
+				count = service.exportRegister(format, out);
+			}
+			out.flush();
+			LOGGER.debug("COMMAND : ExportRegisterCommand (count = {})", count);
+		} catch (ServiceException ex) {
+			LOGGER.error(ex);
+			if (response.isCommitted()) {
+				return;
+			}
+			response.reset();
+			request.setAttribute(CommandHelper.AttributeName.ERROR, true);
+			helper.redirectToPage(request, response, CommandHelper.PageName.DEFAULT_ERROR);
+		} catch (IOException ex) {
+			throw new CommandException("Unable to write exported register", ex);
+		}
+	}
+
+}
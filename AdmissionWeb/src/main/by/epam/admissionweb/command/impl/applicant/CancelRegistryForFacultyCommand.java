@@ -64,11 +64,7 @@ public class CancelRegistryForFacultyCommand implements Command {
 
 		LOGGER.debug("COMMAND : CancelRegistryForFacultyCommand");
 		CommandHelper helper = CommandHelper.getInstance();
-		Object applicantObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.APPLICANT);
-		Applicant a = null;
-		if (applicantObj instanceof Applicant) {
-			a = (Applicant) applicantObj;
-		}
+		Applicant a = helper.getSessionApplicant(request);
 		String path = null;
 		if (a == null) {
 			path = CommandHelper.PageName.APPLICANT_LOGIN;
@@ -84,7 +80,10 @@ public class CancelRegistryForFacultyCommand implements Command {
 						request.setAttribute(CommandHelper.AttributeName.DELETE_UNABLE, true);
 					} else {
 						request.setAttribute(CommandHelper.AttributeName.SUCCESS_DELETED, true);
-						request.getSession(true).setAttribute(CommandHelper.AttributeName.APPLICANT, newA);
+						Applicant aDb = ServiceFactory.getInstance().getApplicantService().getApplicant(a.getId());
+						if (aDb != null) {
+							helper.setSessionApplicant(request, aDb);
+						}
 					}
 				}
 			} catch (ServiceException ex) {
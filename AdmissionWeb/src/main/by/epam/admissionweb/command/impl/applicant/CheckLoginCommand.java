@@ -0,0 +1,89 @@
+package main.by.epam.admissionweb.command.impl.applicant;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.Command;
+import main.by.epam.admissionweb.command.exception.CommandException;
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.service.ApplicantService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>CheckLoginCommand</code> является реализацией интерфейса
+ * {@link Command} и инкапсулирует поведение команды по обработке запроса на
+ * проверку доступности логина при регистрации абитуриента.
+ * <p>
+ * Запрос выполняется страницей регистрации абитуриента в фоновом режиме при
+ * вводе логина, поэтому ответом на него является не страница, а
+ * JSON-объект вида <code>{"available":true}</code>.
+ *
+ * @author Daria Krupenko
+ * @see Command
+ * @see ApplicantService
+ *
+ */
+public class CheckLoginCommand implements Command {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Тип содержимого ответа
+	 */
+	private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+	/**
+	 * Шаблон ответа
+	 */
+	private static final String RESPONSE_FORMAT = "{\"available\":%b}";
+
+	/**
+	 * Метод описывает поведение команды по обработке запроса на проверку
+	 * доступности логина.
+	 * <p>
+	 * Для проверки логина метод обращается к сервису {@link ApplicantService}.
+	 * Ответ не кэшируется клиентом. Если в процессе обработки возникла ошибка,
+	 * обусловленная работой сервисов приложения, клиенту возвращается ответ с
+	 * кодом 503, и доступность логина будет проверена при регистрации.
+	 *
+	 * @param request
+	 *            контекст запроса (используется для получение доступа к
+	 *            парамаетрам запроса)
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @throws CommandException
+	 *             если при записи ответа произошла ошибка
+	 * @see ApplicantService
+	 */
+	@Override
+	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
+		LOGGER.debug("COMMAND : CheckLoginCommand");
+		String login = request.getParameter(CommandHelper.ParameterName.LOGIN);
+		response.setHeader("Cache-Control", "no-store");
+		try {
+			ApplicantService service = ServiceFactory.getInstance().getApplicantService();
+			boolean isAvailable = service.isLoginAvailable(login);
+			LOGGER.debug("COMMAND : CheckLoginCommand (available = {})", isAvailable);
+			response.setContentType(CONTENT_TYPE);
+			PrintWriter writer = response.getWriter();
+			writer.print(String.format(RESPONSE_FORMAT, isAvailable));
+			writer.flush();
+		} catch (ServiceException ex) {
+			LOGGER.error(ex);
+			response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		} catch (IOException ex) {
+			throw new CommandException("Unable to write login check response", ex);
+		}
+	}
+
+}
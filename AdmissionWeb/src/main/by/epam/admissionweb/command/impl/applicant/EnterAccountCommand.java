@@ -2,7 +2,6 @@ package main.by.epam.admissionweb.command.impl.applicant;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,13 +51,12 @@ public class EnterAccountCommand implements Command {
 	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
 		LOGGER.debug("COMMAND : EnterAccountCommand");
 		CommandHelper helper = CommandHelper.getInstance();
-		HttpSession session = request.getSession(true);
-		Object applicantObj = session.getAttribute(CommandHelper.AttributeName.APPLICANT);
+		Applicant a = helper.getSessionApplicant(request);
 		String path = null;
-		if (applicantObj == null) {
+		if (a == null) {
 			path = CommandHelper.PageName.APPLICANT_LOGIN;
 		} else {
-			request.setAttribute(CommandHelper.AttributeName.APPLICANT_TO_REQUEST, applicantObj);
+			request.setAttribute(CommandHelper.AttributeName.APPLICANT_TO_REQUEST, a);
 			path = CommandHelper.PageName.ACCOUNT;
 		}
 		helper.redirectToPage(request, response, path);
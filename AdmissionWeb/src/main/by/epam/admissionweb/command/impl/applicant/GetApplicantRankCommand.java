@@ -0,0 +1,93 @@
+package main.by.epam.admissionweb.command.impl.applicant;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.Command;
+import main.by.epam.admissionweb.command.exception.CommandException;
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.ApplicantRank;
+import main.by.epam.admissionweb.service.DataVersionService;
+import main.by.epam.admissionweb.service.RegisterService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>GetApplicantRankCommand</code> является реализацией интерфейса
+ * {@link Command} и инкапсулирует поведение команды по обработке запроса на
+ * получение места абитуриента в рейтинге факультета в формате JSON.
+ * <p>
+ * Данное действие доступно только для абитуриента.
+ *
+ * @author Daria Krupenko
+ * @see Command
+ * @see ApplicantRank
+ *
+ */
+public class GetApplicantRankCommand implements Command {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Метод описывает поведение команды по обработке запроса на получение места
+	 * абитуриента в рейтинге факультета.
+	 * <p>
+	 * Если клиент не является абитуриентом, запрос будет перенаправлен на
+	 * страницу авторизации абитуриента.
+	 * <p>
+	 * Тег версии ответа строится по версии данных факультета (включая его
+	 * ведомость), поэтому повторный условный запрос до изменения ведомости
+	 * завершается ответом 304 (Not Modified) без обращения к сервисам.
+	 *
+	 * @param request
+	 *            контекст запроса (используется для получение доступа к
+	 *            парамаетрам запроса и атрибутам запроса/сессии/приложения)
+	 * @param response
+	 *            контекст ответа на HTTP-запрос
+	 * @throws CommandException
+	 *             если при перенаправлении запроса произошла ошибка
+	 * @see RegisterService#getApplicantRank(Applicant)
+	 * @see CommandHelper
+	 */
+	@Override
+	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
+		LOGGER.debug("COMMAND : GetApplicantRankCommand");
+		CommandHelper helper = CommandHelper.getInstance();
+		Applicant a = helper.getSessionApplicant(request);
+		if (a == null) {
+			helper.redirectToPage(request, response, CommandHelper.PageName.APPLICANT_LOGIN);
+			return;
+		}
+		String eTag = null;
+		long lastModified = 0;
+		if (a.getRecord() != null && a.getRecord().getFaculty() != null) {
+			int facultyId = a.getRecord().getFaculty().getId();
+			DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+			eTag = helper.constructEntityTag(request, vService.getFacultyTag(facultyId));
+			lastModified = vService.getFacultyModified(facultyId);
+			if (helper.isNotModified(request, response, eTag)) {
+				return;
+			}
+		}
+		try {
+			RegisterService service = ServiceFactory.getInstance().getRegisterService();
+			ApplicantRank rank = service.getApplicantRank(a);
+			request.setAttribute(CommandHelper.AttributeName.APPLICANT_RANK, rank);
+			if (eTag != null) {
+				helper.setValidators(request, response, eTag, lastModified);
+			}
+		} catch (ServiceException ex) {
+			LOGGER.error(ex);
+			request.setAttribute(CommandHelper.AttributeName.ERROR, true);
+		}
+		helper.redirectToPage(request, response, CommandHelper.PageName.APPLICANT_RANK);
+	}
+
+}
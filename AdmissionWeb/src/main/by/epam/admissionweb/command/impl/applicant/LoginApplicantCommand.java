@@ -69,8 +69,7 @@ public class LoginApplicantCommand implements Command {
 			if (a != null) {
 				HttpSession session = request.getSession(true);
 				session.invalidate();
-				session = request.getSession(true);
-				session.setAttribute(CommandHelper.AttributeName.APPLICANT, a);
+				helper.setSessionApplicant(request, a);
 				request.setAttribute(CommandHelper.AttributeName.APPLICANT_TO_REQUEST, a);
 				path = CommandHelper.PageName.ACCOUNT;
 			} else {
@@ -90,7 +90,7 @@ public class RegistrateApplicantCommand implements Command {
 						HttpSession session = request.getSession(true);
 						session.invalidate();
 						a = aNew;
-						request.getSession(true).setAttribute(CommandHelper.AttributeName.APPLICANT, a);
+						helper.setSessionApplicant(request, a);
 					}
 				} catch (AlreadyExistsException ex) {
 					LOGGER.debug(ex);
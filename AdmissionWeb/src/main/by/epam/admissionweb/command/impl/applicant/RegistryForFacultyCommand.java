@@ -72,12 +72,8 @@ public class RegistryForFacultyCommand implements Command {
 		CommandHelper helper = CommandHelper.getInstance();
 		try {
 			if (helper.isAdditionEnabled(CommandHelper.AttributeName.RECORD_KEY, request)) {
-				Object applicantObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.APPLICANT);
-				if (applicantObj != null) {
-					Applicant a = null;
-					if (applicantObj instanceof Applicant) {
-						a = (Applicant) applicantObj;
-					}
+				Applicant a = helper.getSessionApplicant(request);
+				if (a != null) {
 					int fId = helper.parseId(request.getParameter(CommandHelper.ParameterName.FACULTY_ID));
 					Faculty f = ServiceFactory.getInstance().getFacultyService().getFaculty(fId);
 					Map<Discipline, Integer> scores = helper.parseScores(request);
@@ -92,7 +88,9 @@ public class RegistryForFacultyCommand implements Command {
 						r = rNew;
 						request.setAttribute(CommandHelper.AttributeName.SUCCESS_REGISTERED, true);
 						Applicant aNew = ServiceFactory.getInstance().getApplicantService().getApplicant(a.getId());
-						request.getSession(true).setAttribute(CommandHelper.AttributeName.APPLICANT, aNew);
+						if (aNew != null) {
+							helper.setSessionApplicant(request, aNew);
+						}
 					}
 					request.setAttribute(CommandHelper.AttributeName.SCORES, r.getScores());
 					request.setAttribute(CommandHelper.AttributeName.CERTIFICATE, r.getCertificateScore());
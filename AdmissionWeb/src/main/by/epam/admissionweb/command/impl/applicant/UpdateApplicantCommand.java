@@ -4,7 +4,6 @@ import java.util.Date;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,10 +65,9 @@ public class UpdateApplicantCommand implements Command {
 	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
 		LOGGER.debug("COMMAND : UpdateApplicantCommand");
 		CommandHelper helper = CommandHelper.getInstance();
-		HttpSession session = request.getSession(true);
-		Object applicantObj = session.getAttribute(CommandHelper.AttributeName.APPLICANT);
+		Applicant sessionApplicant = helper.getSessionApplicant(request);
 		String path = null;
-		if (applicantObj == null) {
+		if (sessionApplicant == null) {
 			path = CommandHelper.PageName.APPLICANT_LOGIN;
 		} else {
 			int id = helper.parseId(request.getParameter(CommandHelper.ParameterName.APPLICANT_ID));
@@ -96,7 +94,10 @@ public class UpdateApplicantCommand implements Command {
 					} else {
 						a = aNew;
 						request.setAttribute(CommandHelper.AttributeName.SUCCESS_UPDATED, true);
-						session.setAttribute(CommandHelper.AttributeName.APPLICANT, a);
+						Applicant aDb = service.getApplicant(sessionApplicant.getId());
+						if (aDb != null) {
+							helper.setSessionApplicant(request, aDb);
+						}
 					}
 				} catch (AlreadyExistsException ex) {
 					LOGGER.debug(ex);
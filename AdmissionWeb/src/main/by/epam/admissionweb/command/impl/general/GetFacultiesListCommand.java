@@ -13,6 +13,7 @@ import main.by.epam.admissionweb.command.exception.CommandException;
 import main.by.epam.admissionweb.command.impl.CommandHelper;
 import main.by.epam.admissionweb.command.impl.CommandHelper.PageName;
 import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.service.DataVersionService;
 import main.by.epam.admissionweb.service.DisciplineService;
 import main.by.epam.admissionweb.service.FacultyService;
 import main.by.epam.admissionweb.service.PageManagerService;
@@ -53,6 +54,11 @@ public class GetFacultiesListCommand implements Command {
 	 * В зависимости от того, является ли клиент администратором, запрос
 	 * перенаправляется на соответствующую страницу
 	 * <p>
+	 * Метод поддерживает условные GET-запросы: если версия данных списка не
+	 * изменилась с момента предыдущего обращения клиента (по данным сервиса
+	 * {@link DataVersionService}), клиенту возвращается ответ 304 без
+	 * обращения к источнику данных и формирования страницы.
+	 * <p>
 	 * Если в процессе обработки возникла ошибка, обусловленная работой сервисов
 	 * приложения, в контекст запроса устанавливается флаг ошибки.
 	 * 
@@ -74,6 +80,12 @@ public class GetFacultiesListCommand implements Command {
 		CommandHelper helper = CommandHelper.getInstance();
 		Object adminObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.ADMIN);
 		String path = null;
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		String eTag = helper.constructEntityTag(request, vService.getFacultiesListTag());
+		long lastModified = vService.getFacultiesListModified();
+		if (helper.isNotModified(request, response, eTag)) {
+			return;
+		}
 		try {
 			int currentPage = helper.parseCurrentPage(request.getParameter(CommandHelper.ParameterName.CURRENT_PAGE));
 			boolean next = helper.parseDirection(request.getParameter(CommandHelper.ParameterName.DIRECTION));
@@ -89,6 +101,7 @@ public class GetFacultiesListCommand implements Command {
 			request.setAttribute(CommandHelper.AttributeName.LIST, list);
 			request.setAttribute(CommandHelper.AttributeName.PAGE, requiredPage);
 			request.setAttribute(CommandHelper.AttributeName.PAGES_NUMBER, pagesNumber);
+			helper.setValidators(request, response, eTag, lastModified);
 		} catch (ServiceException ex) {
 			LOGGER.error(ex);
 			request.setAttribute(CommandHelper.AttributeName.ERROR, true);
@@ -13,6 +13,7 @@ import main.by.epam.admissionweb.command.exception.CommandException;
 import main.by.epam.admissionweb.command.impl.CommandHelper;
 import main.by.epam.admissionweb.entity.Discipline;
 import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.service.DataVersionService;
 import main.by.epam.admissionweb.service.DisciplineService;
 import main.by.epam.admissionweb.service.FacultyService;
 import main.by.epam.admissionweb.service.ServiceFactory;
@@ -48,6 +49,11 @@ public class GetFacultyCommand implements Command {
 	 * В зависимости от того, является ли клиент администратором, запрос
 	 * перенаправляется на соответствующую страницу.
 	 * <p>
+	 * Метод поддерживает условные GET-запросы: если версия данных факультета
+	 * не изменилась с момента предыдущего обращения клиента (по данным сервиса
+	 * {@link DataVersionService}), клиенту возвращается ответ 304 без
+	 * обращения к источнику данных и формирования страницы.
+	 * <p>
 	 * Если в процессе обработки возникла ошибка, обусловленная работой сервисов
 	 * приложения, в контекст запроса устанавливается флаг ошибки.
 	 * 
@@ -70,6 +76,12 @@ public class GetFacultyCommand implements Command {
 		String idStr = request.getParameter(CommandHelper.ParameterName.FACULTY_ID);
 		int id = helper.parseId(idStr);
 		LOGGER.debug("COMMAND : GetFacultyCommand (id = {})", id);
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		String eTag = helper.constructEntityTag(request, vService.getFacultyTag(id));
+		long lastModified = vService.getFacultyModified(id);
+		if (helper.isNotModified(request, response, eTag)) {
+			return;
+		}
 		FacultyService service = ServiceFactory.getInstance().getFacultyService();
 		try {
 			Faculty f = service.getFaculty(id);
@@ -82,6 +94,7 @@ public class GetFacultyCommand implements Command {
 				List<Discipline> list = dService.getDisciplinesList(CommandHelper.REQUIRED_PAGE_DEFAULT,
 						CommandHelper.ELEMENTS_MAX_VALUE);
 				request.setAttribute(CommandHelper.AttributeName.D_LIST, list);
+				helper.setValidators(request, response, eTag, lastModified);
 			}
 		} catch (ServiceException ex) {
 			LOGGER.error(ex);
@@ -54,9 +54,9 @@ public class ToRegistryForFacultyPageCommand implements Command {
 	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
 		LOGGER.debug("COMMAND : ToRegistryForFacultyCommand");
 		CommandHelper helper = CommandHelper.getInstance();
-		Object applicantObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.APPLICANT);
+		Applicant a = helper.getSessionApplicant(request);
 		Object successAttr = request.getAttribute(CommandHelper.AttributeName.SUCCESS_REGISTERED);
-		if (applicantObj != null) {
+		if (a != null) {
 			try {
 				if (successAttr == null) {
 					RegisterService service = ServiceFactory.getInstance().getRegisterService();
@@ -64,10 +64,6 @@ public class ToRegistryForFacultyPageCommand implements Command {
 					if (!isRegistryEnabled) {
 						request.setAttribute(CommandHelper.AttributeName.NO_CURRENT_ENROLL, true);
 					} else {
-						Applicant a = null;
-						if (applicantObj instanceof Applicant) {
-							a = (Applicant) applicantObj;
-						}
 						boolean isApplicantRegistered = service.isApplicantRegistered(a);
 						if (isApplicantRegistered) {
 							request.setAttribute(CommandHelper.AttributeName.REGISTERED, true);
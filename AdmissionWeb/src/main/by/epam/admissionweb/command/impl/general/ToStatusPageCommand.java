@@ -10,7 +10,7 @@ import main.by.epam.admissionweb.command.Command;
 import main.by.epam.admissionweb.command.exception.CommandException;
 import main.by.epam.admissionweb.command.impl.CommandHelper;
 import main.by.epam.admissionweb.entity.Applicant;
-import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.service.RegisterService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
@@ -33,8 +33,12 @@ public class ToStatusPageCommand implements Command {
 	 * Метод описывает поведение команды по обработке запроса на перенаправление
 	 * запроса на страницу статуса абитуриента.
 	 * <p>
-	 * Метод обращается к сервису {@link RegisterService} для получения статуса
-	 * абитуриента.
+	 * Абитуриент вместе с актуальной записью в ведомости извлекается из
+	 * контекста запроса, куда он помещается фильтром абитуриентов.
+	 * <p>
+	 * Если абитуриент записан на факультет, в контекст запроса помещается его
+	 * место в рейтинге факультета и разница с проходным баллом
+	 * ({@link RegisterService#getApplicantRank(Applicant)}).
 	 * <p>
 	 * Если клиент не является абитуриентом, запрос будет перенаправлен на
 	 * страницу авторизации абитуриента
@@ -46,34 +50,27 @@ public class ToStatusPageCommand implements Command {
 	 *            контекст ответа на HTTP-запрос
 	 * @throws CommandException
 	 *             если при перенаправлении запроса произошла ошибка
-	 * @see RegisterService
-	 * @see CommandHelper
+	 * @see CommandHelper#getSessionApplicant(HttpServletRequest)
 	 */
 	@Override
 	public void execute(HttpServletRequest request, HttpServletResponse response) throws CommandException {
 		LOGGER.debug("COMMAND : ToStatusPageCommand");
 		String path = null;
-		Object applicantObj = request.getSession(true).getAttribute(CommandHelper.AttributeName.APPLICANT);
-		if (applicantObj == null) {
+		Applicant a = CommandHelper.getInstance().getSessionApplicant(request);
+		if (a == null) {
 			path = CommandHelper.PageName.APPLICANT_LOGIN;
 		} else {
-			try {
-				Applicant a = null;
-				if (applicantObj instanceof Applicant) {
-					a = (Applicant) applicantObj;
-				}
-				RegisterRecord r = ServiceFactory.getInstance().getRegisterService().updateRecordInf(a);
-				if (r == null) {
-					request.setAttribute(CommandHelper.AttributeName.NOT_REGISTERED, true);
-				} else {
-					a.setRecord(r);
+			if (a.getRecord() == null) {
+				request.setAttribute(CommandHelper.AttributeName.NOT_REGISTERED, true);
+			} else {
+				try {
+					RegisterService service = ServiceFactory.getInstance().getRegisterService();
+					request.setAttribute(CommandHelper.AttributeName.APPLICANT_RANK, service.getApplicantRank(a));
+				} catch (ServiceException ex) {
+					LOGGER.error(ex);
 				}
-				request.getSession(true).setAttribute(CommandHelper.AttributeName.APPLICANT, a);
-				path = CommandHelper.PageName.STATUS;
-			} catch (ServiceException ex) {
-				LOGGER.error(ex);
-				request.setAttribute(CommandHelper.AttributeName.ERROR, true);
 			}
+			path = CommandHelper.PageName.STATUS;
 		}
 		CommandHelper.getInstance().redirectToPage(request, response, path);
 	}
@@ -3,6 +3,7 @@ package main.by.epam.admissionweb.dao;
 import java.util.List;
 
 import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.DuplicateKeyException;
 import main.by.epam.admissionweb.dao.exception.TransactionException;
 import main.by.epam.admissionweb.entity.Applicant;
 
@@ -43,11 +44,32 @@ public interface ApplicantDAO {
 	 * @param trCode
 	 *            код транзакции.
 	 * @return id абитуриента, сохраненного в источнике данных
+	 * @throws DuplicateKeyException
+	 *             если абитуриент с указанным логином уже существует
 	 * @throws DAOException
 	 *             если произошла ошибка при сохранении объекта абитуриента
 	 */
 	public int createApplicant(Applicant a, int trCode) throws DAOException;
 
+	/**
+	 * Пакетное сохранение абитуриентов вместе с их записями ведомости (если
+	 * запись абитуриента указана). Абитуриентам устанавливаются id,
+	 * сгенерированные источником данных. При указании кода транзакции в
+	 * качестве параметра <code>trCode</code> данное действие будет выполнено
+	 * как часть транзакции с указанным кодом, иначе - в отдельной транзакции.
+	 * 
+	 * @param applicants
+	 *            список абитуриентов
+	 * @param trCode
+	 *            код транзакции.
+	 * @throws DuplicateKeyException
+	 *             если логин хотя бы одного абитуриента уже существует (ни один
+	 *             абитуриент не сохранен)
+	 * @throws DAOException
+	 *             если произошла ошибка при сохранении абитуриентов
+	 */
+	public void createApplicants(List<Applicant> applicants, int trCode) throws DAOException;
+
 	/**
 	 * Получение абитуриента с указанным логином и паролем. При указании кода
 	 * транзакции в качестве параметра <code>trCode</code> данное действие будет
@@ -148,6 +170,34 @@ public interface ApplicantDAO {
 	 */
 	public Applicant getApplicantByLogin(String login, int trCode) throws DAOException;
 
+	/**
+	 * Получение логинов всех абитуриентов. При указании кода транзакции в
+	 * качестве параметра <code>trCode</code> данное действие будет выполнено
+	 * как часть транзакции с указанным кодом.
+	 * 
+	 * @param trCode
+	 *            код транзакции
+	 * @return список логинов абитуриентов
+	 * @throws DAOException
+	 *             если произошла ошибка при получении логинов
+	 */
+	public List<String> getLoginsList(int trCode) throws DAOException;
+
+	/**
+	 * Проверка того, что указанный логин задействован абитуриентом. При
+	 * указании кода транзакции в качестве параметра <code>trCode</code> данное
+	 * действие будет выполнено как часть транзакции с указанным кодом.
+	 * 
+	 * @param login
+	 *            логин абитуриента
+	 * @param trCode
+	 *            код транзакции
+	 * @return true - абитуриент с указанным логином существует
+	 * @throws DAOException
+	 *             если произошла ошибка при проверке логина
+	 */
+	public boolean isLoginRegistered(String login, int trCode) throws DAOException;
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
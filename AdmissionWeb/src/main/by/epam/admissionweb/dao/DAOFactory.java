@@ -5,6 +5,7 @@ import main.by.epam.admissionweb.dao.impl.DisciplineDAOdb;
 import main.by.epam.admissionweb.dao.impl.EnrollmentDAOdb;
 import main.by.epam.admissionweb.dao.impl.FacultyDAOdb;
 import main.by.epam.admissionweb.dao.impl.RegisterDAOdb;
+import main.by.epam.admissionweb.dao.impl.SchemaDAOdb;
 
 /**
  * Класс <code>DAOFactory</code> представляет собой фабрику для получения
@@ -60,6 +61,11 @@ public class DAOFactory {
 	 */
 	private static final RegisterDAO REGISTER_DAO = new RegisterDAOdb();
 
+	/**
+	 * DAO-объект для управления схемой источника данных
+	 */
+	private static final SchemaDAO SCHEMA_DAO = new SchemaDAOdb();
+
 	/**
 	 * Конструктор для создания объекта фабрики. Может быть вызван только из
 	 * данного класса.
@@ -137,4 +143,16 @@ public class DAOFactory {
 		return REGISTER_DAO;
 	}
 
+	/**
+	 * Получение DAO-объекта, способного обновить схему источника данных и
+	 * проверить планы выполнения запросов
+	 * 
+	 * @return DAO-объект для управления схемой источника данных
+	 * @see SchemaDAO
+	 * @see SchemaDAOdb
+	 */
+	public SchemaDAO getSchemaDAO() {
+		return SCHEMA_DAO;
+	}
+
 }
@@ -84,18 +84,23 @@ public interface DisciplineDAO {
 	public Discipline getDiscipline(int id, int trCode) throws DAOException;
 
 	/**
-	 * Обновление информации о дисциплине. При указании кода транзакции в
-	 * качестве параметра <code>trCode</code> данное действие будет выполнено
-	 * как часть транзакции с указанным кодом.
+	 * Обновление информации о дисциплине. Дисциплина обновляется, только если
+	 * ее версия в источнике данных совпадает с версией объекта <code>d</code>
+	 * (оптимистическая блокировка); при успешном обновлении версия объекта
+	 * увеличивается. При указании кода транзакции в качестве параметра
+	 * <code>trCode</code> данное действие будет выполнено как часть транзакции
+	 * с указанным кодом.
 	 * 
 	 * @param d
 	 *            объект дисциплины с обновленными данными
 	 * @param trCode
 	 *            код транзакции.
+	 * @return true - дисциплина обновлена; false - дисциплина не найдена или
+	 *         была изменена после чтения версии
 	 * @throws DAOException
 	 *             если произошла ошибка при обновлении данных дисциплины
 	 */
-	public void updateDiscipline(Discipline d, int trCode) throws DAOException;
+	public boolean updateDiscipline(Discipline d, int trCode) throws DAOException;
 
 	/**
 	 * Удаление дисциплины из системы. При указании кода транзакции в качестве
@@ -175,6 +175,73 @@ public interface EnrollmentDAO {
 	 */
 	public void completeStatuses(boolean isAdmitted, Enroll e, int trCode) throws DAOException;
 
+	/**
+	 * Установить постоянные статусы указанным абитуриентам в контексте
+	 * завершения набора. При указании кода транзакции в качестве параметра
+	 * <code>trCode</code> данное действие будет выполнено как часть транзакции
+	 * с указанным кодом.
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов; true - зачислен; false - не зачислен
+	 * @param applicantIds
+	 *            id абитуриентов
+	 * @param e
+	 *            набор, в рамках которого меняются статусы абитуриентов
+	 * @param trCode
+	 *            код транзакции
+	 * @throws DAOException
+	 *             если произошла ошибка при смене статусов абитуриентов
+	 */
+	public void completeStatuses(boolean isAdmitted, List<Integer> applicantIds, Enroll e, int trCode)
+			throws DAOException;
+
+	/**
+	 * Создание секций ведомости для нового набора. Ведомость и баллы по
+	 * дисциплинам разделены на секции по id набора, записи набора попадают
+	 * только в его секцию.
+	 * <p>
+	 * Операция изменяет схему базы данных и не может быть частью транзакции.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при создании секций
+	 */
+	public void createPartitions(int id, int trCode) throws DAOException;
+
+	/**
+	 * Перенос ведомости набора в архив. Секции набора обмениваются с пустыми
+	 * архивными таблицами без копирования записей, после чего удаляются. Если
+	 * перенос не удался, записи остаются в секциях ведомости. Повторный вызов
+	 * для уже перенесенного набора ничего не делает.
+	 * <p>
+	 * Операция изменяет схему базы данных и не может быть частью транзакции.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при переносе ведомости в архив
+	 */
+	public void archiveEnroll(int id, int trCode) throws DAOException;
+
+	/**
+	 * Удаление ведомости набора: секций набора и архивных таблиц.
+	 * <p>
+	 * Операция изменяет схему базы данных и не может быть частью транзакции.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при удалении ведомости набора
+	 */
+	public void dropRegister(int id, int trCode) throws DAOException;
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
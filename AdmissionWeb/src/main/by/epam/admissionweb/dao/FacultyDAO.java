@@ -106,18 +106,31 @@ public interface FacultyDAO {
 	public Faculty getFaculty(int id, Enroll e, int trCode) throws DAOException;
 
 	/**
-	 * Обновление информации о факультете. При указании кода транзакции в
-	 * качестве параметра <code>trCode</code> данное действие будет выполнено
-	 * как часть транзакции с указанным кодом.
+	 * Обновление информации о факультете. Факультет обновляется, только если
+	 * его версия в источнике данных совпадает с версией объекта <code>f</code>
+	 * (оптимистическая блокировка); при успешном обновлении версия объекта
+	 * увеличивается, а сохраняемый без изменений список дисциплин
+	 * устанавливается в объект из источника данных. При указании кода
+	 * транзакции в качестве параметра <code>trCode</code> данное действие
+	 * будет выполнено как часть транзакции с указанным кодом.
 	 * 
-	 * @param d
+	 * @param f
 	 *            объект факультета с обновленными данными
+	 * @param isPlanEditable
+	 *            true - обновляется план набора; false - прежний план
+	 *            сохраняется
+	 * @param isDisciplinesEditable
+	 *            true - обновляется список дисциплин; false - прежний список
+	 *            сохраняется
 	 * @param trCode
 	 *            код транзакции.
+	 * @return true - факультет обновлен; false - факультет не найден или был
+	 *         изменен после чтения версии
 	 * @throws DAOException
 	 *             если произошла ошибка при обновлении данных факультета
 	 */
-	public void updateFaculty(Faculty f, int trCode) throws DAOException;
+	public boolean updateFaculty(Faculty f, boolean isPlanEditable, boolean isDisciplinesEditable, int trCode)
+			throws DAOException;
 
 	/**
 	 * Удаление факультета из системы. При указании кода транзакции в качестве
@@ -149,6 +162,26 @@ public interface FacultyDAO {
 	 */
 	public Faculty getFacultyByTitle(String title, int trCode) throws DAOException;
 
+	/**
+	 * Получение статистики факультета (проходной балл и количество
+	 * записавшихся абитуриентов) одним запросом. При указании кода транзакции
+	 * в качестве параметра <code>trCode</code> данное действие будет выполнено
+	 * как часть транзакции с указанным кодом.
+	 * 
+	 * @param id
+	 *            id факультета
+	 * @param e
+	 *            набор, в контексте которого подсчитывается количество
+	 *            записавшихся абитуриентов
+	 * @param trCode
+	 *            код транзакции
+	 * @return объект факультета, в котором заполнены только id, проходной балл
+	 *         и количество абитуриентов; null - факультет не найден
+	 * @throws DAOException
+	 *             если произошла ошибка при получении статистики факультета
+	 */
+	public Faculty getFacultyStatistics(int id, Enroll e, int trCode) throws DAOException;
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
@@ -0,0 +1,34 @@
+package main.by.epam.admissionweb.dao;
+
+import java.io.IOException;
+
+import main.by.epam.admissionweb.entity.RegisterRecord;
+
+/**
+ * Интерфейс <code>RecordHandler</code> представляет собой обработчик записей
+ * ведомости, которые DAO-объект передает по одной по мере чтения из источника
+ * данных, не накапливая их в памяти.
+ * <p>
+ * Передаваемый объект записи ведомости (вместе с объектами абитуриента и
+ * факультета) используется повторно для каждой записи, поэтому он действителен
+ * только во время вызова обработчика и не должен сохраняться.
+ *
+ * @author Daria Krupenko
+ * @see RegisterDAO
+ * @see RegisterRecord
+ *
+ */
+public interface RecordHandler {
+
+	/**
+	 * Обработка очередной записи ведомости
+	 *
+	 * @param r
+	 *            запись ведомости (действительна только во время вызова)
+	 * @throws IOException
+	 *             если при выводе записи произошла ошибка (чтение ведомости
+	 *             прекращается)
+	 */
+	public void handle(RegisterRecord r) throws IOException;
+
+}
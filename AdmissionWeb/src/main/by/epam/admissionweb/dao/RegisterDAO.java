@@ -8,6 +8,7 @@ import main.by.epam.admissionweb.entity.Applicant;
 import main.by.epam.admissionweb.entity.Enroll;
 import main.by.epam.admissionweb.entity.Faculty;
 import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.ranking.RankKey;
 
 /**
  * Интерфейс <code>RegisterDAO</code> предоставляет основные методы для чтения и
@@ -51,6 +52,20 @@ public interface RegisterDAO {
 	 */
 	public void createRecord(RegisterRecord r, int trCode) throws DAOException;
 
+	/**
+	 * Сохранение нескольких записей ведомости в источнике данных. При указании
+	 * кода транзакции в качестве параметра <code>trCode</code> данное действие
+	 * будет выполнено как часть транзакции с указанным кодом.
+	 * 
+	 * @param records
+	 *            объекты записей ведомости
+	 * @param trCode
+	 *            код транзакции.
+	 * @throws DAOException
+	 *             если произошла ошибка при сохранении записей ведомости
+	 */
+	public void createRecords(List<RegisterRecord> records, int trCode) throws DAOException;
+
 	/**
 	 * Получение объекта записи ведомости абитуриента. При указании кода
 	 * транзакции в качестве параметра <code>trCode</code> данное действие будет
@@ -58,14 +73,17 @@ public interface RegisterDAO {
 	 * 
 	 * @param a
 	 *            абитуриент, чью запись нужно прочесть из ведомости
+	 * @param e
+	 *            набор, в рамках которого читается запись
 	 * @param trCode
 	 *            код транзакции.
-	 * @return объект записи ведомости абитуриента
+	 * @return объект записи ведомости абитуриента в указанном наборе; null -
+	 *         абитуриент не записан на факультет в этом наборе
 	 * @throws DAOException
 	 *             если произошла ошибка при получении записи ведомости
 	 *             абитуриента
 	 */
-	public RegisterRecord getRecord(Applicant a, int trCode) throws DAOException;
+	public RegisterRecord getRecord(Applicant a, Enroll e, int trCode) throws DAOException;
 
 	/**
 	 * Удаление записи ведомости абитуриента из системы. При указании кода
@@ -74,13 +92,15 @@ public interface RegisterDAO {
 	 * 
 	 * @param a
 	 *            абитуриент, чью запись нужно удалить из ведомости
+	 * @param e
+	 *            набор, из ведомости которого удаляется запись
 	 * @param trCode
 	 *            код транзакции.
 	 * @throws DAOException
 	 *             если произошла ошибка при удалении записи ведомости
 	 *             абитуриента
 	 */
-	public void deleteRecord(Applicant a, int trCode) throws DAOException;
+	public void deleteRecord(Applicant a, Enroll e, int trCode) throws DAOException;
 
 	/**
 	 * Получение количества записей ведомости в рамках указанного набора. При
@@ -168,6 +188,52 @@ public interface RegisterDAO {
 	public List<RegisterRecord> getRegisterByStatusAndFaculty(int beginIndex, int elementsCount, boolean isAdmitted,
 			Faculty f, Enroll e, int trCode) throws DAOException;
 
+	/**
+	 * Потоковое чтение ведомости набора (по факультетам, в порядке рейтинга).
+	 * Записи передаются обработчику по одной по мере чтения и не накапливаются
+	 * в памяти. При указании кода транзакции в качестве параметра
+	 * <code>trCode</code> данное действие будет выполнено как часть транзакции
+	 * с указанным кодом.
+	 * 
+	 * @param e
+	 *            набор
+	 * @param handler
+	 *            обработчик записей ведомости
+	 * @param trCode
+	 *            код транзакции.
+	 * @return количество прочитанных записей
+	 * @throws DAOException
+	 *             если произошла ошибка при чтении ведомости или обработчик
+	 *             записей завершился ошибкой
+	 */
+	public int exportRegister(Enroll e, RecordHandler handler, int trCode) throws DAOException;
+
+	/**
+	 * Потоковое чтение ведомости факультета с указанным статусом абитуриентов
+	 * (в порядке рейтинга). Записи передаются обработчику по одной по мере
+	 * чтения и не накапливаются в памяти. При указании кода транзакции в
+	 * качестве параметра <code>trCode</code> данное действие будет выполнено
+	 * как часть транзакции с указанным кодом.
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов: true - (временно)зачислен, false -
+	 *            (временно)незачислен
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param handler
+	 *            обработчик записей ведомости
+	 * @param trCode
+	 *            код транзакции.
+	 * @return количество прочитанных записей
+	 * @throws DAOException
+	 *             если произошла ошибка при чтении ведомости или обработчик
+	 *             записей завершился ошибкой
+	 */
+	public int exportRegisterByStatusAndFaculty(boolean isAdmitted, Faculty f, Enroll e, RecordHandler handler,
+			int trCode) throws DAOException;
+
 	/**
 	 * Обновление статусов абитуриентов в рамках факультета и набора. При
 	 * указании кода транзакции в качестве параметра <code>trCode</code> данное
@@ -188,6 +254,26 @@ public interface RegisterDAO {
 	 */
 	public void updateStatuses(boolean isAdmitted, Faculty f, Enroll e, int trCode) throws DAOException;
 
+	/**
+	 * Обновление статусов указанных абитуриентов. При указании кода транзакции
+	 * в качестве параметра <code>trCode</code> данное действие будет выполнено
+	 * как часть транзакции с указанным кодом.
+	 * 
+	 * @param isAdmitted
+	 *            новый статус абитуриентов; true - (временно)зачисленный; false
+	 *            - (временно)незачисленный
+	 * @param applicantIds
+	 *            id абитуриентов, статусы которых необходимо обновить
+	 * @param e
+	 *            набор, в рамках которого необходимо обновить статусы
+	 * @param trCode
+	 *            код транзакции
+	 * @throws DAOException
+	 *             если при обновлении статусов произошла ошибка
+	 */
+	public void updateStatuses(boolean isAdmitted, List<Integer> applicantIds, Enroll e, int trCode)
+			throws DAOException;
+
 	/**
 	 * Получить изменившийся проходной балл указанного факультета. При указании
 	 * кода транзакции в качестве параметра <code>trCode</code> данное действие
@@ -243,6 +329,40 @@ public interface RegisterDAO {
 	 */
 	public void setNewPassRate(Faculty f, int newPassRate, int trCode) throws DAOException;
 
+	/**
+	 * Получение ключей рейтинга (id абитуриента, общий балл, балл аттестата)
+	 * всех записей ведомости в рамках указанного факультета и набора. При
+	 * указании кода транзакции в качестве параметра <code>trCode</code> данное
+	 * действие будет выполнено как часть транзакции с указанным кодом.
+	 * 
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param trCode
+	 *            код транзакции
+	 * @return список ключей рейтинга (в произвольном порядке)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении ключей рейтинга
+	 */
+	public List<RankKey> getRankKeys(Faculty f, Enroll e, int trCode) throws DAOException;
+
+	/**
+	 * Получение всех записей ведомости в рамках указанного набора без баллов
+	 * по дисциплинам (у абитуриента и факультета заполнен только id). При
+	 * указании кода транзакции в качестве параметра <code>trCode</code> данное
+	 * действие будет выполнено как часть транзакции с указанным кодом.
+	 * 
+	 * @param e
+	 *            набор
+	 * @param trCode
+	 *            код транзакции
+	 * @return список записей ведомости (в произвольном порядке)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении записей ведомости
+	 */
+	public List<RegisterRecord> getRegisterByEnroll(Enroll e, int trCode) throws DAOException;
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
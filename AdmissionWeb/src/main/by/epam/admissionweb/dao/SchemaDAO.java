@@ -0,0 +1,74 @@
+package main.by.epam.admissionweb.dao;
+
+import java.util.List;
+
+import main.by.epam.admissionweb.dao.exception.DAOException;
+
+/**
+ * Интерфейс <code>SchemaDAO</code> предоставляет методы для обновления схемы
+ * источника данных версионными миграциями и для проверки планов выполнения
+ * запросов DAO-объектов.
+ * <p>
+ * Миграции применяются только вперед, по возрастанию версий. Номер последней
+ * примененной миграции хранится в источнике данных.
+ * <p>
+ * Операции изменяют схему источника данных и не могут быть частью
+ * транзакции, поэтому методы данного интерфейса не принимают код транзакции.
+ * 
+ * @author Daria Krupenko
+ *
+ */
+public interface SchemaDAO {
+
+	/**
+	 * Получение версии схемы источника данных
+	 * 
+	 * @return номер последней примененной миграции; 0 - миграции не
+	 *         применялись
+	 * @throws DAOException
+	 *             если произошла ошибка при чтении версии схемы
+	 */
+	public int getSchemaVersion() throws DAOException;
+
+	/**
+	 * Получение версии последней миграции, известной приложению
+	 * 
+	 * @return номер последней миграции
+	 */
+	public int getLatestVersion();
+
+	/**
+	 * Применение миграций, версия которых больше версии схемы источника
+	 * данных.
+	 * <p>
+	 * Если версия схемы еще не ведется, а источник данных уже содержит
+	 * таблицы приложения, миграции до версии <code>baseline</code>
+	 * включительно отмечаются как примененные без выполнения.
+	 * 
+	 * @param baseline
+	 *            версия схемы существующего источника данных
+	 * @return количество примененных миграций
+	 * @throws DAOException
+	 *             если произошла ошибка при выполнении миграции (следующие
+	 *             миграции не применяются)
+	 */
+	public int migrate(int baseline) throws DAOException;
+
+	/**
+	 * Поиск запросов DAO-объектов, которые читают таблицу целиком. Для каждого
+	 * запроса получается план выполнения (<code>EXPLAIN</code>).
+	 * <p>
+	 * Запросы, которые по назначению читают всю ведомость набора или всю
+	 * небольшую таблицу, в результат не включаются.
+	 * 
+	 * @param minRows
+	 *            минимальное оценочное количество строк таблицы, чтение
+	 *            которой целиком попадает в результат
+	 * @return описания найденных запросов (имя запроса, таблица, оценочное
+	 *         количество строк)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении планов выполнения
+	 */
+	public List<String> findFullScans(int minRows) throws DAOException;
+
+}
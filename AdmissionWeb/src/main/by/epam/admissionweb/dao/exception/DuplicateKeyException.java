@@ -0,0 +1,46 @@
+package main.by.epam.admissionweb.dao.exception;
+
+/**
+ * Класс <code>DuplicateKeyException</code> является подклассом класса
+ * {@link DAOException}, который в свою очередь является подклассом класса
+ * <code>Exception</code>. Таким образом, <code>DuplicateKeyException</code>
+ * является проверяемым исключением.
+ * <p>
+ * <code>DuplicateKeyException</code> сигнализирует о том, что запись данных
+ * отклонена источником данных, так как нарушает уникальный ключ (например,
+ * абитуриент с указанным логином уже существует).
+ * 
+ * @author Daria Krupenko
+ * @see DAOException
+ *
+ */
+public class DuplicateKeyException extends DAOException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Конструирует <code>DuplicateKeyException</code>, причиной которого
+	 * является иное исключение, указанное параметром <code>ex</code>. Таким
+	 * образом, создаваемый объект является оберткой для иного исключения.
+	 * 
+	 * @param ex
+	 *            истинная причина исключения
+	 */
+	public DuplicateKeyException(Throwable ex) {
+		super(ex);
+	}
+
+	/**
+	 * Конструирует <code>DuplicateKeyException</code> с указанным сообщением об
+	 * ошибке <code>message</code>, причиной которой является иное исключение
+	 * <code>ex</code>.
+	 * 
+	 * @param message
+	 *            сообщение об ошибке
+	 * @param ex
+	 *            истинная причина исключения
+	 */
+	public DuplicateKeyException(String message, Throwable ex) {
+		super(message, ex);
+	}
+}
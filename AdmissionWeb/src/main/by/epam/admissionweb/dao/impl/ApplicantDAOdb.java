@@ -5,6 +5,7 @@ import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -15,11 +16,14 @@ import org.apache.logging.log4j.Logger;
 
 import main.by.epam.admissionweb.dao.ApplicantDAO;
 import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.DuplicateKeyException;
 import main.by.epam.admissionweb.dao.exception.TransactionException;
 import main.by.epam.admissionweb.dao.pool.ConnectionPool;
 import main.by.epam.admissionweb.dao.pool.exception.ConnectionPoolException;
 import main.by.epam.admissionweb.dao.pool.impl.ConnectionPoolImpl;
 import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.RegisterRecord;
 import main.by.epam.admissionweb.generator.KeyGenerator;
 import main.by.epam.admissionweb.generator.KeyGeneratorFactory;
 
@@ -65,6 +69,11 @@ public class ApplicantDAOdb implements ApplicantDAO {
 	/**
 	 * Сохранение объекта абитуриента в источнике данных.
 	 * <p>
+	 * Абитуриент сохраняется одним запросом без предварительной проверки
+	 * логина: логин абитуриента уникален в базе данных, и повторяющийся логин
+	 * отклоняется уникальным индексом. Id абитуриента извлекается из
+	 * сгенерированных ключей запроса.
+	 * <p>
 	 * При указании кода транзакции в качестве параметра <code>trCode</code>
 	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
 	 * данном случае, соединение с базой данных извлекается из карты транзакций,
@@ -78,6 +87,8 @@ public class ApplicantDAOdb implements ApplicantDAO {
 	 *            код транзакции; если равен значению по умолчанию (-1), данное
 	 *            действие не рассматривается как часть какой-либо транзакции
 	 * @return id абитуриента, сохраненного в источнике данных
+	 * @throws DuplicateKeyException
+	 *             если абитуриент с указанным логином уже существует
 	 * @throws DAOException
 	 *             если произошла ошибка при получении или возвращении
 	 *             соединения в пул; если произошла ошибка чтения/записи данных
@@ -94,17 +105,21 @@ public class ApplicantDAOdb implements ApplicantDAO {
 			if (conn == null) {
 				conn = pool.takeConnection();
 			}
-			PreparedStatement stat = conn.prepareStatement(DBHelper.ApplicantQuery.CREATE_APPLICANT);
+			PreparedStatement stat = conn.prepareStatement(DBHelper.ApplicantQuery.CREATE_APPLICANT,
+					Statement.RETURN_GENERATED_KEYS);
 			setApplicantParameters(stat, a);
 			stat.executeUpdate();
-			stat = conn.prepareStatement(DBHelper.ApplicantQuery.GET_APPLICANT_ID);
-			stat.setString(1, a.getLogin());
-			ResultSet rs = stat.executeQuery();
+			ResultSet rs = stat.getGeneratedKeys();
 			while (rs.next()) {
 				id = rs.getInt(1);
 			}
 			return id;
-		} catch (ConnectionPoolException | SQLException ex) {
+		} catch (SQLException ex) {
+			if (DBHelper.getInstance().isDuplicateKey(ex)) {
+				throw new DuplicateKeyException("DAO : Applicant with the same login already exists", ex);
+			}
+			throw new DAOException("DAO : Unable to create applicant and write it to the database", ex);
+		} catch (ConnectionPoolException ex) {
 			throw new DAOException("DAO : Unable to create applicant and write it to the database", ex);
 		} finally {
 			if (trCode == DBHelper.NO_TRANSACTION) {
@@ -113,6 +128,115 @@ public class ApplicantDAOdb implements ApplicantDAO {
 		}
 	}
 
+	/**
+	 * Пакетное сохранение абитуриентов вместе с их записями ведомости.
+	 * <p>
+	 * Абитуриенты вставляются одним пакетом запросов, id абитуриентов
+	 * извлекаются из сгенерированных ключей пакета в порядке вставки. Затем
+	 * записи ведомости и баллы по дисциплинам вставляются еще двумя пакетами
+	 * на том же соединении, поэтому абитуриенты и их записи сохраняются в
+	 * одной транзакции.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных, и действие
+	 * выполняется в отдельной транзакции. В конце работы соединение
+	 * возвращается в пул соединений, если операция не является частью
+	 * транзакции.
+	 * 
+	 * @param applicants
+	 *            список абитуриентов
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @throws DuplicateKeyException
+	 *             если логин хотя бы одного абитуриента уже существует
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения/записи данных
+	 */
+	@Override
+	public void createApplicants(List<Applicant> applicants, int trCode) throws DAOException {
+		LOGGER.debug("DAO : ApplicantDAOdb.createApplicants(size = {}, transaction code = {})", applicants.size(),
+				trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+				conn.setAutoCommit(false);
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.ApplicantQuery.CREATE_APPLICANT,
+					Statement.RETURN_GENERATED_KEYS);
+			for (Applicant a : applicants) {
+				setApplicantParameters(stat, a);
+				stat.addBatch();
+			}
+			stat.executeBatch();
+			ResultSet rs = stat.getGeneratedKeys();
+			for (Applicant a : applicants) {
+				if (!rs.next()) {
+					throw new SQLException("Generated keys are missing");
+				}
+				a.setId(rs.getInt(1));
+			}
+			PreparedStatement recordStat = conn.prepareStatement(DBHelper.RegisterQuery.CREATE_RECORD);
+			PreparedStatement scoresStat = conn.prepareStatement(DBHelper.RegisterQuery.ADD_DISCIPLINE_BY_RECORD);
+			boolean hasRecords = false;
+			for (Applicant a : applicants) {
+				RegisterRecord r = a.getRecord();
+				if (r == null) {
+					continue;
+				}
+				hasRecords = true;
+				recordStat.setInt(1, a.getId());
+				recordStat.setInt(2, r.getFaculty().getId());
+				recordStat.setInt(3, r.getCertificateScore());
+				recordStat.setInt(4, r.getTotalScore());
+				recordStat.setString(5, r.getStatus());
+				recordStat.setInt(6, r.getEnroll().getId());
+				recordStat.addBatch();
+				for (Map.Entry<Discipline, Integer> s : r.getScores().entrySet()) {
+					scoresStat.setInt(1, a.getId());
+					scoresStat.setInt(2, s.getKey().getId());
+					scoresStat.setInt(3, s.getValue());
+					scoresStat.setInt(4, r.getEnroll().getId());
+					scoresStat.addBatch();
+				}
+			}
+			if (hasRecords) {
+				recordStat.executeBatch();
+				scoresStat.executeBatch();
+			}
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				conn.commit();
+				conn.setAutoCommit(true);
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			if (trCode == DBHelper.NO_TRANSACTION && conn != null) {
+				try {
+					conn.rollback();
+					conn.setAutoCommit(true);
+				} catch (SQLException ex1) {
+					throw new DAOException(
+							"DAO : Unable to add applicants to the database (some problems with transaction rollback)",
+							ex1);
+				}
+			}
+			if (ex instanceof SQLException && DBHelper.getInstance().isDuplicateKey((SQLException) ex)) {
+				throw new DuplicateKeyException("DAO : Applicant with the same login already exists", ex);
+			}
+			throw new DAOException("DAO : Unable to add applicants to the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Получение абитуриента с указанным логином и паролем.
 	 * <p>
@@ -415,6 +539,102 @@ public class ApplicantDAOdb implements ApplicantDAO {
 		}
 	}
 
+	/**
+	 * Получение логинов всех абитуриентов (логины читаются из уникального
+	 * индекса логина).
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return список логинов абитуриентов
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения данных
+	 */
+	@Override
+	public List<String> getLoginsList(int trCode) throws DAOException {
+		LOGGER.debug("DAO : ApplicantDAOdb.getLoginsList(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		List<String> list = new ArrayList<String>();
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.ApplicantQuery.GET_LOGINS_LIST);
+			ResultSet rs = stat.executeQuery();
+			while (rs.next()) {
+				list.add(rs.getString(1));
+			}
+			LOGGER.debug("DAO : ApplicantDAOdb.getLoginsList (size = {})", list.size());
+			return list;
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to read applicants logins from the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
+	/**
+	 * Проверка того, что указанный логин задействован абитуриентом (поиск по
+	 * уникальному индексу логина).
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param login
+	 *            логин абитуриента
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return true - абитуриент с указанным логином существует
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения данных
+	 */
+	@Override
+	public boolean isLoginRegistered(String login, int trCode) throws DAOException {
+		LOGGER.debug("DAO : ApplicantDAOdb.isLoginRegistered(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		int count = 0;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.ApplicantQuery.HAS_LOGIN);
+			stat.setString(1, login);
+			ResultSet rs = stat.executeQuery();
+			while (rs.next()) {
+				count = rs.getInt(1);
+			}
+			return count > 0;
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to check applicant login in the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
@@ -77,6 +77,19 @@ class DBHelper {
 	 */
 	static final int NO_TRANSACTION = -1;
 
+	/**
+	 * Код ошибки MySQL о нарушении уникального ключа (ER_DUP_ENTRY)
+	 */
+	static final int DUPLICATE_KEY_ERROR = 1062;
+
+	/**
+	 * Размер порции выборки, при котором драйвер MySQL передает строки
+	 * результирующего набора по одной, не загружая весь набор в память
+	 * (потоковое чтение; курсор должен быть однонаправленным и только для
+	 * чтения)
+	 */
+	static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
 	private DBHelper() {
 	}
 
@@ -114,6 +127,7 @@ class DBHelper {
 		f.setLogoname(rs.getString(DBHelper.ColumnLabel.FACULTY_LOGONAME));
 		f.setPlan(rs.getInt(DBHelper.ColumnLabel.FACULTY_PLAN));
 		f.setPassRate(rs.getInt(DBHelper.ColumnLabel.FACULTY_PASS_RATE));
+		f.setVersion(rs.getInt(DBHelper.ColumnLabel.FACULTY_VERSION));
 		List<Discipline> dList = readDisciplines(conn, f.getId());
 		f.setDisciplines(dList);
 		int aCount = readApplicantsCount(conn, f.getId(), e);
@@ -133,7 +147,7 @@ class DBHelper {
 	 * @throws SQLException
 	 *             если при чтении данных возникла ошибка
 	 */
-	private List<Discipline> readDisciplines(Connection conn, int id) throws SQLException {
+	List<Discipline> readDisciplines(Connection conn, int id) throws SQLException {
 		List<Discipline> dList = new ArrayList<Discipline>();
 		PreparedStatement stat = conn.prepareStatement(DBHelper.FacultyQuery.GET_DISCIPLINES_LIST_BY_FACULTY);
 		stat.setInt(1, id);
@@ -191,6 +205,7 @@ class DBHelper {
 		Discipline d = new Discipline();
 		d.setId(rs.getInt(DBHelper.ColumnLabel.DISCIPLINE_ID));
 		d.setTitle(rs.getString(DBHelper.ColumnLabel.DISCIPLINE_TITLE));
+		d.setVersion(rs.getInt(DBHelper.ColumnLabel.DISCIPLINE_VERSION));
 		List<Faculty> fList = readFacultiesByDiscipline(conn, d.getId());
 		d.setFaculties(fList);
 		return d;
@@ -266,6 +281,22 @@ class DBHelper {
 		return a;
 	}
 
+	/**
+	 * Проверка того, что запрос на запись данных отклонен из-за нарушения
+	 * уникального ключа. Для пакетного запроса проверяется и причина
+	 * исключения (ошибка запроса пакета, на котором выполнение остановилось)
+	 * 
+	 * @param ex
+	 *            исключение, возникшее при выполнении запроса
+	 * @return true - запись нарушает уникальный ключ таблицы
+	 */
+	boolean isDuplicateKey(SQLException ex) {
+		if (ex.getErrorCode() == DUPLICATE_KEY_ERROR) {
+			return true;
+		}
+		return ex.getCause() instanceof SQLException && isDuplicateKey((SQLException) ex.getCause());
+	}
+
 	/**
 	 * Возвращение соединения с базой данных обратно в пул соединений
 	 * 
@@ -286,6 +317,25 @@ class DBHelper {
 		}
 	}
 
+	/**
+	 * Статический вложенный класс <code>SchemaQuery</code> содержит строковые
+	 * константы, представляющие собой SQL-запросы к описанию схемы базы данных
+	 * и к таблице версий схемы
+	 * 
+	 * @author Daria Krupenko
+	 *
+	 */
+	static class SchemaQuery {
+		static final String HAS_TABLE = "SELECT COUNT(*) FROM information_schema.TABLES"
+				+ " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+		static final String CREATE_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS schema_version("
+				+ "version INT NOT NULL PRIMARY KEY, name VARCHAR(100) NOT NULL,"
+				+ " applied TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+		static final String GET_VERSION = "SELECT MAX(version) FROM schema_version";
+		static final String ADD_VERSION = "INSERT INTO schema_version(version, name) VALUES(?,?)";
+		static final String EXPLAIN = "EXPLAIN ";
+	}
+
 	/**
 	 * Статический вложенный класс <code>EnrollmentQuery</code> содержит
 	 * строковые константы, представляющие собой SQL-запросы к таблице,
@@ -307,6 +357,15 @@ class DBHelper {
 		static final String COMPLETE_ENROLL = "UPDATE enrolls SET end_date = ?, active = 0 WHERE id = ?";
 		static final String GET_ENROLLS_BY_STATUS = "SELECT id, begin_date, end_date, active FROM enrolls"
 				+ " WHERE active = ?";
+		static final String HAS_PARTITION = "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+				+ " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME = ?";
+		static final String IS_PARTITION_EMPTY = "SELECT 1 FROM %s PARTITION (%s) LIMIT 1";
+		static final String ADD_PARTITION = "ALTER TABLE %s ADD PARTITION (PARTITION %s VALUES IN (%d))";
+		static final String CREATE_ARCHIVE = "CREATE TABLE %s LIKE %s";
+		static final String REMOVE_ARCHIVE_PARTITIONING = "ALTER TABLE %s REMOVE PARTITIONING";
+		static final String EXCHANGE_PARTITION = "ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s";
+		static final String DROP_PARTITION = "ALTER TABLE %s DROP PARTITION %s";
+		static final String DROP_ARCHIVE = "DROP TABLE IF EXISTS %s";
 	}
 
 	/**
@@ -321,7 +380,6 @@ class DBHelper {
 	static class ApplicantQuery {
 		static final String CREATE_APPLICANT = "INSERT INTO applicants(login,password,name,email,"
 				+ "phone,address,birthdate,school,grad_year) VALUES(?,?,?,?,?,?,?,?,?)";
-		static final String GET_APPLICANT_ID = "SELECT id FROM applicants WHERE login = ?";
 		static final String GET_APPLICANT_BY_LOGIN_PASSWORD = "SELECT id,login,password,name,email,"
 				+ "phone,address,birthdate,school,grad_year FROM applicants WHERE login = ? AND password = ?";
 		static final String GET_APPLICANT = "SELECT id, login, password, name, email,"
@@ -333,6 +391,8 @@ class DBHelper {
 		static final String GET_APPLICANTS_NUMBER = "SELECT COUNT(id) FROM applicants";
 		static final String GET_APPLICANT_BY_LOGIN = "SELECT id,login,password,name,email,"
 				+ "phone,address,birthdate,school,grad_year FROM applicants WHERE login = ?";
+		static final String GET_LOGINS_LIST = "SELECT login FROM applicants";
+		static final String HAS_LOGIN = "SELECT COUNT(id) FROM applicants WHERE login = ?";
 
 	}
 
@@ -346,19 +406,20 @@ class DBHelper {
 	 *
 	 */
 	static class DisciplineQuery {
-		static final String GET_DISCIPLINES_LIST = "SELECT id, title FROM disciplines ORDER BY title LIMIT ?,?";
+		static final String GET_DISCIPLINES_LIST = "SELECT id, title, version FROM disciplines ORDER BY title LIMIT ?,?";
 		static final String GET_FACULTIES_LIST_BY_DISCIPLINE = "SELECT faculties.id, faculties.title, faculties.description, faculties.phone,"
 				+ " faculties.address, faculties.dean, faculties.logoname, faculties.plan,"
-				+ " faculties.pass_rate FROM faculties INNER JOIN faculties_disciplines"
+				+ " faculties.pass_rate, faculties.version FROM faculties INNER JOIN faculties_disciplines"
 				+ " ON faculties.id = faculties_disciplines.faculties_id"
 				+ " WHERE faculties_disciplines.disciplines_id = ? ORDER BY faculties.title";
 		static final String GET_DISCIPLINES_NUMBER = "SELECT COUNT(id) FROM disciplines";
-		static final String GET_DISCIPLINE = "SELECT id, title FROM disciplines WHERE id = ?";
-		static final String UPDATE_DISCIPLINE = "UPDATE disciplines SET title = ? WHERE id = ?";
+		static final String GET_DISCIPLINE = "SELECT id, title, version FROM disciplines WHERE id = ?";
+		static final String UPDATE_DISCIPLINE = "UPDATE disciplines SET title = ?, version = version + 1"
+				+ " WHERE id = ? AND version = ?";
 		static final String DELETE_DISCIPLINE = "DELETE FROM disciplines WHERE id = ?";
 		static final String CREATE_DISCIPLINE = "INSERT INTO disciplines(title) VALUES(?)";
 		static final String GET_DISCIPLINE_ID = "SELECT id FROM disciplines WHERE title = ?";
-		static final String GET_DISCIPLINE_BY_TITLE = "SELECT id, title FROM disciplines WHERE title = ?";
+		static final String GET_DISCIPLINE_BY_TITLE = "SELECT id, title, version FROM disciplines WHERE title = ?";
 	}
 
 	/**
@@ -372,30 +433,38 @@ class DBHelper {
 	 */
 	static class RegisterQuery {
 		static final String COMPLETE_STATUSES = "UPDATE register SET status = ? WHERE status = ? AND enrolls_id = ?";
+		static final String COMPLETE_STATUS_BY_APPLICANT = "UPDATE register SET status = ?"
+				+ " WHERE applicants_id = ? AND enrolls_id = ?";
 		static final String CREATE_RECORD = "INSERT INTO register(applicants_id, faculties_id,"
 				+ "certificate_score,total_score,status,enrolls_id) VALUES(?,?,?,?,?,?)";
 		static final String ADD_DISCIPLINE_BY_RECORD = "INSERT INTO register_disciplines"
-				+ "(register_applicants_id,disciplines_id,score) VALUES(?,?,?)";
+				+ "(register_applicants_id,disciplines_id,score,register_enrolls_id) VALUES(?,?,?,?)";
 		static final String GET_CHANGED_PASS_RATE = "SELECT MIN(total_score) FROM register"
 				+ " WHERE status='TEMP_ADMITTED' and faculties_id = ?";
 		static final String UPDATE_ADMITTED_STATUSES = "UPDATE register SET status = 'TEMP_ADMITTED'"
-				+ " WHERE applicants_id = ?";
+				+ " WHERE applicants_id = ? AND enrolls_id = ?";
 		static final String UPDATE_NOT_ADMITTED_STATUSES = "UPDATE register SET status = 'TEMP_NOT_ADMITTED'"
-				+ " WHERE applicants_id = ?";
+				+ " WHERE applicants_id = ? AND enrolls_id = ?";
 		static final String GET_ADMITTED_RECORDS = "SELECT applicants_id FROM register"
-				+ " WHERE faculties_id = ? AND enrolls_id = ? ORDER BY total_score DESC, certificate_score DESC LIMIT 0,?";
+				+ " WHERE faculties_id = ? AND enrolls_id = ? ORDER BY rank_key LIMIT 0,?";
 		static final String GET_NOT_ADMITTED_RECORDS = "SELECT applicants_id FROM register"
-				+ " WHERE faculties_id = ? AND enrolls_id = ? ORDER BY total_score DESC, certificate_score DESC LIMIT ?,?";
+				+ " WHERE faculties_id = ? AND enrolls_id = ? ORDER BY rank_key LIMIT ?,?";
+		static final String GET_RANK_KEYS = "SELECT applicants_id, total_score, certificate_score FROM register"
+				+ " WHERE faculties_id = ? AND enrolls_id = ?";
+		static final String GET_REGISTER_BY_ENROLL = "SELECT applicants_id, faculties_id, total_score,"
+				+ " certificate_score, status FROM register WHERE enrolls_id = ?";
 		static final String GET_RECORDS_COUNT_BY_FACULTY = "SELECT COUNT(applicants_id)"
 				+ " FROM register WHERE faculties_id = ? AND enrolls_id = ?";
 		static final String GET_RECORD_BY_APPLICANT = "SELECT certificate_score, total_score, status FROM register"
-				+ " WHERE applicants_id = ?";
+				+ " WHERE applicants_id = ? AND enrolls_id = ?";
 		static final String GET_FACULTY_BY_RECORD = "SELECT faculties.id, faculties.title, faculties.description,"
-				+ " faculties.logoname, faculties.phone, faculties.address, faculties.dean, faculties.plan, faculties.pass_rate"
-				+ " FROM faculties INNER JOIN register ON faculties.id = register.faculties_id WHERE register.applicants_id = ?";
+				+ " faculties.logoname, faculties.phone, faculties.address, faculties.dean, faculties.plan, faculties.pass_rate,"
+				+ " faculties.version FROM faculties INNER JOIN register ON faculties.id = register.faculties_id WHERE register.applicants_id = ?"
+				+ " AND register.enrolls_id = ?";
 		static final String GET_ENROLL_BY_RECORD = "SELECT enrolls.id, enrolls.begin_date, enrolls.end_date,"
-				+ " enrolls.active FROM enrolls INNER JOIN register ON enrolls.id = register.enrolls_id WHERE register.applicants_id = ?";
-		static final String DELETE_RECORD = "DELETE FROM register WHERE applicants_id = ?";
+				+ " enrolls.active FROM enrolls INNER JOIN register ON enrolls.id = register.enrolls_id WHERE register.applicants_id = ?"
+				+ " AND register.enrolls_id = ?";
+		static final String DELETE_RECORD = "DELETE FROM register WHERE applicants_id = ? AND enrolls_id = ?";
 		static final String GET_RECORDS_NUMBER = "SELECT COUNT(register.applicants_id) FROM register WHERE enrolls_id = ?";
 		static final String GET_REGISTER = "SELECT applicants.id, applicants.name, faculties.id, register.certificate_score, register.total_score,"
 				+ " register.status FROM faculties INNER JOIN register ON faculties.id = register.faculties_id"
@@ -403,12 +472,24 @@ class DBHelper {
 		static final String GET_RECORDS_NUMBER_BY_STATUS_FACULTY_ENROLL = "SELECT COUNT(applicants_id)"
 				+ " FROM register WHERE (status=? OR status = ?) AND faculties_id = ? AND enrolls_id = ?";
 		static final String GET_RECORDS_BY_STATUS_FACULTY_ENROLL = "SELECT applicants_id, certificate_score,"
-				+ " total_score, status FROM register WHERE (status = ? OR status = ?) AND faculties_id = ? AND enrolls_id = ? ORDER BY total_score DESC LIMIT ?,?";
+				+ " total_score, status FROM register WHERE (status = ? OR status = ?) AND faculties_id = ? AND enrolls_id = ? ORDER BY rank_key LIMIT ?,?";
 		static final String GET_APPLICANT_BY_RECORD = "SELECT applicants.name FROM applicants WHERE id = ?";
-		static final String GET_SCORES_BY_RECORD = "SELECT disciplines.id, disciplines.title, register_disciplines.score"
+		static final String EXPORT_REGISTER = "SELECT register.applicants_id, applicants.name, applicants.email,"
+				+ " applicants.phone, register.faculties_id, faculties.title, register.certificate_score, register.total_score,"
+				+ " register.status FROM register INNER JOIN applicants ON register.applicants_id = applicants.id"
+				+ " INNER JOIN faculties ON register.faculties_id = faculties.id WHERE register.enrolls_id = ?"
+				+ " ORDER BY register.faculties_id, register.rank_key";
+		static final String EXPORT_REGISTER_BY_STATUS_FACULTY_ENROLL = "SELECT register.applicants_id, applicants.name,"
+				+ " applicants.email, applicants.phone, register.faculties_id, faculties.title, register.certificate_score,"
+				+ " register.total_score, register.status FROM register INNER JOIN applicants ON register.applicants_id = applicants.id"
+				+ " INNER JOIN faculties ON register.faculties_id = faculties.id WHERE (register.status = ? OR register.status = ?)"
+				+ " AND register.faculties_id = ? AND register.enrolls_id = ? ORDER BY register.rank_key";
+		static final String GET_SCORES_BY_RECORD = "SELECT disciplines.id, disciplines.title, disciplines.version,"
+				+ " register_disciplines.score"
 				+ " FROM disciplines INNER JOIN register_disciplines"
 				+ " ON disciplines.id = register_disciplines.disciplines_id"
-				+ " WHERE register_disciplines.register_applicants_id = ? ORDER BY disciplines.title";
+				+ " WHERE register_disciplines.register_applicants_id = ?"
+				+ " AND register_disciplines.register_enrolls_id = ? ORDER BY disciplines.title";
 	}
 
 	/**
@@ -422,7 +503,7 @@ class DBHelper {
 	 */
 	static class FacultyQuery {
 		static final String GET_FACULTIES_LIST = "SELECT id, title, description, phone,"
-				+ " address, dean, logoname, plan, pass_rate FROM faculties ORDER BY title LIMIT ?,?";
+				+ " address, dean, logoname, plan, pass_rate, version FROM faculties ORDER BY title LIMIT ?,?";
 		static final String GET_DISCIPLINES_LIST_BY_FACULTY = "SELECT disciplines.id, disciplines.title"
 				+ " FROM disciplines INNER JOIN faculties_disciplines"
 				+ " ON disciplines.id = faculties_disciplines.disciplines_id"
@@ -434,15 +515,22 @@ class DBHelper {
 				+ "faculties_id, disciplines_id) VALUES(?,?)";
 		static final String GET_FACULTY_ID = "SELECT id FROM faculties WHERE title = ?";
 		static final String GET_FACULTY = "SELECT id, title, description, logoname, phone, address,"
-				+ " dean, plan, pass_rate FROM faculties WHERE id = ?";
-		static final String REMOVE_DISCIPLINES_BY_FACULTY = "DELETE FROM faculties_disciplines WHERE faculties_id = ?";
+				+ " dean, plan, pass_rate, version FROM faculties WHERE id = ?";
+		static final String GET_DISCIPLINE_IDS_BY_FACULTY = "SELECT disciplines_id FROM faculties_disciplines"
+				+ " WHERE faculties_id = ?";
+		static final String REMOVE_DISCIPLINE_FROM_FACULTY = "DELETE FROM faculties_disciplines"
+				+ " WHERE faculties_id = ? AND disciplines_id = ?";
 		static final String UPDATE_FACULTY = "UPDATE faculties SET title=?, description=?, logoname=?,"
-				+ " phone=?, address=?, dean=?, plan=? WHERE id = ?";
+				+ " phone=?, address=?, dean=?, plan=COALESCE(?, plan), version = version + 1"
+				+ " WHERE id = ? AND version = ?";
 		static final String DELETE_FACULTY = "DELETE FROM faculties WHERE id = ?";
 		static final String SET_PASS_RATE = "UPDATE faculties SET pass_rate = ? WHERE id = ?";
 		static final String RESET_PASS_RATES = "UPDATE faculties SET pass_rate = 0";
 		static final String GET_FACULTY_BY_TITLE = "SELECT id, title, description, logoname, phone, address,"
-				+ " dean, plan, pass_rate FROM faculties WHERE title = ?";
+				+ " dean, plan, pass_rate, version FROM faculties WHERE title = ?";
+		static final String GET_FACULTY_STATISTICS = "SELECT id, pass_rate, (SELECT COUNT(applicants_id)"
+				+ " FROM register WHERE faculties_id = ? AND enrolls_id = ?) AS applicants_count"
+				+ " FROM faculties WHERE id = ?";
 	}
 
 	/**
@@ -456,6 +544,7 @@ class DBHelper {
 	static class ColumnLabel {
 		static final String DISCIPLINE_ID = "id";
 		static final String DISCIPLINE_TITLE = "title";
+		static final String DISCIPLINE_VERSION = "version";
 
 		static final String FACULTY_ID = "id";
 		static final String FACULTY_TITLE = "title";
@@ -466,6 +555,8 @@ class DBHelper {
 		static final String FACULTY_LOGONAME = "logoname";
 		static final String FACULTY_PLAN = "plan";
 		static final String FACULTY_PASS_RATE = "pass_rate";
+		static final String FACULTY_VERSION = "version";
+		static final String FACULTY_APPLICANTS_COUNT = "applicants_count";
 
 		static final String ENROLL_ID = "id";
 		static final String ENROLL_BEGIN_DATE = "begin_date";
@@ -489,6 +580,7 @@ class DBHelper {
 		static final String REGISTER_TOTAL_SCORE = "total_score";
 		static final String REGISTER_STATUS = "status";
 		static final String REGISTER_APPLICANTS_ID = "applicants_id";
+		static final String REGISTER_FACULTIES_ID = "faculties_id";
 	}
 
 }
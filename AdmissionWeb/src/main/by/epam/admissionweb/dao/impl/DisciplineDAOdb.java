@@ -221,6 +221,11 @@ public class DisciplineDAOdb implements DisciplineDAO {
 	/**
 	 * Обновление информации о дисциплине.
 	 * <p>
+	 * Запрос обновления выполняется, только если версия дисциплины в базе
+	 * данных совпадает с версией объекта <code>d</code>, и увеличивает ее;
+	 * конфликт с параллельным изменением определяется по количеству
+	 * обновленных строк без предварительного чтения и блокировки строки.
+	 * <p>
 	 * При указании кода транзакции в качестве параметра <code>trCode</code>
 	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
 	 * данном случае, соединение с базой данных извлекается из карты транзакций,
@@ -233,12 +238,14 @@ public class DisciplineDAOdb implements DisciplineDAO {
 	 * @param trCode
 	 *            код транзакции; если равен значению по умолчанию (-1), данное
 	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return true - дисциплина обновлена; false - дисциплина не найдена или
+	 *         была изменена после чтения версии
 	 * @throws DAOException
 	 *             если произошла ошибка при получении или возвращении
 	 *             соединения в пул; если произошла ошибка чтения/записи данных
 	 */
 	@Override
-	public void updateDiscipline(Discipline d, int trCode) throws DAOException {
+	public boolean updateDiscipline(Discipline d, int trCode) throws DAOException {
 		LOGGER.debug("DAO : DisciplineDAOdb.updateDiscipline(transaction code = {})", trCode);
 		ConnectionPool pool = null;
 		Connection conn = null;
@@ -251,7 +258,13 @@ public class DisciplineDAOdb implements DisciplineDAO {
 			PreparedStatement stat = conn.prepareStatement(DBHelper.DisciplineQuery.UPDATE_DISCIPLINE);
 			stat.setString(1, d.getTitle());
 			stat.setInt(2, d.getId());
-			stat.executeUpdate();
+			stat.setInt(3, d.getVersion());
+			boolean isUpdated = stat.executeUpdate() > 0;
+			if (isUpdated) {
+				d.setVersion(d.getVersion() + 1);
+			}
+			LOGGER.debug("DAO : DisciplineDAOdb.updateDiscipline (updated = {})", isUpdated);
+			return isUpdated;
 		} catch (ConnectionPoolException | SQLException ex) {
 			throw new DAOException("DAO : Unable to update discipline and write changes to the database", ex);
 		} finally {
@@ -5,6 +5,7 @@ import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,22 @@ public class EnrollmentDAOdb implements EnrollmentDAO {
 	 */
 	private static final Map<Integer, Connection> TR_MAP = new ConcurrentHashMap<Integer, Connection>();
 
+	/**
+	 * Таблицы ведомости, разделенные на секции по id набора
+	 */
+	private static final String[] PARTITIONED_TABLES = { "register", "register_disciplines" };
+
+	/**
+	 * Префикс имени секции набора (имя секции - префикс и id набора)
+	 */
+	private static final String PARTITION_PREFIX = "p";
+
+	/**
+	 * Суффикс имени архивной таблицы (имя таблицы - имя исходной таблицы,
+	 * суффикс и id набора)
+	 */
+	private static final String ARCHIVE_SUFFIX = "_archive_";
+
 	/**
 	 * Получение списка наборов.
 	 * <p>
@@ -495,6 +512,205 @@ public class EnrollmentDAOdb implements EnrollmentDAO {
 		}
 	}
 
+	/**
+	 * Установить постоянные статусы указанным абитуриентам в контексте
+	 * завершения набора.
+	 * <p>
+	 * Обновления отправляются в базу данных одним пакетом.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов; true - зачислен; false - не зачислен
+	 * @param applicantIds
+	 *            id абитуриентов
+	 * @param e
+	 *            набор, в рамках которого меняются статусы абитуриентов
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения/записи данных
+	 */
+	@Override
+	public void completeStatuses(boolean isAdmitted, List<Integer> applicantIds, Enroll e, int trCode)
+			throws DAOException {
+		LOGGER.debug("DAO : EnrollmentDAOdb.completeStatuses(size = {}, transaction code = {})", applicantIds.size(),
+				trCode);
+		if (applicantIds.isEmpty()) {
+			return;
+		}
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.COMPLETE_STATUS_BY_APPLICANT);
+			String status = isAdmitted ? DBHelper.ADMITTED_STATUS : DBHelper.NOT_ADMITTED_STATUS;
+			for (int id : applicantIds) {
+				stat.setString(1, status);
+				stat.setInt(2, id);
+				stat.setInt(3, e.getId());
+				stat.addBatch();
+			}
+			stat.executeBatch();
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to complete statuses in the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
+	/**
+	 * Создание секций ведомости для нового набора.
+	 * <p>
+	 * Добавление секции изменяет только описание таблицы и не затрагивает
+	 * записи других наборов. Секция, которая уже существует, не создается
+	 * повторно.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка изменения схемы
+	 */
+	@Override
+	public void createPartitions(int id, int trCode) throws DAOException {
+		LOGGER.debug("DAO : EnrollmentDAOdb.createPartitions(id = {})", id);
+		checkNoTransaction(trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			String partition = PARTITION_PREFIX + id;
+			for (String table : PARTITIONED_TABLES) {
+				if (!exists(conn, DBHelper.EnrollmentQuery.HAS_PARTITION, table, partition)) {
+					execute(conn, String.format(DBHelper.EnrollmentQuery.ADD_PARTITION, table, partition, id));
+				}
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to create register partitions of enroll", ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
+	/**
+	 * Перенос ведомости набора в архив.
+	 * <p>
+	 * Для каждой таблицы ведомости создается пустая архивная таблица той же
+	 * структуры без секций, секция набора обменивается с ней
+	 * (<code>EXCHANGE PARTITION</code>) и удаляется. Обмен и удаление пустой
+	 * секции изменяют только описание таблиц, поэтому время операции не
+	 * зависит от размера ведомости, а записи набора остаются доступны в
+	 * архивных таблицах.
+	 * <p>
+	 * Секции удаляются только после того, как обмен выполнен для всех таблиц.
+	 * Если обмен одной из таблиц не удался, уже выполненные обмены
+	 * повторяются в обратном порядке, и записи возвращаются в секции
+	 * ведомости. Каждый шаг проверяет состояние схемы, поэтому операцию,
+	 * прерванную на любом шаге, можно повторить.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка изменения схемы
+	 */
+	@Override
+	public void archiveEnroll(int id, int trCode) throws DAOException {
+		LOGGER.debug("DAO : EnrollmentDAOdb.archiveEnroll(id = {})", id);
+		checkNoTransaction(trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			String partition = PARTITION_PREFIX + id;
+			List<String> exchanged = new ArrayList<String>();
+			try {
+				for (String table : PARTITIONED_TABLES) {
+					if (!exists(conn, DBHelper.EnrollmentQuery.HAS_PARTITION, table, partition)) {
+						continue;
+					}
+					String archive = table + ARCHIVE_SUFFIX + id;
+					if (!exists(conn, DBHelper.SchemaQuery.HAS_TABLE, archive)) {
+						execute(conn, String.format(DBHelper.EnrollmentQuery.CREATE_ARCHIVE, archive, table));
+						execute(conn, String.format(DBHelper.EnrollmentQuery.REMOVE_ARCHIVE_PARTITIONING, archive));
+					}
+					if (!isEmpty(conn, table, partition)) {
+						execute(conn,
+								String.format(DBHelper.EnrollmentQuery.EXCHANGE_PARTITION, table, partition, archive));
+						exchanged.add(table);
+					}
+				}
+			} catch (SQLException ex) {
+				restoreExchanged(conn, exchanged, partition, id);
+				throw ex;
+			}
+			for (String table : PARTITIONED_TABLES) {
+				if (exists(conn, DBHelper.EnrollmentQuery.HAS_PARTITION, table, partition)) {
+					execute(conn, String.format(DBHelper.EnrollmentQuery.DROP_PARTITION, table, partition));
+				}
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to archive register of enroll", ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
+	/**
+	 * Удаление ведомости набора: секций набора вместе с записями и архивных
+	 * таблиц.
+	 * 
+	 * @param id
+	 *            id набора
+	 * @param trCode
+	 *            код транзакции; должен быть равен значению по умолчанию (-1)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка изменения схемы
+	 */
+	@Override
+	public void dropRegister(int id, int trCode) throws DAOException {
+		LOGGER.debug("DAO : EnrollmentDAOdb.dropRegister(id = {})", id);
+		checkNoTransaction(trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			String partition = PARTITION_PREFIX + id;
+			for (String table : PARTITIONED_TABLES) {
+				if (exists(conn, DBHelper.EnrollmentQuery.HAS_PARTITION, table, partition)) {
+					execute(conn, String.format(DBHelper.EnrollmentQuery.DROP_PARTITION, table, partition));
+				}
+				execute(conn, String.format(DBHelper.EnrollmentQuery.DROP_ARCHIVE, table + ARCHIVE_SUFFIX + id));
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to drop register of enroll", ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
@@ -636,4 +852,101 @@ public class EnrollmentDAOdb implements EnrollmentDAO {
 		stat.setInt(3, id);
 	}
 
+	/**
+	 * Проверка того, что операция изменения схемы вызвана вне транзакции
+	 * (изменение схемы в MySQL неявно фиксирует текущую транзакцию)
+	 * 
+	 * @param trCode
+	 *            код транзакции
+	 * @throws IllegalArgumentException
+	 *             если операция вызвана в рамках транзакции
+	 */
+	private void checkNoTransaction(int trCode) {
+		if (trCode != DBHelper.NO_TRANSACTION) {
+			throw new IllegalArgumentException("DAO : Schema changes can not be a part of transaction");
+		}
+	}
+
+	/**
+	 * Возврат записей в секции ведомости повторным обменом секций с архивными
+	 * таблицами (в обратном порядке). Ошибки возврата записываются в журнал.
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param exchanged
+	 *            таблицы, секции которых уже обменены с архивными таблицами
+	 * @param partition
+	 *            секция набора
+	 * @param id
+	 *            id набора
+	 */
+	private void restoreExchanged(Connection conn, List<String> exchanged, String partition, int id) {
+		for (int i = exchanged.size() - 1; i >= 0; i--) {
+			String table = exchanged.get(i);
+			try {
+				execute(conn, String.format(DBHelper.EnrollmentQuery.EXCHANGE_PARTITION, table, partition,
+						table + ARCHIVE_SUFFIX + id));
+			} catch (SQLException ex) {
+				LOGGER.error("DAO : Unable to restore register partition " + partition + " of " + table, ex);
+			}
+		}
+	}
+
+	/**
+	 * Проверка существования объекта схемы
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param query
+	 *            запрос количества объектов схемы
+	 * @param names
+	 *            параметры запроса
+	 * @return true - объект существует
+	 * @throws SQLException
+	 *             если при выполнении запроса произошла ошибка
+	 */
+	private boolean exists(Connection conn, String query, String... names) throws SQLException {
+		PreparedStatement stat = conn.prepareStatement(query);
+		for (int i = 0; i < names.length; i++) {
+			stat.setString(i + 1, names[i]);
+		}
+		ResultSet rs = stat.executeQuery();
+		return rs.next() && rs.getInt(1) > 0;
+	}
+
+	/**
+	 * Проверка отсутствия записей в секции таблицы
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param table
+	 *            таблица
+	 * @param partition
+	 *            секция
+	 * @return true - секция пуста
+	 * @throws SQLException
+	 *             если при выполнении запроса произошла ошибка
+	 */
+	private boolean isEmpty(Connection conn, String table, String partition) throws SQLException {
+		Statement stat = conn.createStatement();
+		ResultSet rs = stat.executeQuery(String.format(DBHelper.EnrollmentQuery.IS_PARTITION_EMPTY, table, partition));
+		return !rs.next();
+	}
+
+	/**
+	 * Выполнение запроса изменения схемы
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param sql
+	 *            запрос
+	 * @throws SQLException
+	 *             если при выполнении запроса произошла ошибка
+	 */
+	private void execute(Connection conn, String sql) throws SQLException {
+		LOGGER.debug("DAO : {}", sql);
+		Statement stat = conn.createStatement();
+		stat.execute(sql);
+	}
+
 }
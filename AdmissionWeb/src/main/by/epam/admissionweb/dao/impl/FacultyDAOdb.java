@@ -4,9 +4,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
@@ -296,6 +299,19 @@ public class FacultyDAOdb implements FacultyDAO {
 	/**
 	 * Обновление информации о факультете.
 	 * <p>
+	 * Запрос обновления выполняется, только если версия факультета в базе
+	 * данных совпадает с версией объекта <code>f</code>, и увеличивает ее;
+	 * конфликт с параллельным изменением определяется по количеству
+	 * обновленных строк без предварительного чтения и блокировки строки. Если
+	 * план набора не обновляется, в запрос вместо него передается NULL, и
+	 * сохраняется прежний план.
+	 * <p>
+	 * Связи факультета с дисциплинами не перезаписываются: список дисциплин
+	 * сравнивается с сохраненным, и удаляются или добавляются только
+	 * изменившиеся связи. Если список дисциплин не изменился, ассоциативная
+	 * таблица только читается. Если список дисциплин не обновляется, после
+	 * обновления в объект <code>f</code> устанавливается сохраненный список.
+	 * <p>
 	 * При указании кода транзакции в качестве параметра <code>trCode</code>
 	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
 	 * данном случае, соединение с базой данных извлекается из карты транзакций,
@@ -303,17 +319,26 @@ public class FacultyDAOdb implements FacultyDAO {
 	 * соединение возвращается в пул соединений, если операция не является
 	 * частью транзакции.
 	 * 
-	 * @param d
+	 * @param f
 	 *            объект факультета с обновленными данными
+	 * @param isPlanEditable
+	 *            true - обновляется план набора; false - прежний план
+	 *            сохраняется
+	 * @param isDisciplinesEditable
+	 *            true - обновляется список дисциплин; false - прежний список
+	 *            сохраняется
 	 * @param trCode
 	 *            код транзакции; если равен значению по умолчанию (-1), данное
 	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return true - факультет обновлен; false - факультет не найден или был
+	 *         изменен после чтения версии
 	 * @throws DAOException
 	 *             если произошла ошибка при получении или возвращении
 	 *             соединения в пул; если произошла ошибка чтения/записи данных
 	 */
 	@Override
-	public void updateFaculty(Faculty f, int trCode) throws DAOException {
+	public boolean updateFaculty(Faculty f, boolean isPlanEditable, boolean isDisciplinesEditable, int trCode)
+			throws DAOException {
 		LOGGER.debug("DAO : FacultyDAOdb.updateFaculty(transaction code = {})", trCode);
 		ConnectionPool pool = null;
 		Connection conn = null;
@@ -326,16 +351,26 @@ public class FacultyDAOdb implements FacultyDAO {
 			}
 			PreparedStatement stat = conn.prepareStatement(DBHelper.FacultyQuery.UPDATE_FACULTY);
 			setFacultyParameters(stat, f);
+			if (!isPlanEditable) {
+				stat.setNull(7, Types.INTEGER);
+			}
 			stat.setInt(8, f.getId());
-			stat.executeUpdate();
-			stat = conn.prepareStatement(DBHelper.FacultyQuery.REMOVE_DISCIPLINES_BY_FACULTY);
-			stat.setInt(1, f.getId());
-			stat.executeUpdate();
-			insertDisciplinesByFaculty(conn, f);
+			stat.setInt(9, f.getVersion());
+			boolean isUpdated = stat.executeUpdate() > 0;
+			if (isUpdated) {
+				f.setVersion(f.getVersion() + 1);
+				if (isDisciplinesEditable) {
+					updateDisciplinesByFaculty(conn, f);
+				} else {
+					f.setDisciplines(DBHelper.getInstance().readDisciplines(conn, f.getId()));
+				}
+			}
 			if (trCode == DBHelper.NO_TRANSACTION) {
 				conn.commit();
 				conn.setAutoCommit(true);
 			}
+			LOGGER.debug("DAO : FacultyDAOdb.updateFaculty (updated = {})", isUpdated);
+			return isUpdated;
 		} catch (ConnectionPoolException | SQLException ex) {
 			if (trCode == DBHelper.NO_TRANSACTION) {
 				try {
@@ -447,6 +482,65 @@ public class FacultyDAOdb implements FacultyDAO {
 		}
 	}
 
+	/**
+	 * Получение статистики факультета (проходной балл и количество
+	 * записавшихся абитуриентов) одним запросом.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param id
+	 *            id факультета
+	 * @param e
+	 *            набор, в контексте которого подсчитывается количество
+	 *            записавшихся абитуриентов; если null - количество равно 0
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return объект факультета, в котором заполнены только id, проходной балл
+	 *         и количество абитуриентов; null - факультет не найден
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения/записи данных
+	 */
+	@Override
+	public Faculty getFacultyStatistics(int id, Enroll e, int trCode) throws DAOException {
+		LOGGER.debug("DAO : FacultyDAOdb.getFacultyStatistics(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		Faculty f = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.FacultyQuery.GET_FACULTY_STATISTICS);
+			stat.setInt(1, id);
+			stat.setInt(2, e == null ? 0 : e.getId());
+			stat.setInt(3, id);
+			ResultSet rs = stat.executeQuery();
+			while (rs.next()) {
+				f = new Faculty();
+				f.setId(rs.getInt(DBHelper.ColumnLabel.FACULTY_ID));
+				f.setPassRate(rs.getInt(DBHelper.ColumnLabel.FACULTY_PASS_RATE));
+				f.setApplicantsCount(e == null ? 0 : rs.getInt(DBHelper.ColumnLabel.FACULTY_APPLICANTS_COUNT));
+			}
+			LOGGER.debug("DAO : FacultyDAOdb.getFacultyStatistics (f = {})", f);
+			return f;
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to read faculty statistics from the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
@@ -582,13 +676,80 @@ public class FacultyDAOdb implements FacultyDAO {
 	 */
 	private void insertDisciplinesByFaculty(Connection conn, Faculty f) throws SQLException {
 		if (f.getDisciplines() != null && !f.getDisciplines().isEmpty()) {
+			Set<Integer> ids = new LinkedHashSet<Integer>();
+			for (Discipline d : f.getDisciplines()) {
+				ids.add(d.getId());
+			}
+			executeLinkBatch(conn, DBHelper.FacultyQuery.ADD_DISCIPLINE_TO_FACULTY, f.getId(), ids);
+		}
+	}
+
+	/**
+	 * Приведение связей факультета, указанного в параметре <code>f</code>, с
+	 * дисциплинами в соответствие с его списком дисциплин. Сохраненные связи
+	 * читаются после обновления записи факультета, которое блокирует ее до
+	 * конца транзакции, поэтому параллельное обновление того же факультета не
+	 * может изменить их до записи разницы. Лишние связи удаляются, новые
+	 * добавляются, каждая группа - одним пакетом.
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param f
+	 *            объект факультета (содержит в себе список дисциплин)
+	 * @throws SQLException
+	 *             если не удалось установить какой-либо параметр или выполнить
+	 *             запрос к базе данных
+	 */
+	private void updateDisciplinesByFaculty(Connection conn, Faculty f) throws SQLException {
+		Set<Integer> added = new LinkedHashSet<Integer>();
+		if (f.getDisciplines() != null) {
 			for (Discipline d : f.getDisciplines()) {
-				PreparedStatement stat = conn.prepareStatement(DBHelper.FacultyQuery.ADD_DISCIPLINE_TO_FACULTY);
-				stat.setInt(1, f.getId());
-				stat.setInt(2, d.getId());
-				stat.executeUpdate();
+				added.add(d.getId());
+			}
+		}
+		Set<Integer> removed = new LinkedHashSet<Integer>();
+		PreparedStatement stat = conn.prepareStatement(DBHelper.FacultyQuery.GET_DISCIPLINE_IDS_BY_FACULTY);
+		stat.setInt(1, f.getId());
+		ResultSet rs = stat.executeQuery();
+		while (rs.next()) {
+			int id = rs.getInt(1);
+			if (!added.remove(id)) {
+				removed.add(id);
 			}
 		}
+		LOGGER.debug("DAO : FacultyDAOdb.updateDisciplinesByFaculty (added = {}, removed = {})", added, removed);
+		executeLinkBatch(conn, DBHelper.FacultyQuery.REMOVE_DISCIPLINE_FROM_FACULTY, f.getId(), removed);
+		executeLinkBatch(conn, DBHelper.FacultyQuery.ADD_DISCIPLINE_TO_FACULTY, f.getId(), added);
+	}
+
+	/**
+	 * Выполнение пакета запросов к ассоциативной таблице факультетов и
+	 * дисциплин (по одному запросу на каждую дисциплину)
+	 * 
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param query
+	 *            запрос с параметрами id факультета и id дисциплины
+	 * @param facultyId
+	 *            id факультета
+	 * @param disciplineIds
+	 *            id дисциплин; если пусто, запрос не выполняется
+	 * @throws SQLException
+	 *             если не удалось установить какой-либо параметр или выполнить
+	 *             пакет запросов
+	 */
+	private void executeLinkBatch(Connection conn, String query, int facultyId, Set<Integer> disciplineIds)
+			throws SQLException {
+		if (disciplineIds.isEmpty()) {
+			return;
+		}
+		PreparedStatement stat = conn.prepareStatement(query);
+		for (int id : disciplineIds) {
+			stat.setInt(1, facultyId);
+			stat.setInt(2, id);
+			stat.addBatch();
+		}
+		stat.executeBatch();
 	}
 
 }
@@ -1,5 +1,6 @@
 package main.by.epam.admissionweb.dao.impl;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -13,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import main.by.epam.admissionweb.dao.RecordHandler;
 import main.by.epam.admissionweb.dao.RegisterDAO;
 import main.by.epam.admissionweb.dao.exception.DAOException;
 import main.by.epam.admissionweb.dao.exception.TransactionException;
@@ -26,6 +28,7 @@ import main.by.epam.admissionweb.entity.Faculty;
 import main.by.epam.admissionweb.entity.RegisterRecord;
 import main.by.epam.admissionweb.generator.KeyGenerator;
 import main.by.epam.admissionweb.generator.KeyGeneratorFactory;
+import main.by.epam.admissionweb.ranking.RankKey;
 
 /**
  * Класс <code>RegisterDAOdb</code> реализует интерфейс {@link RegisterDAO} и
@@ -125,6 +128,77 @@ public class RegisterDAOdb implements RegisterDAO {
 
 	}
 
+	/**
+	 * Сохранение нескольких записей ведомости в источнике данных.
+	 * <p>
+	 * Записи ведомости и баллы по дисциплинам отправляются в базу данных двумя
+	 * пакетами.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param records
+	 *            объекты записей ведомости
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка записи данных
+	 */
+	@Override
+	public void createRecords(List<RegisterRecord> records, int trCode) throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.createRecords(size = {}, transaction code = {})", records.size(), trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+				conn.setAutoCommit(false);
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.CREATE_RECORD);
+			PreparedStatement scoresStat = conn.prepareStatement(DBHelper.RegisterQuery.ADD_DISCIPLINE_BY_RECORD);
+			for (RegisterRecord r : records) {
+				setRecordParameters(stat, r);
+				stat.addBatch();
+				for (Map.Entry<Discipline, Integer> s : r.getScores().entrySet()) {
+					scoresStat.setInt(1, r.getApplicant().getId());
+					scoresStat.setInt(2, s.getKey().getId());
+					scoresStat.setInt(3, s.getValue());
+					scoresStat.setInt(4, r.getEnroll().getId());
+					scoresStat.addBatch();
+				}
+			}
+			stat.executeBatch();
+			scoresStat.executeBatch();
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				conn.commit();
+				conn.setAutoCommit(true);
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				try {
+					conn.rollback();
+				} catch (SQLException ex1) {
+					throw new DAOException(
+							"DAO : Unable to add records to the database (some problems with transaction rollback)",
+							ex1);
+				}
+			}
+			throw new DAOException("DAO : Unable to add records to the database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Получение объекта записи ведомости абитуриента.
 	 * <p>
@@ -137,16 +211,20 @@ public class RegisterDAOdb implements RegisterDAO {
 	 * 
 	 * @param a
 	 *            абитуриент, чью запись нужно прочесть из ведомости
+	 * @param e
+	 *            набор, в рамках которого читается запись (читается только
+	 *            его секция ведомости)
 	 * @param trCode
 	 *            код транзакции; если равен значению по умолчанию (-1), данное
 	 *            действие не рассматривается как часть какой-либо транзакции
-	 * @return объект записи ведомости абитуриента
+	 * @return объект записи ведомости абитуриента в указанном наборе; null -
+	 *         абитуриент не записан на факультет в этом наборе
 	 * @throws DAOException
 	 *             если произошла ошибка при получении или возвращении
 	 *             соединения в пул; если произошла ошибка чтения/записи данных
 	 */
 	@Override
-	public RegisterRecord getRecord(Applicant a, int trCode) throws DAOException {
+	public RegisterRecord getRecord(Applicant a, Enroll e, int trCode) throws DAOException {
 		LOGGER.debug("DAO : RegisterDAOdb.getRecord(transaction code = {})", trCode);
 		ConnectionPool pool = null;
 		Connection conn = null;
@@ -159,9 +237,10 @@ public class RegisterDAOdb implements RegisterDAO {
 			}
 			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_RECORD_BY_APPLICANT);
 			stat.setInt(1, a.getId());
+			stat.setInt(2, e.getId());
 			ResultSet rs = stat.executeQuery();
 			while (rs.next()) {
-				r = constructRecord(conn, rs, a.getId());
+				r = constructRecord(conn, rs, a.getId(), e.getId());
 			}
 			LOGGER.debug("DAO : RegisterDAOdb.getRecord (r = {})", r);
 			return r;
@@ -186,6 +265,9 @@ public class RegisterDAOdb implements RegisterDAO {
 	 * 
 	 * @param a
 	 *            абитуриент, чью запись нужно удалить из ведомости
+	 * @param e
+	 *            набор, из ведомости которого удаляется запись (записи
+	 *            абитуриента в других наборах не удаляются)
 	 * @param trCode
 	 *            код транзакции; если равен значению по умолчанию (-1), данное
 	 *            действие не рассматривается как часть какой-либо транзакции
@@ -194,7 +276,7 @@ public class RegisterDAOdb implements RegisterDAO {
 	 *             соединения в пул; если произошла ошибка чтения/записи данных
 	 */
 	@Override
-	public void deleteRecord(Applicant a, int trCode) throws DAOException {
+	public void deleteRecord(Applicant a, Enroll e, int trCode) throws DAOException {
 		LOGGER.debug("DAO : RegisterDAOdb.deleteRecord(transaction code = {})", trCode);
 		ConnectionPool pool = null;
 		Connection conn = null;
@@ -207,6 +289,7 @@ public class RegisterDAOdb implements RegisterDAO {
 			}
 			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.DELETE_RECORD);
 			stat.setInt(1, a.getId());
+			stat.setInt(2, e.getId());
 			stat.executeUpdate();
 		} catch (ConnectionPoolException | SQLException ex) {
 			throw new DAOException("DAO : Unable to delete record from the database", ex);
@@ -317,7 +400,7 @@ public class RegisterDAOdb implements RegisterDAO {
 			stat.setInt(3, elementsCount);
 			ResultSet rs = stat.executeQuery();
 			while (rs.next()) {
-				RegisterRecord r = constructRecord(conn, rs, rs.getInt(DBHelper.ColumnLabel.APPLICANT_ID));
+				RegisterRecord r = constructRecord(conn, rs, rs.getInt(DBHelper.ColumnLabel.APPLICANT_ID), e.getId());
 				list.add(r);
 			}
 			LOGGER.debug("DAO : RegisterDAOdb.getRegister (list = {})", list);
@@ -460,7 +543,8 @@ public class RegisterDAOdb implements RegisterDAO {
 			stat.setInt(6, elementsCount);
 			ResultSet rs = stat.executeQuery();
 			while (rs.next()) {
-				RegisterRecord r = constructRecord(conn, rs, rs.getInt(DBHelper.ColumnLabel.REGISTER_APPLICANTS_ID));
+				RegisterRecord r = constructRecord(conn, rs, rs.getInt(DBHelper.ColumnLabel.REGISTER_APPLICANTS_ID),
+						e.getId());
 				list.add(r);
 			}
 			LOGGER.debug("DAO : RegisterDAOdb.getRecordsNumberByStatusAndFaculty (list = {})", list);
@@ -474,6 +558,136 @@ public class RegisterDAOdb implements RegisterDAO {
 		}
 	}
 
+	/**
+	 * Потоковое чтение ведомости набора (по факультетам, в порядке рейтинга).
+	 * <p>
+	 * Записи читаются однонаправленным курсором только для чтения в потоковом
+	 * режиме драйвера ({@link DBHelper#STREAMING_FETCH_SIZE}) и передаются
+	 * обработчику по одной, поэтому объем используемой памяти не зависит от
+	 * размера ведомости. До окончания чтения соединение не может выполнять
+	 * другие запросы.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param e
+	 *            набор
+	 * @param handler
+	 *            обработчик записей ведомости
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return количество прочитанных записей
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения данных или
+	 *             обработки записи
+	 */
+	@Override
+	public int exportRegister(Enroll e, RecordHandler handler, int trCode) throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.exportRegister(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			try (PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.EXPORT_REGISTER,
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+				stat.setFetchSize(DBHelper.STREAMING_FETCH_SIZE);
+				stat.setInt(1, e.getId());
+				return exportRecords(stat, e, handler);
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to export register from the database", ex);
+		} catch (IOException ex) {
+			throw new DAOException("DAO : Unable to handle exported register record", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
+	/**
+	 * Потоковое чтение ведомости факультета с указанным статусом абитуриентов
+	 * (в порядке рейтинга).
+	 * <p>
+	 * Записи читаются однонаправленным курсором только для чтения в потоковом
+	 * режиме драйвера ({@link DBHelper#STREAMING_FETCH_SIZE}) и передаются
+	 * обработчику по одной, поэтому объем используемой памяти не зависит от
+	 * размера ведомости. До окончания чтения соединение не может выполнять
+	 * другие запросы.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов: true - (временно)зачислен, false -
+	 *            (временно)незачислен
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param handler
+	 *            обработчик записей ведомости
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return количество прочитанных записей
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения данных или
+	 *             обработки записи
+	 */
+	@Override
+	public int exportRegisterByStatusAndFaculty(boolean isAdmitted, Faculty f, Enroll e, RecordHandler handler,
+			int trCode) throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.exportRegisterByStatusAndFaculty(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			try (PreparedStatement stat = conn.prepareStatement(
+					DBHelper.RegisterQuery.EXPORT_REGISTER_BY_STATUS_FACULTY_ENROLL, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY)) {
+				stat.setFetchSize(DBHelper.STREAMING_FETCH_SIZE);
+				if (isAdmitted) {
+					stat.setString(1, DBHelper.ADMITTED_STATUS);
+					stat.setString(2, DBHelper.TEMP_ADMITTED_STATUS);
+				} else {
+					stat.setString(1, DBHelper.NOT_ADMITTED_STATUS);
+					stat.setString(2, DBHelper.TEMP_NOT_ADMITTED_STATUS);
+				}
+				stat.setInt(3, f.getId());
+				stat.setInt(4, e.getId());
+				return exportRecords(stat, e, handler);
+			}
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to export register by status and faculty from the database", ex);
+		} catch (IOException ex) {
+			throw new DAOException("DAO : Unable to handle exported register record", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Установить новый проходной балл факультета.
 	 * <p>
@@ -567,6 +781,7 @@ public class RegisterDAOdb implements RegisterDAO {
 			for (int i : list) {
 				PreparedStatement stat = conn.prepareStatement(query);
 				stat.setInt(1, i);
+				stat.setInt(2, e.getId());
 				stat.executeUpdate();
 			}
 		} catch (ConnectionPoolException | SQLException ex) {
@@ -579,6 +794,65 @@ public class RegisterDAOdb implements RegisterDAO {
 
 	}
 
+	/**
+	 * Обновление статусов указанных абитуриентов.
+	 * <p>
+	 * Обновления отправляются в базу данных одним пакетом.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param isAdmitted
+	 *            новый статус абитуриентов; true - (временно)зачисленный; false
+	 *            - (временно)незачисленный
+	 * @param applicantIds
+	 *            id абитуриентов, статусы которых необходимо обновить
+	 * @param e
+	 *            набор, в рамках которого необходимо обновить статусы
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка записи данных
+	 */
+	@Override
+	public void updateStatuses(boolean isAdmitted, List<Integer> applicantIds, Enroll e, int trCode)
+			throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.updateStatuses(ids = {}, transaction code = {})", applicantIds, trCode);
+		if (applicantIds.isEmpty()) {
+			return;
+		}
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			String query = isAdmitted ? DBHelper.RegisterQuery.UPDATE_ADMITTED_STATUSES
+					: DBHelper.RegisterQuery.UPDATE_NOT_ADMITTED_STATUSES;
+			PreparedStatement stat = conn.prepareStatement(query);
+			for (int id : applicantIds) {
+				stat.setInt(1, id);
+				stat.setInt(2, e.getId());
+				stat.addBatch();
+			}
+			stat.executeBatch();
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to update statuses in database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Получить изменившийся проходной балл указанного факультета.
 	 * <p>
@@ -680,6 +954,118 @@ public class RegisterDAOdb implements RegisterDAO {
 		}
 	}
 
+	/**
+	 * Получение ключей рейтинга (id абитуриента, общий балл, балл аттестата)
+	 * всех записей ведомости в рамках указанного факультета и набора.
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return список ключей рейтинга (в произвольном порядке)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения/записи данных
+	 */
+	@Override
+	public List<RankKey> getRankKeys(Faculty f, Enroll e, int trCode) throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.getRankKeys(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_RANK_KEYS);
+			stat.setInt(1, f.getId());
+			stat.setInt(2, e.getId());
+			ResultSet rs = stat.executeQuery();
+			List<RankKey> list = new ArrayList<RankKey>();
+			while (rs.next()) {
+				list.add(new RankKey(rs.getInt(1), rs.getInt(2), rs.getInt(3)));
+			}
+			return list;
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to read rank keys from database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
+	/**
+	 * Получение всех записей ведомости в рамках указанного набора без баллов
+	 * по дисциплинам (у абитуриента и факультета заполнен только id).
+	 * <p>
+	 * При указании кода транзакции в качестве параметра <code>trCode</code>
+	 * данное действие будет выполнено как часть транзакции с указанным кодом. В
+	 * данном случае, соединение с базой данных извлекается из карты транзакций,
+	 * в противном случае - из пула соединений с базой данных. В конце работы
+	 * соединение возвращается в пул соединений, если операция не является
+	 * частью транзакции.
+	 * 
+	 * @param e
+	 *            набор
+	 * @param trCode
+	 *            код транзакции; если равен значению по умолчанию (-1), данное
+	 *            действие не рассматривается как часть какой-либо транзакции
+	 * @return список записей ведомости (в произвольном порядке)
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения/записи данных
+	 */
+	@Override
+	public List<RegisterRecord> getRegisterByEnroll(Enroll e, int trCode) throws DAOException {
+		LOGGER.debug("DAO : RegisterDAOdb.getRegisterByEnroll(transaction code = {})", trCode);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = TR_MAP.get(trCode);
+			if (conn == null) {
+				conn = pool.takeConnection();
+			}
+			PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_REGISTER_BY_ENROLL);
+			stat.setInt(1, e.getId());
+			ResultSet rs = stat.executeQuery();
+			List<RegisterRecord> list = new ArrayList<RegisterRecord>();
+			while (rs.next()) {
+				RegisterRecord r = new RegisterRecord();
+				Applicant a = new Applicant();
+				a.setId(rs.getInt(1));
+				r.setApplicant(a);
+				Faculty f = new Faculty();
+				f.setId(rs.getInt(2));
+				r.setFaculty(f);
+				r.setTotalScore(rs.getInt(3));
+				r.setCertificateScore(rs.getInt(4));
+				r.setStatus(rs.getString(5));
+				r.setEnroll(e);
+				list.add(r);
+			}
+			return list;
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to read register by enroll from database", ex);
+		} finally {
+			if (trCode == DBHelper.NO_TRANSACTION) {
+				DBHelper.getInstance().returnConnection(pool, conn);
+			}
+		}
+	}
+
 	/**
 	 * Создание новой транзакции.
 	 * <p>
@@ -779,6 +1165,51 @@ public class RegisterDAOdb implements RegisterDAO {
 		}
 	}
 
+	/**
+	 * Выполнение запроса потокового чтения ведомости и передача записей
+	 * обработчику. Для всех записей используются одни и те же объекты записи,
+	 * абитуриента и факультета.
+	 * 
+	 * @param stat
+	 *            подготовленный запрос
+	 * @param e
+	 *            набор
+	 * @param handler
+	 *            обработчик записей ведомости
+	 * @return количество прочитанных записей
+	 * @throws SQLException
+	 *             если произошла ошибка чтения данных
+	 * @throws IOException
+	 *             если обработчик записей завершился ошибкой
+	 */
+	private int exportRecords(PreparedStatement stat, Enroll e, RecordHandler handler)
+			throws SQLException, IOException {
+		Applicant a = new Applicant();
+		Faculty f = new Faculty();
+		RegisterRecord r = new RegisterRecord();
+		r.setApplicant(a);
+		r.setFaculty(f);
+		r.setEnroll(e);
+		int count = 0;
+		try (ResultSet rs = stat.executeQuery()) {
+			while (rs.next()) {
+				a.setId(rs.getInt(DBHelper.ColumnLabel.REGISTER_APPLICANTS_ID));
+				a.setName(rs.getString(DBHelper.ColumnLabel.APPLICANT_NAME));
+				a.setEmail(rs.getString(DBHelper.ColumnLabel.APPLICANT_EMAIL));
+				a.setPhone(rs.getString(DBHelper.ColumnLabel.APPLICANT_PHONE));
+				f.setId(rs.getInt(DBHelper.ColumnLabel.REGISTER_FACULTIES_ID));
+				f.setTitle(rs.getString(DBHelper.ColumnLabel.FACULTY_TITLE));
+				r.setCertificateScore(rs.getInt(DBHelper.ColumnLabel.REGISTER_CERT_SCORE));
+				r.setTotalScore(rs.getInt(DBHelper.ColumnLabel.REGISTER_TOTAL_SCORE));
+				r.setStatus(rs.getString(DBHelper.ColumnLabel.REGISTER_STATUS));
+				handler.handle(r);
+				count++;
+			}
+		}
+		LOGGER.debug("DAO : RegisterDAOdb.exportRecords (count = {})", count);
+		return count;
+	}
+
 	/**
 	 * Установка параметров подготовленного запроса
 	 * <code>PreparedStatement</code> в соответствии с атрибутами сущности
@@ -819,6 +1250,7 @@ public class RegisterDAOdb implements RegisterDAO {
 			stat.setInt(1, r.getApplicant().getId());
 			stat.setInt(2, s.getKey().getId());
 			stat.setInt(3, s.getValue());
+			stat.setInt(4, r.getEnroll().getId());
 			stat.executeUpdate();
 		}
 	}
@@ -835,24 +1267,28 @@ public class RegisterDAOdb implements RegisterDAO {
 	 * @param id
 	 *            id абитуриента, которому принадлежит конструируемая запись
 	 *            ведомости
+	 * @param enrollId
+	 *            id набора, которому принадлежит конструируемая запись
+	 *            ведомости
 	 * @return запись ведомости, содержащая полную информацию об абитуриенте,
 	 *         факультет, наборе, а также дополнительную информацию (балл
 	 *         аттестата, суммарный балл, статус)
 	 * @throws SQLException
 	 *             если при чтении данных произошла ошибка
 	 */
-	private RegisterRecord constructRecord(Connection conn, ResultSet rs, int id) throws SQLException {
+	private RegisterRecord constructRecord(Connection conn, ResultSet rs, int id, int enrollId)
+			throws SQLException {
 		RegisterRecord r = new RegisterRecord();
 		Applicant a = readApplicant(conn, id);
 		r.setApplicant(a);
 		r.setCertificateScore(rs.getInt(DBHelper.ColumnLabel.REGISTER_CERT_SCORE));
 		r.setTotalScore(rs.getInt(DBHelper.ColumnLabel.REGISTER_TOTAL_SCORE));
 		r.setStatus(rs.getString(DBHelper.ColumnLabel.REGISTER_STATUS));
-		Enroll e = readEnroll(conn, id);
+		Enroll e = readEnroll(conn, id, enrollId);
 		r.setEnroll(e);
 		Faculty f = readFaculty(conn, id, e);
 		r.setFaculty(f);
-		Map<Discipline, Integer> scores = readScores(conn, id);
+		Map<Discipline, Integer> scores = readScores(conn, id, enrollId);
 		r.setScores(scores);
 		return r;
 	}
@@ -876,6 +1312,7 @@ public class RegisterDAOdb implements RegisterDAO {
 		Faculty f = null;
 		PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_FACULTY_BY_RECORD);
 		stat.setInt(1, id);
+		stat.setInt(2, e.getId());
 		ResultSet rs = stat.executeQuery();
 		while (rs.next()) {
 			f = helper.constructFaculty(conn, rs, e);
@@ -891,15 +1328,18 @@ public class RegisterDAOdb implements RegisterDAO {
 	 *            соединение с базой данных
 	 * @param id
 	 *            id абитуриента
+	 * @param enrollId
+	 *            id набора записи ведомости
 	 * @return объект набора со всей необходимой информацией
 	 * @throws SQLException
 	 *             если при чтении данных произошла ошибка
 	 */
-	private Enroll readEnroll(Connection conn, int id) throws SQLException {
+	private Enroll readEnroll(Connection conn, int id, int enrollId) throws SQLException {
 		DBHelper helper = DBHelper.getInstance();
 		Enroll e = null;
 		PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_ENROLL_BY_RECORD);
 		stat.setInt(1, id);
+		stat.setInt(2, enrollId);
 		ResultSet rs = stat.executeQuery();
 		while (rs.next()) {
 			e = helper.constructEnroll(rs);
@@ -939,15 +1379,18 @@ public class RegisterDAOdb implements RegisterDAO {
 	 *            соединение с базой данных
 	 * @param id
 	 *            id абитуриента
+	 * @param enrollId
+	 *            id набора записи ведомости
 	 * @return карта, где ключ - дисциплина, значение - балл по соответствующей
 	 *         дисциплине
 	 * @throws SQLException
 	 *             если при чтении данных произошла ошибка
 	 */
-	private Map<Discipline, Integer> readScores(Connection conn, int id) throws SQLException {
+	private Map<Discipline, Integer> readScores(Connection conn, int id, int enrollId) throws SQLException {
 		Map<Discipline, Integer> map = new TreeMap<Discipline, Integer>();
 		PreparedStatement stat = conn.prepareStatement(DBHelper.RegisterQuery.GET_SCORES_BY_RECORD);
 		stat.setInt(1, id);
+		stat.setInt(2, enrollId);
 		ResultSet rs = stat.executeQuery();
 		while (rs.next()) {
 			Discipline d = DBHelper.getInstance().constructDiscipline(conn, rs);
@@ -0,0 +1,397 @@
+package main.by.epam.admissionweb.dao.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.SchemaDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.pool.ConnectionPool;
+import main.by.epam.admissionweb.dao.pool.exception.ConnectionPoolException;
+import main.by.epam.admissionweb.dao.pool.impl.ConnectionPoolImpl;
+
+/**
+ * Класс <code>SchemaDAOdb</code> реализует интерфейс {@link SchemaDAO} и
+ * является DAO-объектом, способным обновить схему базы данных MySQL и
+ * проверить планы выполнения запросов {@link DBHelper}.
+ * <p>
+ * Миграции - это SQL-скрипты в пакете <code>migration</code>, имя которых
+ * состоит из номера версии и описания (<code>V001__baseline.sql</code>).
+ * Миграции перечисляются в {@link #MIGRATIONS} по возрастанию версий. Скрипт
+ * может менять разделитель команд директивой <code>DELIMITER</code>, как в
+ * клиенте mysql. Примененные версии записываются в таблицу
+ * <code>schema_version</code>.
+ * <p>
+ * Соединение с базой данных извлекается из пула соединений
+ * {@link ConnectionPool}.
+ *
+ * @author Daria Krupenko
+ * @see SchemaDAO
+ * @see DBHelper
+ *
+ */
+public class SchemaDAOdb implements SchemaDAO {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Миграции по возрастанию версий
+	 */
+	private static final String[] MIGRATIONS = { "V001__baseline", "V002__register_rank_key",
+			"V003__register_partitioning", "V004__covering_indexes",
+			"V005__entity_versions", "V006__applicants_login_unique" };
+
+	/**
+	 * Путь к скриптам миграций относительно пакета класса
+	 */
+	private static final String MIGRATION_PATH = "migration/";
+
+	/**
+	 * Расширение скрипта миграции
+	 */
+	private static final String MIGRATION_EXTENSION = ".sql";
+
+	/**
+	 * Разделитель версии и описания в имени миграции
+	 */
+	private static final String MIGRATION_SEPARATOR = "__";
+
+	/**
+	 * Таблица версий схемы
+	 */
+	private static final String VERSION_TABLE = "schema_version";
+
+	/**
+	 * Таблица приложения, по наличию которой определяется существующая база
+	 * данных
+	 */
+	private static final String BASELINE_TABLE = "enrolls";
+
+	/**
+	 * Разделитель команд скрипта по умолчанию
+	 */
+	private static final String DEFAULT_DELIMITER = ";";
+
+	/**
+	 * Директива смены разделителя команд скрипта
+	 */
+	private static final String DELIMITER_DIRECTIVE = "DELIMITER ";
+
+	/**
+	 * Признак комментария скрипта
+	 */
+	private static final String COMMENT = "--";
+
+	/**
+	 * Тип доступа плана выполнения, означающий чтение таблицы целиком
+	 */
+	private static final String FULL_SCAN = "ALL";
+
+	/**
+	 * Запросы, которые по назначению читают всю ведомость набора или все
+	 * строки таблицы
+	 */
+	private static final Set<String> EXPECTED_FULL_SCANS = new HashSet<String>(Arrays.asList(
+			"RegisterQuery.GET_REGISTER_BY_ENROLL", "RegisterQuery.GET_RECORDS_NUMBER", "RegisterQuery.GET_REGISTER",
+			"FacultyQuery.RESET_PASS_RATES"));
+
+	/**
+	 * Получение версии схемы базы данных
+	 *
+	 * @return номер последней примененной миграции; 0 - миграции не
+	 *         применялись
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если произошла ошибка чтения данных
+	 */
+	@Override
+	public int getSchemaVersion() throws DAOException {
+		LOGGER.debug("DAO : SchemaDAOdb.getSchemaVersion()");
+		ConnectionPool pool = null;
+		Connection conn = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			if (!hasTable(conn, VERSION_TABLE)) {
+				return 0;
+			}
+			return readVersion(conn);
+		} catch (ConnectionPoolException | SQLException ex) {
+			throw new DAOException("DAO : Unable to read schema version from the database", ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
+	/**
+	 * Получение версии последней миграции, известной приложению
+	 *
+	 * @return номер последней миграции из {@link #MIGRATIONS}
+	 */
+	@Override
+	public int getLatestVersion() {
+		return getVersion(MIGRATIONS[MIGRATIONS.length - 1]);
+	}
+
+	/**
+	 * Применение миграций, версия которых больше версии схемы базы данных.
+	 * <p>
+	 * Команды миграции выполняются по одной; версия записывается в таблицу
+	 * <code>schema_version</code> после выполнения всех команд миграции.
+	 * Изменения схемы в MySQL не выполняются в транзакции, поэтому при ошибке
+	 * миграция остается не отмеченной и следующие миграции не применяются.
+	 *
+	 * @param baseline
+	 *            версия схемы существующей базы данных
+	 * @return количество примененных миграций
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если не удалось прочитать скрипт
+	 *             миграции; если произошла ошибка выполнения миграции
+	 */
+	@Override
+	public int migrate(int baseline) throws DAOException {
+		LOGGER.debug("DAO : SchemaDAOdb.migrate(baseline = {})", baseline);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		String migration = null;
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			boolean isExisting = !hasTable(conn, VERSION_TABLE) && hasTable(conn, BASELINE_TABLE);
+			conn.createStatement().execute(DBHelper.SchemaQuery.CREATE_VERSION_TABLE);
+			int version = readVersion(conn);
+			if (version == 0 && isExisting) {
+				for (String m : MIGRATIONS) {
+					if (getVersion(m) <= baseline) {
+						addVersion(conn, m);
+						version = getVersion(m);
+					}
+				}
+			}
+			int applied = 0;
+			for (String m : MIGRATIONS) {
+				if (getVersion(m) <= version) {
+					continue;
+				}
+				migration = m;
+				Statement stat = conn.createStatement();
+				for (String sql : readScript(m)) {
+					stat.execute(sql);
+				}
+				addVersion(conn, m);
+				applied++;
+			}
+			return applied;
+		} catch (ConnectionPoolException | SQLException | IOException ex) {
+			throw new DAOException("DAO : Unable to apply schema migration " + migration, ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
+	/**
+	 * Поиск запросов {@link DBHelper}, которые читают таблицу целиком.
+	 * <p>
+	 * Запросы чтения, изменения и удаления извлекаются из статических
+	 * вложенных классов {@link DBHelper}. Параметры запроса заменяются
+	 * значениями по умолчанию: числовыми для <code>LIMIT</code> и строковыми
+	 * для остальных (MySQL приводит строку к типу столбца, поэтому индекс
+	 * остается применимым). Шаблоны изменения схемы не проверяются.
+	 *
+	 * @param minRows
+	 *            минимальное оценочное количество строк таблицы, чтение
+	 *            которой целиком попадает в результат
+	 * @return описания найденных запросов
+	 * @throws DAOException
+	 *             если произошла ошибка при получении или возвращении
+	 *             соединения в пул; если не удалось прочитать запросы
+	 */
+	@Override
+	public List<String> findFullScans(int minRows) throws DAOException {
+		LOGGER.debug("DAO : SchemaDAOdb.findFullScans(minRows = {})", minRows);
+		ConnectionPool pool = null;
+		Connection conn = null;
+		List<String> result = new ArrayList<String>();
+		try {
+			pool = ConnectionPoolImpl.getInstance();
+			conn = pool.takeConnection();
+			for (Class<?> queries : DBHelper.class.getDeclaredClasses()) {
+				if (queries == DBHelper.SchemaQuery.class) {
+					continue;
+				}
+				Field[] fields = queries.getDeclaredFields();
+				Arrays.sort(fields, new Comparator<Field>() {
+					@Override
+					public int compare(Field f1, Field f2) {
+						return f1.getName().compareTo(f2.getName());
+					}
+				});
+				for (Field f : fields) {
+					if (!Modifier.isStatic(f.getModifiers()) || f.getType() != String.class) {
+						continue;
+					}
+					String name = queries.getSimpleName() + "." + f.getName();
+					String sql = (String) f.get(null);
+					if (!isExplainable(sql) || EXPECTED_FULL_SCANS.contains(name)) {
+						continue;
+					}
+					try {
+						explain(conn, name, sql, minRows, result);
+					} catch (SQLException ex) {
+						result.add(name + " : EXPLAIN failed (" + ex.getMessage() + ")");
+					}
+				}
+			}
+			return result;
+		} catch (ConnectionPoolException | IllegalAccessException ex) {
+			throw new DAOException("DAO : Unable to check query plans", ex);
+		} finally {
+			DBHelper.getInstance().returnConnection(pool, conn);
+		}
+	}
+
+	/**
+	 * Получение плана выполнения запроса и добавление описания таблиц,
+	 * читаемых целиком
+	 *
+	 * @param conn
+	 *            соединение с базой данных
+	 * @param name
+	 *            имя запроса
+	 * @param sql
+	 *            запрос
+	 * @param minRows
+	 *            минимальное оценочное количество строк таблицы
+	 * @param result
+	 *            список описаний
+	 * @throws SQLException
+	 *             если при получении плана произошла ошибка
+	 */
+	private void explain(Connection conn, String name, String sql, int minRows, List<String> result)
+			throws SQLException {
+		PreparedStatement stat = conn.prepareStatement(DBHelper.SchemaQuery.EXPLAIN + sql);
+		int limit = sql.toUpperCase().lastIndexOf(" LIMIT ");
+		int index = 0;
+		for (int i = sql.indexOf('?'); i >= 0; i = sql.indexOf('?', i + 1)) {
+			index++;
+			if (limit >= 0 && i > limit) {
+				stat.setInt(index, 1);
+			} else {
+				stat.setString(index, "1");
+			}
+		}
+		ResultSet rs = stat.executeQuery();
+		while (rs.next()) {
+			long rows = rs.getLong("rows");
+			if (FULL_SCAN.equals(rs.getString("type")) && rows >= minRows) {
+				result.add(name + " : full scan of " + rs.getString("table") + " (~" + rows + " rows)");
+			}
+		}
+	}
+
+	/**
+	 * Проверка того, что для запроса можно получить план выполнения
+	 *
+	 * @param sql
+	 *            запрос
+	 * @return true - запрос чтения, изменения или удаления данных
+	 */
+	private boolean isExplainable(String sql) {
+		String s = sql.trim().toUpperCase();
+		return (s.startsWith("SELECT") || s.startsWith("UPDATE") || s.startsWith("DELETE")) && s.indexOf('%') < 0
+				&& !s.contains("INFORMATION_SCHEMA");
+	}
+
+	/**
+	 * Разбор скрипта миграции на команды
+	 *
+	 * @param migration
+	 *            имя миграции
+	 * @return команды скрипта
+	 * @throws IOException
+	 *             если скрипт не найден или не удалось его прочитать
+	 */
+	private List<String> readScript(String migration) throws IOException {
+		InputStream in = SchemaDAOdb.class.getResourceAsStream(MIGRATION_PATH + migration + MIGRATION_EXTENSION);
+		if (in == null) {
+			throw new IOException("Migration script " + migration + " is not found");
+		}
+		List<String> statements = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		try {
+			String delimiter = DEFAULT_DELIMITER;
+			StringBuilder statement = new StringBuilder();
+			String line = null;
+			while ((line = reader.readLine()) != null) {
+				String trimmed = line.trim();
+				if (statement.length() == 0 && (trimmed.isEmpty() || trimmed.startsWith(COMMENT))) {
+					continue;
+				}
+				if (statement.length() == 0 && trimmed.toUpperCase().startsWith(DELIMITER_DIRECTIVE)) {
+					delimiter = trimmed.substring(DELIMITER_DIRECTIVE.length()).trim();
+					continue;
+				}
+				if (trimmed.endsWith(delimiter)) {
+					statement.append(trimmed.substring(0, trimmed.length() - delimiter.length()));
+					statements.add(statement.toString().trim());
+					statement.setLength(0);
+				} else {
+					statement.append(line).append('\n');
+				}
+			}
+			if (statement.toString().trim().length() > 0) {
+				statements.add(statement.toString().trim());
+			}
+		} finally {
+			reader.close();
+		}
+		return statements;
+	}
+
+	private int getVersion(String migration) {
+		return Integer.parseInt(migration.substring(1, migration.indexOf(MIGRATION_SEPARATOR)));
+	}
+
+	private int readVersion(Connection conn) throws SQLException {
+		ResultSet rs = conn.createStatement().executeQuery(DBHelper.SchemaQuery.GET_VERSION);
+		return rs.next() ? rs.getInt(1) : 0;
+	}
+
+	private void addVersion(Connection conn, String migration) throws SQLException {
+		PreparedStatement stat = conn.prepareStatement(DBHelper.SchemaQuery.ADD_VERSION);
+		stat.setInt(1, getVersion(migration));
+		stat.setString(2, migration);
+		stat.executeUpdate();
+		LOGGER.debug("DAO : schema migration {} applied", migration);
+	}
+
+	private boolean hasTable(Connection conn, String table) throws SQLException {
+		PreparedStatement stat = conn.prepareStatement(DBHelper.SchemaQuery.HAS_TABLE);
+		stat.setString(1, table);
+		ResultSet rs = stat.executeQuery();
+		return rs.next() && rs.getInt(1) > 0;
+	}
+
+}
@@ -0,0 +1,83 @@
+-- Исходная схема базы данных приложения (см. запросы
+-- main.by.epam.admissionweb.dao.impl.DBHelper).
+--
+-- Для существующей базы данных эта миграция считается выполненной без
+-- запуска (см. свойство schema.baseline).
+
+CREATE TABLE IF NOT EXISTS enrolls (
+	id INT NOT NULL AUTO_INCREMENT,
+	begin_date DATE NOT NULL,
+	end_date DATE NOT NULL,
+	active TINYINT(1) NOT NULL,
+	PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS applicants (
+	id INT NOT NULL AUTO_INCREMENT,
+	login VARCHAR(45) NOT NULL,
+	password VARCHAR(64) NOT NULL,
+	name VARCHAR(100) NOT NULL,
+	email VARCHAR(100) NULL,
+	phone VARCHAR(45) NULL,
+	address VARCHAR(200) NULL,
+	birthdate DATE NULL,
+	school VARCHAR(200) NULL,
+	grad_year INT NULL,
+	PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS disciplines (
+	id INT NOT NULL AUTO_INCREMENT,
+	title VARCHAR(100) NOT NULL,
+	PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS faculties (
+	id INT NOT NULL AUTO_INCREMENT,
+	title VARCHAR(200) NOT NULL,
+	description TEXT NULL,
+	logoname VARCHAR(100) NULL,
+	phone VARCHAR(45) NULL,
+	address VARCHAR(200) NULL,
+	dean VARCHAR(100) NULL,
+	plan INT NOT NULL,
+	pass_rate INT NOT NULL DEFAULT 0,
+	PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS faculties_disciplines (
+	faculties_id INT NOT NULL,
+	disciplines_id INT NOT NULL,
+	PRIMARY KEY (faculties_id, disciplines_id),
+	CONSTRAINT fk_faculties_disciplines_faculties FOREIGN KEY (faculties_id)
+		REFERENCES faculties (id) ON DELETE CASCADE,
+	CONSTRAINT fk_faculties_disciplines_disciplines FOREIGN KEY (disciplines_id)
+		REFERENCES disciplines (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS register (
+	applicants_id INT NOT NULL,
+	faculties_id INT NOT NULL,
+	enrolls_id INT NOT NULL,
+	certificate_score INT NOT NULL,
+	total_score INT NOT NULL,
+	status VARCHAR(20) NOT NULL,
+	PRIMARY KEY (applicants_id),
+	CONSTRAINT fk_register_applicants FOREIGN KEY (applicants_id)
+		REFERENCES applicants (id) ON DELETE CASCADE,
+	CONSTRAINT fk_register_faculties FOREIGN KEY (faculties_id)
+		REFERENCES faculties (id) ON DELETE CASCADE,
+	CONSTRAINT fk_register_enrolls FOREIGN KEY (enrolls_id)
+		REFERENCES enrolls (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
+
+CREATE TABLE IF NOT EXISTS register_disciplines (
+	register_applicants_id INT NOT NULL,
+	disciplines_id INT NOT NULL,
+	score INT NOT NULL,
+	PRIMARY KEY (register_applicants_id, disciplines_id),
+	CONSTRAINT fk_register_disciplines_register FOREIGN KEY (register_applicants_id)
+		REFERENCES register (applicants_id) ON DELETE CASCADE,
+	CONSTRAINT fk_register_disciplines_disciplines FOREIGN KEY (disciplines_id)
+		REFERENCES disciplines (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8;
@@ -0,0 +1,8 @@
+-- Упакованный ключ рейтинга ведомости (см. main.by.epam.admissionweb.ranking.RankKey#pack):
+-- старшие 16 бит - дополнение общего балла до 65535, следующие 16 бит -
+-- дополнение балла аттестата, младшие 31 бит - id абитуриента.
+-- Порядок по возрастанию ключа совпадает с порядком рейтинга факультета,
+-- поэтому выборки ведомости сортируются по одному индексированному столбцу.
+ALTER TABLE register
+	ADD COLUMN rank_key BIGINT UNSIGNED AS (((65535 - total_score) << 47) | ((65535 - certificate_score) << 31) | applicants_id) STORED,
+	ADD INDEX register_rank_idx (faculties_id, enrolls_id, rank_key);
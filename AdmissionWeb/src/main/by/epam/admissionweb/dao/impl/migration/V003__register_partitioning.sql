@@ -0,0 +1,88 @@
+-- Секционирование ведомости по наборам (см. main.by.epam.admissionweb.dao.impl.EnrollmentDAOdb).
+--
+-- Таблицы register и register_disciplines делятся на секции LIST по id набора:
+-- секция набора N называется pN. Запросы текущего набора содержат условие
+-- enrolls_id = ? и читают только его секцию. При открытии нового набора
+-- приложение добавляет секции нового набора, а секции предыдущего набора
+-- обменивает (EXCHANGE PARTITION) с пустыми таблицами register_archive_N и
+-- register_disciplines_archive_N и удаляет. Обмен изменяет только описание
+-- таблиц, поэтому записи предыдущего набора не удаляются построчно и
+-- остаются доступны для анализа.
+--
+-- Секционированные таблицы InnoDB не поддерживают внешние ключи, поэтому
+-- каскадное удаление записей ведомости заменено триггерами.
+--
+-- Если наборов еще нет, создается пустая секция p0.
+
+DROP PROCEDURE IF EXISTS drop_foreign_keys;
+DROP PROCEDURE IF EXISTS partition_by_enroll;
+
+DELIMITER //
+
+CREATE PROCEDURE drop_foreign_keys(IN tbl VARCHAR(64))
+BEGIN
+	DECLARE done INT DEFAULT 0;
+	DECLARE fk VARCHAR(64);
+	DECLARE fks CURSOR FOR SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = tbl AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+	DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+	OPEN fks;
+	read_loop: LOOP
+		FETCH fks INTO fk;
+		IF done THEN
+			LEAVE read_loop;
+		END IF;
+		SET @sql = CONCAT('ALTER TABLE ', tbl, ' DROP FOREIGN KEY ', fk);
+		PREPARE stmt FROM @sql;
+		EXECUTE stmt;
+		DEALLOCATE PREPARE stmt;
+	END LOOP;
+	CLOSE fks;
+END //
+
+CREATE PROCEDURE partition_by_enroll(IN tbl VARCHAR(64))
+BEGIN
+	SET @partitions = (SELECT GROUP_CONCAT(CONCAT('PARTITION p', id, ' VALUES IN (', id, ')') ORDER BY id)
+		FROM enrolls);
+	SET @sql = CONCAT('ALTER TABLE ', tbl, ' PARTITION BY LIST (',
+		IF(tbl = 'register', 'enrolls_id', 'register_enrolls_id'), ') (',
+		IFNULL(@partitions, 'PARTITION p0 VALUES IN (0)'), ')');
+	PREPARE stmt FROM @sql;
+	EXECUTE stmt;
+	DEALLOCATE PREPARE stmt;
+END //
+
+DELIMITER ;
+
+CALL drop_foreign_keys('register_disciplines');
+CALL drop_foreign_keys('register');
+
+-- Id набора в баллах по дисциплинам: ключ секционирования должен входить в
+-- каждый уникальный ключ таблицы
+ALTER TABLE register_disciplines ADD COLUMN register_enrolls_id INT NOT NULL DEFAULT 0;
+UPDATE register_disciplines INNER JOIN register
+	ON register_disciplines.register_applicants_id = register.applicants_id
+	SET register_disciplines.register_enrolls_id = register.enrolls_id;
+ALTER TABLE register_disciplines ALTER COLUMN register_enrolls_id DROP DEFAULT;
+
+ALTER TABLE register DROP PRIMARY KEY, ADD PRIMARY KEY (applicants_id, enrolls_id);
+ALTER TABLE register_disciplines DROP PRIMARY KEY,
+	ADD PRIMARY KEY (register_applicants_id, register_enrolls_id, disciplines_id),
+	ADD INDEX register_disciplines_discipline_idx (disciplines_id);
+
+CALL partition_by_enroll('register');
+CALL partition_by_enroll('register_disciplines');
+
+DROP PROCEDURE drop_foreign_keys;
+DROP PROCEDURE partition_by_enroll;
+
+-- Каскадное удаление, ранее обеспечиваемое внешними ключами
+CREATE TRIGGER register_delete_scores AFTER DELETE ON register FOR EACH ROW
+	DELETE FROM register_disciplines
+	WHERE register_applicants_id = OLD.applicants_id AND register_enrolls_id = OLD.enrolls_id;
+
+CREATE TRIGGER faculties_delete_register AFTER DELETE ON faculties FOR EACH ROW
+	DELETE FROM register WHERE faculties_id = OLD.id;
+
+CREATE TRIGGER disciplines_delete_scores AFTER DELETE ON disciplines FOR EACH ROW
+	DELETE FROM register_disciplines WHERE disciplines_id = OLD.id;
@@ -0,0 +1,33 @@
+-- Индексы для запросов main.by.epam.admissionweb.dao.impl.DBHelper.
+--
+-- Выборки ведомости факультета набора (faculties_id, enrolls_id) читают
+-- общие баллы и баллы аттестатов только из индекса; id абитуриента входит в
+-- любой вторичный индекс InnoDB как часть первичного ключа. Сортировка по
+-- рейтингу использует индекс register_rank_idx (V002).
+
+-- Выборка ключей рейтинга и количество записей факультета
+ALTER TABLE register
+	ADD INDEX register_score_idx (faculties_id, enrolls_id, total_score, certificate_score);
+
+-- Выборки и подсчет записей по статусам, завершение статусов набора,
+-- проходной балл по временно зачисленным
+ALTER TABLE register
+	ADD INDEX register_status_idx (status, faculties_id, enrolls_id, total_score);
+
+-- Поиск абитуриента по логину, список абитуриентов по имени
+ALTER TABLE applicants
+	ADD INDEX applicants_login_idx (login),
+	ADD INDEX applicants_name_idx (name);
+
+-- Поиск и сортировка дисциплин и факультетов по наименованию
+ALTER TABLE disciplines ADD INDEX disciplines_title_idx (title);
+ALTER TABLE faculties ADD INDEX faculties_title_idx (title);
+
+-- Факультеты дисциплины
+ALTER TABLE faculties_disciplines ADD INDEX faculties_disciplines_discipline_idx (disciplines_id, faculties_id);
+
+-- Поиск набора по дате начала, последний набор, наборы по статусу
+ALTER TABLE enrolls
+	ADD INDEX enrolls_begin_date_idx (begin_date),
+	ADD INDEX enrolls_end_date_idx (end_date),
+	ADD INDEX enrolls_active_idx (active);
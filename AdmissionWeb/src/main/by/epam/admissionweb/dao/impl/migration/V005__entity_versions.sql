@@ -0,0 +1,7 @@
+-- Версии строк факультетов и дисциплин для оптимистической блокировки:
+-- запрос обновления увеличивает версию и выполняется, только если версия
+-- строки совпадает с версией, прочитанной администратором (см.
+-- FacultyQuery.UPDATE_FACULTY и DisciplineQuery.UPDATE_DISCIPLINE в
+-- main.by.epam.admissionweb.dao.impl.DBHelper).
+ALTER TABLE faculties ADD COLUMN version INT NOT NULL DEFAULT 0;
+ALTER TABLE disciplines ADD COLUMN version INT NOT NULL DEFAULT 0;
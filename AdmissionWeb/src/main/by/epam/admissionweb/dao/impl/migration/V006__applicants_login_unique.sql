@@ -0,0 +1,43 @@
+-- Уникальный индекс по логину абитуриента. Регистрация абитуриента выполняется
+-- одним запросом INSERT без предварительной проверки логина: повторяющийся
+-- логин отклоняется индексом (ошибка ER_DUP_ENTRY, см.
+-- main.by.epam.admissionweb.dao.impl.DBHelper#isDuplicateKey). Индекс заменяет
+-- неуникальный индекс applicants_login_idx (V004).
+--
+-- Прежняя регистрация проверяла логин и добавляла абитуриента отдельными
+-- запросами, поэтому в базе данных могут быть повторяющиеся логины. Перед
+-- созданием индекса они записываются в таблицу applicants_login_duplicates
+-- (логин, количество и id абитуриентов), и миграция прерывается с сообщением
+-- о количестве повторов: индекс не создается, миграция остается не отмеченной.
+-- После устранения повторов миграцию можно повторить; если повторов нет,
+-- таблица отчета удаляется.
+
+DROP PROCEDURE IF EXISTS check_login_duplicates;
+
+DELIMITER //
+
+CREATE PROCEDURE check_login_duplicates()
+BEGIN
+	DECLARE duplicates INT;
+	DECLARE message VARCHAR(128);
+	DROP TABLE IF EXISTS applicants_login_duplicates;
+	CREATE TABLE applicants_login_duplicates AS
+		SELECT login, COUNT(*) AS applicants_number, GROUP_CONCAT(id ORDER BY id) AS applicants_ids
+		FROM applicants GROUP BY login HAVING COUNT(*) > 1;
+	SELECT COUNT(*) INTO duplicates FROM applicants_login_duplicates;
+	IF duplicates = 0 THEN
+		DROP TABLE applicants_login_duplicates;
+	ELSE
+		SET message = CONCAT(duplicates, ' duplicate applicant logins, see table applicants_login_duplicates');
+		SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = message;
+	END IF;
+END //
+
+DELIMITER ;
+
+CALL check_login_duplicates();
+DROP PROCEDURE check_login_duplicates;
+
+ALTER TABLE applicants
+	DROP INDEX applicants_login_idx,
+	ADD UNIQUE INDEX applicants_login_uq (login);
@@ -0,0 +1,227 @@
+package main.by.epam.admissionweb.entity;
+
+import java.io.Serializable;
+
+/**
+ * Класс <code>ApplicantRank</code> представляет собой объект-сущность модели
+ * данных приложения и инкапсулирует место абитуриента в рейтинге факультета.
+ * <p>
+ * Место содержит позицию абитуриента в рейтинге, количество записанных на
+ * факультет абитуриентов, количество мест по плану набора, текущий проходной
+ * балл и разницу между общим баллом абитуриента и проходным баллом
+ * (положительная - балл выше проходного, отрицательная - ниже проходного).
+ * <p>
+ * Объекты класса <code>ApplicantRank</code> могут быть сериализованы
+ *
+ * @author Daria Krupenko
+ * @see Serializable
+ *
+ */
+public class ApplicantRank implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Позиция абитуриента в рейтинге (начиная с 1)
+	 */
+	private int position;
+
+	/**
+	 * Количество записанных абитуриентов
+	 */
+	private int applicantsNumber;
+
+	/**
+	 * Количество абитуриентов, проходящих по плану набора
+	 */
+	private int admittedNumber;
+
+	/**
+	 * Текущий проходной балл
+	 */
+	private int passRate;
+
+	/**
+	 * Разница между общим баллом абитуриента и проходным баллом
+	 */
+	private int gap;
+
+	/**
+	 * Проходит ли абитуриент по плану набора
+	 */
+	private boolean admitted;
+
+	/**
+	 * Конструирует объект места абитуриента со значением полей по умолчанию
+	 */
+	public ApplicantRank() {
+	}
+
+	/**
+	 * Получение позиции абитуриента в рейтинге
+	 *
+	 * @return позиция абитуриента (начиная с 1)
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Установка позиции абитуриента в рейтинге
+	 *
+	 * @param position
+	 *            позиция абитуриента (начиная с 1)
+	 */
+	public void setPosition(int position) {
+		this.position = position;
+	}
+
+	/**
+	 * Получение количества записанных абитуриентов
+	 *
+	 * @return количество записанных абитуриентов
+	 */
+	public int getApplicantsNumber() {
+		return applicantsNumber;
+	}
+
+	/**
+	 * Установка количества записанных абитуриентов
+	 *
+	 * @param applicantsNumber
+	 *            количество записанных абитуриентов
+	 */
+	public void setApplicantsNumber(int applicantsNumber) {
+		this.applicantsNumber = applicantsNumber;
+	}
+
+	/**
+	 * Получение количества абитуриентов, проходящих по плану набора
+	 *
+	 * @return количество абитуриентов, проходящих по плану набора
+	 */
+	public int getAdmittedNumber() {
+		return admittedNumber;
+	}
+
+	/**
+	 * Установка количества абитуриентов, проходящих по плану набора
+	 *
+	 * @param admittedNumber
+	 *            количество абитуриентов, проходящих по плану набора
+	 */
+	public void setAdmittedNumber(int admittedNumber) {
+		this.admittedNumber = admittedNumber;
+	}
+
+	/**
+	 * Получение текущего проходного балла
+	 *
+	 * @return проходной балл; 0 - план набора не заполнен
+	 */
+	public int getPassRate() {
+		return passRate;
+	}
+
+	/**
+	 * Установка текущего проходного балла
+	 *
+	 * @param passRate
+	 *            проходной балл
+	 */
+	public void setPassRate(int passRate) {
+		this.passRate = passRate;
+	}
+
+	/**
+	 * Получение разницы между общим баллом абитуриента и проходным баллом
+	 *
+	 * @return разница баллов
+	 */
+	public int getGap() {
+		return gap;
+	}
+
+	/**
+	 * Установка разницы между общим баллом абитуриента и проходным баллом
+	 *
+	 * @param gap
+	 *            разница баллов
+	 */
+	public void setGap(int gap) {
+		this.gap = gap;
+	}
+
+	/**
+	 * Проверка, проходит ли абитуриент по плану набора
+	 *
+	 * @return true - абитуриент проходит по плану набора
+	 */
+	public boolean isAdmitted() {
+		return admitted;
+	}
+
+	/**
+	 * Установка признака прохождения по плану набора
+	 *
+	 * @param admitted
+	 *            true - абитуриент проходит по плану набора
+	 */
+	public void setAdmitted(boolean admitted) {
+		this.admitted = admitted;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (admitted ? 1231 : 1237);
+		result = prime * result + admittedNumber;
+		result = prime * result + applicantsNumber;
+		result = prime * result + gap;
+		result = prime * result + passRate;
+		result = prime * result + position;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		ApplicantRank other = (ApplicantRank) obj;
+		if (admitted != other.admitted) {
+			return false;
+		}
+		if (admittedNumber != other.admittedNumber) {
+			return false;
+		}
+		if (applicantsNumber != other.applicantsNumber) {
+			return false;
+		}
+		if (gap != other.gap) {
+			return false;
+		}
+		if (passRate != other.passRate) {
+			return false;
+		}
+		if (position != other.position) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [position=" + position + ", applicantsNumber=" + applicantsNumber
+				+ ", admittedNumber=" + admittedNumber + ", passRate=" + passRate + ", gap=" + gap + ", admitted="
+				+ admitted + "]";
+	}
+
+}
@@ -42,6 +42,12 @@ public class Discipline implements Serializable, Comparable<Discipline> {
 	 */
 	private List<Faculty> faculties;
 
+	/**
+	 * Версия записи дисциплины (увеличивается при каждом обновлении, не
+	 * участвует в сравнении дисциплин)
+	 */
+	private int version;
+
 	/**
 	 * Конструирует объект дисциплины со значением полей по умолчанию
 	 */
@@ -102,6 +108,25 @@ public class Discipline implements Serializable, Comparable<Discipline> {
 		this.faculties = faculties;
 	}
 
+	/**
+	 * Получение версии записи дисциплины
+	 * 
+	 * @return версия записи дисциплины
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Установка версии записи дисциплины
+	 * 
+	 * @param version
+	 *            версия записи дисциплины
+	 */
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -146,7 +171,7 @@ public class Discipline implements Serializable, Comparable<Discipline> {
 
 	@Override
 	public String toString() {
-		return getClass().getSimpleName() + " [id=" + id + ", title=" + title + ", faculties=" + faculties + "]";
+		return getClass().getSimpleName() + " [id=" + id + ", title=" + title + ", faculties=" + faculties + ", version=" + version + "]";
 	}
 
 	@Override
@@ -76,6 +76,12 @@ public class Faculty implements Serializable {
 	 */
 	private int applicantsCount;
 
+	/**
+	 * Версия записи факультета (увеличивается при каждом обновлении, не
+	 * участвует в сравнении факультетов)
+	 */
+	private int version;
+
 	/**
 	 * Конструирует объект факультета со значением полей по умолчанию
 	 */
@@ -291,6 +297,25 @@ public class Faculty implements Serializable {
 		this.applicantsCount = applicantsCount;
 	}
 
+	/**
+	 * Получение версии записи факультета
+	 * 
+	 * @return версия записи факультета
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Установка версии записи факультета
+	 * 
+	 * @param version
+	 *            версия записи факультета
+	 */
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -381,7 +406,7 @@ public class Faculty implements Serializable {
 	public String toString() {
 		return getClass().getSimpleName() + " [id=" + id + ", title=" + title + ", description=" + description
 				+ ", phone=" + phone + ", address=" + address + ", dean=" + dean + ", logoname=" + logoname + ", plan="
-				+ plan + ", passRate=" + passRate + ", applicantsCount=" + applicantsCount + "]";
+				+ plan + ", passRate=" + passRate + ", applicantsCount=" + applicantsCount + ", version=" + version + "]";
 	}
 
 }
@@ -0,0 +1,204 @@
+package main.by.epam.admissionweb.entity;
+
+import java.io.Serializable;
+
+/**
+ * Класс <code>FacultyEnrollResult</code> представляет собой объект-сущность
+ * модели данных приложения и инкапсулирует итоги набора по одному факультету.
+ * <p>
+ * Итоги содержат количество записанных и зачисленных абитуриентов, итоговый
+ * проходной балл, а также количество абитуриентов, временный статус которых
+ * не совпал с итоговым рейтингом и был исправлен при подведении итогов.
+ * <p>
+ * Объекты класса <code>FacultyEnrollResult</code> могут быть сериализованы
+ *
+ * @author Daria Krupenko
+ * @see Serializable
+ *
+ */
+public class FacultyEnrollResult implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Факультет
+	 */
+	private Faculty faculty;
+
+	/**
+	 * Количество записанных абитуриентов
+	 */
+	private int applicantsNumber;
+
+	/**
+	 * Количество зачисленных абитуриентов
+	 */
+	private int admittedNumber;
+
+	/**
+	 * Итоговый проходной балл
+	 */
+	private int passRate;
+
+	/**
+	 * Количество исправленных статусов
+	 */
+	private int correctedNumber;
+
+	/**
+	 * Конструирует объект итогов набора со значением полей по умолчанию
+	 */
+	public FacultyEnrollResult() {
+	}
+
+	/**
+	 * Получение факультета
+	 *
+	 * @return факультет
+	 */
+	public Faculty getFaculty() {
+		return faculty;
+	}
+
+	/**
+	 * Установка факультета
+	 *
+	 * @param faculty
+	 *            факультет
+	 */
+	public void setFaculty(Faculty faculty) {
+		this.faculty = faculty;
+	}
+
+	/**
+	 * Получение количества записанных абитуриентов
+	 *
+	 * @return количество записанных абитуриентов
+	 */
+	public int getApplicantsNumber() {
+		return applicantsNumber;
+	}
+
+	/**
+	 * Установка количества записанных абитуриентов
+	 *
+	 * @param applicantsNumber
+	 *            количество записанных абитуриентов
+	 */
+	public void setApplicantsNumber(int applicantsNumber) {
+		this.applicantsNumber = applicantsNumber;
+	}
+
+	/**
+	 * Получение количества зачисленных абитуриентов
+	 *
+	 * @return количество зачисленных абитуриентов
+	 */
+	public int getAdmittedNumber() {
+		return admittedNumber;
+	}
+
+	/**
+	 * Установка количества зачисленных абитуриентов
+	 *
+	 * @param admittedNumber
+	 *            количество зачисленных абитуриентов
+	 */
+	public void setAdmittedNumber(int admittedNumber) {
+		this.admittedNumber = admittedNumber;
+	}
+
+	/**
+	 * Получение итогового проходного балла
+	 *
+	 * @return итоговый проходной балл
+	 */
+	public int getPassRate() {
+		return passRate;
+	}
+
+	/**
+	 * Установка итогового проходного балла
+	 *
+	 * @param passRate
+	 *            итоговый проходной балл
+	 */
+	public void setPassRate(int passRate) {
+		this.passRate = passRate;
+	}
+
+	/**
+	 * Получение количества исправленных статусов
+	 *
+	 * @return количество абитуриентов, временный статус которых не совпал с
+	 *         итоговым рейтингом
+	 */
+	public int getCorrectedNumber() {
+		return correctedNumber;
+	}
+
+	/**
+	 * Установка количества исправленных статусов
+	 *
+	 * @param correctedNumber
+	 *            количество абитуриентов, временный статус которых не совпал
+	 *            с итоговым рейтингом
+	 */
+	public void setCorrectedNumber(int correctedNumber) {
+		this.correctedNumber = correctedNumber;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + admittedNumber;
+		result = prime * result + applicantsNumber;
+		result = prime * result + correctedNumber;
+		result = prime * result + ((faculty == null) ? 0 : faculty.hashCode());
+		result = prime * result + passRate;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		FacultyEnrollResult other = (FacultyEnrollResult) obj;
+		if (admittedNumber != other.admittedNumber) {
+			return false;
+		}
+		if (applicantsNumber != other.applicantsNumber) {
+			return false;
+		}
+		if (correctedNumber != other.correctedNumber) {
+			return false;
+		}
+		if (faculty == null) {
+			if (other.faculty != null) {
+				return false;
+			}
+		} else if (!faculty.equals(other.faculty)) {
+			return false;
+		}
+		if (passRate != other.passRate) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [faculty=" + (faculty == null ? null : faculty.getId())
+				+ ", applicantsNumber=" + applicantsNumber + ", admittedNumber=" + admittedNumber + ", passRate="
+				+ passRate + ", correctedNumber=" + correctedNumber + "]";
+	}
+
+}
@@ -0,0 +1,175 @@
+package main.by.epam.admissionweb.entity;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс <code>ImportResult</code> представляет собой объект-сущность модели
+ * данных приложения и инкапсулирует итоги импорта абитуриентов из файла.
+ * <p>
+ * Итоги содержат количество импортированных абитуриентов, количество
+ * созданных записей ведомости, количество отклоненных строк файла и номера
+ * первых отклоненных строк.
+ * <p>
+ * Объекты класса <code>ImportResult</code> могут быть сериализованы
+ *
+ * @author Daria Krupenko
+ * @see Serializable
+ *
+ */
+public class ImportResult implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Количество импортированных абитуриентов
+	 */
+	private int applicantsNumber;
+
+	/**
+	 * Количество созданных записей ведомости
+	 */
+	private int recordsNumber;
+
+	/**
+	 * Количество отклоненных строк
+	 */
+	private int rejectedNumber;
+
+	/**
+	 * Номера первых отклоненных строк
+	 */
+	private List<Integer> rejectedLines = new ArrayList<Integer>();
+
+	/**
+	 * Конструирует объект итогов импорта со значением полей по умолчанию
+	 */
+	public ImportResult() {
+	}
+
+	/**
+	 * Получение количества импортированных абитуриентов
+	 *
+	 * @return количество импортированных абитуриентов
+	 */
+	public int getApplicantsNumber() {
+		return applicantsNumber;
+	}
+
+	/**
+	 * Установка количества импортированных абитуриентов
+	 *
+	 * @param applicantsNumber
+	 *            количество импортированных абитуриентов
+	 */
+	public void setApplicantsNumber(int applicantsNumber) {
+		this.applicantsNumber = applicantsNumber;
+	}
+
+	/**
+	 * Получение количества созданных записей ведомости
+	 *
+	 * @return количество созданных записей ведомости
+	 */
+	public int getRecordsNumber() {
+		return recordsNumber;
+	}
+
+	/**
+	 * Установка количества созданных записей ведомости
+	 *
+	 * @param recordsNumber
+	 *            количество созданных записей ведомости
+	 */
+	public void setRecordsNumber(int recordsNumber) {
+		this.recordsNumber = recordsNumber;
+	}
+
+	/**
+	 * Получение количества отклоненных строк
+	 *
+	 * @return количество отклоненных строк
+	 */
+	public int getRejectedNumber() {
+		return rejectedNumber;
+	}
+
+	/**
+	 * Установка количества отклоненных строк
+	 *
+	 * @param rejectedNumber
+	 *            количество отклоненных строк
+	 */
+	public void setRejectedNumber(int rejectedNumber) {
+		this.rejectedNumber = rejectedNumber;
+	}
+
+	/**
+	 * Получение номеров первых отклоненных строк
+	 *
+	 * @return номера строк в порядке возрастания
+	 */
+	public List<Integer> getRejectedLines() {
+		return rejectedLines;
+	}
+
+	/**
+	 * Установка номеров первых отклоненных строк
+	 *
+	 * @param rejectedLines
+	 *            номера строк в порядке возрастания
+	 */
+	public void setRejectedLines(List<Integer> rejectedLines) {
+		this.rejectedLines = rejectedLines;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + applicantsNumber;
+		result = prime * result + recordsNumber;
+		result = prime * result + ((rejectedLines == null) ? 0 : rejectedLines.hashCode());
+		result = prime * result + rejectedNumber;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		ImportResult other = (ImportResult) obj;
+		if (applicantsNumber != other.applicantsNumber) {
+			return false;
+		}
+		if (recordsNumber != other.recordsNumber) {
+			return false;
+		}
+		if (rejectedLines == null) {
+			if (other.rejectedLines != null) {
+				return false;
+			}
+		} else if (!rejectedLines.equals(other.rejectedLines)) {
+			return false;
+		}
+		if (rejectedNumber != other.rejectedNumber) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [applicantsNumber=" + applicantsNumber + ", recordsNumber="
+				+ recordsNumber + ", rejectedNumber=" + rejectedNumber + ", rejectedLines=" + rejectedLines + "]";
+	}
+
+}
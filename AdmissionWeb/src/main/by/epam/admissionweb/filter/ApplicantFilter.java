@@ -0,0 +1,91 @@
+package main.by.epam.admissionweb.filter;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.command.impl.CommandHelper;
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>ApplicantFilter</code> реализует интерфейс <code>Filter</code>
+ * и представляет собой фильтр, основное назначение которого - извлечение
+ * абитуриента, вошедшего в систему.
+ * <p>
+ * В сессии хранятся только id и версия абитуриента. Фильтр извлекает
+ * абитуриента вместе с записью в ведомости через сервис абитуриентов (который
+ * использует кэш абитуриентов), помещает его в контекст запроса и обновляет
+ * версию абитуриента в сессии. Благодаря этому страницы всегда отображают
+ * актуальные данные абитуриента, а объем сессии не зависит от объема его
+ * данных.
+ * <p>
+ * Атрибуты сессии перезаписываются, только если версия абитуриента
+ * изменилась. Если абитуриент не найден, сведения о нем удаляются из сессии.
+ * Если абитуриента не удалось получить из-за ошибки сервиса, запрос
+ * завершается ошибкой, чтобы он не обрабатывался как запрос абитуриента, не
+ * вошедшего в систему.
+ *
+ * @author Daria Krupenko
+ * @see CommandHelper#getSessionApplicant(HttpServletRequest)
+ *
+ */
+public class ApplicantFilter implements Filter {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	@Override
+	public void destroy() {
+	}
+
+	@Override
+	public void init(FilterConfig config) throws ServletException {
+	}
+
+	/**
+	 * Извлечение абитуриента по id, сохраненному в сессии, и помещение его в
+	 * контекст запроса. Далее управление передается по цепочке фильтров
+	 * 
+	 * @throws ServletException
+	 *             если абитуриента не удалось получить из-за ошибки сервиса
+	 */
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		HttpServletRequest httpRequest = (HttpServletRequest) request;
+		HttpSession session = httpRequest.getSession(false);
+		if (session != null) {
+			Object idObj = session.getAttribute(CommandHelper.AttributeName.APPLICANT_ID);
+			if (idObj instanceof Integer) {
+				CommandHelper helper = CommandHelper.getInstance();
+				try {
+					Applicant a = ServiceFactory.getInstance().getApplicantService().getApplicant((Integer) idObj);
+					if (a != null) {
+						helper.setSessionApplicant(httpRequest, a);
+					} else {
+						helper.removeSessionApplicant(httpRequest);
+					}
+				} catch (ServiceException ex) {
+					LOGGER.error(ex);
+					throw new ServletException("FILTER : Unable to get the logged in applicant", ex);
+				}
+			}
+		}
+		chain.doFilter(request, response);
+	}
+
+}
@@ -0,0 +1,221 @@
+package main.by.epam.admissionweb.journal;
+
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>JournalEvent</code> представляет собой событие журнала
+ * ведомости ({@link RegisterJournal}).
+ * <p>
+ * Событие имеет тип (запись абитуриента на факультет, отмена записи,
+ * изменение статуса абитуриента, изменение плана набора факультета), номер в
+ * журнале, время и набор целочисленных полей, смысл которых зависит от типа
+ * события. Для изменения статуса значением события является код статуса
+ * {@link RegisterColumns}, для изменения плана - новый план набора.
+ * <p>
+ * Объекты класса <code>JournalEvent</code> неизменяемы.
+ *
+ * @author Daria Krupenko
+ * @see RegisterJournal
+ * @see JournalReplayer
+ *
+ */
+public final class JournalEvent {
+
+	/**
+	 * Тип события: запись абитуриента на факультет
+	 */
+	public static final byte REGISTERED = 1;
+
+	/**
+	 * Тип события: отмена записи абитуриента на факультет
+	 */
+	public static final byte CANCELLED = 2;
+
+	/**
+	 * Тип события: изменение статуса абитуриента
+	 */
+	public static final byte STATUS_CHANGED = 3;
+
+	/**
+	 * Тип события: изменение плана набора факультета
+	 */
+	public static final byte PLAN_CHANGED = 4;
+
+	/**
+	 * Тип события
+	 */
+	private final byte type;
+
+	/**
+	 * Номер события в журнале (0 - событие еще не записано в журнал)
+	 */
+	private final long sequence;
+
+	/**
+	 * Время события (в миллисекундах)
+	 */
+	private final long time;
+
+	private final int facultyId;
+
+	private final int enrollId;
+
+	private final int applicantId;
+
+	private final int totalScore;
+
+	private final int certificateScore;
+
+	/**
+	 * Значение события (код статуса или план набора)
+	 */
+	private final int value;
+
+	/**
+	 * Создание события
+	 *
+	 * @param type
+	 *            тип события
+	 * @param sequence
+	 *            номер события в журнале
+	 * @param time
+	 *            время события
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param totalScore
+	 *            общий балл
+	 * @param certificateScore
+	 *            балл аттестата
+	 * @param value
+	 *            значение события
+	 */
+	public JournalEvent(byte type, long sequence, long time, int facultyId, int enrollId, int applicantId,
+			int totalScore, int certificateScore, int value) {
+		this.type = type;
+		this.sequence = sequence;
+		this.time = time;
+		this.facultyId = facultyId;
+		this.enrollId = enrollId;
+		this.applicantId = applicantId;
+		this.totalScore = totalScore;
+		this.certificateScore = certificateScore;
+		this.value = value;
+	}
+
+	/**
+	 * Создание события записи абитуриента на факультет
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param totalScore
+	 *            общий балл
+	 * @param certificateScore
+	 *            балл аттестата
+	 * @return событие
+	 */
+	public static JournalEvent registered(int facultyId, int enrollId, int applicantId, int totalScore,
+			int certificateScore) {
+		return new JournalEvent(REGISTERED, 0, System.currentTimeMillis(), facultyId, enrollId, applicantId,
+				totalScore, certificateScore, 0);
+	}
+
+	/**
+	 * Создание события отмены записи абитуриента на факультет
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return событие
+	 */
+	public static JournalEvent cancelled(int facultyId, int enrollId, int applicantId) {
+		return new JournalEvent(CANCELLED, 0, System.currentTimeMillis(), facultyId, enrollId, applicantId, 0, 0, 0);
+	}
+
+	/**
+	 * Создание события изменения статуса абитуриента
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param statusCode
+	 *            код нового статуса ({@link RegisterColumns})
+	 * @return событие
+	 */
+	public static JournalEvent statusChanged(int facultyId, int enrollId, int applicantId, byte statusCode) {
+		return new JournalEvent(STATUS_CHANGED, 0, System.currentTimeMillis(), facultyId, enrollId, applicantId, 0,
+				0, statusCode);
+	}
+
+	/**
+	 * Создание события изменения плана набора факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @param plan
+	 *            новый план набора
+	 * @return событие
+	 */
+	public static JournalEvent planChanged(int facultyId, int enrollId, int plan) {
+		return new JournalEvent(PLAN_CHANGED, 0, System.currentTimeMillis(), facultyId, enrollId, 0, 0, 0, plan);
+	}
+
+	public byte getType() {
+		return type;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	public int getFacultyId() {
+		return facultyId;
+	}
+
+	public int getEnrollId() {
+		return enrollId;
+	}
+
+	public int getApplicantId() {
+		return applicantId;
+	}
+
+	public int getTotalScore() {
+		return totalScore;
+	}
+
+	public int getCertificateScore() {
+		return certificateScore;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [type=" + type + ", sequence=" + sequence + ", time=" + time
+				+ ", facultyId=" + facultyId + ", enrollId=" + enrollId + ", applicantId=" + applicantId
+				+ ", totalScore=" + totalScore + ", certificateScore=" + certificateScore + ", value=" + value + "]";
+	}
+
+}
@@ -0,0 +1,157 @@
+package main.by.epam.admissionweb.journal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * Класс <code>JournalReader</code> предназначен для последовательного чтения
+ * событий журнала ведомости ({@link RegisterJournal}).
+ * <p>
+ * Записи читаются блоками по {@link #BLOCK_RECORDS} записей. Чтение
+ * завершается на первой пустой (нулевой) или поврежденной записи: это конец
+ * журнала, в том числе запись, не дописанная до конца при аварийной
+ * остановке.
+ *
+ * @author Daria Krupenko
+ * @see RegisterJournal
+ * @see JournalReplayer
+ *
+ */
+public class JournalReader implements Closeable {
+
+	/**
+	 * Количество записей в блоке чтения
+	 */
+	private static final int BLOCK_RECORDS = 1024;
+
+	/**
+	 * Файл журнала (null - канал принадлежит журналу, открытому на запись)
+	 */
+	private final RandomAccessFile file;
+
+	private final FileChannel channel;
+
+	private final ByteBuffer block = ByteBuffer.allocate(BLOCK_RECORDS * RegisterJournal.RECORD_SIZE);
+
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Смещение в файле первой непрочитанной записи
+	 */
+	private long position;
+
+	/**
+	 * Достигнут ли конец журнала
+	 */
+	private boolean finished;
+
+	/**
+	 * Открытие журнала на чтение
+	 *
+	 * @param f
+	 *            файл журнала
+	 * @throws IOException
+	 *             файл не является журналом ведомости или произошла ошибка
+	 *             чтения
+	 */
+	public JournalReader(File f) throws IOException {
+		file = new RandomAccessFile(f, "r");
+		channel = file.getChannel();
+		try {
+			readHeader();
+		} catch (IOException ex) {
+			file.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Чтение журнала через канал, открытый журналом на запись
+	 *
+	 * @param channel
+	 *            канал файла журнала
+	 * @throws IOException
+	 *             файл не является журналом ведомости или произошла ошибка
+	 *             чтения
+	 */
+	JournalReader(FileChannel channel) throws IOException {
+		file = null;
+		this.channel = channel;
+		readHeader();
+	}
+
+	/**
+	 * Чтение следующего события
+	 *
+	 * @return событие; null - достигнут конец журнала
+	 * @throws IOException
+	 *             произошла ошибка чтения
+	 */
+	public JournalEvent next() throws IOException {
+		if (finished) {
+			return null;
+		}
+		if (block.remaining() < RegisterJournal.RECORD_SIZE) {
+			fill();
+			if (block.remaining() < RegisterJournal.RECORD_SIZE) {
+				finished = true;
+				return null;
+			}
+		}
+		JournalEvent e = RegisterJournal.decode(block, crc);
+		if (e == null) {
+			finished = true;
+			return null;
+		}
+		position += RegisterJournal.RECORD_SIZE;
+		return e;
+	}
+
+	/**
+	 * Получение смещения в файле первой непрочитанной записи (после
+	 * достижения конца журнала - смещение, с которого журнал дописывается)
+	 *
+	 * @return смещение (в байтах)
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (file != null) {
+			file.close();
+		}
+	}
+
+	private void readHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(RegisterJournal.HEADER_SIZE);
+		channel.read(header, 0);
+		header.flip();
+		if (header.remaining() < RegisterJournal.HEADER_SIZE || header.getInt() != RegisterJournal.MAGIC) {
+			throw new IOException("File is not a register journal");
+		}
+		int version = header.getInt();
+		if (version != RegisterJournal.VERSION) {
+			throw new IOException("Unsupported register journal version " + version);
+		}
+		position = RegisterJournal.HEADER_SIZE;
+		block.limit(0);
+	}
+
+	private void fill() throws IOException {
+		block.compact();
+		long readPosition = position + block.position();
+		int read = 0;
+		while (block.hasRemaining() && (read = channel.read(block, readPosition)) > 0) {
+			readPosition += read;
+		}
+		block.flip();
+	}
+
+}
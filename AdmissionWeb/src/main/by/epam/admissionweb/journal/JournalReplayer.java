@@ -0,0 +1,175 @@
+package main.by.epam.admissionweb.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>JournalReplayer</code> восстанавливает состояние ведомостей по
+ * событиям журнала ведомости ({@link RegisterJournal}) без обращения к базе
+ * данных.
+ * <p>
+ * События применяются в порядке журнала: запись абитуриента добавляет его
+ * ключ в рейтинг факультета ({@link FacultyRanking}) в рамках набора со
+ * статусом {@link RegisterColumns#TEMP_NOT_ADMITTED}, отмена записи удаляет
+ * его из рейтинга, изменение статуса и плана набора запоминают новое
+ * значение. В результате восстанавливаются рейтинги, статусы абитуриентов и
+ * планы набора факультетов, изменявшиеся с начала журнала.
+ *
+ * @author Daria Krupenko
+ * @see RegisterJournal
+ * @see JournalReader
+ *
+ */
+public class JournalReplayer {
+
+	/**
+	 * Восстановленные рейтинги (ключ - id факультета и id набора)
+	 */
+	private final Map<Long, FacultyRanking> rankings = new HashMap<Long, FacultyRanking>();
+
+	/**
+	 * Коды статусов абитуриентов (ключ - id набора и id абитуриента)
+	 */
+	private final Map<Long, Byte> statuses = new HashMap<Long, Byte>();
+
+	/**
+	 * Планы набора (ключ - id факультета)
+	 */
+	private final Map<Integer, Integer> plans = new HashMap<Integer, Integer>();
+
+	/**
+	 * Количество примененных событий
+	 */
+	private long eventsNumber;
+
+	/**
+	 * Номер последнего примененного события
+	 */
+	private long sequence;
+
+	/**
+	 * Восстановление состояния ведомостей по файлу журнала
+	 *
+	 * @param f
+	 *            файл журнала
+	 * @return восстановленное состояние
+	 * @throws IOException
+	 *             файл не является журналом ведомости или произошла ошибка
+	 *             чтения
+	 */
+	public static JournalReplayer replay(File f) throws IOException {
+		JournalReplayer replayer = new JournalReplayer();
+		JournalReader reader = new JournalReader(f);
+		try {
+			JournalEvent e = null;
+			while ((e = reader.next()) != null) {
+				replayer.apply(e);
+			}
+		} finally {
+			reader.close();
+		}
+		return replayer;
+	}
+
+	/**
+	 * Применение события
+	 *
+	 * @param e
+	 *            событие журнала
+	 */
+	public void apply(JournalEvent e) {
+		switch (e.getType()) {
+		case JournalEvent.REGISTERED:
+			getOrCreateRanking(e.getFacultyId(), e.getEnrollId())
+					.add(new RankKey(e.getApplicantId(), e.getTotalScore(), e.getCertificateScore()));
+			statuses.put(key(e.getEnrollId(), e.getApplicantId()), RegisterColumns.TEMP_NOT_ADMITTED);
+			break;
+		case JournalEvent.CANCELLED:
+			FacultyRanking ranking = rankings.get(key(e.getFacultyId(), e.getEnrollId()));
+			if (ranking != null) {
+				ranking.remove(e.getApplicantId());
+			}
+			statuses.remove(key(e.getEnrollId(), e.getApplicantId()));
+			break;
+		case JournalEvent.STATUS_CHANGED:
+			statuses.put(key(e.getEnrollId(), e.getApplicantId()), (byte) e.getValue());
+			break;
+		case JournalEvent.PLAN_CHANGED:
+			plans.put(e.getFacultyId(), e.getValue());
+			break;
+		default:
+			return;
+		}
+		eventsNumber++;
+		sequence = e.getSequence();
+	}
+
+	/**
+	 * Получение восстановленного рейтинга факультета в рамках набора
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @return рейтинг; null - в журнале нет записей на факультет
+	 */
+	public FacultyRanking getRanking(int facultyId, int enrollId) {
+		return rankings.get(key(facultyId, enrollId));
+	}
+
+	/**
+	 * Получение кода статуса абитуриента
+	 *
+	 * @param enrollId
+	 *            id набора
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return код статуса ({@link RegisterColumns}); -1 - абитуриент не
+	 *         записан
+	 */
+	public int getStatusCode(int enrollId, int applicantId) {
+		Byte code = statuses.get(key(enrollId, applicantId));
+		return code == null ? -1 : code;
+	}
+
+	/**
+	 * Получение плана набора факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return план набора; -1 - план не изменялся с начала журнала
+	 */
+	public int getPlan(int facultyId) {
+		Integer plan = plans.get(facultyId);
+		return plan == null ? -1 : plan;
+	}
+
+	public long getEventsNumber() {
+		return eventsNumber;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	private FacultyRanking getOrCreateRanking(int facultyId, int enrollId) {
+		Long key = key(facultyId, enrollId);
+		FacultyRanking ranking = rankings.get(key);
+		if (ranking == null) {
+			ranking = new FacultyRanking();
+			rankings.put(key, ranking);
+		}
+		return ranking;
+	}
+
+	private static Long key(int high, int low) {
+		return ((long) high << Integer.SIZE) | (low & 0xFFFFFFFFL);
+	}
+
+}
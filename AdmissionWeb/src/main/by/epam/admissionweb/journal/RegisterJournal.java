@@ -0,0 +1,338 @@
+package main.by.epam.admissionweb.journal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Класс <code>RegisterJournal</code> представляет собой журнал событий
+ * ведомости ({@link JournalEvent}), в который события только дописываются.
+ * <p>
+ * Журнал - это двоичный файл: заголовок (сигнатура и версия формата) и
+ * следующие за ним записи фиксированного размера {@link #RECORD_SIZE}. Каждая
+ * запись содержит поля события и контрольную сумму CRC32, поэтому запись,
+ * не дописанная до конца при аварийной остановке, распознается при чтении и
+ * считается концом журнала.
+ * <p>
+ * Запись выполняется через отображение файла в память
+ * ({@link FileChannel#map(FileChannel.MapMode, long, long)}) областями
+ * фиксированного размера: добавление события - это копирование записи в
+ * память без системного вызова. Когда область заполнена, она сбрасывается на
+ * диск и отображается следующая. Файл при отображении области дополняется
+ * нулями, нулевой тип записи означает конец журнала.
+ * <p>
+ * Сброс на диск ({@link #sync()}) выполняется группами: после каждых
+ * <code>syncBatch</code> событий, при смене области, при закрытии журнала и
+ * по вызову владельца журнала (например, по таймеру). Событие, не сброшенное
+ * на диск, сохраняется при остановке процесса (оно уже находится в кэше
+ * операционной системы) и может быть потеряно только при отказе самой
+ * системы.
+ * <p>
+ * Методы записи синхронизированы. Журнал читается объектом
+ * {@link JournalReader}.
+ *
+ * @author Daria Krupenko
+ * @see JournalEvent
+ * @see JournalReader
+ * @see JournalReplayer
+ *
+ */
+public class RegisterJournal implements Closeable {
+
+	/**
+	 * Размер записи журнала (в байтах): тип (1), номер (8), время (8), шесть
+	 * целочисленных полей (24), контрольная сумма (4)
+	 */
+	public static final int RECORD_SIZE = 45;
+
+	/**
+	 * Сигнатура файла журнала
+	 */
+	static final int MAGIC = 0x524A4E4C;
+
+	/**
+	 * Версия формата журнала
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * Размер заголовка файла журнала (в байтах)
+	 */
+	static final int HEADER_SIZE = 8;
+
+	/**
+	 * Размер записи без контрольной суммы (в байтах)
+	 */
+	private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+
+	/**
+	 * Файл журнала
+	 */
+	private final RandomAccessFile file;
+
+	private final FileChannel channel;
+
+	/**
+	 * Размер отображаемой области (в байтах, кратен размеру записи)
+	 */
+	private final int regionSize;
+
+	/**
+	 * Количество событий, после которого журнал сбрасывается на диск
+	 */
+	private final int syncBatch;
+
+	/**
+	 * Буфер формирования записи
+	 */
+	private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Отображенная область
+	 */
+	private MappedByteBuffer region;
+
+	/**
+	 * Смещение отображенной области в файле
+	 */
+	private long regionStart;
+
+	/**
+	 * Смещение следующей записи в файле
+	 */
+	private long position;
+
+	/**
+	 * Номер последнего записанного события
+	 */
+	private long sequence;
+
+	/**
+	 * Количество событий, не сброшенных на диск
+	 */
+	private int unsynced;
+
+	/**
+	 * Открытие журнала. Если файл пуст или не существует, создается новый
+	 * журнал; иначе журнал прочитывается до последней целой записи, и новые
+	 * события дописываются после нее.
+	 *
+	 * @param f
+	 *            файл журнала
+	 * @param regionRecords
+	 *            количество записей в отображаемой области
+	 * @param syncBatch
+	 *            количество событий, после которого журнал сбрасывается на
+	 *            диск
+	 * @throws IOException
+	 *             файл не является журналом ведомости или произошла ошибка
+	 *             чтения/записи
+	 */
+	public RegisterJournal(File f, int regionRecords, int syncBatch) throws IOException {
+		this.regionSize = Math.max(1, regionRecords) * RECORD_SIZE;
+		this.syncBatch = Math.max(1, syncBatch);
+		file = new RandomAccessFile(f, "rw");
+		channel = file.getChannel();
+		try {
+			if (channel.size() < HEADER_SIZE) {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.putInt(MAGIC).putInt(VERSION).flip();
+				channel.truncate(0);
+				channel.write(header, 0);
+				channel.force(true);
+				position = HEADER_SIZE;
+			} else {
+				JournalReader reader = new JournalReader(channel);
+				JournalEvent last = null;
+				JournalEvent event = null;
+				while ((event = reader.next()) != null) {
+					last = event;
+				}
+				position = reader.getPosition();
+				sequence = last == null ? 0 : last.getSequence();
+			}
+			map(position);
+		} catch (IOException ex) {
+			file.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Добавление события в журнал
+	 *
+	 * @param e
+	 *            событие
+	 * @return номер события в журнале
+	 * @throws IOException
+	 *             журнал закрыт или произошла ошибка записи
+	 */
+	public synchronized long append(JournalEvent e) throws IOException {
+		long result = write(e);
+		if (unsynced >= syncBatch) {
+			sync();
+		}
+		return result;
+	}
+
+	/**
+	 * Добавление группы событий в журнал. События группы сбрасываются на диск
+	 * вместе.
+	 *
+	 * @param events
+	 *            события
+	 * @return номер последнего события в журнале
+	 * @throws IOException
+	 *             журнал закрыт или произошла ошибка записи
+	 */
+	public synchronized long append(List<JournalEvent> events) throws IOException {
+		for (JournalEvent e : events) {
+			write(e);
+		}
+		if (unsynced >= syncBatch) {
+			sync();
+		}
+		return sequence;
+	}
+
+	/**
+	 * Сброс записанных событий на диск
+	 *
+	 * @throws IOException
+	 *             журнал закрыт
+	 */
+	public synchronized void sync() throws IOException {
+		checkOpen();
+		if (unsynced > 0) {
+			region.force();
+			unsynced = 0;
+		}
+	}
+
+	/**
+	 * Получение номера последнего записанного события
+	 *
+	 * @return номер события; 0 - журнал пуст
+	 */
+	public synchronized long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Получение размера журнала
+	 *
+	 * @return размер записанной части журнала (в байтах)
+	 */
+	public synchronized long getSize() {
+		return position;
+	}
+
+	/**
+	 * Закрытие журнала с предварительным сбросом событий на диск
+	 *
+	 * @throws IOException
+	 *             произошла ошибка записи
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (region == null) {
+			return;
+		}
+		try {
+			sync();
+		} finally {
+			region = null;
+			file.close();
+		}
+	}
+
+	/**
+	 * Формирование записи события
+	 *
+	 * @param e
+	 *            событие
+	 * @param sequence
+	 *            номер события
+	 * @param buffer
+	 *            буфер записи (не менее {@link #RECORD_SIZE} байт от текущей
+	 *            позиции)
+	 * @param crc
+	 *            объект вычисления контрольной суммы
+	 */
+	static void encode(JournalEvent e, long sequence, ByteBuffer buffer, CRC32 crc) {
+		int start = buffer.position();
+		buffer.put(e.getType()).putLong(sequence).putLong(e.getTime()).putInt(e.getFacultyId())
+				.putInt(e.getEnrollId()).putInt(e.getApplicantId()).putInt(e.getTotalScore())
+				.putInt(e.getCertificateScore()).putInt(e.getValue());
+		crc.reset();
+		crc.update(buffer.array(), buffer.arrayOffset() + start, PAYLOAD_SIZE);
+		buffer.putInt((int) crc.getValue());
+	}
+
+	/**
+	 * Чтение записи события
+	 *
+	 * @param buffer
+	 *            буфер с записью (не менее {@link #RECORD_SIZE} байт от
+	 *            текущей позиции)
+	 * @param crc
+	 *            объект вычисления контрольной суммы
+	 * @return событие; null - запись пуста или повреждена (конец журнала)
+	 */
+	static JournalEvent decode(ByteBuffer buffer, CRC32 crc) {
+		int start = buffer.position();
+		crc.reset();
+		crc.update(buffer.array(), buffer.arrayOffset() + start, PAYLOAD_SIZE);
+		byte type = buffer.get();
+		long sequence = buffer.getLong();
+		long time = buffer.getLong();
+		int facultyId = buffer.getInt();
+		int enrollId = buffer.getInt();
+		int applicantId = buffer.getInt();
+		int totalScore = buffer.getInt();
+		int certificateScore = buffer.getInt();
+		int value = buffer.getInt();
+		int checksum = buffer.getInt();
+		if (type == 0 || checksum != (int) crc.getValue()) {
+			return null;
+		}
+		return new JournalEvent(type, sequence, time, facultyId, enrollId, applicantId, totalScore,
+				certificateScore, value);
+	}
+
+	private long write(JournalEvent e) throws IOException {
+		checkOpen();
+		if (position + RECORD_SIZE > regionStart + regionSize) {
+			region.force();
+			map(position);
+		}
+		record.clear();
+		encode(e, sequence + 1, record, crc);
+		record.flip();
+		region.position((int) (position - regionStart));
+		region.put(record);
+		position += RECORD_SIZE;
+		unsynced++;
+		return ++sequence;
+	}
+
+	private void map(long start) throws IOException {
+		region = channel.map(FileChannel.MapMode.READ_WRITE, start, regionSize);
+		regionStart = start;
+	}
+
+	private void checkOpen() throws IOException {
+		if (region == null) {
+			throw new IOException("Register journal is closed");
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package main.by.epam.admissionweb.listener;
 
+import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
@@ -11,6 +12,13 @@ import main.by.epam.admissionweb.dao.pool.exception.ConnectionPoolException;
 import main.by.epam.admissionweb.dao.pool.impl.ConnectionPoolImpl;
 import main.by.epam.admissionweb.generator.KeyGenerator;
 import main.by.epam.admissionweb.generator.KeyGeneratorFactory;
+import main.by.epam.admissionweb.service.impl.CheckpointManager;
+import main.by.epam.admissionweb.service.impl.FacultyStatisticsCache;
+import main.by.epam.admissionweb.service.impl.JournalManager;
+import main.by.epam.admissionweb.service.impl.LoginFilterManager;
+import main.by.epam.admissionweb.service.impl.RequestCoalescer;
+import main.by.epam.admissionweb.service.impl.SchemaManager;
+import main.by.epam.admissionweb.tag.MessageTable;
 
 /**
  * Класс <code>ProjectServletContextListener</code> реализует интерфейс
@@ -30,7 +38,18 @@ import main.by.epam.admissionweb.generator.KeyGeneratorFactory;
  * атрибута устанавливается объект {@link KeyGenerator}, представляющий
  * собой генератор уникальных ключей.
  * <p>
- * При уничтожении контекста сервлета также уничтожается пул соединений.
+ * Кроме того, при инициализации контекста сервлета загружается таблица
+ * сообщений интернационализации {@link MessageTable}.
+ * <p>
+ * После инициализации пула соединений проверяется версия схемы базы данных
+ * (миграции применяются, только если это явно разрешено) и планы выполнения
+ * запросов {@link SchemaManager},
+ * строится фильтр логинов абитуриентов {@link LoginFilterManager}, затем
+ * ведомости текущего набора восстанавливаются из контрольной точки
+ * {@link CheckpointManager}.
+ * <p>
+ * При уничтожении контекста сервлета также создается последняя контрольная
+ * точка, закрывается журнал событий ведомости и уничтожается пул соединений.
  * 
  * 
  * @author Daria Krupenko
@@ -43,8 +62,18 @@ public class ProjectServletContextListener implements ServletContextListener {
 
 	private static final Logger LOGGER = LogManager.getRootLogger();
 
+	private static final String I18N_PARAM = "i18n";
+
+	private static final String I18N_LOCALES_PARAM = "i18n-locales";
+
 	@Override
 	public void contextDestroyed(ServletContextEvent arg0) {
+		FacultyStatisticsCache.getInstance().shutdown();
+		CheckpointManager.getInstance().shutdown();
+		JournalManager.getInstance().shutdown();
+		RequestCoalescer coalescer = RequestCoalescer.getInstance();
+		LOGGER.info("LISTENER : Coalesced read calls: {} of {} ({} database calls)", coalescer.getCoalescedNumber(),
+				coalescer.getCallsNumber(), coalescer.getExecutionsNumber());
 		try {
 			ConnectionPool pool = ConnectionPoolImpl.getInstance();
 			pool.destroyConnectionPool();
@@ -56,6 +85,9 @@ public class ProjectServletContextListener implements ServletContextListener {
 
 	@Override
 	public void contextInitialized(ServletContextEvent arg0) {
+		ServletContext context = arg0.getServletContext();
+		MessageTable.getInstance().load(context.getInitParameter(I18N_PARAM),
+				context.getInitParameter(I18N_LOCALES_PARAM));
 		try {
 			ConnectionPool pool = ConnectionPoolImpl.getInstance();
 			pool.initConnectionPool();
@@ -64,6 +96,9 @@ public class ProjectServletContextListener implements ServletContextListener {
 			LOGGER.info("LISTENER : The connection to the database has been successfully established");
 			KeyGenerator generator = KeyGeneratorFactory.getInstance().getKeyGenerator();
 			arg0.getServletContext().setAttribute("generator", generator);
+			SchemaManager.getInstance().start();
+			LoginFilterManager.getInstance().start();
+			CheckpointManager.getInstance().start();
 		} catch (ConnectionPoolException ex) {
 			LOGGER.error(ex);
 			arg0.getServletContext().setAttribute("databaseError", true);
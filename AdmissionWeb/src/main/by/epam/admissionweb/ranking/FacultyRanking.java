@@ -0,0 +1,287 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс <code>FacultyRanking</code> представляет собой рейтинг абитуриентов,
+ * записавшихся на факультет в рамках одного набора.
+ * <p>
+ * Рейтинг хранится в дереве порядковых статистик {@link RankingTree}, поэтому
+ * добавление и удаление абитуриента, определение проходного (последнего
+ * зачисляемого) абитуриента и проходного балла при заданном плане набора
+ * выполняются за O(log n).
+ * <p>
+ * План набора передается в каждый запрос, поэтому изменение плана факультета
+ * не требует перестроения рейтинга.
+ * <p>
+ * Рейтинг также отслеживает статусы абитуриентов, сохраненные в источнике
+ * данных, и после изменений вычисляет только те статусы, которые изменились
+ * (см. {@link #sync(int)}).
+ * <p>
+ * Методы класса синхронизированы.
+ *
+ * @author Daria Krupenko
+ * @see RankingTree
+ * @see RankKey
+ *
+ */
+public class FacultyRanking {
+
+	/**
+	 * Дерево рейтинга
+	 */
+	private final RankingTree tree = new RankingTree();
+
+	/**
+	 * Ключи абитуриентов (ключ - id абитуриента)
+	 */
+	private final Map<Integer, RankKey> keys = new HashMap<Integer, RankKey>();
+
+	/**
+	 * id абитуриентов, сохраненных в источнике данных со статусом
+	 * проходящего по плану набора
+	 */
+	private final Set<Integer> persistedAdmitted = new HashSet<Integer>();
+
+	/**
+	 * id абитуриентов, добавленных или удаленных после последней синхронизации
+	 */
+	private final Set<Integer> changed = new HashSet<Integer>();
+
+	/**
+	 * Количество вставок и удалений ключей после последней синхронизации
+	 */
+	private int changesNumber;
+
+	/**
+	 * План набора, при котором выполнена последняя синхронизация (-1 -
+	 * синхронизация не выполнялась)
+	 */
+	private int syncPlan = -1;
+
+	/**
+	 * Проходной балл, сохраненный в источнике данных при последней
+	 * синхронизации
+	 */
+	private int persistedPassRate = -1;
+
+	/**
+	 * Добавление абитуриента в рейтинг. Если абитуриент уже содержится в
+	 * рейтинге с другими баллами, его ключ заменяется.
+	 *
+	 * @param key
+	 *            ключ абитуриента
+	 * @return true - рейтинг изменился
+	 */
+	public synchronized boolean add(RankKey key) {
+		RankKey old = keys.put(key.getApplicantId(), key);
+		if (key.equals(old)) {
+			return false;
+		}
+		if (old != null) {
+			tree.remove(old);
+			changesNumber++;
+		}
+		changed.add(key.getApplicantId());
+		changesNumber++;
+		return tree.insert(key);
+	}
+
+	/**
+	 * Удаление абитуриента из рейтинга
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return ключ удаленного абитуриента; null - абитуриент не содержится в
+	 *         рейтинге
+	 */
+	public synchronized RankKey remove(int applicantId) {
+		RankKey key = keys.remove(applicantId);
+		if (key != null) {
+			tree.remove(key);
+			persistedAdmitted.remove(applicantId);
+			changed.add(applicantId);
+			changesNumber++;
+		}
+		return key;
+	}
+
+	/**
+	 * Получение ключа абитуриента
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return ключ абитуриента; null - абитуриент не содержится в рейтинге
+	 */
+	public synchronized RankKey getKey(int applicantId) {
+		return keys.get(applicantId);
+	}
+
+	/**
+	 * Получение симулятора плана набора по текущему состоянию рейтинга
+	 *
+	 * @return симулятор плана набора
+	 */
+	public synchronized PlanSimulator getSimulator() {
+		return new PlanSimulator(tree.toArray());
+	}
+
+	/**
+	 * Получение ключей рейтинга в порядке рейтинга
+	 *
+	 * @return массив ключей (копия)
+	 */
+	public synchronized RankKey[] toArray() {
+		return tree.toArray();
+	}
+
+	/**
+	 * Получение количества абитуриентов в рейтинге
+	 *
+	 * @return количество абитуриентов
+	 */
+	public synchronized int size() {
+		return tree.size();
+	}
+
+	/**
+	 * Получение ключа последнего зачисляемого абитуриента
+	 *
+	 * @param plan
+	 *            план набора факультета
+	 * @return ключ абитуриента на месте <code>plan</code>; null - план не
+	 *         заполнен
+	 */
+	public synchronized RankKey getCutoff(int plan) {
+		if (plan <= 0) {
+			return null;
+		}
+		return tree.select(plan - 1);
+	}
+
+	/**
+	 * Получение проходного балла. Проходной балл равен общему баллу последнего
+	 * зачисляемого абитуриента, если план набора заполнен, иначе - 0.
+	 *
+	 * @param plan
+	 *            план набора факультета
+	 * @return проходной балл
+	 */
+	public synchronized int getPassRate(int plan) {
+		RankKey cutoff = getCutoff(plan);
+		return cutoff == null ? 0 : cutoff.getTotalScore();
+	}
+
+	/**
+	 * Получение места абитуриента в рейтинге (с нуля)
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return место абитуриента; -1 - абитуриент не содержится в рейтинге
+	 */
+	public synchronized int getPosition(int applicantId) {
+		RankKey key = keys.get(applicantId);
+		return key == null ? -1 : tree.rank(key);
+	}
+
+	/**
+	 * Проверка, проходит ли абитуриент по плану набора
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param plan
+	 *            план набора факультета
+	 * @return true - абитуриент содержится в рейтинге и занимает одно из
+	 *         первых <code>plan</code> мест
+	 */
+	public synchronized boolean isAdmitted(int applicantId, int plan) {
+		int position = getPosition(applicantId);
+		return position >= 0 && position < plan;
+	}
+
+	/**
+	 * Вычисление изменения статусов абитуриентов после последней
+	 * синхронизации. Изменение считается сохраненным в источнике данных.
+	 * <p>
+	 * Каждая вставка или удаление ключа сдвигает места остальных абитуриентов
+	 * не более чем на одно. Поэтому после <code>d</code> изменений статус
+	 * может измениться только у добавленных абитуриентов и у абитуриентов на
+	 * местах от <code>min(P1, P2) - d</code> до <code>max(P1, P2) + d</code>,
+	 * где <code>P1</code> и <code>P2</code> - прежний и новый план набора.
+	 * Проверяются только эти абитуриенты, и в результат попадают только те, чей
+	 * сохраненный статус отличается от нового. Для одной записи на факультет
+	 * это не более двух абитуриентов.
+	 *
+	 * @param plan
+	 *            план набора факультета
+	 * @return изменение статусов; null - синхронизация еще не выполнялась,
+	 *         необходимо обновить все статусы и вызвать
+	 *         {@link #markSynced(int)}
+	 */
+	public synchronized StatusDelta sync(int plan) {
+		if (syncPlan < 0) {
+			return null;
+		}
+		int passRate = getPassRate(plan);
+		StatusDelta delta = new StatusDelta(passRate, passRate != persistedPassRate);
+		int from = Math.max(0, Math.min(syncPlan, plan) - changesNumber);
+		int to = Math.min(tree.size(), Math.max(syncPlan, plan) + changesNumber);
+		for (int i = from; i < to; i++) {
+			check(tree.select(i).getApplicantId(), i < plan, delta);
+		}
+		for (int applicantId : changed) {
+			RankKey key = keys.get(applicantId);
+			if (key != null) {
+				check(applicantId, tree.rank(key) < plan, delta);
+			}
+		}
+		resetChanges(plan, passRate);
+		return delta;
+	}
+
+	/**
+	 * Отметка о том, что статусы всех абитуриентов и проходной балл сохранены
+	 * в источнике данных в соответствии с текущим рейтингом
+	 *
+	 * @param plan
+	 *            план набора факультета
+	 */
+	public synchronized void markSynced(int plan) {
+		persistedAdmitted.clear();
+		int admittedNumber = Math.min(Math.max(plan, 0), tree.size());
+		for (int i = 0; i < admittedNumber; i++) {
+			persistedAdmitted.add(tree.select(i).getApplicantId());
+		}
+		resetChanges(plan, getPassRate(plan));
+	}
+
+	/**
+	 * Сравнение нового статуса абитуриента с сохраненным и добавление
+	 * отличающегося статуса в изменение
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param admitted
+	 *            новый статус (true - проходит по плану набора)
+	 * @param delta
+	 *            изменение статусов
+	 */
+	private void check(int applicantId, boolean admitted, StatusDelta delta) {
+		if (admitted && persistedAdmitted.add(applicantId)) {
+			delta.getAdmitted().add(applicantId);
+		} else if (!admitted && persistedAdmitted.remove(applicantId)) {
+			delta.getNotAdmitted().add(applicantId);
+		}
+	}
+
+	private void resetChanges(int plan, int passRate) {
+		changed.clear();
+		changesNumber = 0;
+		syncPlan = plan;
+		persistedPassRate = passRate;
+	}
+
+}
@@ -0,0 +1,73 @@
+package main.by.epam.admissionweb.ranking;
+
+/**
+ * Класс <code>PlanScenario</code> представляет собой результат симуляции
+ * одного варианта плана набора факультета: количество зачисляемых
+ * абитуриентов, проходной балл и последнего зачисляемого абитуриента.
+ *
+ * @author Daria Krupenko
+ * @see PlanSimulator
+ *
+ */
+public class PlanScenario {
+
+	/**
+	 * План набора
+	 */
+	private final int plan;
+
+	/**
+	 * Количество зачисляемых абитуриентов
+	 */
+	private final int admittedNumber;
+
+	/**
+	 * Проходной балл
+	 */
+	private final int passRate;
+
+	/**
+	 * id последнего зачисляемого абитуриента (-1 - план не заполнен)
+	 */
+	private final int cutoffApplicantId;
+
+	/**
+	 * Количество незачисляемых абитуриентов с общим баллом, равным проходному
+	 */
+	private final int tiedNumber;
+
+	PlanScenario(int plan, int admittedNumber, int passRate, int cutoffApplicantId, int tiedNumber) {
+		this.plan = plan;
+		this.admittedNumber = admittedNumber;
+		this.passRate = passRate;
+		this.cutoffApplicantId = cutoffApplicantId;
+		this.tiedNumber = tiedNumber;
+	}
+
+	public int getPlan() {
+		return plan;
+	}
+
+	public int getAdmittedNumber() {
+		return admittedNumber;
+	}
+
+	public int getPassRate() {
+		return passRate;
+	}
+
+	public int getCutoffApplicantId() {
+		return cutoffApplicantId;
+	}
+
+	public int getTiedNumber() {
+		return tiedNumber;
+	}
+
+	@Override
+	public String toString() {
+		return "PlanScenario [plan=" + plan + ", admittedNumber=" + admittedNumber + ", passRate=" + passRate
+				+ ", cutoffApplicantId=" + cutoffApplicantId + ", tiedNumber=" + tiedNumber + "]";
+	}
+
+}
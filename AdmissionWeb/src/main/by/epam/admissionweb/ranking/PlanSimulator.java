@@ -0,0 +1,114 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс <code>PlanSimulator</code> предназначен для оценки вариантов плана
+ * набора факультета без изменения данных.
+ * <p>
+ * При создании симулятора рейтинг факультета один раз копируется в массивы
+ * примитивов (общие баллы и id абитуриентов в порядке рейтинга). После этого
+ * каждый вариант плана оценивается за O(log n) без создания промежуточных
+ * объектов: количество зачисляемых абитуриентов и проходной балл определяются
+ * по индексу, а количество абитуриентов с баллом, равным проходному, но не
+ * попадающих в план, - двоичным поиском.
+ * <p>
+ * Объекты класса являются неизменяемыми и могут использоваться несколькими
+ * потоками.
+ *
+ * @author Daria Krupenko
+ * @see FacultyRanking#getSimulator()
+ *
+ */
+public class PlanSimulator {
+
+	/**
+	 * Общие баллы в порядке рейтинга (по невозрастанию)
+	 */
+	private final int[] totalScores;
+
+	/**
+	 * id абитуриентов в порядке рейтинга
+	 */
+	private final int[] applicantIds;
+
+	/**
+	 * Создание симулятора
+	 *
+	 * @param keys
+	 *            ключи рейтинга в порядке рейтинга
+	 */
+	public PlanSimulator(RankKey[] keys) {
+		totalScores = new int[keys.length];
+		applicantIds = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			totalScores[i] = keys[i].getTotalScore();
+			applicantIds[i] = keys[i].getApplicantId();
+		}
+	}
+
+	/**
+	 * Получение количества абитуриентов в рейтинге
+	 *
+	 * @return количество абитуриентов
+	 */
+	public int size() {
+		return totalScores.length;
+	}
+
+	/**
+	 * Оценка варианта плана набора
+	 *
+	 * @param plan
+	 *            план набора
+	 * @return результат симуляции
+	 */
+	public PlanScenario simulate(int plan) {
+		int n = totalScores.length;
+		int admittedNumber = Math.min(Math.max(plan, 0), n);
+		if (plan <= 0 || plan > n) {
+			return new PlanScenario(plan, admittedNumber, 0, -1, 0);
+		}
+		int passRate = totalScores[plan - 1];
+		int tiedNumber = lastIndexOf(passRate) - plan + 1;
+		return new PlanScenario(plan, admittedNumber, passRate, applicantIds[plan - 1], tiedNumber);
+	}
+
+	/**
+	 * Оценка нескольких вариантов плана набора
+	 *
+	 * @param plans
+	 *            варианты плана набора
+	 * @return результаты симуляции в порядке вариантов
+	 */
+	public List<PlanScenario> simulate(int[] plans) {
+		List<PlanScenario> scenarios = new ArrayList<PlanScenario>(plans.length);
+		for (int plan : plans) {
+			scenarios.add(simulate(plan));
+		}
+		return scenarios;
+	}
+
+	/**
+	 * Поиск последнего места в рейтинге с указанным общим баллом
+	 *
+	 * @param score
+	 *            общий балл (должен содержаться в рейтинге)
+	 * @return индекс последнего абитуриента с указанным баллом
+	 */
+	private int lastIndexOf(int score) {
+		int low = 0;
+		int high = totalScores.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (totalScores[middle] >= score) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+}
@@ -0,0 +1,91 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Класс <code>RadixSort</code> предназначен для поразрядной сортировки
+ * массивов примитивов <code>long</code> (например, упакованных ключей
+ * рейтинга {@link RankKey#pack(int, int, int)}).
+ * <p>
+ * Сортировка выполняется от младших разрядов к старшим по 16 бит за проход
+ * (не более четырех проходов), без сравнений элементов и за линейное время.
+ * Проход пропускается, если разряд у всех элементов одинаков (например,
+ * старшие разряды небольших id абитуриентов). Небольшие массивы сортируются
+ * методом {@link Arrays#sort(long[])}.
+ *
+ * @author Daria Krupenko
+ * @see RankKey
+ *
+ */
+public final class RadixSort {
+
+	/**
+	 * Размер массива, начиная с которого используется поразрядная сортировка
+	 */
+	private static final int THRESHOLD = 256;
+
+	/**
+	 * Количество бит в разряде
+	 */
+	private static final int DIGIT_BITS = 16;
+
+	/**
+	 * Количество значений разряда
+	 */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/**
+	 * Количество разрядов
+	 */
+	private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+
+	/**
+	 * Маска знакового бита в старшем разряде (для сортировки отрицательных
+	 * чисел)
+	 */
+	private static final int SIGN_FLIP = RADIX >>> 1;
+
+	private RadixSort() {
+	}
+
+	/**
+	 * Сортировка массива по возрастанию
+	 *
+	 * @param a
+	 *            сортируемый массив
+	 */
+	public static void sort(long[] a) {
+		int n = a.length;
+		if (n < THRESHOLD) {
+			Arrays.sort(a);
+			return;
+		}
+		long[] source = a;
+		long[] target = new long[n];
+		int[] counts = new int[RADIX + 1];
+		for (int digit = 0; digit < DIGITS; digit++) {
+			int shift = digit * DIGIT_BITS;
+			int flip = digit == DIGITS - 1 ? SIGN_FLIP : 0;
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < n; i++) {
+				counts[(((int) (source[i] >>> shift)) & (RADIX - 1) ^ flip) + 1]++;
+			}
+			if (counts[((((int) (source[0] >>> shift)) & (RADIX - 1)) ^ flip) + 1] == n) {
+				continue;
+			}
+			for (int i = 1; i <= RADIX; i++) {
+				counts[i] += counts[i - 1];
+			}
+			for (int i = 0; i < n; i++) {
+				target[counts[((int) (source[i] >>> shift)) & (RADIX - 1) ^ flip]++] = source[i];
+			}
+			long[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != a) {
+			System.arraycopy(source, 0, a, 0, n);
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+package main.by.epam.admissionweb.ranking;
+
+/**
+ * Класс <code>RankKey</code> представляет собой неизменяемый ключ абитуриента
+ * в рейтинге факультета.
+ * <p>
+ * Ключи упорядочены так же, как записи ведомости при определении статусов
+ * абитуриентов: по убыванию общего балла, затем по убыванию балла аттестата,
+ * затем по возрастанию id абитуриента. Поэтому порядок ключей является
+ * строгим, и каждое место в рейтинге определено однозначно.
+ * <p>
+ * Порядок задается упакованным 64-битным ключом ({@link #pack(int, int, int)}):
+ * старшие 16 бит содержат дополнение общего балла до {@link #SCORE_MAX},
+ * следующие 16 бит - дополнение балла аттестата, младшие 31 бит - id
+ * абитуриента. Упакованные ключи возрастают в порядке рейтинга, поэтому
+ * сравнение ключей сводится к одному сравнению чисел, а массив ключей может
+ * быть отсортирован поразрядно ({@link RadixSort}). Та же формула вычисляет
+ * столбец <code>rank_key</code> таблицы ведомости.
+ *
+ * @author Daria Krupenko
+ * @see RankingTree
+ *
+ */
+public final class RankKey implements Comparable<RankKey> {
+
+	/**
+	 * Максимальный балл, который может быть упакован в ключ
+	 */
+	public static final int SCORE_MAX = 0xFFFF;
+
+	/**
+	 * Смещение общего балла в упакованном ключе
+	 */
+	private static final int TOTAL_SHIFT = 47;
+
+	/**
+	 * Смещение балла аттестата в упакованном ключе
+	 */
+	private static final int CERTIFICATE_SHIFT = 31;
+
+	/**
+	 * Маска id абитуриента в упакованном ключе
+	 */
+	private static final long ID_MASK = 0x7FFFFFFFL;
+
+	/**
+	 * id абитуриента
+	 */
+	private final int applicantId;
+
+	/**
+	 * Общий балл
+	 */
+	private final int totalScore;
+
+	/**
+	 * Балл аттестата
+	 */
+	private final int certificateScore;
+
+	/**
+	 * Упакованный ключ
+	 */
+	private final long packed;
+
+	/**
+	 * Создание ключа абитуриента
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param totalScore
+	 *            общий балл
+	 * @param certificateScore
+	 *            балл аттестата
+	 */
+	public RankKey(int applicantId, int totalScore, int certificateScore) {
+		this.applicantId = applicantId;
+		this.totalScore = totalScore;
+		this.certificateScore = certificateScore;
+		packed = pack(totalScore, certificateScore, applicantId);
+	}
+
+	/**
+	 * Упаковка ключа рейтинга в 64-битное число
+	 *
+	 * @param totalScore
+	 *            общий балл (от 0 до {@link #SCORE_MAX})
+	 * @param certificateScore
+	 *            балл аттестата (от 0 до {@link #SCORE_MAX})
+	 * @param applicantId
+	 *            id абитуриента (неотрицательный)
+	 * @return упакованный ключ (неотрицательный)
+	 * @throws IllegalArgumentException
+	 *             значение не может быть упаковано
+	 */
+	public static long pack(int totalScore, int certificateScore, int applicantId) {
+		if (totalScore < 0 || totalScore > SCORE_MAX || certificateScore < 0 || certificateScore > SCORE_MAX
+				|| applicantId < 0) {
+			throw new IllegalArgumentException("Unable to pack rank key (total = " + totalScore + ", certificate = "
+					+ certificateScore + ", applicant = " + applicantId + ")");
+		}
+		return ((long) (SCORE_MAX - totalScore) << TOTAL_SHIFT)
+				| ((long) (SCORE_MAX - certificateScore) << CERTIFICATE_SHIFT) | applicantId;
+	}
+
+	/**
+	 * Получение id абитуриента из упакованного ключа
+	 *
+	 * @param packed
+	 *            упакованный ключ
+	 * @return id абитуриента
+	 */
+	public static int unpackApplicantId(long packed) {
+		return (int) (packed & ID_MASK);
+	}
+
+	/**
+	 * Получение общего балла из упакованного ключа
+	 *
+	 * @param packed
+	 *            упакованный ключ
+	 * @return общий балл
+	 */
+	public static int unpackTotalScore(long packed) {
+		return SCORE_MAX - (int) (packed >>> TOTAL_SHIFT);
+	}
+
+	/**
+	 * Получение балла аттестата из упакованного ключа
+	 *
+	 * @param packed
+	 *            упакованный ключ
+	 * @return балл аттестата
+	 */
+	public static int unpackCertificateScore(long packed) {
+		return SCORE_MAX - (int) ((packed >>> CERTIFICATE_SHIFT) & SCORE_MAX);
+	}
+
+	public int getApplicantId() {
+		return applicantId;
+	}
+
+	public int getTotalScore() {
+		return totalScore;
+	}
+
+	public int getCertificateScore() {
+		return certificateScore;
+	}
+
+	public long getPacked() {
+		return packed;
+	}
+
+	/**
+	 * Сравнение ключей: ключ, стоящий выше в рейтинге, считается меньшим
+	 */
+	@Override
+	public int compareTo(RankKey o) {
+		return Long.compare(packed, o.packed);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + applicantId;
+		result = prime * result + certificateScore;
+		result = prime * result + totalScore;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		RankKey other = (RankKey) obj;
+		return applicantId == other.applicantId && certificateScore == other.certificateScore
+				&& totalScore == other.totalScore;
+	}
+
+	@Override
+	public String toString() {
+		return "RankKey [applicantId=" + applicantId + ", totalScore=" + totalScore + ", certificateScore="
+				+ certificateScore + "]";
+	}
+
+}
@@ -0,0 +1,300 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+
+/**
+ * Класс <code>RankingSnapshot</code> представляет собой неизменяемый снимок
+ * рейтинга факультета, опубликованный после фиксации изменения ведомости.
+ * <p>
+ * Снимок хранит колонки ведомости ({@link RegisterColumns}) в порядке
+ * рейтинга: id абитуриентов, общие баллы, баллы аттестата, коды статусов,
+ * имена и матрицу баллов по дисциплинам, а также индекс проходного места
+ * (количество абитуриентов, проходящих по плану набора). Абитуриенты с
+ * индексом меньше индекса проходного места проходят по плану набора,
+ * остальные - не проходят. Объекты записей ведомости строятся только для
+ * запрошенной страницы.
+ * <p>
+ * Объекты класса являются неизменяемыми и могут читаться несколькими потоками
+ * без блокировок.
+ *
+ * @author Daria Krupenko
+ * @see FacultyRanking
+ *
+ */
+public class RankingSnapshot {
+
+	/**
+	 * Факультет
+	 */
+	private final Faculty faculty;
+
+	/**
+	 * Набор
+	 */
+	private final Enroll enroll;
+
+	/**
+	 * Словарь дисциплин (индекс - порядковый номер дисциплины)
+	 */
+	private final Discipline[] disciplines;
+
+	/**
+	 * id абитуриентов в порядке рейтинга
+	 */
+	private final int[] applicantIds;
+
+	/**
+	 * Общие баллы в порядке рейтинга
+	 */
+	private final int[] totalScores;
+
+	/**
+	 * Баллы аттестата в порядке рейтинга
+	 */
+	private final int[] certificateScores;
+
+	/**
+	 * Коды статусов в порядке рейтинга
+	 */
+	private final byte[] statusCodes;
+
+	/**
+	 * Имена абитуриентов в порядке рейтинга
+	 */
+	private final String[] names;
+
+	/**
+	 * Матрица баллов по дисциплинам (первый индекс - порядковый номер
+	 * дисциплины, второй - место в рейтинге)
+	 */
+	private final int[][] scores;
+
+	/**
+	 * id абитуриентов по возрастанию (для поиска места абитуриента)
+	 */
+	private final int[] sortedIds;
+
+	/**
+	 * Места абитуриентов в порядке <code>sortedIds</code>
+	 */
+	private final int[] positions;
+
+	/**
+	 * План набора факультета
+	 */
+	private final int plan;
+
+	/**
+	 * Индекс проходного места
+	 */
+	private final int admittedNumber;
+
+	/**
+	 * Создание снимка. Строки хранилища копируются в порядке рейтинга.
+	 * <p>
+	 * Если статусы временные (набор не завершен), статус абитуриента
+	 * определяется его местом в рейтинге, иначе - берется из хранилища.
+	 *
+	 * @param keys
+	 *            ключи рейтинга в порядке рейтинга
+	 * @param columns
+	 *            колоночное хранилище ведомости (должно содержать всех
+	 *            абитуриентов рейтинга)
+	 * @param faculty
+	 *            факультет (с актуальным планом набора)
+	 * @param temporary
+	 *            true - статусы временные
+	 * @throws IllegalArgumentException
+	 *             абитуриент рейтинга не содержится в хранилище
+	 */
+	public RankingSnapshot(RankKey[] keys, RegisterColumns columns, Faculty faculty, boolean temporary) {
+		int n = keys.length;
+		this.faculty = faculty;
+		enroll = columns.getEnroll();
+		disciplines = columns.getDisciplines();
+		plan = faculty.getPlan();
+		admittedNumber = Math.min(Math.max(plan, 0), n);
+		applicantIds = new int[n];
+		totalScores = new int[n];
+		certificateScores = new int[n];
+		statusCodes = new byte[n];
+		names = new String[n];
+		scores = new int[disciplines.length][n];
+		long[] idPositions = new long[n];
+		for (int i = 0; i < n; i++) {
+			int row = columns.rowOf(keys[i].getApplicantId());
+			if (row < 0) {
+				throw new IllegalArgumentException("Applicant " + keys[i].getApplicantId() + " is not in the register");
+			}
+			applicantIds[i] = keys[i].getApplicantId();
+			totalScores[i] = keys[i].getTotalScore();
+			certificateScores[i] = keys[i].getCertificateScore();
+			names[i] = columns.getName(row);
+			if (temporary) {
+				statusCodes[i] = i < admittedNumber ? RegisterColumns.TEMP_ADMITTED : RegisterColumns.TEMP_NOT_ADMITTED;
+			} else {
+				statusCodes[i] = columns.getStatusCode(row);
+			}
+			for (int d = 0; d < disciplines.length; d++) {
+				scores[d][i] = columns.getScore(d, row);
+			}
+			idPositions[i] = ((long) applicantIds[i] << Integer.SIZE) | i;
+		}
+		RadixSort.sort(idPositions);
+		sortedIds = new int[n];
+		positions = new int[n];
+		for (int i = 0; i < n; i++) {
+			sortedIds[i] = (int) (idPositions[i] >> Integer.SIZE);
+			positions[i] = (int) idPositions[i];
+		}
+	}
+
+	/**
+	 * Получение количества абитуриентов в снимке
+	 *
+	 * @return количество абитуриентов
+	 */
+	public int size() {
+		return applicantIds.length;
+	}
+
+	/**
+	 * Получение индекса проходного места
+	 *
+	 * @return количество абитуриентов, проходящих по плану набора
+	 */
+	public int getAdmittedNumber() {
+		return admittedNumber;
+	}
+
+	/**
+	 * Получение проходного балла. Проходной балл равен общему баллу последнего
+	 * зачисляемого абитуриента, если план набора заполнен, иначе - 0.
+	 *
+	 * @return проходной балл
+	 */
+	public int getPassRate() {
+		return plan > 0 && plan <= applicantIds.length ? totalScores[plan - 1] : 0;
+	}
+
+	/**
+	 * Получение количества абитуриентов с указанным статусом
+	 *
+	 * @param isAdmitted
+	 *            статус абитуриентов
+	 * @return количество абитуриентов
+	 */
+	public int getNumber(boolean isAdmitted) {
+		return isAdmitted ? admittedNumber : applicantIds.length - admittedNumber;
+	}
+
+	/**
+	 * Получение места абитуриента в рейтинге (начиная с 0)
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return место абитуриента; -1 - абитуриент не содержится в снимке
+	 */
+	public int getPosition(int applicantId) {
+		int index = Arrays.binarySearch(sortedIds, applicantId);
+		return index < 0 ? -1 : positions[index];
+	}
+
+	/**
+	 * Получение id абитуриента на указанном месте
+	 *
+	 * @param position
+	 *            место в рейтинге (начиная с 0)
+	 * @return id абитуриента
+	 */
+	public int getApplicantId(int position) {
+		return applicantIds[position];
+	}
+
+	/**
+	 * Получение общего балла абитуриента на указанном месте
+	 *
+	 * @param position
+	 *            место в рейтинге (начиная с 0)
+	 * @return общий балл
+	 */
+	public int getTotalScore(int position) {
+		return totalScores[position];
+	}
+
+	/**
+	 * Получение балла аттестата абитуриента на указанном месте
+	 *
+	 * @param position
+	 *            место в рейтинге (начиная с 0)
+	 * @return балл аттестата
+	 */
+	public int getCertificateScore(int position) {
+		return certificateScores[position];
+	}
+
+	/**
+	 * Построение записи ведомости абитуриента
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return запись ведомости; null - абитуриент не содержится в снимке
+	 */
+	public RegisterRecord getRecord(int applicantId) {
+		int position = getPosition(applicantId);
+		return position < 0 ? null : materialize(position);
+	}
+
+	/**
+	 * Получение страницы записей ведомости с указанным статусом
+	 *
+	 * @param isAdmitted
+	 *            статус абитуриентов
+	 * @param beginIndex
+	 *            индекс первой записи в рамках статуса
+	 * @param elementsCount
+	 *            количество записей
+	 * @return список записей в порядке рейтинга (записи строятся заново при
+	 *         каждом вызове)
+	 */
+	public List<RegisterRecord> page(boolean isAdmitted, int beginIndex, int elementsCount) {
+		int from = isAdmitted ? 0 : admittedNumber;
+		int to = isAdmitted ? admittedNumber : applicantIds.length;
+		int begin = (int) Math.min((long) from + Math.max(beginIndex, 0), to);
+		int end = (int) Math.min((long) begin + Math.max(elementsCount, 0), to);
+		List<RegisterRecord> list = new ArrayList<RegisterRecord>(end - begin);
+		for (int i = begin; i < end; i++) {
+			list.add(materialize(i));
+		}
+		return list;
+	}
+
+	/**
+	 * Построение записи ведомости по месту в рейтинге
+	 *
+	 * @param position
+	 *            место в рейтинге (начиная с 0)
+	 * @return запись ведомости
+	 */
+	private RegisterRecord materialize(int position) {
+		int[] rowScores = new int[disciplines.length];
+		for (int d = 0; d < disciplines.length; d++) {
+			rowScores[d] = scores[d][position];
+		}
+		return RegisterColumns.materialize(faculty, enroll, disciplines, applicantIds[position], names[position],
+				certificateScores[position], totalScores[position], statusCodes[position], rowScores);
+	}
+
+	@Override
+	public String toString() {
+		return "RankingSnapshot [size=" + applicantIds.length + ", admittedNumber=" + admittedNumber + "]";
+	}
+
+}
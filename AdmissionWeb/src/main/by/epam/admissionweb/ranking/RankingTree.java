@@ -0,0 +1,295 @@
+package main.by.epam.admissionweb.ranking;
+
+/**
+ * Класс <code>RankingTree</code> представляет собой дерево порядковых
+ * статистик ключей рейтинга.
+ * <p>
+ * Дерево является сбалансированным (AVL), каждый узел хранит размер своего
+ * поддерева. Поэтому вставка, удаление, получение ключа по месту в рейтинге и
+ * получение места ключа выполняются за O(log n).
+ * <p>
+ * Места в рейтинге нумеруются с нуля. Класс не является потокобезопасным.
+ *
+ * @author Daria Krupenko
+ * @see RankKey
+ *
+ */
+public class RankingTree {
+
+	/**
+	 * Корень дерева
+	 */
+	private Node root;
+
+	/**
+	 * Получение количества ключей в дереве
+	 *
+	 * @return количество ключей
+	 */
+	public int size() {
+		return size(root);
+	}
+
+	/**
+	 * Добавление ключа
+	 *
+	 * @param key
+	 *            ключ
+	 * @return true - ключ добавлен; false - ключ уже содержится в дереве
+	 */
+	public boolean insert(RankKey key) {
+		int oldSize = size(root);
+		root = insert(root, key);
+		return size(root) > oldSize;
+	}
+
+	/**
+	 * Удаление ключа
+	 *
+	 * @param key
+	 *            ключ
+	 * @return true - ключ удален; false - ключ не содержится в дереве
+	 */
+	public boolean remove(RankKey key) {
+		int oldSize = size(root);
+		root = remove(root, key);
+		return size(root) < oldSize;
+	}
+
+	/**
+	 * Проверка наличия ключа в дереве
+	 *
+	 * @param key
+	 *            ключ
+	 * @return true - ключ содержится в дереве
+	 */
+	public boolean contains(RankKey key) {
+		Node n = root;
+		while (n != null) {
+			int cmp = key.compareTo(n.key);
+			if (cmp == 0) {
+				return true;
+			}
+			n = cmp < 0 ? n.left : n.right;
+		}
+		return false;
+	}
+
+	/**
+	 * Получение ключа по месту в рейтинге
+	 *
+	 * @param index
+	 *            место в рейтинге (с нуля)
+	 * @return ключ; null - место вне диапазона
+	 */
+	public RankKey select(int index) {
+		if (index < 0 || index >= size(root)) {
+			return null;
+		}
+		Node n = root;
+		while (true) {
+			int leftSize = size(n.left);
+			if (index < leftSize) {
+				n = n.left;
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				n = n.right;
+			} else {
+				return n.key;
+			}
+		}
+	}
+
+	/**
+	 * Получение количества ключей, стоящих в рейтинге выше указанного ключа
+	 * (для ключа, содержащегося в дереве, - его место в рейтинге)
+	 *
+	 * @param key
+	 *            ключ
+	 * @return количество ключей, меньших указанного
+	 */
+	public int rank(RankKey key) {
+		int rank = 0;
+		Node n = root;
+		while (n != null) {
+			int cmp = key.compareTo(n.key);
+			if (cmp < 0) {
+				n = n.left;
+			} else if (cmp > 0) {
+				rank += size(n.left) + 1;
+				n = n.right;
+			} else {
+				return rank + size(n.left);
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Получение всех ключей в порядке рейтинга
+	 *
+	 * @return массив ключей (место в рейтинге равно индексу)
+	 */
+	public RankKey[] toArray() {
+		RankKey[] keys = new RankKey[size(root)];
+		fill(root, keys, 0);
+		return keys;
+	}
+
+	/**
+	 * Заполнение массива ключами поддерева при обходе в порядке рейтинга
+	 *
+	 * @param n
+	 *            корень поддерева
+	 * @param keys
+	 *            массив ключей
+	 * @param index
+	 *            индекс первого ключа поддерева в массиве
+	 * @return индекс, следующий за последним ключом поддерева
+	 */
+	private int fill(Node n, RankKey[] keys, int index) {
+		while (n != null) {
+			index = fill(n.left, keys, index);
+			keys[index++] = n.key;
+			n = n.right;
+		}
+		return index;
+	}
+
+	private Node insert(Node n, RankKey key) {
+		if (n == null) {
+			return new Node(key);
+		}
+		int cmp = key.compareTo(n.key);
+		if (cmp < 0) {
+			n.left = insert(n.left, key);
+		} else if (cmp > 0) {
+			n.right = insert(n.right, key);
+		} else {
+			return n;
+		}
+		return balance(n);
+	}
+
+	private Node remove(Node n, RankKey key) {
+		if (n == null) {
+			return null;
+		}
+		int cmp = key.compareTo(n.key);
+		if (cmp < 0) {
+			n.left = remove(n.left, key);
+		} else if (cmp > 0) {
+			n.right = remove(n.right, key);
+		} else {
+			if (n.left == null) {
+				return n.right;
+			}
+			if (n.right == null) {
+				return n.left;
+			}
+			Node min = n.right;
+			while (min.left != null) {
+				min = min.left;
+			}
+			n.key = min.key;
+			n.right = remove(n.right, min.key);
+		}
+		return balance(n);
+	}
+
+	/**
+	 * Восстановление баланса узла после изменения его поддеревьев
+	 *
+	 * @param n
+	 *            узел
+	 * @return новый корень поддерева
+	 */
+	private Node balance(Node n) {
+		update(n);
+		int factor = height(n.left) - height(n.right);
+		if (factor > 1) {
+			if (height(n.left.left) < height(n.left.right)) {
+				n.left = rotateLeft(n.left);
+			}
+			return rotateRight(n);
+		}
+		if (factor < -1) {
+			if (height(n.right.right) < height(n.right.left)) {
+				n.right = rotateRight(n.right);
+			}
+			return rotateLeft(n);
+		}
+		return n;
+	}
+
+	private Node rotateRight(Node n) {
+		Node l = n.left;
+		n.left = l.right;
+		l.right = n;
+		update(n);
+		update(l);
+		return l;
+	}
+
+	private Node rotateLeft(Node n) {
+		Node r = n.right;
+		n.right = r.left;
+		r.left = n;
+		update(n);
+		update(r);
+		return r;
+	}
+
+	private void update(Node n) {
+		n.height = Math.max(height(n.left), height(n.right)) + 1;
+		n.size = size(n.left) + size(n.right) + 1;
+	}
+
+	private static int height(Node n) {
+		return n == null ? 0 : n.height;
+	}
+
+	private static int size(Node n) {
+		return n == null ? 0 : n.size;
+	}
+
+	/**
+	 * Статический вложенный класс <code>Node</code> представляет собой узел
+	 * дерева.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Node {
+
+		/**
+		 * Ключ узла
+		 */
+		private RankKey key;
+
+		/**
+		 * Левое поддерево (ключи выше в рейтинге)
+		 */
+		private Node left;
+
+		/**
+		 * Правое поддерево (ключи ниже в рейтинге)
+		 */
+		private Node right;
+
+		/**
+		 * Высота поддерева
+		 */
+		private int height = 1;
+
+		/**
+		 * Количество ключей в поддереве
+		 */
+		private int size = 1;
+
+		Node(RankKey key) {
+			this.key = key;
+		}
+	}
+
+}
@@ -0,0 +1,332 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+
+/**
+ * Класс <code>RegisterCheckpoint</code> представляет собой контрольную точку
+ * ведомостей набора: двоичный файл с колоночными хранилищами ведомостей
+ * факультетов ({@link RegisterColumns}).
+ * <p>
+ * Файл состоит из заголовка (сигнатура, версия формата, id набора, время
+ * создания, количество факультетов) и разделов факультетов. Раздел содержит
+ * id факультета, отметку журнала событий ведомости (номер последнего события,
+ * отраженного в разделе), словарь дисциплин и колонки ведомости в том же
+ * порядке, в котором они хранятся в памяти: id абитуриентов, баллы
+ * аттестатов, общие баллы, коды статусов, имена и баллы по дисциплинам.
+ * <p>
+ * Раздел факультета формируется методом {@link #serialize(int, RegisterColumns, long)}
+ * под блокировкой факультета, файл записывается во временный файл и затем
+ * атомарно заменяет предыдущую контрольную точку. При чтении файл
+ * отображается в память только для чтения, и хранилище факультета строится
+ * напрямую из отображенного раздела ({@link #getColumns(int, Faculty, Enroll)}).
+ *
+ * @author Daria Krupenko
+ * @see RegisterColumns
+ *
+ */
+public final class RegisterCheckpoint {
+
+	/**
+	 * Сигнатура файла контрольной точки
+	 */
+	private static final int MAGIC = 0x52434B50;
+
+	/**
+	 * Версия формата контрольной точки
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Длина отсутствующей строки
+	 */
+	private static final int NULL_LENGTH = -1;
+
+	/**
+	 * Суффикс временного файла
+	 */
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/**
+	 * Id набора
+	 */
+	private final int enrollId;
+
+	/**
+	 * Время создания (в миллисекундах)
+	 */
+	private final long time;
+
+	/**
+	 * Отображенный файл
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Смещения разделов факультетов (ключ - id факультета)
+	 */
+	private final Map<Integer, Integer> offsets = new LinkedHashMap<Integer, Integer>();
+
+	/**
+	 * Отметки журнала разделов факультетов (ключ - id факультета)
+	 */
+	private final Map<Integer, Long> sequences = new LinkedHashMap<Integer, Long>();
+
+	private RegisterCheckpoint(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.remaining() < 24 || buffer.getInt() != MAGIC) {
+			throw new IOException("File is not a register checkpoint");
+		}
+		int version = buffer.getInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported register checkpoint version " + version);
+		}
+		enrollId = buffer.getInt();
+		time = buffer.getLong();
+		int facultiesNumber = buffer.getInt();
+		for (int i = 0; i < facultiesNumber; i++) {
+			int length = buffer.getInt();
+			int offset = buffer.position();
+			int facultyId = buffer.getInt();
+			offsets.put(facultyId, offset);
+			sequences.put(facultyId, buffer.getLong());
+			buffer.position(offset + length);
+		}
+	}
+
+	/**
+	 * Чтение контрольной точки. Файл отображается в память только для чтения.
+	 *
+	 * @param f
+	 *            файл контрольной точки
+	 * @return контрольная точка
+	 * @throws IOException
+	 *             файл не является контрольной точкой или произошла ошибка
+	 *             чтения
+	 */
+	public static RegisterCheckpoint read(File f) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(f, "r");
+		try {
+			FileChannel channel = file.getChannel();
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new RegisterCheckpoint(buffer);
+		} catch (RuntimeException ex) {
+			throw new IOException("Register checkpoint is damaged", ex);
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Формирование раздела факультета (вызывается под блокировкой факультета)
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param columns
+	 *            колоночное хранилище ведомости факультета
+	 * @param sequence
+	 *            номер последнего события журнала, отраженного в хранилище
+	 * @return раздел факультета
+	 */
+	public static byte[] serialize(int facultyId, RegisterColumns columns, long sequence) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + columns.size() * 64);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(facultyId);
+			out.writeLong(sequence);
+			int disciplinesNumber = columns.getDisciplinesNumber();
+			out.writeInt(disciplinesNumber);
+			for (int d = 0; d < disciplinesNumber; d++) {
+				out.writeInt(columns.getDiscipline(d).getId());
+				writeString(out, columns.getDiscipline(d).getTitle());
+			}
+			int n = columns.size();
+			out.writeInt(n);
+			for (int row = 0; row < n; row++) {
+				out.writeInt(columns.getApplicantId(row));
+			}
+			for (int row = 0; row < n; row++) {
+				out.writeInt(columns.getCertificateScore(row));
+			}
+			for (int row = 0; row < n; row++) {
+				out.writeInt(columns.getTotalScore(row));
+			}
+			for (int row = 0; row < n; row++) {
+				out.writeByte(columns.getStatusCode(row));
+			}
+			for (int row = 0; row < n; row++) {
+				writeString(out, columns.getName(row));
+			}
+			for (int d = 0; d < disciplinesNumber; d++) {
+				for (int row = 0; row < n; row++) {
+					out.writeInt(columns.getScore(d, row));
+				}
+			}
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Запись контрольной точки. Файл записывается во временный файл, который
+	 * сбрасывается на диск и атомарно заменяет предыдущую контрольную точку.
+	 *
+	 * @param f
+	 *            файл контрольной точки
+	 * @param enrollId
+	 *            id набора
+	 * @param sections
+	 *            разделы факультетов
+	 * @throws IOException
+	 *             произошла ошибка записи
+	 */
+	public static void write(File f, int enrollId, List<byte[]> sections) throws IOException {
+		File temp = new File(f.getPath() + TEMP_SUFFIX);
+		FileOutputStream stream = new FileOutputStream(temp);
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(enrollId);
+			out.writeLong(System.currentTimeMillis());
+			out.writeInt(sections.size());
+			for (byte[] section : sections) {
+				out.writeInt(section.length);
+				out.write(section);
+			}
+			out.flush();
+			stream.getFD().sync();
+		} finally {
+			stream.close();
+		}
+		Files.move(temp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public int getEnrollId() {
+		return enrollId;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Получение id факультетов, разделы которых содержатся в контрольной точке
+	 *
+	 * @return id факультетов
+	 */
+	public Set<Integer> getFacultyIds() {
+		return sequences.keySet();
+	}
+
+	/**
+	 * Получение отметки журнала раздела факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return номер последнего события журнала, отраженного в разделе; -1 -
+	 *         раздела нет
+	 */
+	public long getSequence(int facultyId) {
+		Long sequence = sequences.get(facultyId);
+		return sequence == null ? -1 : sequence;
+	}
+
+	/**
+	 * Построение колоночного хранилища ведомости факультета по разделу
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @return хранилище; null - раздела нет
+	 * @throws IOException
+	 *             раздел поврежден
+	 */
+	public RegisterColumns getColumns(int facultyId, Faculty f, Enroll e) throws IOException {
+		Integer offset = offsets.get(facultyId);
+		if (offset == null) {
+			return null;
+		}
+		try {
+			ByteBuffer section = buffer.duplicate();
+			section.position(offset + 12);
+			Discipline[] disciplines = new Discipline[section.getInt()];
+			for (int d = 0; d < disciplines.length; d++) {
+				disciplines[d] = new Discipline();
+				disciplines[d].setId(section.getInt());
+				disciplines[d].setTitle(readString(section));
+			}
+			int n = section.getInt();
+			int[] ids = new int[n];
+			section.asIntBuffer().get(ids);
+			section.position(section.position() + n * 4);
+			int[] certificates = new int[n];
+			section.asIntBuffer().get(certificates);
+			section.position(section.position() + n * 4);
+			int[] totals = new int[n];
+			section.asIntBuffer().get(totals);
+			section.position(section.position() + n * 4);
+			byte[] statuses = new byte[n];
+			section.get(statuses);
+			String[] names = new String[n];
+			for (int row = 0; row < n; row++) {
+				names[row] = readString(section);
+			}
+			int[][] scores = new int[disciplines.length][n];
+			for (int d = 0; d < disciplines.length; d++) {
+				section.asIntBuffer().get(scores[d]);
+				section.position(section.position() + n * 4);
+			}
+			RegisterColumns columns = new RegisterColumns(f, e);
+			columns.load(disciplines, ids, certificates, totals, statuses, names, scores);
+			return columns;
+		} catch (RuntimeException ex) {
+			throw new IOException("Register checkpoint section of faculty " + facultyId + " is damaged", ex);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		if (s == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,454 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+
+/**
+ * Класс <code>RegisterColumns</code> представляет собой колоночное хранилище
+ * ведомости факультета в рамках набора.
+ * <p>
+ * Вместо объектов {@link RegisterRecord} (со ссылками на абитуриента,
+ * факультет, набор и картой баллов) каждая запись хранится строкой в массивах
+ * примитивов: id абитуриента, балл аттестата, общий балл и код статуса.
+ * Баллы по дисциплинам хранятся в матрице, индексированной порядковым номером
+ * дисциплины в словаре хранилища, отсутствующий балл обозначается значением
+ * {@link #NO_SCORE}. Имена абитуриентов хранятся в отдельной колонке, так как
+ * отображаются в ведомости. Факультет и набор общие для всех строк.
+ * <p>
+ * Объект записи ведомости строится (материализуется) только для
+ * отображаемых строк методом {@link #materialize(int)}.
+ * <p>
+ * Методы класса не синхронизированы: хранилище изменяется под блокировкой
+ * факультета.
+ *
+ * @author Daria Krupenko
+ * @see RankingSnapshot
+ *
+ */
+public class RegisterColumns {
+
+	/**
+	 * Значение отсутствующего балла по дисциплине
+	 */
+	public static final int NO_SCORE = Integer.MIN_VALUE;
+
+	/**
+	 * Статусы абитуриентов (индекс - код статуса)
+	 */
+	private static final String[] STATUSES = { "TEMP_NOT_ADMITTED", "TEMP_ADMITTED", "NOT_ADMITTED", "ADMITTED" };
+
+	/**
+	 * Код временного статуса абитуриента, не проходящего по плану набора
+	 */
+	public static final byte TEMP_NOT_ADMITTED = 0;
+
+	/**
+	 * Код временного статуса абитуриента, проходящего по плану набора
+	 */
+	public static final byte TEMP_ADMITTED = 1;
+
+	/**
+	 * Код итогового статуса абитуриента, не зачисленного на факультет
+	 */
+	public static final byte NOT_ADMITTED = 2;
+
+	/**
+	 * Код итогового статуса абитуриента, зачисленного на факультет
+	 */
+	public static final byte ADMITTED = 3;
+
+	/**
+	 * Начальная емкость колонок
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Факультет
+	 */
+	private final Faculty faculty;
+
+	/**
+	 * Набор
+	 */
+	private final Enroll enroll;
+
+	/**
+	 * Словарь дисциплин (индекс - порядковый номер дисциплины)
+	 */
+	private Discipline[] disciplines = new Discipline[0];
+
+	/**
+	 * Порядковые номера дисциплин (ключ - id дисциплины)
+	 */
+	private final Map<Integer, Integer> ordinals = new HashMap<Integer, Integer>();
+
+	/**
+	 * Строки абитуриентов (ключ - id абитуриента)
+	 */
+	private final Map<Integer, Integer> rows = new HashMap<Integer, Integer>();
+
+	/**
+	 * Количество строк
+	 */
+	private int size;
+
+	private int[] applicantIds = new int[INITIAL_CAPACITY];
+
+	private int[] certificateScores = new int[INITIAL_CAPACITY];
+
+	private int[] totalScores = new int[INITIAL_CAPACITY];
+
+	private byte[] statusCodes = new byte[INITIAL_CAPACITY];
+
+	private String[] names = new String[INITIAL_CAPACITY];
+
+	/**
+	 * Матрица баллов по дисциплинам (первый индекс - порядковый номер
+	 * дисциплины, второй - строка)
+	 */
+	private int[][] scores = new int[0][];
+
+	/**
+	 * Создание пустого хранилища
+	 *
+	 * @param faculty
+	 *            факультет
+	 * @param enroll
+	 *            набор
+	 */
+	public RegisterColumns(Faculty faculty, Enroll enroll) {
+		this.faculty = faculty;
+		this.enroll = enroll;
+	}
+
+	/**
+	 * Добавление записи ведомости. Если абитуриент уже содержится в
+	 * хранилище, его строка заменяется.
+	 *
+	 * @param r
+	 *            запись ведомости
+	 */
+	public void put(RegisterRecord r) {
+		int applicantId = r.getApplicant().getId();
+		Integer row = rows.get(applicantId);
+		if (row == null) {
+			ensureCapacity(size + 1);
+			row = size++;
+			rows.put(applicantId, row);
+		}
+		applicantIds[row] = applicantId;
+		certificateScores[row] = r.getCertificateScore();
+		totalScores[row] = r.getTotalScore();
+		statusCodes[row] = toCode(r.getStatus());
+		names[row] = r.getApplicant().getName();
+		for (int[] column : scores) {
+			column[row] = NO_SCORE;
+		}
+		if (r.getScores() != null) {
+			for (Map.Entry<Discipline, Integer> score : r.getScores().entrySet()) {
+				int ordinal = ordinal(score.getKey());
+				scores[ordinal][row] = score.getValue();
+			}
+		}
+	}
+
+	/**
+	 * Удаление строки абитуриента (на ее место переносится последняя строка)
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return true - строка удалена
+	 */
+	public boolean remove(int applicantId) {
+		Integer row = rows.remove(applicantId);
+		if (row == null) {
+			return false;
+		}
+		int last = --size;
+		if (row != last) {
+			applicantIds[row] = applicantIds[last];
+			certificateScores[row] = certificateScores[last];
+			totalScores[row] = totalScores[last];
+			statusCodes[row] = statusCodes[last];
+			names[row] = names[last];
+			for (int[] column : scores) {
+				column[row] = column[last];
+			}
+			rows.put(applicantIds[row], row);
+		}
+		names[last] = null;
+		return true;
+	}
+
+	/**
+	 * Получение строки абитуриента
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return номер строки; -1 - абитуриент не содержится в хранилище
+	 */
+	public int rowOf(int applicantId) {
+		Integer row = rows.get(applicantId);
+		return row == null ? -1 : row;
+	}
+
+	/**
+	 * Получение количества строк
+	 *
+	 * @return количество строк
+	 */
+	public int size() {
+		return size;
+	}
+
+	public Faculty getFaculty() {
+		return faculty;
+	}
+
+	public Enroll getEnroll() {
+		return enroll;
+	}
+
+	public int getApplicantId(int row) {
+		return applicantIds[row];
+	}
+
+	public int getCertificateScore(int row) {
+		return certificateScores[row];
+	}
+
+	public int getTotalScore(int row) {
+		return totalScores[row];
+	}
+
+	public byte getStatusCode(int row) {
+		return statusCodes[row];
+	}
+
+	public String getName(int row) {
+		return names[row];
+	}
+
+	/**
+	 * Установка кода статуса абитуриента
+	 *
+	 * @param row
+	 *            номер строки
+	 * @param statusCode
+	 *            код статуса
+	 */
+	public void setStatusCode(int row, byte statusCode) {
+		statusCodes[row] = statusCode;
+	}
+
+	/**
+	 * Получение количества дисциплин в словаре хранилища
+	 *
+	 * @return количество дисциплин
+	 */
+	public int getDisciplinesNumber() {
+		return disciplines.length;
+	}
+
+	/**
+	 * Получение дисциплины по порядковому номеру
+	 *
+	 * @param ordinal
+	 *            порядковый номер дисциплины
+	 * @return дисциплина
+	 */
+	public Discipline getDiscipline(int ordinal) {
+		return disciplines[ordinal];
+	}
+
+	/**
+	 * Получение балла по дисциплине
+	 *
+	 * @param ordinal
+	 *            порядковый номер дисциплины
+	 * @param row
+	 *            номер строки
+	 * @return балл; {@link #NO_SCORE} - балл отсутствует
+	 */
+	public int getScore(int ordinal, int row) {
+		return scores[ordinal][row];
+	}
+
+	/**
+	 * Построение объекта записи ведомости по строке хранилища
+	 *
+	 * @param row
+	 *            номер строки
+	 * @return запись ведомости
+	 */
+	public RegisterRecord materialize(int row) {
+		int[] rowScores = new int[disciplines.length];
+		for (int i = 0; i < disciplines.length; i++) {
+			rowScores[i] = scores[i][row];
+		}
+		return materialize(faculty, enroll, disciplines, applicantIds[row], names[row], certificateScores[row],
+				totalScores[row], statusCodes[row], rowScores);
+	}
+
+	/**
+	 * Получение кода статуса
+	 *
+	 * @param status
+	 *            статус абитуриента
+	 * @return код статуса
+	 */
+	public static byte toCode(String status) {
+		for (byte i = 0; i < STATUSES.length; i++) {
+			if (STATUSES[i].equals(status)) {
+				return i;
+			}
+		}
+		return TEMP_NOT_ADMITTED;
+	}
+
+	/**
+	 * Построение объекта записи ведомости по значениям колонок
+	 *
+	 * @param faculty
+	 *            факультет
+	 * @param enroll
+	 *            набор
+	 * @param disciplines
+	 *            словарь дисциплин
+	 * @param applicantId
+	 *            id абитуриента
+	 * @param name
+	 *            имя абитуриента
+	 * @param certificateScore
+	 *            балл аттестата
+	 * @param totalScore
+	 *            общий балл
+	 * @param statusCode
+	 *            код статуса
+	 * @param rowScores
+	 *            баллы по дисциплинам в порядке словаря
+	 * @return запись ведомости
+	 */
+	static RegisterRecord materialize(Faculty faculty, Enroll enroll, Discipline[] disciplines, int applicantId,
+			String name, int certificateScore, int totalScore, byte statusCode, int[] rowScores) {
+		Applicant a = new Applicant();
+		a.setId(applicantId);
+		a.setName(name);
+		Map<Discipline, Integer> map = new TreeMap<Discipline, Integer>();
+		for (int i = 0; i < disciplines.length; i++) {
+			if (rowScores[i] != NO_SCORE) {
+				map.put(disciplines[i], rowScores[i]);
+			}
+		}
+		RegisterRecord r = new RegisterRecord();
+		r.setApplicant(a);
+		r.setFaculty(faculty);
+		r.setEnroll(enroll);
+		r.setCertificateScore(certificateScore);
+		r.setTotalScore(totalScore);
+		r.setStatus(STATUSES[statusCode]);
+		r.setScores(map);
+		return r;
+	}
+
+	/**
+	 * Заполнение пустого хранилища готовыми колонками (используется при
+	 * восстановлении хранилища из контрольной точки). Массивы не копируются.
+	 *
+	 * @param dictionary
+	 *            словарь дисциплин
+	 * @param ids
+	 *            колонка id абитуриентов
+	 * @param certificates
+	 *            колонка баллов аттестата
+	 * @param totals
+	 *            колонка общих баллов
+	 * @param statuses
+	 *            колонка кодов статусов
+	 * @param rowNames
+	 *            колонка имен абитуриентов
+	 * @param rowScores
+	 *            матрица баллов по дисциплинам (первый индекс - порядковый
+	 *            номер дисциплины в словаре)
+	 */
+	void load(Discipline[] dictionary, int[] ids, int[] certificates, int[] totals, byte[] statuses,
+			String[] rowNames, int[][] rowScores) {
+		disciplines = dictionary;
+		for (int i = 0; i < dictionary.length; i++) {
+			ordinals.put(dictionary[i].getId(), i);
+		}
+		size = ids.length;
+		applicantIds = ids;
+		certificateScores = certificates;
+		totalScores = totals;
+		statusCodes = statuses;
+		names = rowNames;
+		scores = rowScores;
+		for (int row = 0; row < size; row++) {
+			rows.put(ids[row], row);
+		}
+		ensureCapacity(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Получение копии словаря дисциплин
+	 *
+	 * @return словарь дисциплин
+	 */
+	Discipline[] getDisciplines() {
+		return disciplines.clone();
+	}
+
+	/**
+	 * Получение порядкового номера дисциплины (дисциплина добавляется в
+	 * словарь при первом обращении)
+	 *
+	 * @param d
+	 *            дисциплина
+	 * @return порядковый номер дисциплины
+	 */
+	private int ordinal(Discipline d) {
+		Integer ordinal = ordinals.get(d.getId());
+		if (ordinal == null) {
+			ordinal = disciplines.length;
+			ordinals.put(d.getId(), ordinal);
+			disciplines = Arrays.copyOf(disciplines, ordinal + 1);
+			disciplines[ordinal] = d;
+			scores = Arrays.copyOf(scores, ordinal + 1);
+			int[] column = new int[applicantIds.length];
+			Arrays.fill(column, NO_SCORE);
+			scores[ordinal] = column;
+		}
+		return ordinal;
+	}
+
+	/**
+	 * Увеличение емкости колонок
+	 *
+	 * @param capacity
+	 *            требуемая емкость
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity <= applicantIds.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, applicantIds.length * 2);
+		applicantIds = Arrays.copyOf(applicantIds, newCapacity);
+		certificateScores = Arrays.copyOf(certificateScores, newCapacity);
+		totalScores = Arrays.copyOf(totalScores, newCapacity);
+		statusCodes = Arrays.copyOf(statusCodes, newCapacity);
+		names = Arrays.copyOf(names, newCapacity);
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = Arrays.copyOf(scores[i], newCapacity);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package main.by.epam.admissionweb.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс <code>StatusDelta</code> представляет собой изменение статусов
+ * абитуриентов факультета после изменения рейтинга: списки абитуриентов,
+ * которые стали проходить по плану набора и перестали проходить по плану
+ * набора, а также новый проходной балл.
+ *
+ * @author Daria Krupenko
+ * @see FacultyRanking#sync(int)
+ *
+ */
+public class StatusDelta {
+
+	/**
+	 * id абитуриентов, которые стали проходить по плану набора
+	 */
+	private final List<Integer> admitted = new ArrayList<Integer>();
+
+	/**
+	 * id абитуриентов, которые перестали проходить по плану набора
+	 */
+	private final List<Integer> notAdmitted = new ArrayList<Integer>();
+
+	/**
+	 * Новый проходной балл
+	 */
+	private final int passRate;
+
+	/**
+	 * Изменился ли проходной балл
+	 */
+	private final boolean passRateChanged;
+
+	StatusDelta(int passRate, boolean passRateChanged) {
+		this.passRate = passRate;
+		this.passRateChanged = passRateChanged;
+	}
+
+	public List<Integer> getAdmitted() {
+		return admitted;
+	}
+
+	public List<Integer> getNotAdmitted() {
+		return notAdmitted;
+	}
+
+	public int getPassRate() {
+		return passRate;
+	}
+
+	public boolean isPassRateChanged() {
+		return passRateChanged;
+	}
+
+	/**
+	 * Проверка, изменились ли статусы или проходной балл
+	 *
+	 * @return true - изменение пусто
+	 */
+	public boolean isEmpty() {
+		return admitted.isEmpty() && notAdmitted.isEmpty() && !passRateChanged;
+	}
+
+	@Override
+	public String toString() {
+		return "StatusDelta [admitted=" + admitted + ", notAdmitted=" + notAdmitted + ", passRate=" + passRate
+				+ ", passRateChanged=" + passRateChanged + "]";
+	}
+
+}
@@ -1,8 +1,10 @@
 package main.by.epam.admissionweb.service;
 
+import java.io.Reader;
 import java.util.List;
 
 import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.ImportResult;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -26,6 +28,9 @@ public interface ApplicantService {
 
 	/**
 	 * Получение абитуриента по его id.
+	 * <p>
+	 * Возвращаемый объект может разделяться между потоками и не должен
+	 * изменяться вызывающим кодом.
 	 * 
 	 * @param id
 	 *            id абитуриента
@@ -72,6 +77,28 @@ public interface ApplicantService {
 	 */
 	public Applicant registrateApplicant(Applicant a) throws ServiceException;
 
+	/**
+	 * Проверка доступности логина для регистрации абитуриента
+	 * 
+	 * @param login
+	 *            логин абитуриента
+	 * @return true - логин не задействован ни одним абитуриентом
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public boolean isLoginAvailable(String login) throws ServiceException;
+
+	/**
+	 * Импорт абитуриентов и их записей на факультеты из файла в формате CSV
+	 * 
+	 * @param reader
+	 *            содержимое файла
+	 * @return итоги импорта
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public ImportResult importApplicants(Reader reader) throws ServiceException;
+
 	/**
 	 * Авторизация абитуриента с указанным логином и паролем
 	 * 
@@ -0,0 +1,141 @@
+package main.by.epam.admissionweb.service;
+
+import java.util.Map;
+
+/**
+ * Интерфейс <code>DataVersionService</code> предоставляет методы для ведения
+ * версий данных приложения: каталога факультетов (факультеты и дисциплины),
+ * набора, ведомости каждого факультета и данных абитуриентов.
+ * <p>
+ * Версии представляют собой монотонно возрастающие счетчики, которые
+ * увеличиваются сервис-объектами после каждого успешного изменения данных.
+ * Версии хранятся в памяти, поэтому их получение не требует обращения к
+ * источнику данных. На основе версий строятся валидаторы HTTP-ответов
+ * (<code>ETag</code>, <code>Last-Modified</code>), что позволяет отвечать на
+ * условные запросы без выполнения запросов к базе данных.
+ *
+ * @author Daria Krupenko
+ *
+ */
+public interface DataVersionService {
+
+	/**
+	 * Получение тега версии данных, отображаемых в списке факультетов
+	 * (каталог, набор, ведомости всех факультетов и кэшированная статистика
+	 * факультетов)
+	 *
+	 * @return тег версии данных списка факультетов
+	 */
+	public String getFacultiesListTag();
+
+	/**
+	 * Получение тега версии данных, отображаемых на странице факультета
+	 * (каталог, набор и ведомость указанного факультета)
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return тег версии данных факультета
+	 */
+	public String getFacultyTag(int facultyId);
+
+	/**
+	 * Получение времени последнего изменения данных списка факультетов
+	 *
+	 * @return время последнего изменения в миллисекундах
+	 */
+	public long getFacultiesListModified();
+
+	/**
+	 * Получение времени последнего изменения данных факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return время последнего изменения в миллисекундах
+	 */
+	public long getFacultyModified(int facultyId);
+
+	/**
+	 * Получение версии ведомости факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return версия ведомости факультета
+	 */
+	public long getRegisterVersion(int facultyId);
+
+	/**
+	 * Получение версий ведомостей всех факультетов на текущий момент
+	 *
+	 * @return версии ведомостей (ключ - id факультета); для факультетов,
+	 *         отсутствующих в таблице, версия равна 0
+	 */
+	public Map<Integer, Long> getRegisterVersions();
+
+	/**
+	 * Получение версии набора
+	 *
+	 * @return версия набора
+	 */
+	public long getEnrollVersion();
+
+	/**
+	 * Получение версии каталога факультетов
+	 *
+	 * @return версия каталога факультетов
+	 */
+	public long getCatalogVersion();
+
+	/**
+	 * Получение суммарной версии ведомостей всех факультетов
+	 *
+	 * @return суммарная версия ведомостей
+	 */
+	public long getRegistersVersion();
+
+	/**
+	 * Получение версии данных абитуриента (личные данные и запись в ведомости).
+	 * <p>
+	 * Версии абитуриентов хранятся в фиксированном количестве счетчиков,
+	 * поэтому изменение данных одного абитуриента может изменить версию
+	 * другого. Это приводит лишь к лишнему обращению к источнику данных.
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 * @return версия данных абитуриента
+	 */
+	public long getApplicantVersion(int applicantId);
+
+	/**
+	 * Отметка об изменении каталога факультетов (факультетов или дисциплин)
+	 */
+	public void catalogChanged();
+
+	/**
+	 * Отметка об изменении набора (открытие, завершение, удаление)
+	 */
+	public void enrollChanged();
+
+	/**
+	 * Отметка об изменении ведомости факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	public void registerChanged(int facultyId);
+
+	/**
+	 * Отметка об обновлении кэшированной статистики факультетов (проходных
+	 * баллов и количества абитуриентов), отображаемой в списке факультетов
+	 */
+	public void statisticsChanged();
+
+	/**
+	 * Отметка об изменении данных абитуриента (личных данных, записи в
+	 * ведомость или ее отмены)
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 */
+	public void applicantChanged(int applicantId);
+
+}
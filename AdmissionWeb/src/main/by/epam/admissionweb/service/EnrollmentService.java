@@ -3,6 +3,7 @@ package main.by.epam.admissionweb.service;
 import java.util.List;
 
 import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.FacultyEnrollResult;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -95,10 +96,19 @@ public interface EnrollmentService {
 	/**
 	 * Подвести итоги текущего набора
 	 * 
+	 * @return итоги набора по факультетам
 	 * @throws ServiceException
 	 *             при обработке данных произошла ошибка
 	 */
-	public void completeCurrentEnroll() throws ServiceException;
+	public List<FacultyEnrollResult> completeCurrentEnroll() throws ServiceException;
+
+	/**
+	 * Получение хода подведения итогов текущего набора
+	 * 
+	 * @return процент выполнения (от 0 до 100); -1 - подведение итогов не
+	 *         выполняется
+	 */
+	public int getCompletionProgress();
 
 	/**
 	 * Получение состояния текущего набора
@@ -77,11 +77,13 @@ public interface FacultyService {
 	 * 
 	 * @param a
 	 *            объект факультета с обновляемыми данными
+	 * @param loadedPlan
+	 *            план набора, загруженный вместе с версией объекта
 	 * @return объект факультета с обновленными данными
 	 * @throws ServiceException
 	 *             при обработке данных произошла ошибка
 	 */
-	public Faculty updateFaculty(Faculty f) throws ServiceException;
+	public Faculty updateFaculty(Faculty f, int loadedPlan) throws ServiceException;
 
 	/**
 	 * Удаление факультета
@@ -1,11 +1,14 @@
 package main.by.epam.admissionweb.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.ApplicantRank;
 import main.by.epam.admissionweb.entity.Enroll;
 import main.by.epam.admissionweb.entity.Faculty;
 import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.ranking.PlanScenario;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -102,6 +105,37 @@ public interface RegisterService {
 	public List<RegisterRecord> getRegisterByStatusAndFaculty(int requiredPage, int elementsCount, boolean isAdmitted,
 			Faculty f) throws ServiceException;
 
+	/**
+	 * Выгрузка ведомости абитуриентов в файл.
+	 * 
+	 * @param format
+	 *            формат файла: xlsx или csv
+	 * @param out
+	 *            поток, в который записывается файл
+	 * @return количество выгруженных записей
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public int exportRegister(String format, OutputStream out) throws ServiceException;
+
+	/**
+	 * Выгрузка ведомости абитуриентов в рамках статуса и факультета в файл.
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов
+	 * @param f
+	 *            факультет
+	 * @param format
+	 *            формат файла: xlsx или csv
+	 * @param out
+	 *            поток, в который записывается файл
+	 * @return количество выгруженных записей
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public int exportRegisterByStatusAndFaculty(boolean isAdmitted, Faculty f, String format, OutputStream out)
+			throws ServiceException;
+
 	/**
 	 * Запись абитуриента на факультет.
 	 * 
@@ -154,6 +188,34 @@ public interface RegisterService {
 	 */
 	public void recalculateRegister(Faculty f, Enroll e, int trCode) throws ServiceException;
 
+	/**
+	 * Симуляция вариантов плана набора факультета без изменения данных
+	 * 
+	 * @param f
+	 *            факультет
+	 * @param plans
+	 *            варианты плана набора
+	 * @return результаты симуляции в порядке вариантов; пустой список - не
+	 *         найдено ни одного набора
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public List<PlanScenario> simulatePlans(Faculty f, int[] plans) throws ServiceException;
+
+	/**
+	 * Получение места абитуриента в рейтинге факультета, на который он
+	 * записан: позиции в рейтинге, количества записанных абитуриентов и
+	 * разницы между общим баллом абитуриента и проходным баллом.
+	 * 
+	 * @param a
+	 *            абитуриент (с записью ведомости)
+	 * @return место абитуриента в рейтинге; null - абитуриент не записан на
+	 *         факультет
+	 * @throws ServiceException
+	 *             при обработке данных произошла ошибка
+	 */
+	public ApplicantRank getApplicantRank(Applicant a) throws ServiceException;
+
 	/**
 	 * Получение состояния о возможности записи на факультет.
 	 * 
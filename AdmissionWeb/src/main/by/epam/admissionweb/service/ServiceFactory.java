@@ -1,6 +1,7 @@
 package main.by.epam.admissionweb.service;
 
 import main.by.epam.admissionweb.service.impl.ApplicantServiceImpl;
+import main.by.epam.admissionweb.service.impl.DataVersionServiceImpl;
 import main.by.epam.admissionweb.service.impl.DisciplineServiceImpl;
 import main.by.epam.admissionweb.service.impl.EnrollmentServiceImpl;
 import main.by.epam.admissionweb.service.impl.FacultyServiceImpl;
@@ -69,6 +70,11 @@ public class ServiceFactory {
 	 */
 	private static final RegisterService REGISTER_SERVICE = new RegisterServiceImpl();
 
+	/**
+	 * Сервис-объект для ведения версий данных приложения
+	 */
+	private static final DataVersionService DATA_VERSION_SERVICE = new DataVersionServiceImpl();
+
 	/**
 	 * Конструктор для создания объекта фабрики. Может быть вызван только из
 	 * данного класса.
@@ -154,4 +160,15 @@ public class ServiceFactory {
 		return REGISTER_SERVICE;
 	}
 
+	/**
+	 * Получение сервис-объекта для ведения версий данных приложения
+	 * 
+	 * @return сервис-объект для ведения версий данных приложения
+	 * @see DataVersionService
+	 * @see DataVersionServiceImpl
+	 */
+	public DataVersionService getDataVersionService() {
+		return DATA_VERSION_SERVICE;
+	}
+
 }
@@ -0,0 +1,46 @@
+package main.by.epam.admissionweb.service.exception;
+
+/**
+ * Класс <code>ModifiedException</code> является подклассом класса
+ * {@link ServiceException}, который в свою очередь является подклассом класса
+ * <code>Exception</code>. Таким образом, <code>ModifiedException</code>
+ * является проверяемым исключением.
+ * <p>
+ * <code>ModifiedException</code> сигнализирует об ошибке в результате попытки
+ * обновить в источнике данных объект, который был изменен (или удален) другим
+ * пользователем после того, как обновляемая версия объекта была прочитана.
+ * 
+ * @author Daria Krupenko
+ * @see ServiceException
+ *
+ */
+public class ModifiedException extends ServiceException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Конструирует <code>ModifiedException</code>, причиной которого является
+	 * иное исключение, указанное параметром <code>ex</code>. Таким образом,
+	 * создаваемый объект является оберткой для иного исключения.
+	 * 
+	 * @param ex
+	 *            истинная причина исключения
+	 */
+	public ModifiedException(Throwable ex) {
+		super(ex);
+	}
+
+	/**
+	 * Конструирует <code>ModifiedException</code> с указанным сообщением об
+	 * ошибке <code>message</code>, причиной которой является иное исключение
+	 * <code>ex</code>.
+	 * 
+	 * @param message
+	 *            сообщение об ошибке
+	 * @param ex
+	 *            истинная причина исключения
+	 */
+	public ModifiedException(String message, Throwable ex) {
+		super(message, ex);
+	}
+}
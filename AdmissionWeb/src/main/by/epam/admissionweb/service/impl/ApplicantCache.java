@@ -0,0 +1,253 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.service.DataVersionService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+
+/**
+ * Класс <code>ApplicantCache</code> представляет собой ограниченный по размеру
+ * кэш абитуриентов вместе с их записями в ведомости.
+ * <p>
+ * Кэш хранит не более заданного количества абитуриентов; при переполнении
+ * вытесняется абитуриент, к которому дольше всего не обращались.
+ * <p>
+ * Актуальность значения определяется по версиям данных сервиса
+ * {@link DataVersionService}: значение действительно, пока не изменились
+ * версия абитуриента, версия каталога факультетов, версия набора и версия
+ * ведомости факультета, на который записан абитуриент. Версии фиксируются до
+ * обращения к источнику данных, поэтому значение в кэше никогда не бывает
+ * старее своих версий. Изменения ведомостей других факультетов на значение не
+ * влияют.
+ * <p>
+ * Значения кэша разделяются между потоками и не должны изменяться вызывающим
+ * кодом.
+ * <p>
+ * Размер кэша задается в файле свойств сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>ApplicantCache</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see DataVersionService
+ * @see ServiceParameter
+ *
+ */
+class ApplicantCache {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Размер кэша по умолчанию
+	 */
+	private static final int SIZE_DEFAULT = 10000;
+
+	/**
+	 * Объект класса <code>ApplicantCache</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final ApplicantCache INSTANCE = new ApplicantCache();
+
+	/**
+	 * Максимальное количество абитуриентов в кэше
+	 */
+	private final int maxSize;
+
+	/**
+	 * Кэшированные значения (ключ - id абитуриента) в порядке обращения к ним
+	 */
+	private final Map<Integer, Entry> entries;
+
+	private ApplicantCache() {
+		maxSize = ServiceResourceManager.getInstance().getIntValue(ServiceParameter.APPLICANT_CACHE_SIZE,
+				SIZE_DEFAULT);
+		entries = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Получение объекта класса <code>ApplicantCache</code>
+	 *
+	 * @return объект класса <code>ApplicantCache</code>
+	 */
+	static ApplicantCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Получение актуального значения из кэша
+	 *
+	 * @param id
+	 *            id абитуриента
+	 * @return абитуриент с записью в ведомости; null - значение отсутствует или
+	 *         устарело
+	 */
+	Applicant get(int id) {
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		synchronized (entries) {
+			Entry e = entries.get(id);
+			if (e == null) {
+				return null;
+			}
+			if (!e.isActual(vService)) {
+				entries.remove(id);
+				return null;
+			}
+			return e.applicant;
+		}
+	}
+
+	/**
+	 * Фиксация текущих версий данных абитуриента. Вызывается до обращения к
+	 * источнику данных.
+	 *
+	 * @param id
+	 *            id абитуриента
+	 * @return зафиксированные версии
+	 */
+	Versions capture(int id) {
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		return new Versions(vService.getApplicantVersion(id), vService.getCatalogVersion(),
+				vService.getEnrollVersion(), vService.getRegisterVersions());
+	}
+
+	/**
+	 * Сохранение абитуриента в кэше.
+	 * <p>
+	 * Факультет абитуриента становится известен только после чтения его
+	 * записи, поэтому версия ведомости факультета берется из версий всех
+	 * ведомостей, зафиксированных до чтения. Значение не сохраняется, только
+	 * если за время чтения изменились данные самого абитуриента (его счетчик
+	 * версий) или ведомость его факультета; изменения ведомостей других
+	 * факультетов не мешают кэшированию.
+	 *
+	 * @param a
+	 *            абитуриент с записью в ведомости
+	 * @param v
+	 *            версии, зафиксированные до чтения абитуриента
+	 */
+	void put(Applicant a, Versions v) {
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		int facultyId = 0;
+		RegisterRecord r = a.getRecord();
+		if (r != null && r.getFaculty() != null) {
+			facultyId = r.getFaculty().getId();
+		}
+		Long captured = v.registerVersions.get(facultyId);
+		long registerVersion = captured == null ? 0 : captured;
+		if (vService.getApplicantVersion(a.getId()) != v.applicantVersion
+				|| (facultyId != 0 && vService.getRegisterVersion(facultyId) != registerVersion)) {
+			LOGGER.debug("SERVICE : ApplicantCache.put (applicant changed while reading, applicant = {})", a.getId());
+			return;
+		}
+		Entry e = new Entry(a, v, facultyId, registerVersion);
+		synchronized (entries) {
+			entries.put(a.getId(), e);
+		}
+	}
+
+	/**
+	 * Статический вложенный класс <code>Versions</code> представляет собой
+	 * версии данных, зафиксированные до чтения абитуриента.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	static class Versions {
+
+		/**
+		 * Версия абитуриента
+		 */
+		private final long applicantVersion;
+
+		/**
+		 * Версия каталога факультетов
+		 */
+		private final long catalogVersion;
+
+		/**
+		 * Версия набора
+		 */
+		private final long enrollVersion;
+
+		/**
+		 * Версии ведомостей факультетов (ключ - id факультета)
+		 */
+		private final Map<Integer, Long> registerVersions;
+
+		Versions(long applicantVersion, long catalogVersion, long enrollVersion, Map<Integer, Long> registerVersions) {
+			this.applicantVersion = applicantVersion;
+			this.catalogVersion = catalogVersion;
+			this.enrollVersion = enrollVersion;
+			this.registerVersions = registerVersions;
+		}
+	}
+
+	/**
+	 * Статический вложенный класс <code>Entry</code> представляет собой
+	 * значение кэша вместе с версиями данных, по которым оно прочитано.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Entry {
+
+		/**
+		 * Абитуриент с записью в ведомости
+		 */
+		private final Applicant applicant;
+
+		/**
+		 * Версии, зафиксированные до чтения
+		 */
+		private final Versions versions;
+
+		/**
+		 * id факультета, на который записан абитуриент (0 - не записан)
+		 */
+		private final int facultyId;
+
+		/**
+		 * Версия ведомости факультета
+		 */
+		private final long registerVersion;
+
+		Entry(Applicant applicant, Versions versions, int facultyId, long registerVersion) {
+			this.applicant = applicant;
+			this.versions = versions;
+			this.facultyId = facultyId;
+			this.registerVersion = registerVersion;
+		}
+
+		/**
+		 * Проверка актуальности значения
+		 *
+		 * @param vService
+		 *            сервис версий данных
+		 * @return true - значение актуально
+		 */
+		boolean isActual(DataVersionService vService) {
+			return versions.applicantVersion == vService.getApplicantVersion(applicant.getId())
+					&& versions.catalogVersion == vService.getCatalogVersion()
+					&& versions.enrollVersion == vService.getEnrollVersion()
+					&& (facultyId == 0 || registerVersion == vService.getRegisterVersion(facultyId));
+		}
+	}
+
+}
@@ -0,0 +1,620 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.ApplicantDAO;
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.FacultyDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.DuplicateKeyException;
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.ImportResult;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>ApplicantImporter</code> выполняет импорт абитуриентов и их
+ * записей ведомости из файла в формате CSV.
+ * <p>
+ * Каждая строка файла описывает одного абитуриента; первая строка может быть
+ * заголовком (начинается с поля <code>login</code>). Поля строки:
+ * <code>login, password, name, email, phone, address, birthdate, school,
+ * grad_year, faculty_id, certificate_score, scores</code>. Дата рождения
+ * указывается в формате <code>yyyy-MM-dd</code>, баллы по дисциплинам - в
+ * формате <code>id_дисциплины:балл</code> через точку с запятой. Если id
+ * факультета не указан, абитуриент импортируется без записи на факультет;
+ * иначе абитуриент записывается на факультет в текущем наборе, и баллы должны
+ * быть указаны по всем дисциплинам факультета.
+ * <p>
+ * Файл читается потоково, пакетами строк заданного размера. Строки пакета
+ * разбираются и проходят валидацию ({@link ValidatorService}) параллельно в
+ * пуле <code>ForkJoinPool</code>. Прошедшие валидацию абитуриенты пакета
+ * сохраняются вместе с записями ведомости и баллами пакетными запросами в
+ * одной транзакции. Если пакет не удалось сохранить из-за повторяющегося
+ * логина, его абитуриенты сохраняются по одному, и строки с занятыми логинами
+ * отклоняются.
+ * <p>
+ * После сохранения пакета рейтинги затронутых факультетов сбрасываются
+ * ({@link RankingEngine}), а события записи абитуриентов записываются в журнал
+ * ведомости ({@link JournalManager}). Сохранение пакета, запись событий в
+ * журнал и сброс рейтингов выполняются под блокировками затронутых пакетом
+ * факультетов ({@link FacultyLockManager}), поэтому они не чередуются с
+ * регистрацией абитуриентов и пересчетом ведомости этих факультетов.
+ * Ведомость каждого затронутого факультета пересчитывается один раз после
+ * импорта всего файла; ошибки пересчета записываются в лог и не заменяют
+ * ошибку импорта.
+ * <p>
+ * Импорт не выполняется во время подведения итогов набора
+ * ({@link EnrollCompletionEngine}): если подведение итогов выполняется при
+ * запуске импорта или было начато во время импорта, следующий пакет не
+ * сохраняется, и импорт завершается ошибкой, а ведомость затронутых
+ * факультетов не пересчитывается (итоговые статусы определяет подведение
+ * итогов).
+ * <p>
+ * Размер пакета и степень параллелизма задаются в файле свойств
+ * сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>ApplicantImporter</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see ApplicantServiceImpl
+ * @see CsvReader
+ * @see ServiceParameter
+ *
+ */
+class ApplicantImporter {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Размер пакета по умолчанию
+	 */
+	private static final int BATCH_SIZE_DEFAULT = 500;
+
+	/**
+	 * Максимальное количество номеров отклоненных строк в итогах импорта
+	 */
+	private static final int REJECTED_LINES_MAX = 100;
+
+	/**
+	 * Статус записи ведомости по умолчанию
+	 */
+	private static final String DEFAULT_STATUS = "TEMP_NOT_ADMITTED";
+
+	/**
+	 * Формат даты рождения
+	 */
+	private static final String DATE_PATTERN = "yyyy-MM-dd";
+
+	/**
+	 * Имя первого поля строки заголовка
+	 */
+	private static final String HEADER = "login";
+
+	/**
+	 * Разделитель баллов по дисциплинам
+	 */
+	private static final String SCORES_SEPARATOR = ";";
+
+	/**
+	 * Разделитель id дисциплины и балла
+	 */
+	private static final String SCORE_SEPARATOR = ":";
+
+	/**
+	 * Количество полей строки
+	 */
+	private static final int COLUMNS_NUMBER = 12;
+
+	/**
+	 * Количество строк, разбираемых одной задачей пула
+	 */
+	private static final int VALIDATION_THRESHOLD = 64;
+
+	/**
+	 * Объект класса <code>ApplicantImporter</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final ApplicantImporter INSTANCE = new ApplicantImporter();
+
+	/**
+	 * Пул потоков разбора и валидации строк
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Размер пакета
+	 */
+	private final int batchSize;
+
+	private ApplicantImporter() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		int parallelism = manager.getIntValue(ServiceParameter.IMPORT_PARALLELISM,
+				Runtime.getRuntime().availableProcessors());
+		pool = new ForkJoinPool(Math.max(1, parallelism));
+		batchSize = Math.max(1, manager.getIntValue(ServiceParameter.IMPORT_BATCH_SIZE, BATCH_SIZE_DEFAULT));
+	}
+
+	/**
+	 * Получение объекта класса <code>ApplicantImporter</code>
+	 *
+	 * @return объект класса <code>ApplicantImporter</code>
+	 */
+	static ApplicantImporter getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Импорт абитуриентов из файла. Пакеты, сохраненные до ошибки чтения или
+	 * записи, остаются сохраненными, и ведомость их факультетов
+	 * пересчитывается.
+	 *
+	 * @param reader
+	 *            содержимое файла
+	 * @return итоги импорта
+	 * @throws ServiceException
+	 *             выполняется подведение итогов набора; при чтении файла,
+	 *             чтении/записи информации или пересчете ведомости произошла
+	 *             ошибка
+	 */
+	ImportResult importApplicants(Reader reader) throws ServiceException {
+		long start = System.currentTimeMillis();
+		EnrollCompletionEngine completion = EnrollCompletionEngine.getInstance();
+		int completionNumber = completion.getStartedNumber();
+		if (completion.isRunning()) {
+			throw new ServiceException("SERVICE : Unable to import applicants while enroll completion is running",
+					null);
+		}
+		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getCurrentEnroll();
+		Map<Integer, Faculty> faculties = readFaculties(e);
+		Map<Integer, Faculty> affected = new LinkedHashMap<Integer, Faculty>();
+		ImportResult result = new ImportResult();
+		CsvReader csv = new CsvReader(reader);
+		ServiceException failure = null;
+		try {
+			List<Row> batch = new ArrayList<Row>(batchSize);
+			String[] fields = null;
+			while ((fields = csv.readRecord()) != null) {
+				if (csv.getRecordLineNumber() == 1 && HEADER.equalsIgnoreCase(fields[0].trim())) {
+					continue;
+				}
+				batch.add(new Row(csv.getRecordLineNumber(), fields));
+				if (batch.size() == batchSize) {
+					process(batch, e, faculties, affected, result, completionNumber);
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				process(batch, e, faculties, affected, result, completionNumber);
+			}
+		} catch (IOException ex) {
+			failure = new ServiceException("SERVICE : Unable to read applicants file", ex);
+		} catch (ServiceException ex) {
+			failure = ex;
+		}
+		ServiceException recalculationFailure = recalculate(affected, e, completionNumber);
+		if (failure != null) {
+			throw failure;
+		}
+		if (recalculationFailure != null) {
+			throw recalculationFailure;
+		}
+		LOGGER.info("SERVICE : Applicants imported in {} ms ({})", System.currentTimeMillis() - start, result);
+		return result;
+	}
+
+	/**
+	 * Пересчет ведомости факультетов, на которые записаны импортированные
+	 * абитуриенты. Ошибка пересчета ведомости одного факультета записывается
+	 * в лог и не прерывает пересчет остальных. Если во время импорта было
+	 * начато подведение итогов набора, ведомость не пересчитывается.
+	 *
+	 * @param affected
+	 *            факультеты, на которые записаны импортированные абитуриенты
+	 * @param e
+	 *            текущий набор
+	 * @param completionNumber
+	 *            количество подведений итогов, начатых до запуска импорта
+	 * @return первая ошибка пересчета; null - ведомость всех факультетов
+	 *         пересчитана
+	 */
+	private ServiceException recalculate(Map<Integer, Faculty> affected, Enroll e, int completionNumber) {
+		ServiceException failure = null;
+		for (Faculty f : affected.values()) {
+			Lock lock = FacultyLockManager.getInstance().getLock(f.getId());
+			lock.lock();
+			try {
+				if (EnrollCompletionEngine.getInstance().getStartedNumber() != completionNumber) {
+					LOGGER.error("SERVICE : Register of faculty {} was not recalculated after import"
+							+ " (enroll completion was started)", f.getId());
+					continue;
+				}
+				ServiceFactory.getInstance().getRegisterService().recalculateRegister(f, e,
+						ServiceHelper.NO_TRANSACTION);
+			} catch (ServiceException ex) {
+				LOGGER.error("SERVICE : Unable to recalculate register of faculty " + f.getId() + " after import",
+						ex);
+				if (failure == null) {
+					failure = ex;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return failure;
+	}
+
+	/**
+	 * Чтение факультетов текущего набора
+	 *
+	 * @param e
+	 *            текущий набор
+	 * @return факультеты (ключ - id факультета); пустая карта - набор не
+	 *         открыт
+	 * @throws ServiceException
+	 *             при чтении информации произошла ошибка
+	 */
+	private Map<Integer, Faculty> readFaculties(Enroll e) throws ServiceException {
+		Map<Integer, Faculty> faculties = new HashMap<Integer, Faculty>();
+		if (e == null) {
+			return faculties;
+		}
+		try {
+			FacultyDAO dao = DAOFactory.getInstance().getFacultyDAO();
+			int number = dao.getFacultiesNumber(ServiceHelper.NO_TRANSACTION);
+			for (Faculty f : dao.getFacultiesList(0, number, e, ServiceHelper.NO_TRANSACTION)) {
+				faculties.put(f.getId(), f);
+			}
+			return faculties;
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to read faculties to import applicants", ex);
+		}
+	}
+
+	/**
+	 * Разбор, валидация и сохранение пакета строк
+	 *
+	 * @param batch
+	 *            пакет строк
+	 * @param e
+	 *            текущий набор
+	 * @param faculties
+	 *            факультеты текущего набора
+	 * @param affected
+	 *            факультеты, на которые записаны импортированные абитуриенты
+	 * @param result
+	 *            итоги импорта
+	 * @param completionNumber
+	 *            количество подведений итогов, начатых до запуска импорта
+	 * @throws ServiceException
+	 *             было начато подведение итогов набора; при записи информации
+	 *             произошла ошибка
+	 */
+	private void process(List<Row> batch, Enroll e, Map<Integer, Faculty> faculties,
+			Map<Integer, Faculty> affected, ImportResult result, int completionNumber) throws ServiceException {
+		Row[] rows = batch.toArray(new Row[batch.size()]);
+		pool.invoke(new ValidationTask(rows, 0, rows.length, e, faculties));
+		List<Row> valid = new ArrayList<Row>(rows.length);
+		Set<Integer> facultyIds = new LinkedHashSet<Integer>();
+		for (Row row : rows) {
+			if (row.applicant != null) {
+				valid.add(row);
+				if (row.applicant.getRecord() != null) {
+					facultyIds.add(row.applicant.getRecord().getFaculty().getId());
+				}
+			}
+		}
+		FacultyLockManager lockManager = FacultyLockManager.getInstance();
+		List<Lock> locks = lockManager.lockAll(facultyIds);
+		try {
+			if (EnrollCompletionEngine.getInstance().getStartedNumber() != completionNumber) {
+				throw new ServiceException("SERVICE : Unable to import applicants (enroll completion was started)",
+						null);
+			}
+			saveBatch(valid, rows, affected, result);
+		} finally {
+			lockManager.unlockAll(locks);
+		}
+		LOGGER.debug("SERVICE : ApplicantImporter.process (rows = {}, result = {})", rows.length, result);
+	}
+
+	/**
+	 * Сохранение прошедших валидацию строк пакета, запись событий записи
+	 * абитуриентов в журнал ведомости и сброс рейтингов затронутых
+	 * факультетов. Выполняется под блокировками затронутых пакетом
+	 * факультетов.
+	 *
+	 * @param valid
+	 *            строки пакета, прошедшие валидацию
+	 * @param rows
+	 *            все строки пакета
+	 * @param affected
+	 *            факультеты, на которые записаны импортированные абитуриенты
+	 * @param result
+	 *            итоги импорта
+	 * @throws ServiceException
+	 *             при записи информации произошла ошибка
+	 */
+	private void saveBatch(List<Row> valid, Row[] rows, Map<Integer, Faculty> affected, ImportResult result)
+			throws ServiceException {
+		if (!valid.isEmpty()) {
+			try {
+				save(valid);
+			} catch (DuplicateKeyException ex) {
+				LOGGER.debug("SERVICE : ApplicantImporter.saveBatch (batch of {} failed, retrying one by one)",
+						valid.size());
+				for (Row row : valid) {
+					try {
+						save(Collections.singletonList(row));
+					} catch (DuplicateKeyException ex1) {
+						LoginFilterManager.getInstance().add(row.applicant.getLogin());
+						row.applicant = null;
+					} catch (DAOException ex1) {
+						throw new ServiceException("SERVICE : Unable to import applicants", ex1);
+					}
+				}
+			} catch (DAOException ex) {
+				throw new ServiceException("SERVICE : Unable to import applicants", ex);
+			}
+		}
+		Map<Integer, List<JournalEvent>> events = new LinkedHashMap<Integer, List<JournalEvent>>();
+		for (Row row : rows) {
+			if (row.applicant == null) {
+				result.setRejectedNumber(result.getRejectedNumber() + 1);
+				if (result.getRejectedLines().size() < REJECTED_LINES_MAX) {
+					result.getRejectedLines().add(row.lineNumber);
+				}
+				continue;
+			}
+			result.setApplicantsNumber(result.getApplicantsNumber() + 1);
+			LoginFilterManager.getInstance().add(row.applicant.getLogin());
+			RegisterRecord r = row.applicant.getRecord();
+			if (r != null) {
+				result.setRecordsNumber(result.getRecordsNumber() + 1);
+				int facultyId = r.getFaculty().getId();
+				affected.put(facultyId, r.getFaculty());
+				List<JournalEvent> list = events.get(facultyId);
+				if (list == null) {
+					list = new ArrayList<JournalEvent>();
+					events.put(facultyId, list);
+				}
+				list.add(JournalEvent.registered(facultyId, r.getEnroll().getId(), row.applicant.getId(),
+						r.getTotalScore(), r.getCertificateScore()));
+			}
+		}
+		for (Map.Entry<Integer, List<JournalEvent>> entry : events.entrySet()) {
+			RankingEngine.getInstance().invalidate(entry.getKey());
+			JournalManager.getInstance().commit(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Сохранение абитуриентов строк вместе с их записями ведомости в одной
+	 * транзакции
+	 *
+	 * @param rows
+	 *            строки, прошедшие валидацию
+	 * @throws DAOException
+	 *             при записи информации произошла ошибка (транзакция
+	 *             отменена)
+	 */
+	private void save(List<Row> rows) throws DAOException {
+		ApplicantDAO dao = DAOFactory.getInstance().getApplicantDAO();
+		List<Applicant> applicants = new ArrayList<Applicant>(rows.size());
+		for (Row row : rows) {
+			applicants.add(row.applicant);
+		}
+		dao.createApplicants(applicants, ServiceHelper.NO_TRANSACTION);
+	}
+
+	/**
+	 * Статический вложенный класс <code>Row</code> представляет собой строку
+	 * файла и абитуриента, построенного по ней.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Row {
+
+		/**
+		 * Номер строки в файле
+		 */
+		private final int lineNumber;
+
+		/**
+		 * Поля строки
+		 */
+		private final String[] fields;
+
+		/**
+		 * Абитуриент (null - строка отклонена)
+		 */
+		private Applicant applicant;
+
+		Row(int lineNumber, String[] fields) {
+			this.lineNumber = lineNumber;
+			this.fields = fields;
+		}
+
+		/**
+		 * Разбор и валидация строки
+		 *
+		 * @param e
+		 *            текущий набор
+		 * @param faculties
+		 *            факультеты текущего набора
+		 */
+		void parse(Enroll e, Map<Integer, Faculty> faculties) {
+			if (fields.length != COLUMNS_NUMBER) {
+				return;
+			}
+			try {
+				Applicant a = new Applicant();
+				a.setLogin(fields[0].trim());
+				a.setPassword(fields[1]);
+				a.setName(fields[2].trim());
+				a.setEmail(fields[3].trim());
+				a.setPhone(fields[4].trim());
+				a.setAddress(fields[5].trim());
+				SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+				format.setLenient(false);
+				a.setBirthdate(format.parse(fields[6].trim()));
+				a.setSchool(fields[7].trim());
+				a.setGradYear(Integer.parseInt(fields[8].trim()));
+				ValidatorService validator = ValidatorService.getInstance();
+				if (!validator.validateApplicant(a)) {
+					return;
+				}
+				if (!fields[9].trim().isEmpty()) {
+					RegisterRecord r = parseRecord(a, e, faculties);
+					if (r == null || !validator.validateRecord(r)) {
+						return;
+					}
+					a.setRecord(r);
+				}
+				applicant = a;
+			} catch (ParseException | NumberFormatException ex) {
+				LOGGER.debug("SERVICE : ApplicantImporter (line {} : {})", lineNumber, ex.getMessage());
+			}
+		}
+
+		/**
+		 * Разбор записи ведомости строки
+		 *
+		 * @param a
+		 *            абитуриент
+		 * @param e
+		 *            текущий набор
+		 * @param faculties
+		 *            факультеты текущего набора
+		 * @return запись ведомости; null - факультет не найден или баллы
+		 *         указаны не по дисциплинам факультета
+		 */
+		private RegisterRecord parseRecord(Applicant a, Enroll e, Map<Integer, Faculty> faculties) {
+			Faculty f = faculties.get(Integer.parseInt(fields[9].trim()));
+			if (f == null) {
+				return null;
+			}
+			Map<Integer, Discipline> disciplines = new HashMap<Integer, Discipline>();
+			for (Discipline d : f.getDisciplines()) {
+				disciplines.put(d.getId(), d);
+			}
+			Map<Discipline, Integer> scores = new HashMap<Discipline, Integer>();
+			int totalScore = Integer.parseInt(fields[10].trim());
+			for (String score : fields[11].split(SCORES_SEPARATOR)) {
+				if (score.trim().isEmpty()) {
+					continue;
+				}
+				String[] pair = score.split(SCORE_SEPARATOR);
+				if (pair.length != 2) {
+					return null;
+				}
+				Discipline d = disciplines.get(Integer.parseInt(pair[0].trim()));
+				if (d == null || scores.containsKey(d)) {
+					return null;
+				}
+				int value = Integer.parseInt(pair[1].trim());
+				scores.put(d, value);
+				totalScore += value;
+			}
+			if (scores.size() != disciplines.size()) {
+				return null;
+			}
+			RegisterRecord r = new RegisterRecord();
+			r.setApplicant(a);
+			r.setFaculty(f);
+			r.setEnroll(e);
+			r.setScores(scores);
+			r.setCertificateScore(Integer.parseInt(fields[10].trim()));
+			r.setTotalScore(totalScore);
+			r.setStatus(DEFAULT_STATUS);
+			return r;
+		}
+	}
+
+	/**
+	 * Класс <code>ValidationTask</code> представляет собой задачу разбора и
+	 * валидации диапазона строк пакета. Диапазон делится пополам, пока в нем
+	 * больше заданного количества строк.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class ValidationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Строки пакета
+		 */
+		private final Row[] rows;
+
+		/**
+		 * Начало диапазона (включительно)
+		 */
+		private final int from;
+
+		/**
+		 * Конец диапазона (не включительно)
+		 */
+		private final int to;
+
+		/**
+		 * Текущий набор
+		 */
+		private final Enroll enroll;
+
+		/**
+		 * Факультеты текущего набора
+		 */
+		private final Map<Integer, Faculty> faculties;
+
+		ValidationTask(Row[] rows, int from, int to, Enroll enroll, Map<Integer, Faculty> faculties) {
+			this.rows = rows;
+			this.from = from;
+			this.to = to;
+			this.enroll = enroll;
+			this.faculties = faculties;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= VALIDATION_THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					rows[i].parse(enroll, faculties);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ValidationTask(rows, from, middle, enroll, faculties),
+					new ValidationTask(rows, middle, to, enroll, faculties));
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package main.by.epam.admissionweb.service.impl;
 
+import java.io.Reader;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
@@ -8,9 +9,12 @@ import org.apache.logging.log4j.Logger;
 import main.by.epam.admissionweb.dao.ApplicantDAO;
 import main.by.epam.admissionweb.dao.DAOFactory;
 import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.DuplicateKeyException;
 import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.ImportResult;
 import main.by.epam.admissionweb.entity.RegisterRecord;
 import main.by.epam.admissionweb.service.ApplicantService;
+import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.AlreadyExistsException;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
@@ -42,7 +46,10 @@ public class ApplicantServiceImpl implements ApplicantService {
 	 * обращаясь к объекту {@link ValidatorService}.
 	 * <p>
 	 * Метод также запрещает регистрацию абитуриента, если указанный логин уже
-	 * задействован другим абитуриентом.
+	 * задействован другим абитуриентом. Логин заранее не проверяется:
+	 * абитуриент сохраняется одним запросом, а повторяющийся логин отклоняется
+	 * уникальным ключом источника данных, в том числе при одновременной
+	 * регистрации абитуриентов с одинаковым логином.
 	 * 
 	 * @param a
 	 *            объект абитуриента
@@ -66,26 +73,88 @@ public class ApplicantServiceImpl implements ApplicantService {
 			try {
 				DAOFactory factory = DAOFactory.getInstance();
 				ApplicantDAO dao = factory.getApplicantDAO();
-				Applicant aDb = dao.getApplicantByLogin(a.getLogin(), ServiceHelper.NO_TRANSACTION);
-				if (aDb != null) {
-					throw new AlreadyExistsException("Duplicate applicant", null);
-				}
 				int id = dao.createApplicant(a, ServiceHelper.NO_TRANSACTION);
 				a.setId(id);
+				LoginFilterManager.getInstance().add(a.getLogin());
 				LOGGER.debug("SERVICE : ApplicantServiceImpl.registrateApplicant (a = {})", a);
 				REGISTRATION_LOGGER.info(a);
 				return a;
+			} catch (DuplicateKeyException ex) {
+				LoginFilterManager.getInstance().add(a.getLogin());
+				throw new AlreadyExistsException("SERVICE : Duplicate applicant", ex);
 			} catch (DAOException ex) {
 				throw new ServiceException("SERVICE : Unable to registrate applicant", ex);
 			}
 		}
 	}
 
+	/**
+	 * Проверка доступности логина для регистрации абитуриента.
+	 * <p>
+	 * Логин сначала проверяется фильтром логинов {@link LoginFilterManager}:
+	 * если фильтр гарантирует, что логин не задействован, ответ дается без
+	 * обращения к источнику данных. Иначе наличие логина проверяется в
+	 * источнике данных по уникальному индексу логина.
+	 * 
+	 * @param login
+	 *            логин абитуриента
+	 * @return true - логин не задействован ни одним абитуриентом; false - логин
+	 *         задействован или не указан
+	 * @throws ServiceException
+	 *             при попытке чтения информации из источника произошла ошибка
+	 * @see ApplicantDAO
+	 * @see LoginFilterManager
+	 */
+	@Override
+	public boolean isLoginAvailable(String login) throws ServiceException {
+		LOGGER.debug("SERVICE : ApplicantServiceImpl.isLoginAvailable()");
+		if (login == null || login.isEmpty()) {
+			return false;
+		}
+		if (!LoginFilterManager.getInstance().mightBeRegistered(login)) {
+			LOGGER.debug("SERVICE : ApplicantServiceImpl.isLoginAvailable (filter negative)");
+			return true;
+		}
+		try {
+			ApplicantDAO dao = DAOFactory.getInstance().getApplicantDAO();
+			return !dao.isLoginRegistered(login, ServiceHelper.NO_TRANSACTION);
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to check applicant login", ex);
+		}
+	}
+
+	/**
+	 * Импорт абитуриентов и их записей на факультеты из файла в формате CSV.
+	 * <p>
+	 * Файл читается и сохраняется пакетами строк ({@link ApplicantImporter}):
+	 * строки пакета проходят валидацию параллельно, абитуриенты пакета
+	 * сохраняются вместе с записями ведомости в одной транзакции, а ведомость
+	 * каждого затронутого факультета пересчитывается один раз в конце импорта.
+	 * Строки, не прошедшие валидацию, и строки с занятыми логинами
+	 * отклоняются.
+	 * 
+	 * @param reader
+	 *            содержимое файла
+	 * @return итоги импорта
+	 * @throws ServiceException
+	 *             при чтении файла или чтении/записи информации произошла
+	 *             ошибка
+	 * @see ApplicantImporter
+	 */
+	@Override
+	public ImportResult importApplicants(Reader reader) throws ServiceException {
+		LOGGER.debug("SERVICE : ApplicantServiceImpl.importApplicants()");
+		ImportResult result = ApplicantImporter.getInstance().importApplicants(reader);
+		LOGGER.debug("SERVICE : ApplicantServiceImpl.importApplicants (result = {})", result);
+		return result;
+	}
+
 	/**
 	 * Авторизация абитуриента с указанным логином и паролем.
 	 * <p>
 	 * Если абитуриент успешно авторизован, из источника данных извлекается
-	 * запись ведомости, ассоциированная с данным абитуриентом.
+	 * запись ведомости, ассоциированная с данным абитуриентом, и абитуриент
+	 * сохраняется в кэше абитуриентов.
 	 * 
 	 * @param login
 	 *            логин абитуриента
@@ -107,8 +176,11 @@ public class ApplicantServiceImpl implements ApplicantService {
 			ApplicantDAO dao = factory.getApplicantDAO();
 			Applicant a = dao.getApplicantByLoginPassword(login, password, ServiceHelper.NO_TRANSACTION);
 			if (a != null) {
-				RegisterRecord r = factory.getRegisterDAO().getRecord(a, ServiceHelper.NO_TRANSACTION);
+				ApplicantCache cache = ApplicantCache.getInstance();
+				ApplicantCache.Versions v = cache.capture(a.getId());
+				RegisterRecord r = ServiceFactory.getInstance().getRegisterService().getRecord(a);
 				a.setRecord(r);
+				cache.put(a, v);
 			}
 			LOGGER.debug("SERVICE : ApplicantServiceImpl.loginApplicant (a = {})", a);
 			return a;
@@ -152,6 +224,9 @@ public class ApplicantServiceImpl implements ApplicantService {
 					throw new AlreadyExistsException("SERVICE : Duplicate applicant", null);
 				}
 				dao.updateApplicant(a, ServiceHelper.NO_TRANSACTION);
+				LoginFilterManager.getInstance().add(a.getLogin());
+				RankingEngine.getInstance().applicantChanged(a.getId());
+				ServiceFactory.getInstance().getDataVersionService().applicantChanged(a.getId());
 				LOGGER.debug("SERVICE : ApplicantServiceImpl.updateApplicant (a = {})", a);
 				return a;
 			} catch (DAOException ex) {
@@ -165,6 +240,10 @@ public class ApplicantServiceImpl implements ApplicantService {
 	 * <p>
 	 * Если абитуриент найден, из источника данных извлекается запись ведомости,
 	 * ассоциированная с данным абитуриентом.
+	 * <p>
+	 * Абитуриент извлекается из кэша абитуриентов, если значение в кэше
+	 * актуально; иначе абитуриент читается из источника данных и сохраняется в
+	 * кэше.
 	 * 
 	 * @param id
 	 *            id абитуриента
@@ -174,17 +253,25 @@ public class ApplicantServiceImpl implements ApplicantService {
 	 *             ошибка
 	 * @see ApplicantDAO
 	 * @see RegisterDAO
+	 * @see ApplicantCache
 	 */
 	@Override
 	public Applicant getApplicant(int id) throws ServiceException {
 		LOGGER.debug("SERVICE : ApplicantServiceImpl.getApplicant()");
+		ApplicantCache cache = ApplicantCache.getInstance();
+		Applicant a = cache.get(id);
+		if (a != null) {
+			return a;
+		}
 		try {
+			ApplicantCache.Versions v = cache.capture(id);
 			DAOFactory factory = DAOFactory.getInstance();
 			ApplicantDAO dao = factory.getApplicantDAO();
-			Applicant a = dao.getApplicant(id, ServiceHelper.NO_TRANSACTION);
+			a = dao.getApplicant(id, ServiceHelper.NO_TRANSACTION);
 			if (a != null) {
-				RegisterRecord r = factory.getRegisterDAO().getRecord(a, ServiceHelper.NO_TRANSACTION);
+				RegisterRecord r = ServiceFactory.getInstance().getRegisterService().getRecord(a);
 				a.setRecord(r);
+				cache.put(a, v);
 			}
 			LOGGER.debug("SERVICE : ApplicantServiceImpl.getApplicant (a = {})", a);
 			return a;
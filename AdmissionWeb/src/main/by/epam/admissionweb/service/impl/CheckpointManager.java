@@ -0,0 +1,206 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.journal.JournalReader;
+import main.by.epam.admissionweb.ranking.RegisterCheckpoint;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>CheckpointManager</code> управляет контрольными точками
+ * ведомостей текущего набора ({@link RegisterCheckpoint}).
+ * <p>
+ * Контрольная точка создается в фоновом потоке с заданным периодом и при
+ * завершении работы приложения: в нее сохраняются загруженные колоночные
+ * хранилища ведомостей факультетов ({@link RankingEngine#checkpoint(int)}).
+ * При запуске приложения хранилища восстанавливаются из контрольной точки, и
+ * к ним применяются только изменения, записанные в журнал событий ведомости
+ * ({@link JournalManager}) после отметки контрольной точки, поэтому ведомости
+ * не приходится заново загружать из базы данных.
+ * <p>
+ * Контрольная точка используется, только если ведется журнал событий
+ * ведомости, она создана для текущего набора и журнал не был начат заново
+ * после ее создания.
+ * <p>
+ * Путь к файлу контрольной точки и период ее создания задаются в файле
+ * свойств сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>CheckpointManager</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see RegisterCheckpoint
+ * @see RankingEngine
+ * @see JournalManager
+ *
+ */
+public class CheckpointManager {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Период создания контрольных точек по умолчанию (в секундах)
+	 */
+	private static final int INTERVAL_DEFAULT = 60;
+
+	/**
+	 * Имя фонового потока создания контрольных точек
+	 */
+	private static final String THREAD_NAME = "register-checkpoint";
+
+	/**
+	 * Объект класса <code>CheckpointManager</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final CheckpointManager INSTANCE = new CheckpointManager();
+
+	/**
+	 * Файл контрольной точки (null - контрольные точки не создаются)
+	 */
+	private final File file;
+
+	/**
+	 * Период создания контрольных точек (в секундах)
+	 */
+	private final int interval;
+
+	/**
+	 * Планировщик создания контрольных точек
+	 */
+	private ScheduledExecutorService executor;
+
+	private CheckpointManager() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		String path = manager.getValue(ServiceParameter.REGISTER_CHECKPOINT_PATH, "").trim();
+		file = path.isEmpty() || !JournalManager.getInstance().isEnabled() ? null : new File(path);
+		interval = Math.max(1, manager.getIntValue(ServiceParameter.REGISTER_CHECKPOINT_INTERVAL, INTERVAL_DEFAULT));
+	}
+
+	/**
+	 * Получение объекта класса <code>CheckpointManager</code>
+	 *
+	 * @return объект класса <code>CheckpointManager</code>
+	 */
+	public static CheckpointManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Восстановление ведомостей из контрольной точки и запуск периодического
+	 * создания контрольных точек (вызывается при запуске приложения после
+	 * инициализации пула соединений)
+	 */
+	public synchronized void start() {
+		if (file == null || executor != null) {
+			return;
+		}
+		restore();
+		executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, THREAD_NAME);
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		executor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				checkpoint();
+			}
+		}, interval, interval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Остановка периодического создания контрольных точек и создание
+	 * последней контрольной точки (вызывается при завершении работы
+	 * приложения до закрытия журнала и пула соединений)
+	 */
+	public synchronized void shutdown() {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdownNow();
+		executor = null;
+		checkpoint();
+	}
+
+	/**
+	 * Создание контрольной точки ведомостей текущего набора
+	 *
+	 * @return true - контрольная точка создана
+	 */
+	public boolean checkpoint() {
+		if (file == null) {
+			return false;
+		}
+		try {
+			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getCurrentEnroll();
+			if (e == null) {
+				return false;
+			}
+			long start = System.currentTimeMillis();
+			List<byte[]> sections = RankingEngine.getInstance().checkpoint(e.getId());
+			RegisterCheckpoint.write(file, e.getId(), sections);
+			LOGGER.debug("SERVICE : CheckpointManager.checkpoint (enroll = {}, faculties = {}, time = {} ms)",
+					e.getId(), sections.size(), System.currentTimeMillis() - start);
+			return true;
+		} catch (ServiceException | IOException ex) {
+			LOGGER.error("SERVICE : Unable to write register checkpoint", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Восстановление ведомостей текущего набора из контрольной точки
+	 */
+	private void restore() {
+		if (!file.exists()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			RegisterCheckpoint checkpoint = RegisterCheckpoint.read(file);
+			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getCurrentEnroll();
+			if (e == null || e.getId() != checkpoint.getEnrollId()) {
+				LOGGER.info("SERVICE : Register checkpoint is not for the current enroll and is ignored");
+				return;
+			}
+			long sequence = JournalManager.getInstance().getSequence();
+			for (int facultyId : checkpoint.getFacultyIds()) {
+				if (checkpoint.getSequence(facultyId) > sequence) {
+					LOGGER.info("SERVICE : Register checkpoint is newer than the register journal and is ignored");
+					return;
+				}
+			}
+			JournalReader tail = JournalManager.getInstance().openReader();
+			int restored = 0;
+			try {
+				restored = RankingEngine.getInstance().restore(checkpoint, e, tail);
+			} finally {
+				tail.close();
+			}
+			LOGGER.info("SERVICE : {} faculty registers restored from checkpoint in {} ms", restored,
+					System.currentTimeMillis() - start);
+		} catch (ServiceException | DAOException | IOException ex) {
+			LOGGER.error("SERVICE : Unable to restore registers from checkpoint", ex);
+			RankingEngine.getInstance().clear();
+		}
+	}
+
+}
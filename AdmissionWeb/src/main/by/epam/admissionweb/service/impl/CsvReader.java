@@ -0,0 +1,140 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс <code>CsvReader</code> выполняет потоковое чтение записей из текста в
+ * формате CSV (RFC 4180): записи разделяются переводом строки, поля - запятой.
+ * <p>
+ * Поле, заключенное в двойные кавычки, может содержать запятые, переводы
+ * строки и двойные кавычки (записываются двумя кавычками подряд). Пробелы
+ * вокруг полей сохраняются. Пустые строки и метка порядка байтов в начале
+ * текста пропускаются.
+ * <p>
+ * В памяти хранится только текущая запись, поэтому объем читаемого текста не
+ * ограничен.
+ *
+ * @author Daria Krupenko
+ * @see ApplicantImporter
+ *
+ */
+public class CsvReader {
+
+	/**
+	 * Разделитель полей
+	 */
+	private static final char SEPARATOR = ',';
+
+	/**
+	 * Символ кавычек
+	 */
+	private static final char QUOTE = '"';
+
+	/**
+	 * Метка порядка байтов, с которой может начинаться текст
+	 */
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	/**
+	 * Источник текста
+	 */
+	private final BufferedReader reader;
+
+	/**
+	 * Номер последней прочитанной строки текста
+	 */
+	private int lineNumber;
+
+	/**
+	 * Номер строки, с которой начинается последняя прочитанная запись
+	 */
+	private int recordLineNumber;
+
+	/**
+	 * Создание объекта чтения записей
+	 *
+	 * @param reader
+	 *            источник текста
+	 */
+	public CsvReader(Reader reader) {
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+	}
+
+	/**
+	 * Чтение следующей записи
+	 *
+	 * @return поля записи; null - записи закончились
+	 * @throws IOException
+	 *             при чтении текста произошла ошибка; текст закончился внутри
+	 *             поля в кавычках
+	 */
+	public String[] readRecord() throws IOException {
+		String line = reader.readLine();
+		while (line != null && line.isEmpty()) {
+			lineNumber++;
+			line = reader.readLine();
+		}
+		if (line == null) {
+			return null;
+		}
+		if (lineNumber == 0 && line.charAt(0) == BYTE_ORDER_MARK) {
+			line = line.substring(1);
+		}
+		lineNumber++;
+		recordLineNumber = lineNumber;
+		List<String> fields = new ArrayList<String>();
+		StringBuilder field = new StringBuilder();
+		boolean isQuoted = false;
+		int i = 0;
+		while (true) {
+			if (i == line.length()) {
+				if (!isQuoted) {
+					break;
+				}
+				line = reader.readLine();
+				if (line == null) {
+					throw new IOException("Unterminated quoted field at line " + recordLineNumber);
+				}
+				lineNumber++;
+				field.append('\n');
+				i = 0;
+				continue;
+			}
+			char c = line.charAt(i++);
+			if (isQuoted) {
+				if (c != QUOTE) {
+					field.append(c);
+				} else if (i < line.length() && line.charAt(i) == QUOTE) {
+					field.append(QUOTE);
+					i++;
+				} else {
+					isQuoted = false;
+				}
+			} else if (c == SEPARATOR) {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == QUOTE && field.length() == 0) {
+				isQuoted = true;
+			} else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+		return fields.toArray(new String[fields.size()]);
+	}
+
+	/**
+	 * Получение номера строки, с которой начинается последняя прочитанная
+	 * запись
+	 *
+	 * @return номер строки (начиная с 1)
+	 */
+	public int getRecordLineNumber() {
+		return recordLineNumber;
+	}
+
+}
@@ -0,0 +1,141 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Класс <code>CsvWriter</code> выполняет потоковую запись таблицы в формате
+ * CSV (RFC 4180) в кодировке UTF-8.
+ * <p>
+ * Текст начинается с метки порядка байтов, по которой табличные редакторы
+ * определяют кодировку. Строки разделяются последовательностью CRLF, поля -
+ * запятой. Поля, содержащие запятые, кавычки или переводы строки,
+ * заключаются в двойные кавычки. Такой текст читается классом
+ * {@link CsvReader}.
+ * <p>
+ * Табличные редакторы выполняют текстовые поля, начинающиеся с символов
+ * <code>= + - @</code>, как формулы, поэтому перед такими полями
+ * записывается апостроф, и поле отображается как текст. Числовые ячейки
+ * записываются без изменений.
+ *
+ * @author Daria Krupenko
+ * @see TableWriter
+ *
+ */
+public class CsvWriter implements TableWriter {
+
+	/**
+	 * Разделитель полей
+	 */
+	private static final char SEPARATOR = ',';
+
+	/**
+	 * Символ кавычек
+	 */
+	private static final char QUOTE = '"';
+
+	/**
+	 * Разделитель строк
+	 */
+	private static final String LINE_SEPARATOR = "\r\n";
+
+	/**
+	 * Символы, с которых начинаются формулы табличных редакторов
+	 */
+	private static final String FORMULA_PREFIXES = "=+-@";
+
+	/**
+	 * Символ, который записывается перед полем, начинающимся с формулы
+	 */
+	private static final char FORMULA_ESCAPE = '\'';
+
+	/**
+	 * Метка порядка байтов
+	 */
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	/**
+	 * Буферизованный поток записи текста
+	 */
+	private final Writer writer;
+
+	/**
+	 * Записана ли метка порядка байтов
+	 */
+	private boolean isStarted;
+
+	/**
+	 * Создание объекта записи таблицы
+	 *
+	 * @param out
+	 *            поток, в который записывается таблица
+	 */
+	public CsvWriter(OutputStream out) {
+		writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void writeRow(Object... cells) throws IOException {
+		if (!isStarted) {
+			writer.write(BYTE_ORDER_MARK);
+			isStarted = true;
+		}
+		for (int i = 0; i < cells.length; i++) {
+			if (i > 0) {
+				writer.write(SEPARATOR);
+			}
+			if (cells[i] != null) {
+				String field = cells[i].toString();
+				if (!(cells[i] instanceof Number) && !field.isEmpty()
+						&& FORMULA_PREFIXES.indexOf(field.charAt(0)) >= 0) {
+					field = FORMULA_ESCAPE + field;
+				}
+				writeField(field);
+			}
+		}
+		writer.write(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (!isStarted) {
+			writer.write(BYTE_ORDER_MARK);
+			isStarted = true;
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Запись поля (в кавычках, если поле содержит специальные символы)
+	 *
+	 * @param field
+	 *            значение поля
+	 * @throws IOException
+	 *             при записи произошла ошибка
+	 */
+	private void writeField(String field) throws IOException {
+		boolean isQuoted = false;
+		for (int i = 0; i < field.length() && !isQuoted; i++) {
+			char c = field.charAt(i);
+			isQuoted = c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n';
+		}
+		if (!isQuoted) {
+			writer.write(field);
+			return;
+		}
+		writer.write(QUOTE);
+		for (int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+			if (c == QUOTE) {
+				writer.write(QUOTE);
+			}
+			writer.write(c);
+		}
+		writer.write(QUOTE);
+	}
+
+}
@@ -0,0 +1,223 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.service.DataVersionService;
+
+/**
+ * Класс <code>DataVersionServiceImpl</code> реализует интерфейс
+ * {@link DataVersionService} и хранит версии данных приложения в памяти.
+ * <p>
+ * В тег версии включается время запуска приложения, поэтому теги, выданные до
+ * перезапуска, не совпадут с тегами после перезапуска (счетчики начинаются
+ * заново).
+ * <p>
+ * Счетчики увеличиваются после фиксации изменений, а тег должен быть получен
+ * до чтения данных. Поэтому ответ может оказаться новее своего тега (клиент
+ * лишний раз получит полный ответ), но никогда не окажется старее.
+ *
+ * @author Daria Krupenko
+ * @see DataVersionService
+ *
+ */
+public class DataVersionServiceImpl implements DataVersionService {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Разделитель составляющих тега версии
+	 */
+	private static final String TAG_DELIMETER = "-";
+
+	/**
+	 * Количество счетчиков версий абитуриентов (степень двойки)
+	 */
+	private static final int APPLICANT_STRIPES = 4096;
+
+	/**
+	 * Время запуска приложения (в основании 36)
+	 */
+	private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+	/**
+	 * Версия каталога факультетов
+	 */
+	private final Counter catalog = new Counter();
+
+	/**
+	 * Версия набора
+	 */
+	private final Counter enroll = new Counter();
+
+	/**
+	 * Суммарная версия ведомостей всех факультетов
+	 */
+	private final Counter registers = new Counter();
+
+	/**
+	 * Версия кэшированной статистики факультетов
+	 */
+	private final Counter statistics = new Counter();
+
+	/**
+	 * Версии ведомостей факультетов (ключ - id факультета)
+	 */
+	private final ConcurrentMap<Integer, Counter> registerMap = new ConcurrentHashMap<Integer, Counter>();
+
+	/**
+	 * Версии абитуриентов (индекс - младшие биты id абитуриента)
+	 */
+	private final AtomicLongArray applicants = new AtomicLongArray(APPLICANT_STRIPES);
+
+	@Override
+	public String getFacultiesListTag() {
+		return epoch + TAG_DELIMETER + catalog.getVersion() + TAG_DELIMETER + enroll.getVersion() + TAG_DELIMETER
+				+ registers.getVersion() + TAG_DELIMETER + statistics.getVersion();
+	}
+
+	@Override
+	public String getFacultyTag(int facultyId) {
+		return epoch + TAG_DELIMETER + catalog.getVersion() + TAG_DELIMETER + enroll.getVersion() + TAG_DELIMETER
+				+ getRegisterVersion(facultyId);
+	}
+
+	@Override
+	public long getFacultiesListModified() {
+		return Math.max(Math.max(catalog.getModified(), enroll.getModified()),
+				Math.max(registers.getModified(), statistics.getModified()));
+	}
+
+	@Override
+	public long getFacultyModified(int facultyId) {
+		long modified = Math.max(catalog.getModified(), enroll.getModified());
+		Counter c = registerMap.get(facultyId);
+		if (c != null) {
+			modified = Math.max(modified, c.getModified());
+		}
+		return modified;
+	}
+
+	@Override
+	public long getRegisterVersion(int facultyId) {
+		Counter c = registerMap.get(facultyId);
+		return c == null ? 0 : c.getVersion();
+	}
+
+	@Override
+	public Map<Integer, Long> getRegisterVersions() {
+		Map<Integer, Long> versions = new HashMap<Integer, Long>();
+		for (Map.Entry<Integer, Counter> e : registerMap.entrySet()) {
+			versions.put(e.getKey(), e.getValue().getVersion());
+		}
+		return versions;
+	}
+
+	@Override
+	public long getEnrollVersion() {
+		return enroll.getVersion();
+	}
+
+	@Override
+	public long getCatalogVersion() {
+		return catalog.getVersion();
+	}
+
+	@Override
+	public long getRegistersVersion() {
+		return registers.getVersion();
+	}
+
+	@Override
+	public long getApplicantVersion(int applicantId) {
+		return applicants.get(applicantId & (APPLICANT_STRIPES - 1));
+	}
+
+	@Override
+	public void catalogChanged() {
+		long v = catalog.increment();
+		LOGGER.debug("SERVICE : DataVersionServiceImpl.catalogChanged (version = {})", v);
+	}
+
+	@Override
+	public void enrollChanged() {
+		long v = enroll.increment();
+		LOGGER.debug("SERVICE : DataVersionServiceImpl.enrollChanged (version = {})", v);
+	}
+
+	@Override
+	public void registerChanged(int facultyId) {
+		Counter c = registerMap.get(facultyId);
+		if (c == null) {
+			Counter newC = new Counter();
+			c = registerMap.putIfAbsent(facultyId, newC);
+			if (c == null) {
+				c = newC;
+			}
+		}
+		long v = c.increment();
+		registers.increment();
+		LOGGER.debug("SERVICE : DataVersionServiceImpl.registerChanged (faculty = {}, version = {})", facultyId, v);
+	}
+
+	@Override
+	public void statisticsChanged() {
+		statistics.increment();
+	}
+
+	@Override
+	public void applicantChanged(int applicantId) {
+		long v = applicants.incrementAndGet(applicantId & (APPLICANT_STRIPES - 1));
+		LOGGER.debug("SERVICE : DataVersionServiceImpl.applicantChanged (applicant = {}, version = {})", applicantId,
+				v);
+	}
+
+	/**
+	 * Статический вложенный класс <code>Counter</code> представляет собой
+	 * счетчик версии вместе со временем последнего изменения.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Counter {
+
+		/**
+		 * Номер версии
+		 */
+		private final AtomicLong version = new AtomicLong();
+
+		/**
+		 * Время последнего изменения
+		 */
+		private volatile long modified = System.currentTimeMillis();
+
+		/**
+		 * Увеличение версии
+		 *
+		 * @return новый номер версии
+		 */
+		long increment() {
+			modified = System.currentTimeMillis();
+			return version.incrementAndGet();
+		}
+
+		long getVersion() {
+			return version.get();
+		}
+
+		long getModified() {
+			return modified;
+		}
+	}
+
+}
@@ -13,6 +13,7 @@ import main.by.epam.admissionweb.service.DisciplineService;
 import main.by.epam.admissionweb.service.EnrollmentService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.AlreadyExistsException;
+import main.by.epam.admissionweb.service.exception.ModifiedException;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -121,6 +122,9 @@ public class DisciplineServiceImpl implements DisciplineService {
 	 * <p>
 	 * Метод также запрещает обновление данных, если дисциплина с указанным
 	 * наименованием уже существует
+	 * <p>
+	 * Дисциплина обновляется, только если она не была изменена после чтения
+	 * версии, указанной в объекте <code>d</code> (оптимистическая блокировка).
 	 * 
 	 * @param d
 	 *            объект дисциплины с обновляемыми данными
@@ -128,6 +132,8 @@ public class DisciplineServiceImpl implements DisciplineService {
 	 *         дисциплины не прошел валидацию
 	 * @throws AlreadyExistsException
 	 *             дисциплина с указанным наименованием уже существует
+	 * @throws ModifiedException
+	 *             дисциплина была изменена или удалена другим администратором
 	 * @throws ServiceException
 	 *             при попытке чтении/записи информации из источника произошла
 	 *             ошибка
@@ -148,7 +154,10 @@ public class DisciplineServiceImpl implements DisciplineService {
 				if (dDb != null && dDb.getId() != d.getId()) {
 					throw new AlreadyExistsException("SERVICE : Duplicate discipline", null);
 				}
-				dao.updateDiscipline(d, ServiceHelper.NO_TRANSACTION);
+				if (!dao.updateDiscipline(d, ServiceHelper.NO_TRANSACTION)) {
+					throw new ModifiedException("SERVICE : Discipline was modified by another administrator", null);
+				}
+				ServiceFactory.getInstance().getDataVersionService().catalogChanged();
 				LOGGER.debug("SERVICE : DisciplineServiceImpl.updateDiscipline (d = {})", d);
 				return d;
 			} catch (DAOException ex) {
@@ -174,6 +183,7 @@ public class DisciplineServiceImpl implements DisciplineService {
 			DAOFactory factory = DAOFactory.getInstance();
 			DisciplineDAO dao = factory.getDisciplineDAO();
 			dao.deleteDiscipline(id, ServiceHelper.NO_TRANSACTION);
+			ServiceFactory.getInstance().getDataVersionService().catalogChanged();
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to delete discipline", ex);
 		}
@@ -215,6 +225,7 @@ public class DisciplineServiceImpl implements DisciplineService {
 				}
 				int id = dao.createDiscipline(d, ServiceHelper.NO_TRANSACTION);
 				d.setId(id);
+				ServiceFactory.getInstance().getDataVersionService().catalogChanged();
 				LOGGER.debug("SERVICE : DisciplineServiceImpl.addDiscipline (d = {})", d);
 				return d;
 			} catch (DAOException ex) {
@@ -0,0 +1,519 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.EnrollmentDAO;
+import main.by.epam.admissionweb.dao.FacultyDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.TransactionException;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.FacultyEnrollResult;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.ranking.RadixSort;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>EnrollCompletionEngine</code> подводит итоги набора по всем
+ * факультетам.
+ * <p>
+ * Подведение итогов выполняется в три этапа:
+ * <ol>
+ * <li>ведомость набора одним запросом читается в память и группируется по
+ * факультетам;</li>
+ * <li>рейтинги всех факультетов строятся параллельно в пуле
+ * <code>ForkJoinPool</code>; для каждого факультета определяются итоговые
+ * статусы абитуриентов и подсчитываются итоги ({@link FacultyEnrollResult}),
+ * в том числе количество временных статусов, не совпавших с итоговым
+ * рейтингом;</li>
+ * <li>в одной транзакции итоговые статусы записываются пакетами по
+ * факультетам, после чего набор закрывается.</li>
+ * </ol>
+ * На время подведения итогов захватываются блокировки всех факультетов
+ * ({@link FacultyLockManager}), поэтому ведомость не может измениться между
+ * чтением и записью статусов.
+ * <p>
+ * Ход подведения итогов доступен через метод {@link #getProgress()}.
+ * Одновременно может выполняться только одно подведение итогов.
+ * <p>
+ * Степень параллелизма и размер пакета задаются в файле свойств
+ * сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>EnrollCompletionEngine</code>
+ * осуществляется путем вызова статического метода <code>getInstance()</code>
+ * данного класса.
+ *
+ * @author Daria Krupenko
+ * @see EnrollmentServiceImpl
+ * @see ServiceParameter
+ *
+ */
+class EnrollCompletionEngine {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Размер пакета по умолчанию
+	 */
+	private static final int BATCH_SIZE_DEFAULT = 1000;
+
+	/**
+	 * Временный статус зачисленного абитуриента
+	 */
+	private static final String TEMP_ADMITTED_STATUS = "TEMP_ADMITTED";
+
+	/**
+	 * Временный статус незачисленного абитуриента
+	 */
+	private static final String TEMP_NOT_ADMITTED_STATUS = "TEMP_NOT_ADMITTED";
+
+	/**
+	 * Объект класса <code>EnrollCompletionEngine</code>, создается один раз
+	 * при загрузке класса в память
+	 */
+	private static final EnrollCompletionEngine INSTANCE = new EnrollCompletionEngine();
+
+	/**
+	 * Пул потоков построения рейтингов
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Размер пакета обновления статусов
+	 */
+	private final int batchSize;
+
+	/**
+	 * Выполняется ли подведение итогов
+	 */
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	/**
+	 * Количество подведений итогов, начатых с момента загрузки класса
+	 */
+	private final AtomicInteger startedNumber = new AtomicInteger();
+
+	/**
+	 * Количество факультетов в текущем подведении итогов
+	 */
+	private volatile int facultiesNumber;
+
+	/**
+	 * Количество факультетов, рейтинг которых построен
+	 */
+	private final AtomicInteger rankedNumber = new AtomicInteger();
+
+	/**
+	 * Количество факультетов, статусы которых записаны
+	 */
+	private final AtomicInteger writtenNumber = new AtomicInteger();
+
+	private EnrollCompletionEngine() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		int parallelism = manager.getIntValue(ServiceParameter.ENROLL_COMPLETION_PARALLELISM,
+				Runtime.getRuntime().availableProcessors());
+		pool = new ForkJoinPool(Math.max(1, parallelism));
+		batchSize = Math.max(1, manager.getIntValue(ServiceParameter.ENROLL_COMPLETION_BATCH_SIZE,
+				BATCH_SIZE_DEFAULT));
+	}
+
+	/**
+	 * Получение объекта класса <code>EnrollCompletionEngine</code>
+	 *
+	 * @return объект класса <code>EnrollCompletionEngine</code>
+	 */
+	static EnrollCompletionEngine getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Подведение итогов набора
+	 *
+	 * @param e
+	 *            текущий набор
+	 * @return итоги набора по факультетам (в порядке id факультетов)
+	 * @throws ServiceException
+	 *             подведение итогов уже выполняется; при чтении/записи
+	 *             информации произошла ошибка (транзакция отменена)
+	 */
+	List<FacultyEnrollResult> complete(Enroll e) throws ServiceException {
+		if (!running.compareAndSet(false, true)) {
+			throw new ServiceException("SERVICE : Enroll completion is already running", null);
+		}
+		startedNumber.incrementAndGet();
+		try {
+			List<Faculty> faculties = readFaculties(e);
+			facultiesNumber = faculties.size();
+			rankedNumber.set(0);
+			writtenNumber.set(0);
+			List<Integer> ids = new ArrayList<Integer>(faculties.size());
+			for (Faculty f : faculties) {
+				ids.add(f.getId());
+			}
+			FacultyLockManager lockManager = FacultyLockManager.getInstance();
+			List<Lock> locks = lockManager.lockAll(ids);
+			try {
+				return complete(e, faculties);
+			} finally {
+				lockManager.unlockAll(locks);
+			}
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * Проверка, выполняется ли подведение итогов
+	 *
+	 * @return true - подведение итогов выполняется
+	 */
+	boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * Получение количества подведений итогов, начатых с момента загрузки
+	 * класса. Счетчик увеличивается до захвата блокировок факультетов, поэтому
+	 * операция, которая запомнила его значение и затем под блокировкой
+	 * факультета видит то же значение, выполняется до подведения итогов.
+	 *
+	 * @return количество начатых подведений итогов
+	 */
+	int getStartedNumber() {
+		return startedNumber.get();
+	}
+
+	/**
+	 * Получение хода подведения итогов
+	 *
+	 * @return процент выполнения (от 0 до 100); -1 - подведение итогов не
+	 *         выполняется
+	 */
+	int getProgress() {
+		if (!running.get()) {
+			return -1;
+		}
+		int total = facultiesNumber;
+		if (total == 0) {
+			return 0;
+		}
+		return (rankedNumber.get() + writtenNumber.get()) * 100 / (2 * total);
+	}
+
+	/**
+	 * Чтение всех факультетов, упорядоченных по id
+	 *
+	 * @param e
+	 *            текущий набор
+	 * @return список факультетов
+	 * @throws ServiceException
+	 *             при чтении информации произошла ошибка
+	 */
+	private List<Faculty> readFaculties(Enroll e) throws ServiceException {
+		try {
+			FacultyDAO dao = DAOFactory.getInstance().getFacultyDAO();
+			int number = dao.getFacultiesNumber(ServiceHelper.NO_TRANSACTION);
+			List<Faculty> faculties = new ArrayList<Faculty>(
+					dao.getFacultiesList(0, number, e, ServiceHelper.NO_TRANSACTION));
+			Collections.sort(faculties, new Comparator<Faculty>() {
+				@Override
+				public int compare(Faculty f1, Faculty f2) {
+					return Integer.compare(f1.getId(), f2.getId());
+				}
+			});
+			return faculties;
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to read faculties to complete enroll", ex);
+		}
+	}
+
+	/**
+	 * Подведение итогов под блокировками факультетов
+	 *
+	 * @param e
+	 *            текущий набор
+	 * @param faculties
+	 *            факультеты
+	 * @return итоги набора по факультетам
+	 * @throws ServiceException
+	 *             при чтении/записи информации произошла ошибка
+	 */
+	private List<FacultyEnrollResult> complete(Enroll e, List<Faculty> faculties) throws ServiceException {
+		long start = System.currentTimeMillis();
+		List<RegisterRecord> register = null;
+		try {
+			register = DAOFactory.getInstance().getRegisterDAO().getRegisterByEnroll(e,
+					ServiceHelper.NO_TRANSACTION);
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to read register to complete enroll", ex);
+		}
+		Map<Integer, List<RegisterRecord>> byFaculty = new HashMap<Integer, List<RegisterRecord>>();
+		for (RegisterRecord r : register) {
+			List<RegisterRecord> list = byFaculty.get(r.getFaculty().getId());
+			if (list == null) {
+				list = new ArrayList<RegisterRecord>();
+				byFaculty.put(r.getFaculty().getId(), list);
+			}
+			list.add(r);
+		}
+		FacultyCompletion[] completions = new FacultyCompletion[faculties.size()];
+		for (int i = 0; i < completions.length; i++) {
+			Faculty f = faculties.get(i);
+			List<RegisterRecord> records = byFaculty.remove(f.getId());
+			completions[i] = new FacultyCompletion(f,
+					records == null ? Collections.<RegisterRecord> emptyList() : records);
+		}
+		List<Integer> orphansAdmitted = new ArrayList<Integer>();
+		List<Integer> orphansNotAdmitted = new ArrayList<Integer>();
+		for (List<RegisterRecord> records : byFaculty.values()) {
+			for (RegisterRecord r : records) {
+				if (TEMP_ADMITTED_STATUS.equals(r.getStatus())) {
+					orphansAdmitted.add(r.getApplicant().getId());
+				} else {
+					orphansNotAdmitted.add(r.getApplicant().getId());
+				}
+			}
+		}
+		pool.invoke(new RankingTask(completions, 0, completions.length));
+		LOGGER.debug("SERVICE : EnrollCompletionEngine.complete (ranked {} faculties, {} records in {} ms)",
+				completions.length, register.size(), System.currentTimeMillis() - start);
+		write(e, completions, orphansAdmitted, orphansNotAdmitted);
+		List<FacultyEnrollResult> results = new ArrayList<FacultyEnrollResult>(completions.length);
+		for (FacultyCompletion c : completions) {
+			results.add(c.result);
+		}
+		LOGGER.debug("SERVICE : EnrollCompletionEngine.complete (completed in {} ms)",
+				System.currentTimeMillis() - start);
+		return results;
+	}
+
+	/**
+	 * Запись итоговых статусов и закрытие набора в одной транзакции.
+	 * <p>
+	 * Каждая запись ведомости получает итоговый статус явно, по id
+	 * абитуриента: записи факультетов - по итоговому рейтингу, записи
+	 * удаленных факультетов - по их временному статусу. Поэтому общие
+	 * обновления всей ведомости набора не выполняются.
+	 *
+	 * @param e
+	 *            текущий набор
+	 * @param completions
+	 *            итоги факультетов
+	 * @param orphansAdmitted
+	 *            id абитуриентов удаленных факультетов, временно зачисленных
+	 * @param orphansNotAdmitted
+	 *            id абитуриентов удаленных факультетов, временно не
+	 *            зачисленных
+	 * @throws ServiceException
+	 *             при записи информации произошла ошибка
+	 */
+	private void write(Enroll e, FacultyCompletion[] completions, List<Integer> orphansAdmitted,
+			List<Integer> orphansNotAdmitted) throws ServiceException {
+		EnrollmentDAO dao = DAOFactory.getInstance().getEnrollmentDAO();
+		int trCode = 0;
+		int step = Math.max(1, completions.length / 10);
+		try {
+			trCode = dao.beginTransaction();
+			for (FacultyCompletion c : completions) {
+				writeBatches(dao, true, c.admitted, e, trCode);
+				writeBatches(dao, false, c.notAdmitted, e, trCode);
+				int written = writtenNumber.incrementAndGet();
+				if (written % step == 0) {
+					LOGGER.debug("SERVICE : EnrollCompletionEngine.write (progress = {}%)", getProgress());
+				}
+			}
+			writeBatches(dao, true, orphansAdmitted, e, trCode);
+			writeBatches(dao, false, orphansNotAdmitted, e, trCode);
+			dao.completeEnroll(e, new Date(), trCode);
+			dao.commitTransaction(trCode);
+			journal(e, completions);
+		} catch (DAOException ex) {
+			try {
+				dao.rollbackTransaction(trCode);
+			} catch (TransactionException ex1) {
+				throw new ServiceException("SERVICE : Unable to complete current enroll (transaction)", ex1);
+			}
+			throw new ServiceException("SERVICE : Unable to complete enroll", ex);
+		}
+	}
+
+	/**
+	 * Запись итоговых статусов абитуриентов в журнал ведомости
+	 *
+	 * @param e
+	 *            завершенный набор
+	 * @param completions
+	 *            итоги факультетов
+	 */
+	private void journal(Enroll e, FacultyCompletion[] completions) {
+		JournalManager journal = JournalManager.getInstance();
+		if (!journal.isEnabled()) {
+			return;
+		}
+		for (FacultyCompletion c : completions) {
+			List<JournalEvent> events = new ArrayList<JournalEvent>(c.admitted.size() + c.notAdmitted.size());
+			for (int applicantId : c.admitted) {
+				events.add(JournalEvent.statusChanged(c.faculty.getId(), e.getId(), applicantId,
+						RegisterColumns.ADMITTED));
+			}
+			for (int applicantId : c.notAdmitted) {
+				events.add(JournalEvent.statusChanged(c.faculty.getId(), e.getId(), applicantId,
+						RegisterColumns.NOT_ADMITTED));
+			}
+			journal.commit(c.faculty.getId(), events);
+		}
+	}
+
+	private void writeBatches(EnrollmentDAO dao, boolean isAdmitted, List<Integer> ids, Enroll e, int trCode)
+			throws DAOException {
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			dao.completeStatuses(isAdmitted, ids.subList(from, Math.min(from + batchSize, ids.size())), e, trCode);
+		}
+	}
+
+	/**
+	 * Статический вложенный класс <code>FacultyCompletion</code> представляет
+	 * собой исходные данные и результат подведения итогов одного факультета.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class FacultyCompletion {
+
+		/**
+		 * Факультет
+		 */
+		private final Faculty faculty;
+
+		/**
+		 * Записи ведомости факультета
+		 */
+		private final List<RegisterRecord> records;
+
+		/**
+		 * id зачисленных абитуриентов
+		 */
+		private final List<Integer> admitted = new ArrayList<Integer>();
+
+		/**
+		 * id незачисленных абитуриентов
+		 */
+		private final List<Integer> notAdmitted = new ArrayList<Integer>();
+
+		/**
+		 * Итоги факультета
+		 */
+		private FacultyEnrollResult result;
+
+		FacultyCompletion(Faculty faculty, List<RegisterRecord> records) {
+			this.faculty = faculty;
+			this.records = records;
+		}
+
+		/**
+		 * Построение рейтинга факультета и определение итоговых статусов.
+		 * Рейтинг строится поразрядной сортировкой упакованных ключей
+		 * ({@link RankKey#pack(int, int, int)}) без создания объектов ключей.
+		 */
+		void rank() {
+			long[] keys = new long[records.size()];
+			Map<Integer, String> statuses = new HashMap<Integer, String>();
+			for (int i = 0; i < keys.length; i++) {
+				RegisterRecord r = records.get(i);
+				keys[i] = RankKey.pack(r.getTotalScore(), r.getCertificateScore(), r.getApplicant().getId());
+				statuses.put(r.getApplicant().getId(), r.getStatus());
+			}
+			RadixSort.sort(keys);
+			int plan = Math.max(faculty.getPlan(), 0);
+			int corrected = 0;
+			for (int i = 0; i < keys.length; i++) {
+				int id = RankKey.unpackApplicantId(keys[i]);
+				boolean isAdmitted = i < plan;
+				if (isAdmitted) {
+					admitted.add(id);
+				} else {
+					notAdmitted.add(id);
+				}
+				String expected = isAdmitted ? TEMP_ADMITTED_STATUS : TEMP_NOT_ADMITTED_STATUS;
+				if (!expected.equals(statuses.get(id))) {
+					corrected++;
+				}
+			}
+			result = new FacultyEnrollResult();
+			result.setFaculty(faculty);
+			result.setApplicantsNumber(keys.length);
+			result.setAdmittedNumber(admitted.size());
+			result.setPassRate(keys.length >= plan && plan > 0 ? RankKey.unpackTotalScore(keys[plan - 1]) : 0);
+			result.setCorrectedNumber(corrected);
+		}
+	}
+
+	/**
+	 * Класс <code>RankingTask</code> представляет собой задачу построения
+	 * рейтингов диапазона факультетов. Диапазон делится пополам, пока в нем
+	 * больше одного факультета.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private class RankingTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Итоги факультетов
+		 */
+		private final FacultyCompletion[] completions;
+
+		/**
+		 * Начало диапазона (включительно)
+		 */
+		private final int from;
+
+		/**
+		 * Конец диапазона (не включительно)
+		 */
+		private final int to;
+
+		RankingTask(FacultyCompletion[] completions, int from, int to) {
+			this.completions = completions;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= 1) {
+				if (from < to) {
+					completions[from].rank();
+					rankedNumber.incrementAndGet();
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new RankingTask(completions, from, middle), new RankingTask(completions, middle, to));
+		}
+	}
+
+}
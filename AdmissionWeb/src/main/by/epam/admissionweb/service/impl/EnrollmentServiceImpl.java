@@ -1,7 +1,7 @@
 package main.by.epam.admissionweb.service.impl;
 
-import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,7 +11,9 @@ import main.by.epam.admissionweb.dao.EnrollmentDAO;
 import main.by.epam.admissionweb.dao.exception.DAOException;
 import main.by.epam.admissionweb.dao.exception.TransactionException;
 import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.FacultyEnrollResult;
 import main.by.epam.admissionweb.service.EnrollmentService;
+import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -94,9 +96,20 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 	 * Перед открытием набора метод осуществляет валидацию данных, обращаясь к
 	 * объекту {@link ValidatorService}.
 	 * <p>
-	 * Операция открытия нового набора представляет собой транзакцию, состоящию
-	 * из нескольких действий: удалить предыдущий набор, создать новый набор,
-	 * обнулить проходные баллы всех факультетов.
+	 * Транзакция создает новый набор и обнуляет проходные баллы всех
+	 * факультетов, после чего для нового набора создаются секции ведомости.
+	 * Изменения схемы выполняются вне транзакции; если секции создать не
+	 * удалось, новый набор удаляется.
+	 * <p>
+	 * Предыдущий набор не удаляется: только после того, как новый набор и его
+	 * секции созданы, ведомость предыдущего набора переносится в архивные
+	 * таблицы обменом секций ({@link EnrollmentDAO#archiveEnroll(int, int)}),
+	 * что не зависит от размера ведомости и оставляет ее доступной для
+	 * анализа. Перенос в архив не может быть отменен, поэтому он выполняется
+	 * последним; если перенос не удался, ведомость предыдущего набора
+	 * остается в секциях ведомости, а ошибка записывается в журнал. Повторный
+	 * перенос не выполняется; оставшиеся записи не влияют на новый набор,
+	 * поскольку все запросы к ведомости по абитуриенту ограничены id набора.
 	 * 
 	 * @param e
 	 *            объект набора, который необходимо открыть
@@ -121,25 +134,43 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 			DAOFactory factory = DAOFactory.getInstance();
 			dao = factory.getEnrollmentDAO();
 			try {
-				trCode = dao.beginTransaction();
+				try {
+					trCode = dao.beginTransaction();
+					int id = dao.createEnroll(e, trCode);
+					dao.resetPassRates(trCode);
+					e.setId(id);
+					dao.commitTransaction(trCode);
+				} catch (DAOException ex) {
+					try {
+						dao.rollbackTransaction(trCode);
+					} catch (TransactionException ex1) {
+						throw new ServiceException("SERVICE : Unable to start enroll (transaction)", ex1);
+					}
+					throw new ServiceException("SERVICE : Unable to start enroll", ex);
+				}
+				try {
+					dao.createPartitions(e.getId(), ServiceHelper.NO_TRANSACTION);
+				} catch (DAOException ex) {
+					try {
+						dao.deleteEnroll(e.getId(), ServiceHelper.NO_TRANSACTION);
+					} catch (DAOException ex1) {
+						LOGGER.error("SERVICE : Unable to delete enroll without register partitions", ex1);
+					}
+					throw new ServiceException("SERVICE : Unable to create register partitions of enroll", ex);
+				}
 				if (lastEnroll != null) {
-					dao.deleteEnroll(lastEnroll.getId(), trCode);
+					try {
+						dao.archiveEnroll(lastEnroll.getId(), ServiceHelper.NO_TRANSACTION);
+					} catch (DAOException ex) {
+						LOGGER.error("SERVICE : Unable to archive previous enroll " + lastEnroll.getId(), ex);
+					}
 				}
-				int id = dao.createEnroll(e, trCode);
-				dao.resetPassRates(trCode);
-				e.setId(id);
-				dao.commitTransaction(trCode);
 				LOGGER.debug("SERVICE : EnrollmentServiceImpl.startEnroll (e = {})", e);
 				return e;
-			} catch (DAOException ex) {
-				try {
-					dao.rollbackTransaction(trCode);
-				} catch (TransactionException ex1) {
-					throw new ServiceException("SERVICE : Unable to start enroll (transaction)", ex1);
-				}
-				throw new ServiceException("SERVICE : Unable to start enroll", ex);
+			} finally {
+				RankingEngine.getInstance().clear();
+				ServiceFactory.getInstance().getDataVersionService().enrollChanged();
 			}
-
 		}
 	}
 
@@ -150,7 +181,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 	 * <p>
 	 * Операция удаления набора представляет собой транзакцию, состоящую из
 	 * нескольких действий: удаление набора, обнуление проходных баллов всех
-	 * факультетов.
+	 * факультетов. После фиксации транзакции удаляются секции и архивные
+	 * таблицы ведомости набора.
 	 * 
 	 * @param id
 	 *            id набора, который должен быть удален
@@ -175,6 +207,13 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 			dao.deleteEnroll(id, trCode);
 			dao.resetPassRates(trCode);
 			dao.commitTransaction(trCode);
+			try {
+				dao.dropRegister(id, ServiceHelper.NO_TRANSACTION);
+			} catch (DAOException ex) {
+				LOGGER.error("SERVICE : Unable to drop register of deleted enroll", ex);
+			}
+			RankingEngine.getInstance().clear();
+			ServiceFactory.getInstance().getDataVersionService().enrollChanged();
 			return true;
 		} catch (DAOException ex) {
 			try {
@@ -200,8 +239,15 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 		LOGGER.debug("SERVICE : EnrollmentServiceImpl.getCurrentEnroll()");
 		try {
 			DAOFactory factory = DAOFactory.getInstance();
-			EnrollmentDAO dao = factory.getEnrollmentDAO();
-			List<Enroll> enrolls = dao.getEnrollsByStatus(true, ServiceHelper.NO_TRANSACTION);
+			final EnrollmentDAO dao = factory.getEnrollmentDAO();
+			long version = ServiceFactory.getInstance().getDataVersionService().getEnrollVersion();
+			List<Enroll> enrolls = RequestCoalescer.getInstance().execute("EnrollmentDAO.getEnrollsByStatus",
+					new Callable<List<Enroll>>() {
+						@Override
+						public List<Enroll> call() throws DAOException {
+							return dao.getEnrollsByStatus(true, ServiceHelper.NO_TRANSACTION);
+						}
+					}, true, version);
 			Enroll e = null;
 			if (enrolls != null && !enrolls.isEmpty()) {
 				e = enrolls.get(0);
@@ -227,8 +273,14 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 		LOGGER.debug("SERVICE : EnrollmentServiceImpl.getLastEnroll()");
 		try {
 			DAOFactory factory = DAOFactory.getInstance();
-			EnrollmentDAO dao = factory.getEnrollmentDAO();
-			Enroll e = dao.getLastEnroll(ServiceHelper.NO_TRANSACTION);
+			final EnrollmentDAO dao = factory.getEnrollmentDAO();
+			long version = ServiceFactory.getInstance().getDataVersionService().getEnrollVersion();
+			Enroll e = RequestCoalescer.getInstance().execute("EnrollmentDAO.getLastEnroll", new Callable<Enroll>() {
+				@Override
+				public Enroll call() throws DAOException {
+					return dao.getLastEnroll(ServiceHelper.NO_TRANSACTION);
+				}
+			}, version);
 			return e;
 		} catch (DAOException ex) {
 			throw new ServiceException("Unable to get last enroll", ex);
@@ -260,36 +312,39 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 	 * Подвести итоги текущего набора.
 	 * <p>
 	 * Перед подведение итогов метод получает текущий активный набора вызовом
-	 * <code>getCurrentEnroll()</code>. Подведение итогов набора представляет
-	 * собой транзакцию, состоящую из нескольких операций: поменять статусы
-	 * зачисленных абитуриентов на постоянные, поменять статусы незачисленных
-	 * абитуриентов на постоянные, поменять статус набора на закрытый.
+	 * <code>getCurrentEnroll()</code>. Рейтинги факультетов строятся
+	 * параллельно по копии ведомости в памяти, после чего подведение итогов
+	 * набора выполняется транзакцией, состоящей из нескольких операций:
+	 * записать постоянные статусы абитуриентов по факультетам, поменять статус
+	 * набора на закрытый.
 	 * 
+	 * @return итоги набора по факультетам
 	 * @throws ServiceException
 	 *             при попытке чтения/записи информации из источника произошла
 	 *             ошибка
+	 * @see EnrollCompletionEngine
 	 */
 	@Override
-	public void completeCurrentEnroll() throws ServiceException {
+	public List<FacultyEnrollResult> completeCurrentEnroll() throws ServiceException {
 		LOGGER.debug("SERVICE : EnrollmentServiceImpl.completeCurrentEnroll()");
-		EnrollmentDAO dao = DAOFactory.getInstance().getEnrollmentDAO();
 		Enroll e = getCurrentEnroll();
-		int trCode = 0;
-		try {
-			trCode = dao.beginTransaction();
-			dao.completeStatuses(true, e, trCode);
-			dao.completeStatuses(false, e, trCode);
-			dao.completeEnroll(e, new Date(), trCode);
-			dao.commitTransaction(trCode);
-		} catch (DAOException ex) {
-			try {
-				dao.rollbackTransaction(trCode);
-			} catch (TransactionException ex1) {
-				throw new ServiceException("SERVICE : Unable to complete current enroll (transaction)", ex1);
-			}
-			throw new ServiceException("SERVICE : Unable to complete enroll", ex);
-		}
+		List<FacultyEnrollResult> results = EnrollCompletionEngine.getInstance().complete(e);
+		RankingEngine.getInstance().clear();
+		ServiceFactory.getInstance().getDataVersionService().enrollChanged();
+		LOGGER.debug("SERVICE : EnrollmentServiceImpl.completeCurrentEnroll (results = {})", results);
+		return results;
+	}
 
+	/**
+	 * Получение хода подведения итогов текущего набора
+	 * 
+	 * @return процент выполнения (от 0 до 100); -1 - подведение итогов не
+	 *         выполняется
+	 * @see EnrollCompletionEngine
+	 */
+	@Override
+	public int getCompletionProgress() {
+		return EnrollCompletionEngine.getInstance().getProgress();
 	}
 
 }
@@ -0,0 +1,127 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Класс <code>FacultyLockManager</code> представляет собой набор блокировок,
+ * разделенных по id факультета.
+ * <p>
+ * Изменения ведомости одного факультета (запись абитуриента, отмена записи,
+ * пересчет статусов и проходного балла, изменение плана набора) выполняются
+ * под блокировкой этого факультета, поэтому обновление его рейтинга и статусов
+ * происходит последовательно. Изменения ведомостей разных факультетов
+ * выполняются параллельно.
+ * <p>
+ * Блокировка факультета выбирается по младшим битам его id. Количество
+ * блокировок округляется вверх до степени двойки; пока количество факультетов
+ * не превышает количество блокировок, факультеты с последовательными id
+ * получают разные блокировки. Блокировки являются реентерабельными, поэтому
+ * операция, выполняемая под блокировкой факультета, может вызывать другие
+ * операции, которые захватывают ту же блокировку.
+ * <p>
+ * Операции, изменяющие ведомости нескольких факультетов, захватывают их
+ * блокировки методом {@link #lockAll(Collection)} в порядке возрастания
+ * номеров блокировок, поэтому такие операции не могут взаимно
+ * заблокировать друг друга.
+ * <p>
+ * Количество блокировок задается в файле свойств сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>FacultyLockManager</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see ServiceParameter
+ *
+ */
+class FacultyLockManager {
+
+	/**
+	 * Количество блокировок по умолчанию
+	 */
+	private static final int STRIPES_DEFAULT = 256;
+
+	/**
+	 * Объект класса <code>FacultyLockManager</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final FacultyLockManager INSTANCE = new FacultyLockManager();
+
+	/**
+	 * Блокировки
+	 */
+	private final Lock[] locks;
+
+	private FacultyLockManager() {
+		int stripes = ServiceResourceManager.getInstance().getIntValue(ServiceParameter.FACULTY_LOCK_STRIPES,
+				STRIPES_DEFAULT);
+		int size = 1;
+		while (size < stripes) {
+			size <<= 1;
+		}
+		locks = new Lock[size];
+		for (int i = 0; i < size; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Получение объекта класса <code>FacultyLockManager</code>
+	 *
+	 * @return объект класса <code>FacultyLockManager</code>
+	 */
+	static FacultyLockManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Получение блокировки факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @return блокировка факультета
+	 */
+	Lock getLock(int facultyId) {
+		return locks[facultyId & (locks.length - 1)];
+	}
+
+	/**
+	 * Захват блокировок нескольких факультетов. Каждая блокировка
+	 * захватывается один раз, в порядке возрастания ее номера.
+	 *
+	 * @param facultyIds
+	 *            id факультетов
+	 * @return захваченные блокировки (освобождаются методом
+	 *         {@link #unlockAll(List)})
+	 */
+	List<Lock> lockAll(Collection<Integer> facultyIds) {
+		TreeSet<Integer> indexes = new TreeSet<Integer>();
+		for (int facultyId : facultyIds) {
+			indexes.add(facultyId & (locks.length - 1));
+		}
+		List<Lock> locked = new ArrayList<Lock>(indexes.size());
+		for (int index : indexes) {
+			locks[index].lock();
+			locked.add(locks[index]);
+		}
+		return locked;
+	}
+
+	/**
+	 * Освобождение блокировок, захваченных методом
+	 * {@link #lockAll(Collection)}, в обратном порядке
+	 *
+	 * @param locked
+	 *            захваченные блокировки
+	 */
+	void unlockAll(List<Lock> locked) {
+		for (int i = locked.size() - 1; i >= 0; i--) {
+			locked.get(i).unlock();
+		}
+	}
+
+}
@@ -1,6 +1,8 @@
 package main.by.epam.admissionweb.service.impl;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,11 +12,13 @@ import main.by.epam.admissionweb.dao.FacultyDAO;
 import main.by.epam.admissionweb.dao.exception.DAOException;
 import main.by.epam.admissionweb.entity.Enroll;
 import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.journal.JournalEvent;
 import main.by.epam.admissionweb.service.EnrollmentService;
 import main.by.epam.admissionweb.service.FacultyService;
 import main.by.epam.admissionweb.service.RegisterService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.AlreadyExistsException;
+import main.by.epam.admissionweb.service.exception.ModifiedException;
 import main.by.epam.admissionweb.service.exception.ServiceException;
 
 /**
@@ -39,6 +43,10 @@ public class FacultyServiceImpl implements FacultyService {
 	 * <p>
 	 * Требуемая страница преобразуется в индекс элемента, с которого нужно
 	 * начать построение списка.
+	 * <p>
+	 * Если включен режим кэширования статистики факультетов, проходные баллы и
+	 * количество абитуриентов берутся из {@link FacultyStatisticsCache} и
+	 * могут отставать от ведомости не более чем на время устаревания.
 	 * 
 	 * @param requiredPage
 	 *            номер требуемой страницы
@@ -64,7 +72,14 @@ public class FacultyServiceImpl implements FacultyService {
 					&& elementsCount != ServiceHelper.ELEMENTS_MAX_VALUE) {
 				beginIndex = elementsCount * (requiredPage - 1);
 			}
-			List<Faculty> list = dao.getFacultiesList(beginIndex, elementsCount, e, ServiceHelper.NO_TRANSACTION);
+			FacultyStatisticsCache cache = FacultyStatisticsCache.getInstance();
+			List<Faculty> list = null;
+			if (cache.isEnabled()) {
+				list = dao.getFacultiesList(beginIndex, elementsCount, null, ServiceHelper.NO_TRANSACTION);
+				cache.fill(list, e);
+			} else {
+				list = dao.getFacultiesList(beginIndex, elementsCount, e, ServiceHelper.NO_TRANSACTION);
+			}
 			return list;
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to get faculties list", ex);
@@ -85,8 +100,15 @@ public class FacultyServiceImpl implements FacultyService {
 		LOGGER.debug("SERVICE : FacultyServiceImpl.getFacultiesNumber()");
 		try {
 			DAOFactory factory = DAOFactory.getInstance();
-			FacultyDAO dao = factory.getFacultyDAO();
-			int facultiesNumber = dao.getFacultiesNumber(ServiceHelper.NO_TRANSACTION);
+			final FacultyDAO dao = factory.getFacultyDAO();
+			String tag = ServiceFactory.getInstance().getDataVersionService().getFacultiesListTag();
+			int facultiesNumber = RequestCoalescer.getInstance().execute("FacultyDAO.getFacultiesNumber",
+					new Callable<Integer>() {
+						@Override
+						public Integer call() throws DAOException {
+							return dao.getFacultiesNumber(ServiceHelper.NO_TRANSACTION);
+						}
+					}, tag);
 			return facultiesNumber;
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to get faculties number", ex);
@@ -129,6 +151,7 @@ public class FacultyServiceImpl implements FacultyService {
 				}
 				int id = dao.createFaculty(f, ServiceHelper.NO_TRANSACTION);
 				f.setId(id);
+				ServiceFactory.getInstance().getDataVersionService().catalogChanged();
 				LOGGER.debug("SERVICE : FacultyServiceImpl.addFaculty (f = {})", f);
 				return f;
 			} catch (DAOException ex) {
@@ -139,6 +162,13 @@ public class FacultyServiceImpl implements FacultyService {
 
 	/**
 	 * Получение факультета по его id.
+	 * <p>
+	 * Одинаковые параллельные запросы объединяются объектом
+	 * {@link RequestCoalescer}: они разделяют одно обращение к источнику
+	 * данных и его результат, поэтому возвращаемый объект не должен
+	 * изменяться. Запросы объединяются, только если они получили одну версию
+	 * данных факультета (тег версии страницы факультета), поэтому страница с
+	 * новым тегом версии не получает данные, прочитанные до изменения.
 	 * 
 	 * @param id
 	 *            id факультета
@@ -152,11 +182,18 @@ public class FacultyServiceImpl implements FacultyService {
 	public Faculty getFaculty(int id) throws ServiceException {
 		LOGGER.debug("SERVICE : FacultyServiceImpl.getFaculty()");
 		try {
+			String tag = ServiceFactory.getInstance().getDataVersionService().getFacultyTag(id);
 			EnrollmentService eService = ServiceFactory.getInstance().getEnrollmentService();
-			Enroll e = eService.getLastEnroll();
+			final Enroll e = eService.getLastEnroll();
 			DAOFactory factory = DAOFactory.getInstance();
-			FacultyDAO dao = factory.getFacultyDAO();
-			Faculty f = dao.getFaculty(id, e, ServiceHelper.NO_TRANSACTION);
+			final FacultyDAO dao = factory.getFacultyDAO();
+			final int facultyId = id;
+			Faculty f = RequestCoalescer.getInstance().execute("FacultyDAO.getFaculty", new Callable<Faculty>() {
+				@Override
+				public Faculty call() throws DAOException {
+					return dao.getFaculty(facultyId, e, ServiceHelper.NO_TRANSACTION);
+				}
+			}, id, e == null ? null : e.getId(), tag);
 			return f;
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to get faculty by id", ex);
@@ -172,22 +209,40 @@ public class FacultyServiceImpl implements FacultyService {
 	 * Метод также запрещает обновление данных, если факультет с указанным
 	 * наименованием уже существует
 	 * <p>
-	 * Метод востановит прежний список дисциплин если активен текущий набор,
-	 * если существует закрытый набор - метод также восттановить и план набора.
+	 * Метод сохранит прежний список дисциплин если существует набор, если
+	 * последний набор закрыт - метод также сохранит и план набора. Если активен
+	 * текущий набор и план набора изменился, после обновления факультета
+	 * событие изменения плана записывается в журнал и пересчитывается его
+	 * ведомость.
+	 * <p>
+	 * Факультет обновляется, только если он не был изменен после чтения версии,
+	 * указанной в объекте <code>f</code> (оптимистическая блокировка);
+	 * конфликт определяется только по количеству обновленных строк. План
+	 * набора, загруженный вместе с этой версией, передается в параметре
+	 * <code>loadedPlan</code>: если версия совпала, сохраненный план равен ему,
+	 * поэтому изменение плана определяется без чтения записи факультета. Перед
+	 * обновлением читаются только последний набор и факультет с указанным
+	 * наименованием (проверка уникальности наименования). Возвращается сам
+	 * обновленный объект без повторного чтения.
 	 * 
 	 * @param f
 	 *            объект факультета с обновляемыми данными
+	 * @param loadedPlan
+	 *            план набора, загруженный вместе с версией объекта
+	 *            <code>f</code>
 	 * @return объект факультета с обновленными данными; null - объект
 	 *         факультета не прошел валидацию
 	 * @throws AlreadyExistsException
 	 *             факультет с указанным наименованием уже существует
+	 * @throws ModifiedException
+	 *             факультет был изменен или удален другим администратором
 	 * @throws ServiceException
 	 *             при попытке чтении/записи информации из источника произошла
 	 *             ошибка
 	 * @see FacultyDAO
 	 */
 	@Override
-	public Faculty updateFaculty(Faculty f) throws ServiceException {
+	public Faculty updateFaculty(Faculty f, int loadedPlan) throws ServiceException {
 		LOGGER.debug("SERVICE : FacultyServiceImpl.updateFaculty()");
 		ValidatorService service = ValidatorService.getInstance();
 		boolean isValid = service.validateFaculty(f);
@@ -201,23 +256,34 @@ public class FacultyServiceImpl implements FacultyService {
 				if (fDb != null && fDb.getId() != f.getId()) {
 					throw new AlreadyExistsException("SERVICE : Duplicate faculty", null);
 				}
-				Faculty oldF = getFaculty(f.getId());
 				EnrollmentService eService = ServiceFactory.getInstance().getEnrollmentService();
 				Enroll e = eService.getLastEnroll();
-				if (e != null) {
-					if (!oldF.getDisciplines().equals(f.getDisciplines())) {
-						LOGGER.debug("SERVICE : FacultyServiceImpl.updateFaculty (restore disciplines list)");
-						f.setDisciplines(oldF.getDisciplines());
+				boolean isPlanEditable = e == null || e.isStatus();
+				boolean isDisciplinesEditable = e == null;
+				boolean isRecalculated = e != null && e.isStatus();
+				Lock lock = FacultyLockManager.getInstance().getLock(f.getId());
+				if (isRecalculated) {
+					lock.lock();
+				}
+				try {
+					boolean isUpdated = dao.updateFaculty(f, isPlanEditable, isDisciplinesEditable,
+							ServiceHelper.NO_TRANSACTION);
+					if (!isUpdated) {
+						throw new ModifiedException("SERVICE : Faculty was modified by another administrator", null);
 					}
-					if ((oldF.getPlan() != f.getPlan()) && !e.isStatus()) {
-						LOGGER.debug("SERVICE : FacultyServiceImpl.updateFaculty (restore plan)");
-						f.setPlan(oldF.getPlan());
+					if (!isPlanEditable) {
+						f.setPlan(loadedPlan);
+					}
+					ServiceFactory.getInstance().getDataVersionService().catalogChanged();
+					if (isRecalculated && loadedPlan != f.getPlan()) {
+						JournalManager.getInstance().append(JournalEvent.planChanged(f.getId(), e.getId(), f.getPlan()));
+						RegisterService rService = ServiceFactory.getInstance().getRegisterService();
+						rService.recalculateRegister(f, e, ServiceHelper.NO_TRANSACTION);
+					}
+				} finally {
+					if (isRecalculated) {
+						lock.unlock();
 					}
-				}
-				dao.updateFaculty(f, ServiceHelper.NO_TRANSACTION);
-				if (f.getPlan() != oldF.getPlan() && e != null) {
-					RegisterService rService = ServiceFactory.getInstance().getRegisterService();
-					rService.recalculateRegister(f, e, ServiceHelper.NO_TRANSACTION);
 				}
 				LOGGER.debug("SERVICE : FacultyServiceImpl.updateFaculty (f = {})", f);
 				return f;
@@ -244,6 +310,9 @@ public class FacultyServiceImpl implements FacultyService {
 			DAOFactory factory = DAOFactory.getInstance();
 			FacultyDAO dao = factory.getFacultyDAO();
 			dao.deleteFaculty(id, ServiceHelper.NO_TRANSACTION);
+			FacultyStatisticsCache.getInstance().evict(id);
+			RankingEngine.getInstance().discard(id);
+			ServiceFactory.getInstance().getDataVersionService().catalogChanged();
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to delete the faculty", ex);
 		}
@@ -0,0 +1,360 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.FacultyDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.ranking.RankingSnapshot;
+import main.by.epam.admissionweb.service.DataVersionService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>FacultyStatisticsCache</code> представляет собой кэш статистики
+ * факультетов (проходной балл и количество записавшихся абитуриентов),
+ * отображаемой в списке факультетов.
+ * <p>
+ * Кэш работает в режиме "stale-while-revalidate": если ведомость факультета
+ * изменилась, клиенту отдается последнее вычисленное значение, а пересчет
+ * выполняется в фоновом потоке не раньше, чем через допустимое время
+ * устаревания после предыдущего вычисления. Для каждого факультета
+ * одновременно может быть запланирован только один пересчет, поэтому
+ * количество запросов к базе данных не зависит от количества клиентов: не
+ * более одного пересчета на факультет за период устаревания.
+ * <p>
+ * Актуальность значения определяется по версиям данных сервиса
+ * {@link DataVersionService}. Изменение набора делает все значения
+ * недействительными, и они вычисляются заново при обращении. После каждого
+ * фонового пересчета увеличивается версия статистики, что меняет тег версии
+ * страницы списка факультетов.
+ * <p>
+ * Режим кэширования и время устаревания задаются в файле свойств
+ * сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>FacultyStatisticsCache</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see DataVersionService
+ * @see ServiceParameter
+ *
+ */
+public class FacultyStatisticsCache {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Режим кэширования "stale-while-revalidate"
+	 */
+	private static final String MODE_STALE = "stale";
+
+	/**
+	 * Время устаревания по умолчанию (в миллисекундах)
+	 */
+	private static final int STALENESS_DEFAULT = 2000;
+
+	/**
+	 * Имя фонового потока пересчета статистики
+	 */
+	private static final String THREAD_NAME = "faculty-statistics-refresh";
+
+	/**
+	 * Объект класса <code>FacultyStatisticsCache</code>, создается один раз
+	 * при загрузке класса в память
+	 */
+	private static final FacultyStatisticsCache INSTANCE = new FacultyStatisticsCache();
+
+	/**
+	 * Включен ли режим кэширования
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Допустимое время устаревания значения (в миллисекундах)
+	 */
+	private final long staleness;
+
+	/**
+	 * Кэшированные значения (ключ - id факультета)
+	 */
+	private final ConcurrentMap<Integer, Statistics> entries = new ConcurrentHashMap<Integer, Statistics>();
+
+	/**
+	 * Факультеты, для которых запланирован пересчет (защита от повторного
+	 * планирования)
+	 */
+	private final ConcurrentMap<Integer, Boolean> refreshing = new ConcurrentHashMap<Integer, Boolean>();
+
+	/**
+	 * Планировщик фонового пересчета
+	 */
+	private final ScheduledExecutorService executor;
+
+	private FacultyStatisticsCache() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		enabled = MODE_STALE.equals(manager.getValue(ServiceParameter.STATISTICS_CACHE_MODE, MODE_STALE));
+		staleness = manager.getIntValue(ServiceParameter.STATISTICS_CACHE_STALENESS, STALENESS_DEFAULT);
+		executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, THREAD_NAME);
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Получение объекта класса <code>FacultyStatisticsCache</code>
+	 *
+	 * @return объект класса <code>FacultyStatisticsCache</code>
+	 */
+	public static FacultyStatisticsCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Проверка, включен ли режим кэширования статистики
+	 *
+	 * @return true - режим кэширования включен
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Заполнение проходных баллов и количества абитуриентов факультетов списка
+	 * из кэша.
+	 * <p>
+	 * Если для факультета опубликован снимок рейтинга
+	 * ({@link RankingEngine#getPublishedSnapshot(int, int)}), проходной балл и
+	 * количество абитуриентов берутся из него. Отсутствующие значения (а также
+	 * все значения после изменения набора) вычисляются сразу, для устаревших
+	 * значений планируется фоновый пересчет.
+	 *
+	 * @param list
+	 *            список факультетов
+	 * @param e
+	 *            набор, в контексте которого подсчитывается количество
+	 *            записавшихся абитуриентов
+	 * @throws DAOException
+	 *             при вычислении отсутствующего значения произошла ошибка
+	 */
+	public void fill(List<Faculty> list, Enroll e) throws DAOException {
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		RankingEngine engine = RankingEngine.getInstance();
+		for (Faculty f : list) {
+			RankingSnapshot snapshot = e == null ? null : engine.getPublishedSnapshot(f.getId(), e.getId());
+			if (snapshot != null) {
+				f.setPassRate(snapshot.getPassRate());
+				f.setApplicantsCount(snapshot.size());
+				continue;
+			}
+			long enrollVersion = vService.getEnrollVersion();
+			long registerVersion = vService.getRegisterVersion(f.getId());
+			Statistics s = entries.get(f.getId());
+			if (s == null || s.enrollVersion != enrollVersion) {
+				s = load(f.getId(), e, enrollVersion, registerVersion);
+			} else if (s.registerVersion != registerVersion) {
+				scheduleRefresh(f.getId(), s);
+			}
+			if (s != null) {
+				f.setPassRate(s.passRate);
+				f.setApplicantsCount(s.applicantsCount);
+			}
+		}
+	}
+
+	/**
+	 * Удаление значения факультета из кэша
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	public void evict(int facultyId) {
+		entries.remove(facultyId);
+	}
+
+	/**
+	 * Остановка фонового пересчета (вызывается при завершении работы
+	 * приложения)
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Вычисление статистики факультета и сохранение ее в кэше. Версии данных
+	 * должны быть получены до обращения к источнику данных.
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param e
+	 *            набор
+	 * @param enrollVersion
+	 *            версия набора
+	 * @param registerVersion
+	 *            версия ведомости факультета
+	 * @return вычисленная статистика; null - факультет не найден
+	 * @throws DAOException
+	 *             при чтении данных произошла ошибка
+	 */
+	private Statistics load(int facultyId, Enroll e, long enrollVersion, long registerVersion)
+			throws DAOException {
+		FacultyDAO dao = DAOFactory.getInstance().getFacultyDAO();
+		Faculty f = dao.getFacultyStatistics(facultyId, e, ServiceHelper.NO_TRANSACTION);
+		if (f == null) {
+			entries.remove(facultyId);
+			return null;
+		}
+		Statistics s = new Statistics(f.getPassRate(), f.getApplicantsCount(), enrollVersion, registerVersion);
+		store(facultyId, s);
+		return s;
+	}
+
+	/**
+	 * Сохранение значения в кэше. Значение не заменяет более новое значение,
+	 * вычисленное параллельно.
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param s
+	 *            новое значение
+	 */
+	private void store(int facultyId, Statistics s) {
+		while (true) {
+			Statistics old = entries.get(facultyId);
+			if (old == null) {
+				if (entries.putIfAbsent(facultyId, s) == null) {
+					return;
+				}
+			} else if (old.isNewerThan(s)) {
+				return;
+			} else if (entries.replace(facultyId, old, s)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Планирование фонового пересчета статистики факультета. Пересчет
+	 * выполняется не раньше, чем через допустимое время устаревания после
+	 * предыдущего вычисления; повторное планирование до завершения пересчета
+	 * игнорируется.
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param s
+	 *            текущее (устаревшее) значение
+	 */
+	private void scheduleRefresh(final int facultyId, Statistics s) {
+		if (refreshing.putIfAbsent(facultyId, Boolean.TRUE) != null) {
+			return;
+		}
+		long delay = Math.max(0, s.computed + staleness - System.currentTimeMillis());
+		LOGGER.debug("SERVICE : FacultyStatisticsCache.scheduleRefresh (faculty = {}, delay = {})", facultyId, delay);
+		executor.schedule(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					refresh(facultyId);
+				} finally {
+					refreshing.remove(facultyId);
+				}
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Фоновый пересчет статистики факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	private void refresh(int facultyId) {
+		try {
+			DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+			long enrollVersion = vService.getEnrollVersion();
+			long registerVersion = vService.getRegisterVersion(facultyId);
+			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
+			load(facultyId, e, enrollVersion, registerVersion);
+			vService.statisticsChanged();
+		} catch (DAOException | ServiceException ex) {
+			LOGGER.error("SERVICE : Unable to refresh faculty statistics", ex);
+		}
+	}
+
+	/**
+	 * Статический вложенный класс <code>Statistics</code> представляет собой
+	 * неизменяемое значение статистики факультета вместе с версиями данных, на
+	 * основе которых оно вычислено.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Statistics {
+
+		/**
+		 * Проходной балл
+		 */
+		private final int passRate;
+
+		/**
+		 * Количество записавшихся абитуриентов
+		 */
+		private final int applicantsCount;
+
+		/**
+		 * Версия набора
+		 */
+		private final long enrollVersion;
+
+		/**
+		 * Версия ведомости факультета
+		 */
+		private final long registerVersion;
+
+		/**
+		 * Время вычисления
+		 */
+		private final long computed = System.currentTimeMillis();
+
+		Statistics(int passRate, int applicantsCount, long enrollVersion, long registerVersion) {
+			this.passRate = passRate;
+			this.applicantsCount = applicantsCount;
+			this.enrollVersion = enrollVersion;
+			this.registerVersion = registerVersion;
+		}
+
+		/**
+		 * Проверка, вычислено ли данное значение по более новым данным, чем
+		 * указанное
+		 *
+		 * @param s
+		 *            значение для сравнения
+		 * @return true - данное значение новее
+		 */
+		boolean isNewerThan(Statistics s) {
+			if (enrollVersion != s.enrollVersion) {
+				return enrollVersion > s.enrollVersion;
+			}
+			return registerVersion > s.registerVersion;
+		}
+	}
+
+}
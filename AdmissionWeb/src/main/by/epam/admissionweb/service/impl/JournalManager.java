@@ -0,0 +1,279 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.journal.JournalReader;
+import main.by.epam.admissionweb.journal.RegisterJournal;
+
+/**
+ * Класс <code>JournalManager</code> ведет журнал событий ведомости
+ * ({@link RegisterJournal}): записи абитуриентов на факультеты, отмены
+ * записи, изменения статусов и планов набора.
+ * <p>
+ * События попадают в журнал только после фиксации транзакции, в которой
+ * изменена ведомость. События, возникающие внутри чужой транзакции (изменения
+ * статусов при пересчете ведомости в рамках записи абитуриента или отмены
+ * записи), откладываются для факультета ({@link #stage(int, List)}) и
+ * записываются в журнал вместе с событиями фиксирующей операции
+ * ({@link #commit(int, List)}) либо отбрасываются при ее отмене
+ * ({@link #discard(int)}). Все эти методы вызываются под блокировкой
+ * факультета ({@link FacultyLockManager}).
+ * <p>
+ * Журнал сбрасывается на диск группами событий и в фоновом потоке с заданным
+ * периодом. Ошибка записи в журнал не отменяет зафиксированное изменение
+ * ведомости и только записывается в лог.
+ * <p>
+ * Путь к файлу журнала и параметры сброса на диск задаются в файле свойств
+ * сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>JournalManager</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see RegisterJournal
+ * @see ServiceParameter
+ *
+ */
+public class JournalManager {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Количество записей в отображаемой области журнала
+	 */
+	private static final int REGION_RECORDS = 65536;
+
+	/**
+	 * Количество событий, после которого журнал сбрасывается на диск, по
+	 * умолчанию
+	 */
+	private static final int SYNC_BATCH_DEFAULT = 64;
+
+	/**
+	 * Период сброса журнала на диск по умолчанию (в миллисекундах)
+	 */
+	private static final int SYNC_INTERVAL_DEFAULT = 200;
+
+	/**
+	 * Имя фонового потока сброса журнала на диск
+	 */
+	private static final String THREAD_NAME = "register-journal-sync";
+
+	/**
+	 * Объект класса <code>JournalManager</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final JournalManager INSTANCE = new JournalManager();
+
+	/**
+	 * Журнал (null - журнал не ведется)
+	 */
+	private final RegisterJournal journal;
+
+	/**
+	 * Файл журнала
+	 */
+	private final File file;
+
+	/**
+	 * Отложенные события (ключ - id факультета)
+	 */
+	private final ConcurrentMap<Integer, List<JournalEvent>> staged = new ConcurrentHashMap<Integer, List<JournalEvent>>();
+
+	/**
+	 * Планировщик сброса журнала на диск
+	 */
+	private final ScheduledExecutorService executor;
+
+	private JournalManager() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		String path = manager.getValue(ServiceParameter.REGISTER_JOURNAL_PATH, "").trim();
+		int syncBatch = manager.getIntValue(ServiceParameter.REGISTER_JOURNAL_SYNC_BATCH, SYNC_BATCH_DEFAULT);
+		int syncInterval = Math.max(1,
+				manager.getIntValue(ServiceParameter.REGISTER_JOURNAL_SYNC_INTERVAL, SYNC_INTERVAL_DEFAULT));
+		RegisterJournal opened = null;
+		file = path.isEmpty() ? null : new File(path);
+		if (file != null) {
+			try {
+				opened = new RegisterJournal(file, REGION_RECORDS, syncBatch);
+				LOGGER.info("SERVICE : Register journal {} opened (last event = {})", path, opened.getSequence());
+			} catch (IOException ex) {
+				LOGGER.error("SERVICE : Unable to open register journal {}", path, ex);
+			}
+		}
+		journal = opened;
+		if (journal == null) {
+			executor = null;
+			return;
+		}
+		executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, THREAD_NAME);
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		executor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					journal.sync();
+				} catch (IOException ex) {
+					LOGGER.error("SERVICE : Unable to sync register journal", ex);
+				}
+			}
+		}, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Получение объекта класса <code>JournalManager</code>
+	 *
+	 * @return объект класса <code>JournalManager</code>
+	 */
+	public static JournalManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Проверка, ведется ли журнал
+	 *
+	 * @return true - журнал ведется
+	 */
+	public boolean isEnabled() {
+		return journal != null;
+	}
+
+	/**
+	 * Получение номера последнего записанного события. Вызванный под
+	 * блокировкой факультета, метод возвращает отметку, после которой в
+	 * журнал попадут только будущие события факультета.
+	 *
+	 * @return номер события; 0 - журнал пуст или не ведется
+	 */
+	long getSequence() {
+		return journal == null ? 0 : journal.getSequence();
+	}
+
+	/**
+	 * Открытие журнала на чтение
+	 *
+	 * @return объект чтения журнала
+	 * @throws IOException
+	 *             журнал не ведется или произошла ошибка чтения
+	 */
+	JournalReader openReader() throws IOException {
+		if (journal == null) {
+			throw new IOException("Register journal is disabled");
+		}
+		return new JournalReader(file);
+	}
+
+	/**
+	 * Запись зафиксированного события в журнал
+	 *
+	 * @param e
+	 *            событие
+	 */
+	void append(JournalEvent e) {
+		append(Collections.singletonList(e));
+	}
+
+	/**
+	 * Откладывание событий факультета до фиксации транзакции
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param events
+	 *            события
+	 */
+	void stage(int facultyId, List<JournalEvent> events) {
+		if (journal == null || events.isEmpty()) {
+			return;
+		}
+		List<JournalEvent> list = staged.get(facultyId);
+		if (list == null) {
+			list = new ArrayList<JournalEvent>();
+			staged.put(facultyId, list);
+		}
+		list.addAll(events);
+	}
+
+	/**
+	 * Запись в журнал событий зафиксированной операции и следующих за ними
+	 * отложенных событий факультета
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param events
+	 *            события операции
+	 */
+	void commit(int facultyId, List<JournalEvent> events) {
+		if (journal == null) {
+			return;
+		}
+		List<JournalEvent> list = staged.remove(facultyId);
+		if (list == null) {
+			append(events);
+		} else {
+			list.addAll(0, events);
+			append(list);
+		}
+	}
+
+	/**
+	 * Отбрасывание отложенных событий факультета (вызывается при отмене
+	 * транзакции)
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	void discard(int facultyId) {
+		staged.remove(facultyId);
+	}
+
+	/**
+	 * Остановка сброса журнала и закрытие журнала (вызывается при завершении
+	 * работы приложения)
+	 */
+	public void shutdown() {
+		if (journal == null) {
+			return;
+		}
+		executor.shutdownNow();
+		try {
+			journal.close();
+		} catch (IOException ex) {
+			LOGGER.error("SERVICE : Unable to close register journal", ex);
+		}
+	}
+
+	private void append(List<JournalEvent> events) {
+		if (journal == null || events.isEmpty()) {
+			return;
+		}
+		try {
+			journal.append(events);
+		} catch (IOException ex) {
+			LOGGER.error("SERVICE : Unable to write {} events to register journal", events.size(), ex);
+		}
+	}
+
+}
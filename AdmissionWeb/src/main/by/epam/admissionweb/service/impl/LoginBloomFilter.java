@@ -0,0 +1,182 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Класс <code>LoginBloomFilter</code> представляет собой фильтр Блума логинов
+ * абитуриентов - битовый массив, в котором для каждого логина устанавливается
+ * несколько битов, номера которых вычисляются хеш-функциями логина.
+ * <p>
+ * Если хотя бы один из битов логина не установлен, логин гарантированно не
+ * добавлялся в фильтр. Если установлены все биты, логин возможно был добавлен
+ * (с вероятностью ложного срабатывания, заданной при создании фильтра), и
+ * наличие логина необходимо проверить в источнике данных.
+ * <p>
+ * Логины сравниваются без учета регистра (как и в уникальном индексе логина в
+ * базе данных), поэтому перед вычислением хеш-функций логин приводится к
+ * нижнему регистру.
+ * <p>
+ * Номера битов вычисляются двойным хешированием: из 64-битного хеша FNV-1a
+ * логина берутся две 32-битные половины <code>h1</code> и <code>h2</code>, и
+ * номер i-го бита равен <code>h1 + i * h2</code> по модулю размера массива.
+ * <p>
+ * Добавление логинов и проверка их наличия могут выполняться одновременно из
+ * разных потоков. Удаление логинов фильтр не поддерживает.
+ *
+ * @author Daria Krupenko
+ * @see LoginFilterManager
+ *
+ */
+public class LoginBloomFilter {
+
+	/**
+	 * Минимальное количество логинов, на которое рассчитывается фильтр
+	 */
+	private static final int MIN_CAPACITY = 1024;
+
+	/**
+	 * Максимальное количество хеш-функций
+	 */
+	private static final int MAX_HASHES = 16;
+
+	/**
+	 * Начальное значение хеша FNV-1a
+	 */
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+	/**
+	 * Множитель хеша FNV-1a
+	 */
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * Битовый массив фильтра
+	 */
+	private final AtomicLongArray bits;
+
+	/**
+	 * Количество битов фильтра
+	 */
+	private final int bitsNumber;
+
+	/**
+	 * Количество хеш-функций
+	 */
+	private final int hashesNumber;
+
+	/**
+	 * Создание пустого фильтра
+	 *
+	 * @param capacity
+	 *            количество логинов, на которое рассчитывается фильтр (при
+	 *            большем количестве логинов вероятность ложного срабатывания
+	 *            увеличивается)
+	 * @param falsePositiveRate
+	 *            вероятность ложного срабатывания (от 0 до 1 не включительно)
+	 */
+	public LoginBloomFilter(int capacity, double falsePositiveRate) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+		}
+		long n = Math.max(capacity, MIN_CAPACITY);
+		double ln2 = Math.log(2);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+		m = Math.min((m + 63) / 64 * 64, (long) Integer.MAX_VALUE / 64 * 64);
+		bitsNumber = (int) m;
+		bits = new AtomicLongArray(bitsNumber / 64);
+		int k = (int) Math.round((double) bitsNumber / n * ln2);
+		hashesNumber = Math.max(1, Math.min(MAX_HASHES, k));
+	}
+
+	/**
+	 * Добавление логина в фильтр
+	 *
+	 * @param login
+	 *            логин абитуриента
+	 */
+	public void add(String login) {
+		long hash = hash(login);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < hashesNumber; i++) {
+			int index = index(h1 + i * h2);
+			int word = index >>> 6;
+			long mask = 1L << index;
+			long value = bits.get(word);
+			while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+				value = bits.get(word);
+			}
+		}
+	}
+
+	/**
+	 * Проверка того, что логин мог быть добавлен в фильтр
+	 *
+	 * @param login
+	 *            логин абитуриента
+	 * @return false - логин гарантированно не добавлялся в фильтр; true - логин
+	 *         возможно был добавлен в фильтр
+	 */
+	public boolean mightContain(String login) {
+		long hash = hash(login);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < hashesNumber; i++) {
+			int index = index(h1 + i * h2);
+			if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Получение количества битов фильтра
+	 *
+	 * @return количество битов фильтра
+	 */
+	public int getBitsNumber() {
+		return bitsNumber;
+	}
+
+	/**
+	 * Получение количества хеш-функций фильтра
+	 *
+	 * @return количество хеш-функций
+	 */
+	public int getHashesNumber() {
+		return hashesNumber;
+	}
+
+	/**
+	 * Вычисление номера бита по значению хеш-функции
+	 *
+	 * @param hash
+	 *            значение хеш-функции
+	 * @return номер бита
+	 */
+	private int index(int hash) {
+		return (hash & Integer.MAX_VALUE) % bitsNumber;
+	}
+
+	/**
+	 * Вычисление 64-битного хеша FNV-1a логина, приведенного к нижнему
+	 * регистру
+	 *
+	 * @param login
+	 *            логин абитуриента
+	 * @return хеш логина
+	 */
+	private static long hash(String login) {
+		String key = login.toLowerCase(Locale.ROOT);
+		long hash = FNV_OFFSET;
+		for (int i = 0; i < key.length(); i++) {
+			char c = key.charAt(i);
+			hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+			hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+}
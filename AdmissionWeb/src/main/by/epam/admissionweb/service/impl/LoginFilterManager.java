@@ -0,0 +1,153 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.ApplicantDAO;
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+
+/**
+ * Класс <code>LoginFilterManager</code> управляет фильтром Блума логинов
+ * абитуриентов ({@link LoginBloomFilter}), который используется для проверки
+ * доступности логина при регистрации абитуриента.
+ * <p>
+ * Фильтр строится при запуске приложения по логинам всех абитуриентов и
+ * дополняется логином каждого зарегистрированного (или изменившего логин)
+ * абитуриента. Логины, добавленные во время построения фильтра, добавляются и
+ * в строящийся фильтр, поэтому фильтр не пропускает ни одного логина.
+ * <p>
+ * Пока фильтр не построен (или если он отключен в файле свойств
+ * сервис-объектов), любой логин считается возможно задействованным, и его
+ * наличие проверяется в источнике данных.
+ * <p>
+ * Фильтр рассчитывается на удвоенное количество абитуриентов на момент
+ * запуска; при большем количестве логинов увеличивается только доля
+ * проверок, выполняемых в источнике данных.
+ * <p>
+ * Получение объекта класса <code>LoginFilterManager</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see LoginBloomFilter
+ * @see ServiceParameter
+ *
+ */
+public class LoginFilterManager {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Вероятность ложного срабатывания фильтра по умолчанию (в процентах)
+	 */
+	private static final int FALSE_POSITIVE_PERCENT_DEFAULT = 1;
+
+	/**
+	 * Объект класса <code>LoginFilterManager</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final LoginFilterManager INSTANCE = new LoginFilterManager();
+
+	/**
+	 * Используется ли фильтр
+	 */
+	private final boolean isEnabled;
+
+	/**
+	 * Вероятность ложного срабатывания фильтра
+	 */
+	private final double falsePositiveRate;
+
+	/**
+	 * Построенный фильтр (null - фильтр еще не построен)
+	 */
+	private volatile LoginBloomFilter filter;
+
+	/**
+	 * Строящийся фильтр (null - фильтр не строится)
+	 */
+	private volatile LoginBloomFilter pending;
+
+	private LoginFilterManager() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		isEnabled = Boolean.parseBoolean(manager.getValue(ServiceParameter.LOGIN_FILTER, "true").trim());
+		int percent = manager.getIntValue(ServiceParameter.LOGIN_FILTER_FALSE_POSITIVE_PERCENT,
+				FALSE_POSITIVE_PERCENT_DEFAULT);
+		falsePositiveRate = Math.max(1, Math.min(percent, 50)) / 100.0;
+	}
+
+	/**
+	 * Получение объекта класса <code>LoginFilterManager</code>
+	 *
+	 * @return объект класса <code>LoginFilterManager</code>
+	 */
+	public static LoginFilterManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Построение фильтра по логинам всех абитуриентов (вызывается при запуске
+	 * приложения после обновления схемы базы данных). Ошибка построения
+	 * записывается в лог, при этом все проверки логинов выполняются в
+	 * источнике данных.
+	 */
+	public synchronized void start() {
+		if (!isEnabled || filter != null) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		ApplicantDAO dao = DAOFactory.getInstance().getApplicantDAO();
+		try {
+			int count = dao.getApplicantsNumber(ServiceHelper.NO_TRANSACTION);
+			LoginBloomFilter f = new LoginBloomFilter(2 * count, falsePositiveRate);
+			pending = f;
+			List<String> logins = dao.getLoginsList(ServiceHelper.NO_TRANSACTION);
+			for (String login : logins) {
+				f.add(login);
+			}
+			filter = f;
+			LOGGER.info("SERVICE : Login filter built for {} logins in {} ms ({} bits, {} hashes)", logins.size(),
+					System.currentTimeMillis() - start, f.getBitsNumber(), f.getHashesNumber());
+		} catch (DAOException ex) {
+			LOGGER.error("SERVICE : Unable to build login filter", ex);
+		} finally {
+			pending = null;
+		}
+	}
+
+	/**
+	 * Добавление логина абитуриента в фильтр
+	 *
+	 * @param login
+	 *            логин абитуриента
+	 */
+	public void add(String login) {
+		LoginBloomFilter f = pending;
+		if (f != null) {
+			f.add(login);
+		}
+		f = filter;
+		if (f != null) {
+			f.add(login);
+		}
+	}
+
+	/**
+	 * Проверка того, что логин может быть задействован абитуриентом
+	 *
+	 * @param login
+	 *            логин абитуриента
+	 * @return false - логин гарантированно свободен; true - логин возможно
+	 *         задействован, и его необходимо проверить в источнике данных
+	 */
+	public boolean mightBeRegistered(String login) {
+		LoginBloomFilter f = filter;
+		return f == null || f.mightContain(login);
+	}
+
+}
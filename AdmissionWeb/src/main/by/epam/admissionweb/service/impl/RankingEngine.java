@@ -0,0 +1,595 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.RegisterDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Enroll;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.journal.JournalReader;
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RankingSnapshot;
+import main.by.epam.admissionweb.ranking.RegisterCheckpoint;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>RankingEngine</code> хранит в памяти рейтинги абитуриентов
+ * факультетов ({@link FacultyRanking}) в рамках наборов и поддерживает их в
+ * актуальном состоянии при записи абитуриентов на факультеты и отмене записи.
+ * <p>
+ * Рейтинг факультета загружается из источника данных при первом обращении к
+ * нему, после чего изменяется инкрементально за O(log n). Если изменение
+ * ведомости не удалось зафиксировать, рейтинг факультета сбрасывается и при
+ * следующем обращении загружается заново.
+ * <p>
+ * Загрузка и изменение рейтинга одного факультета выполняются под блокировкой
+ * факультета ({@link FacultyLockManager}), которую захватывают операции
+ * изменения ведомости. Поэтому рейтинг не может быть загружен, пока изменение
+ * ведомости этого факультета не зафиксировано.
+ * <p>
+ * Для чтения ведомости факультета объект публикует неизменяемые снимки
+ * рейтинга ({@link RankingSnapshot}). Снимок строится при первом чтении
+ * ведомости факультета, после чего заново публикуется после каждого
+ * зафиксированного изменения ведомости ({@link #publish(Faculty, Enroll)}).
+ * Снимок хранится в атомарной ссылке, поэтому чтение опубликованного снимка
+ * не требует ни блокировок, ни обращений к источнику данных, а изменения
+ * ведомости не блокируют чтение. Если изменение ведомости не удалось
+ * зафиксировать, опубликованный снимок остается в силе, так как отражает
+ * последнее зафиксированное состояние ведомости.
+ * <p>
+ * Колоночные хранилища ведомостей текущего набора периодически сохраняются
+ * в контрольную точку ({@link #checkpoint(int)}) и восстанавливаются из нее
+ * при запуске приложения ({@link #restore(RegisterCheckpoint, Enroll, JournalReader)}).
+ * <p>
+ * Получение объекта класса <code>RankingEngine</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see FacultyRanking
+ *
+ */
+public class RankingEngine {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Объект класса <code>RankingEngine</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final RankingEngine INSTANCE = new RankingEngine();
+
+
+	/**
+	 * Загруженные рейтинги (ключ - id факультета и id набора)
+	 */
+	private final ConcurrentMap<Long, FacultyRanking> rankings = new ConcurrentHashMap<Long, FacultyRanking>();
+
+	/**
+	 * Колоночные хранилища ведомостей факультетов, по которым строятся снимки
+	 * (ключ - id факультета и id набора; изменяются под блокировкой
+	 * факультета)
+	 */
+	private final ConcurrentMap<Long, RegisterColumns> registers = new ConcurrentHashMap<Long, RegisterColumns>();
+
+	/**
+	 * Опубликованные снимки рейтингов (ключ - id факультета и id набора)
+	 */
+	private final ConcurrentMap<Long, AtomicReference<RankingSnapshot>> snapshots = new ConcurrentHashMap<Long, AtomicReference<RankingSnapshot>>();
+
+	private RankingEngine() {
+	}
+
+	/**
+	 * Получение объекта класса <code>RankingEngine</code>
+	 *
+	 * @return объект класса <code>RankingEngine</code>
+	 */
+	public static RankingEngine getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Получение рейтинга факультета в рамках набора. Если рейтинг не загружен,
+	 * он загружается из источника данных (в рамках транзакции с кодом
+	 * <code>trCode</code>, если она указана).
+	 *
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param trCode
+	 *            код транзакции
+	 * @return рейтинг факультета
+	 * @throws DAOException
+	 *             при загрузке рейтинга произошла ошибка
+	 */
+	public FacultyRanking getRanking(Faculty f, Enroll e, int trCode) throws DAOException {
+		Long key = key(f.getId(), e.getId());
+		FacultyRanking ranking = rankings.get(key);
+		if (ranking != null) {
+			return ranking;
+		}
+		Lock lock = FacultyLockManager.getInstance().getLock(f.getId());
+		lock.lock();
+		try {
+			ranking = rankings.get(key);
+			if (ranking != null) {
+				return ranking;
+			}
+			ranking = new FacultyRanking();
+			RegisterColumns columns = registers.get(key);
+			if (columns != null) {
+				for (int row = 0; row < columns.size(); row++) {
+					ranking.add(new RankKey(columns.getApplicantId(row), columns.getTotalScore(row),
+							columns.getCertificateScore(row)));
+				}
+			} else {
+				List<RankKey> keys = DAOFactory.getInstance().getRegisterDAO().getRankKeys(f, e, trCode);
+				for (RankKey k : keys) {
+					ranking.add(k);
+				}
+			}
+			rankings.put(key, ranking);
+			LOGGER.debug("SERVICE : RankingEngine.getRanking (loaded faculty = {}, enroll = {}, size = {})",
+					f.getId(), e.getId(), ranking.size());
+			return ranking;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Получение опубликованного снимка рейтинга факультета в рамках набора.
+	 * <p>
+	 * Если снимок опубликован, он возвращается без блокировок и обращений к
+	 * источнику данных. В противном случае снимок строится под блокировкой
+	 * факультета по зафиксированному состоянию ведомости.
+	 *
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @return снимок рейтинга факультета
+	 * @throws DAOException
+	 *             при загрузке ведомости произошла ошибка
+	 */
+	public RankingSnapshot getSnapshot(Faculty f, Enroll e) throws DAOException {
+		Long key = key(f.getId(), e.getId());
+		AtomicReference<RankingSnapshot> reference = snapshots.get(key);
+		RankingSnapshot snapshot = reference == null ? null : reference.get();
+		if (snapshot != null) {
+			return snapshot;
+		}
+		Lock lock = FacultyLockManager.getInstance().getLock(f.getId());
+		lock.lock();
+		try {
+			reference = getReference(key);
+			snapshot = reference.get();
+			if (snapshot == null) {
+				snapshot = buildSnapshot(f, e);
+				reference.set(snapshot);
+			}
+			return snapshot;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Получение опубликованного снимка рейтинга факультета без построения
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @return снимок рейтинга; null - снимок не опубликован
+	 */
+	public RankingSnapshot getPublishedSnapshot(int facultyId, int enrollId) {
+		AtomicReference<RankingSnapshot> reference = snapshots.get(key(facultyId, enrollId));
+		return reference == null ? null : reference.get();
+	}
+
+	/**
+	 * Публикация нового снимка рейтинга факультета после фиксации изменения
+	 * ведомости. Метод вызывается под блокировкой факультета. Если снимок
+	 * факультета еще не запрашивался, он будет построен при первом чтении.
+	 * Если снимок не удалось построить, опубликованный снимок сбрасывается и
+	 * строится заново при следующем чтении.
+	 *
+	 * @param f
+	 *            факультет (с актуальным планом набора)
+	 * @param e
+	 *            набор
+	 */
+	public void publish(Faculty f, Enroll e) {
+		AtomicReference<RankingSnapshot> reference = snapshots.get(key(f.getId(), e.getId()));
+		if (reference == null || reference.get() == null) {
+			return;
+		}
+		try {
+			reference.set(buildSnapshot(f, e));
+		} catch (DAOException ex) {
+			LOGGER.error("SERVICE : RankingEngine.publish (unable to build snapshot, faculty = {})", f.getId(), ex);
+			reference.set(null);
+		}
+	}
+
+	/**
+	 * Добавление записи ведомости в рейтинг факультета, если он загружен
+	 *
+	 * @param r
+	 *            запись ведомости
+	 */
+	public void add(RegisterRecord r) {
+		Long key = key(r.getFaculty().getId(), r.getEnroll().getId());
+		FacultyRanking ranking = rankings.get(key);
+		if (ranking != null) {
+			ranking.add(toKey(r));
+		}
+		RegisterColumns columns = registers.get(key);
+		if (columns != null) {
+			columns.put(r);
+		}
+	}
+
+	/**
+	 * Удаление абитуриента из рейтинга факультета, если он загружен
+	 *
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @param applicantId
+	 *            id абитуриента
+	 */
+	public void remove(Faculty f, Enroll e, int applicantId) {
+		Long key = key(f.getId(), e.getId());
+		FacultyRanking ranking = rankings.get(key);
+		if (ranking != null) {
+			ranking.remove(applicantId);
+		}
+		RegisterColumns columns = registers.get(key);
+		if (columns != null) {
+			columns.remove(applicantId);
+		}
+	}
+
+	/**
+	 * Сброс рейтингов факультета во всех наборах. Опубликованные снимки
+	 * сохраняются, так как отражают последнее зафиксированное состояние
+	 * ведомости.
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	public void invalidate(int facultyId) {
+		for (Long key : rankings.keySet()) {
+			if ((int) (key >>> Integer.SIZE) == facultyId) {
+				rankings.remove(key);
+			}
+		}
+		for (Long key : registers.keySet()) {
+			if ((int) (key >>> Integer.SIZE) == facultyId) {
+				registers.remove(key);
+			}
+		}
+		LOGGER.debug("SERVICE : RankingEngine.invalidate (faculty = {})", facultyId);
+	}
+
+	/**
+	 * Сброс рейтингов и снимков факультета во всех наборах (вызывается при
+	 * удалении факультета)
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 */
+	public void discard(int facultyId) {
+		invalidate(facultyId);
+		for (Long key : snapshots.keySet()) {
+			if ((int) (key >>> Integer.SIZE) == facultyId) {
+				snapshots.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Сброс снимков, содержащих абитуриента (вызывается при изменении данных
+	 * абитуриента, которые отображаются в ведомости)
+	 *
+	 * @param applicantId
+	 *            id абитуриента
+	 */
+	public void applicantChanged(int applicantId) {
+		for (Map.Entry<Long, AtomicReference<RankingSnapshot>> entry : snapshots.entrySet()) {
+			RankingSnapshot snapshot = entry.getValue().get();
+			if (snapshot != null && snapshot.getPosition(applicantId) >= 0) {
+				Lock lock = FacultyLockManager.getInstance().getLock((int) (entry.getKey() >>> Integer.SIZE));
+				lock.lock();
+				try {
+					registers.remove(entry.getKey());
+					entry.getValue().set(null);
+				} finally {
+					lock.unlock();
+				}
+				LOGGER.debug("SERVICE : RankingEngine.applicantChanged (applicant = {})", applicantId);
+			}
+		}
+	}
+
+	/**
+	 * Сброс всех рейтингов и снимков (вызывается при изменении набора)
+	 */
+	public void clear() {
+		rankings.clear();
+		registers.clear();
+		snapshots.clear();
+		LOGGER.debug("SERVICE : RankingEngine.clear()");
+	}
+
+	/**
+	 * Формирование разделов контрольной точки ({@link RegisterCheckpoint}) по
+	 * загруженным колоночным хранилищам ведомостей набора. Раздел каждого
+	 * факультета формируется под его блокировкой вместе с отметкой журнала
+	 * событий ведомости, поэтому раздел отражает все события факультета до
+	 * отметки включительно.
+	 *
+	 * @param enrollId
+	 *            id набора
+	 * @return разделы контрольной точки
+	 */
+	public List<byte[]> checkpoint(int enrollId) {
+		List<byte[]> sections = new ArrayList<byte[]>();
+		for (Long key : registers.keySet()) {
+			if ((int) key.longValue() != enrollId) {
+				continue;
+			}
+			int facultyId = (int) (key >>> Integer.SIZE);
+			Lock lock = FacultyLockManager.getInstance().getLock(facultyId);
+			lock.lock();
+			try {
+				RegisterColumns columns = registers.get(key);
+				if (columns != null) {
+					sections.add(RegisterCheckpoint.serialize(facultyId, columns,
+							JournalManager.getInstance().getSequence()));
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return sections;
+	}
+
+	/**
+	 * Восстановление колоночных хранилищ ведомостей набора из контрольной
+	 * точки (вызывается при запуске приложения).
+	 * <p>
+	 * Хранилища факультетов строятся по разделам контрольной точки, после
+	 * чего к ним применяются события журнала, записанные после отметки
+	 * раздела: отмененные записи удаляются, статусы изменяются, а записи,
+	 * добавленные после отметки, читаются из источника данных по одной.
+	 * Хранилище факультета, количество строк которого не совпадает с
+	 * количеством записей в источнике данных, не восстанавливается. Рейтинги
+	 * и снимки строятся по восстановленным хранилищам при первом обращении.
+	 *
+	 * @param checkpoint
+	 *            контрольная точка
+	 * @param e
+	 *            текущий набор (id должен совпадать с id набора контрольной
+	 *            точки)
+	 * @param tail
+	 *            журнал событий ведомости
+	 * @return количество восстановленных факультетов
+	 * @throws DAOException
+	 *             при чтении данных из источника произошла ошибка
+	 * @throws IOException
+	 *             контрольная точка повреждена или произошла ошибка чтения
+	 *             журнала
+	 */
+	public int restore(RegisterCheckpoint checkpoint, Enroll e, JournalReader tail)
+			throws DAOException, IOException {
+		DAOFactory factory = DAOFactory.getInstance();
+		Map<Integer, RegisterColumns> restored = new HashMap<Integer, RegisterColumns>();
+		for (int facultyId : checkpoint.getFacultyIds()) {
+			Faculty f = factory.getFacultyDAO().getFaculty(facultyId, e, ServiceHelper.NO_TRANSACTION);
+			if (f != null) {
+				restored.put(facultyId, checkpoint.getColumns(facultyId, f, e));
+			}
+		}
+		Map<Integer, Set<Integer>> added = new HashMap<Integer, Set<Integer>>();
+		JournalEvent event = null;
+		while ((event = tail.next()) != null) {
+			RegisterColumns columns = restored.get(event.getFacultyId());
+			if (columns == null || event.getEnrollId() != e.getId()
+					|| event.getSequence() <= checkpoint.getSequence(event.getFacultyId())) {
+				continue;
+			}
+			Set<Integer> ids = added.get(event.getFacultyId());
+			if (ids == null) {
+				ids = new HashSet<Integer>();
+				added.put(event.getFacultyId(), ids);
+			}
+			switch (event.getType()) {
+			case JournalEvent.REGISTERED:
+				ids.add(event.getApplicantId());
+				break;
+			case JournalEvent.CANCELLED:
+				ids.remove(event.getApplicantId());
+				columns.remove(event.getApplicantId());
+				break;
+			case JournalEvent.STATUS_CHANGED:
+				int row = columns.rowOf(event.getApplicantId());
+				if (row >= 0) {
+					columns.setStatusCode(row, (byte) event.getValue());
+				}
+				break;
+			default:
+				break;
+			}
+		}
+		RegisterDAO dao = factory.getRegisterDAO();
+		for (Map.Entry<Integer, Set<Integer>> entry : added.entrySet()) {
+			RegisterColumns columns = restored.get(entry.getKey());
+			for (int applicantId : entry.getValue()) {
+				Applicant a = new Applicant();
+				a.setId(applicantId);
+				RegisterRecord r = dao.getRecord(a, e, ServiceHelper.NO_TRANSACTION);
+				if (r != null && r.getEnroll() != null && r.getEnroll().getId() == e.getId()
+						&& r.getFaculty() != null && r.getFaculty().getId() == entry.getKey()) {
+					columns.put(r);
+				} else {
+					columns.remove(applicantId);
+				}
+			}
+		}
+		int restoredNumber = 0;
+		for (Map.Entry<Integer, RegisterColumns> entry : restored.entrySet()) {
+			RegisterColumns columns = entry.getValue();
+			int recordsNumber = dao.getRecordsNumberByFaculty(columns.getFaculty(), e, ServiceHelper.NO_TRANSACTION);
+			if (recordsNumber != columns.size()) {
+				LOGGER.info("SERVICE : RankingEngine.restore (faculty = {} is inconsistent with the database: {} of {})",
+						entry.getKey(), columns.size(), recordsNumber);
+				continue;
+			}
+			Lock lock = FacultyLockManager.getInstance().getLock(entry.getKey());
+			lock.lock();
+			try {
+				registers.putIfAbsent(key(entry.getKey(), e.getId()), columns);
+			} finally {
+				lock.unlock();
+			}
+			restoredNumber++;
+		}
+		LOGGER.debug("SERVICE : RankingEngine.restore (faculties = {}, reloaded = {})", restoredNumber,
+				added.size());
+		return restoredNumber;
+	}
+
+	/**
+	 * Построение снимка рейтинга факультета по зафиксированному состоянию
+	 * ведомости. Метод вызывается под блокировкой факультета.
+	 * <p>
+	 * Колоночное хранилище ведомости факультета загружается при первом
+	 * построении снимка, после чего рейтинг (если он не загружен) строится по
+	 * хранилищу. Если набор не завершен, статусы в снимке определяются местом
+	 * абитуриента в рейтинге.
+	 *
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @return снимок рейтинга факультета
+	 * @throws DAOException
+	 *             при загрузке ведомости произошла ошибка
+	 */
+	private RankingSnapshot buildSnapshot(Faculty f, Enroll e) throws DAOException {
+		Long key = key(f.getId(), e.getId());
+		RegisterColumns columns = registers.get(key);
+		if (columns == null) {
+			columns = loadColumns(f, e);
+			registers.put(key, columns);
+		}
+		RankKey[] keys = getRanking(f, e, ServiceHelper.NO_TRANSACTION).toArray();
+		RankingSnapshot snapshot = null;
+		try {
+			snapshot = new RankingSnapshot(keys, columns, f, e.isStatus());
+		} catch (IllegalArgumentException ex) {
+			invalidate(f.getId());
+			throw new DAOException("DAO : Register is inconsistent with the ranking", ex);
+		}
+		LOGGER.debug("SERVICE : RankingEngine.buildSnapshot (faculty = {}, enroll = {}, snapshot = {})", f.getId(),
+				e.getId(), snapshot);
+		return snapshot;
+	}
+
+	/**
+	 * Загрузка колоночного хранилища ведомости факультета в рамках набора.
+	 * Прочитанные записи ведомости сразу переносятся в колонки и далее не
+	 * хранятся.
+	 *
+	 * @param f
+	 *            факультет
+	 * @param e
+	 *            набор
+	 * @return колоночное хранилище ведомости
+	 * @throws DAOException
+	 *             при загрузке ведомости произошла ошибка
+	 */
+	private RegisterColumns loadColumns(Faculty f, Enroll e) throws DAOException {
+		RegisterDAO dao = DAOFactory.getInstance().getRegisterDAO();
+		RegisterColumns columns = new RegisterColumns(f, e);
+		for (boolean isAdmitted : new boolean[] { true, false }) {
+			List<RegisterRecord> list = dao.getRegisterByStatusAndFaculty(0, ServiceHelper.ELEMENTS_MAX_VALUE,
+					isAdmitted, f, e, ServiceHelper.NO_TRANSACTION);
+			for (RegisterRecord r : list) {
+				columns.put(r);
+			}
+		}
+		return columns;
+	}
+
+	/**
+	 * Получение атомарной ссылки на снимок рейтинга (ссылка создается при
+	 * первом обращении)
+	 *
+	 * @param key
+	 *            ключ карты рейтингов
+	 * @return атомарная ссылка на снимок
+	 */
+	private AtomicReference<RankingSnapshot> getReference(Long key) {
+		AtomicReference<RankingSnapshot> reference = snapshots.get(key);
+		if (reference == null) {
+			AtomicReference<RankingSnapshot> newReference = new AtomicReference<RankingSnapshot>();
+			reference = snapshots.putIfAbsent(key, newReference);
+			if (reference == null) {
+				reference = newReference;
+			}
+		}
+		return reference;
+	}
+
+	/**
+	 * Построение ключа рейтинга по записи ведомости
+	 *
+	 * @param r
+	 *            запись ведомости
+	 * @return ключ рейтинга
+	 */
+	static RankKey toKey(RegisterRecord r) {
+		return new RankKey(r.getApplicant().getId(), r.getTotalScore(), r.getCertificateScore());
+	}
+
+	/**
+	 * Построение ключа рейтинга в карте рейтингов
+	 *
+	 * @param facultyId
+	 *            id факультета
+	 * @param enrollId
+	 *            id набора
+	 * @return ключ карты рейтингов
+	 */
+	private static Long key(int facultyId, int enrollId) {
+		return ((long) facultyId << Integer.SIZE) | (enrollId & 0xFFFFFFFFL);
+	}
+
+}
@@ -1,18 +1,35 @@
 package main.by.epam.admissionweb.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.RecordHandler;
 import main.by.epam.admissionweb.dao.RegisterDAO;
 import main.by.epam.admissionweb.dao.exception.DAOException;
 import main.by.epam.admissionweb.dao.exception.TransactionException;
 import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.ApplicantRank;
 import main.by.epam.admissionweb.entity.Enroll;
 import main.by.epam.admissionweb.entity.Faculty;
 import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.PlanScenario;
+import main.by.epam.admissionweb.ranking.PlanSimulator;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RankingSnapshot;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+import main.by.epam.admissionweb.ranking.StatusDelta;
+import main.by.epam.admissionweb.service.DataVersionService;
 import main.by.epam.admissionweb.service.RegisterService;
 import main.by.epam.admissionweb.service.ServiceFactory;
 import main.by.epam.admissionweb.service.exception.ServiceException;
@@ -37,6 +54,34 @@ public class RegisterServiceImpl implements RegisterService {
 	 */
 	private static final String DEFAULT_STATUS = "TEMP_NOT_ADMITTED";
 
+	/**
+	 * Формат файла выгрузки ведомости XLSX
+	 */
+	private static final String XLSX_FORMAT = "xlsx";
+
+	/**
+	 * Имя листа файла выгрузки ведомости
+	 */
+	private static final String EXPORT_SHEET_NAME = "Register";
+
+	/**
+	 * Заголовок таблицы выгрузки ведомости
+	 */
+	private static final Object[] EXPORT_HEADER = { "faculty", "position", "applicant_id", "name", "email", "phone",
+			"certificate_score", "total_score", "status" };
+
+	/**
+	 * Режим пересчета ведомости, при котором сохраняются только изменившиеся
+	 * статусы
+	 */
+	private static final String MODE_DELTA = "delta";
+
+	/**
+	 * Сохранять ли при пересчете ведомости только изменившиеся статусы
+	 */
+	private static final boolean DELTA_RECALCULATION = MODE_DELTA.equals(ServiceResourceManager.getInstance()
+			.getValue(ServiceParameter.REGISTER_RECALCULATION_MODE, MODE_DELTA));
+
 	/**
 	 * Запись абитуриента на факультет.
 	 * <p>
@@ -45,6 +90,13 @@ public class RegisterServiceImpl implements RegisterService {
 	 * <p>
 	 * Запись на факультет представляет собой транзакцию, состоящую из
 	 * нескольких действий: создание записи в ведомости, пересчет ведомости.
+	 * Транзакция выполняется под блокировкой факультета
+	 * ({@link FacultyLockManager}).
+	 * <p>
+	 * Записи, одновременно поступающие на один факультет, сохраняются группой
+	 * в одной транзакции с однократным пересчетом ведомости
+	 * ({@link RegistrationPipeline}); метод возвращает управление после
+	 * сохранения своей записи.
 	 * 
 	 * @param r
 	 *            объект записи в ведомости, которая содержит всю необходимую
@@ -61,8 +113,6 @@ public class RegisterServiceImpl implements RegisterService {
 	@Override
 	public RegisterRecord registryApplicant(RegisterRecord r) throws ServiceException {
 		LOGGER.debug("SERVICE : RegisterServiceImpl.registryApplicant()");
-		RegisterDAO dao = DAOFactory.getInstance().getRegisterDAO();
-		int trCode = 0;
 		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getCurrentEnroll();
 		r.setEnroll(e);
 		r.setStatus(DEFAULT_STATUS);
@@ -72,20 +122,7 @@ public class RegisterServiceImpl implements RegisterService {
 		if (!isValid) {
 			return null;
 		}
-		try {
-			trCode = dao.beginTransaction();
-			dao.createRecord(r, trCode);
-			recalculateRegister(r.getFaculty(), r.getEnroll(), trCode);
-			dao.commitTransaction(trCode);
-			return r;
-		} catch (DAOException ex) {
-			try {
-				dao.rollbackTransaction(trCode);
-			} catch (TransactionException ex1) {
-				throw new ServiceException("SERVICE : Unable to registry applicant (transaction)", ex1);
-			}
-			throw new ServiceException("SERVICE : Unable to registry applicant", ex);
-		}
+		return RegistrationPipeline.getInstance().submit(r);
 
 	}
 
@@ -150,12 +187,15 @@ public class RegisterServiceImpl implements RegisterService {
 	}
 
 	/**
-	 * Получение записи ведомости, ассоциированной с абитуриентом
+	 * Получение записи ведомости, ассоциированной с абитуриентом, в последнем
+	 * наборе. Записи предыдущих наборов (в том числе оставшиеся в секциях
+	 * ведомости, если их перенос в архив не удался) не читаются.
 	 * 
 	 * @param a
 	 *            объект абитуриента, для которого нужно получить запись
 	 *            ведомости
-	 * @return запись ведомости, ассоциированной с абитуриентом
+	 * @return запись ведомости, ассоциированной с абитуриентом; null -
+	 *         абитуриент не записан на факультет в последнем наборе
 	 * @throws ServiceException
 	 *             при попытке чтения/записи информации из источника произошла
 	 *             ошибка
@@ -164,10 +204,14 @@ public class RegisterServiceImpl implements RegisterService {
 	@Override
 	public RegisterRecord getRecord(Applicant a) throws ServiceException {
 		LOGGER.debug("SERVICE : RegisterServiceImpl.getRecord()");
+		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
+		if (e == null) {
+			return null;
+		}
 		try {
 			DAOFactory factory = DAOFactory.getInstance();
 			RegisterDAO dao = factory.getRegisterDAO();
-			return dao.getRecord(a, ServiceHelper.NO_TRANSACTION);
+			return dao.getRecord(a, e, ServiceHelper.NO_TRANSACTION);
 		} catch (DAOException ex) {
 			throw new ServiceException("SERVICE : Unable to get the record by applicant", ex);
 		}
@@ -179,6 +223,8 @@ public class RegisterServiceImpl implements RegisterService {
 	 * <p>
 	 * Отмена записи на факультет представляет собой транзакцию, состоящую из
 	 * нескольких операций: удаление записи из ведомости, пересчет ведомости.
+	 * Транзакция выполняется под блокировкой факультета
+	 * ({@link FacultyLockManager}).
 	 * 
 	 * @param a
 	 *            абитуриент, который отменяет запись на факультет
@@ -198,18 +244,32 @@ public class RegisterServiceImpl implements RegisterService {
 		Applicant newA = null;
 		int trCode = 0;
 		if (e != null) {
+			Lock lock = FacultyLockManager.getInstance().getLock(a.getRecord().getFaculty().getId());
+			lock.lock();
 			try {
 				trCode = dao.beginTransaction();
-				dao.deleteRecord(a, trCode);
+				dao.deleteRecord(a, e, trCode);
+				RankingEngine.getInstance().remove(a.getRecord().getFaculty(), a.getRecord().getEnroll(), a.getId());
 				recalculateRegister(a.getRecord().getFaculty(), a.getRecord().getEnroll(), trCode);
 				dao.commitTransaction(trCode);
+				RankingEngine.getInstance().publish(a.getRecord().getFaculty(), a.getRecord().getEnroll());
+				JournalManager.getInstance().commit(a.getRecord().getFaculty().getId(),
+						Collections.singletonList(JournalEvent.cancelled(a.getRecord().getFaculty().getId(),
+								a.getRecord().getEnroll().getId(), a.getId())));
+				DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+				vService.registerChanged(a.getRecord().getFaculty().getId());
+				vService.applicantChanged(a.getId());
 			} catch (DAOException ex) {
 				try {
 					dao.rollbackTransaction(trCode);
 				} catch (TransactionException ex1) {
 					throw new ServiceException("SERVICE : Unable to cancel registry (transaction)", ex1);
 				}
+				RankingEngine.getInstance().invalidate(a.getRecord().getFaculty().getId());
+				JournalManager.getInstance().discard(a.getRecord().getFaculty().getId());
 				throw new ServiceException("SERVICE : Unable to cancel registry", ex);
+			} finally {
+				lock.unlock();
 			}
 			try {
 				newA = DAOFactory.getInstance().getApplicantDAO().getApplicant(a.getId(), ServiceHelper.NO_TRANSACTION);
@@ -245,8 +305,15 @@ public class RegisterServiceImpl implements RegisterService {
 			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
 			if (e != null) {
 				DAOFactory factory = DAOFactory.getInstance();
-				RegisterDAO dao = factory.getRegisterDAO();
-				return dao.getRecordsNumber(e, ServiceHelper.NO_TRANSACTION);
+				final RegisterDAO dao = factory.getRegisterDAO();
+				final Enroll enroll = e;
+				long version = ServiceFactory.getInstance().getDataVersionService().getRegistersVersion();
+				return RequestCoalescer.getInstance().execute("RegisterDAO.getRecordsNumber", new Callable<Integer>() {
+					@Override
+					public Integer call() throws DAOException {
+						return dao.getRecordsNumber(enroll, ServiceHelper.NO_TRANSACTION);
+					}
+				}, e.getId(), version);
 			}
 			return 0;
 		} catch (DAOException ex) {
@@ -306,6 +373,23 @@ public class RegisterServiceImpl implements RegisterService {
 	 * Пересчет ведомости представляет собой транзакцию, состоящую из нескольких
 	 * операций: обновление статусов зачисленных/незачисленных абитуриентов,
 	 * вычисление нового проходного балла, обновление проходного балла.
+	 * <p>
+	 * Проходной балл вычисляется за O(log n) по рейтингу факультета, который
+	 * хранится в памяти объектом {@link RankingEngine}.
+	 * <p>
+	 * В режиме пересчета <code>delta</code> рейтинг определяет, у каких
+	 * абитуриентов статус изменился после предыдущего пересчета, и в источнике
+	 * данных обновляются только их статусы (и проходной балл, если он
+	 * изменился). Статусы всех абитуриентов обновляются при первом пересчете
+	 * после загрузки рейтинга и в режиме <code>full</code>.
+	 * <p>
+	 * Изменения статусов записываются в журнал ведомости
+	 * ({@link JournalManager}) после фиксации транзакции пересчета или
+	 * внешней транзакции <code>trCode</code>.
+	 * <p>
+	 * Пересчет выполняется под блокировкой факультета
+	 * ({@link FacultyLockManager}), поэтому пересчеты ведомости одного
+	 * факультета не чередуются между собой и с записью абитуриентов.
 	 * 
 	 * @param f
 	 *            факультет
@@ -325,21 +409,51 @@ public class RegisterServiceImpl implements RegisterService {
 		DAOFactory factory = DAOFactory.getInstance();
 		RegisterDAO dao = factory.getRegisterDAO();
 		int innerTrCode = trCode;
+		Lock lock = FacultyLockManager.getInstance().getLock(f.getId());
+		lock.lock();
 		try {
 			if (trCode == ServiceHelper.NO_TRANSACTION) {
 				innerTrCode = dao.beginTransaction();
 			}
-			dao.updateStatuses(true, f, e, innerTrCode);
-			dao.updateStatuses(false, f, e, innerTrCode);
-			int newPassRate = dao.getChangedPassRate(f, innerTrCode);
-			int rNumber = dao.getRecordsNumberByFaculty(f, e, innerTrCode);
-			if (rNumber >= f.getPlan()) {
-				dao.setNewPassRate(f, newPassRate, innerTrCode);
+			FacultyRanking ranking = RankingEngine.getInstance().getRanking(f, e, innerTrCode);
+			StatusDelta delta = DELTA_RECALCULATION ? ranking.sync(f.getPlan()) : null;
+			JournalManager journal = JournalManager.getInstance();
+			List<JournalEvent> events = new ArrayList<JournalEvent>();
+			if (delta == null) {
+				dao.updateStatuses(true, f, e, innerTrCode);
+				dao.updateStatuses(false, f, e, innerTrCode);
+				dao.setNewPassRate(f, ranking.getPassRate(f.getPlan()), innerTrCode);
+				ranking.markSynced(f.getPlan());
+				if (journal.isEnabled()) {
+					RankKey[] keys = ranking.toArray();
+					for (int i = 0; i < keys.length; i++) {
+						events.add(JournalEvent.statusChanged(f.getId(), e.getId(), keys[i].getApplicantId(),
+								i < f.getPlan() ? RegisterColumns.TEMP_ADMITTED : RegisterColumns.TEMP_NOT_ADMITTED));
+					}
+				}
 			} else {
-				dao.setNewPassRate(f, 0, innerTrCode);
+				LOGGER.debug("SERVICE : RegisterServiceImpl.recalculateRegister (delta = {})", delta);
+				dao.updateStatuses(true, delta.getAdmitted(), e, innerTrCode);
+				dao.updateStatuses(false, delta.getNotAdmitted(), e, innerTrCode);
+				if (delta.isPassRateChanged()) {
+					dao.setNewPassRate(f, delta.getPassRate(), innerTrCode);
+				}
+				for (int applicantId : delta.getAdmitted()) {
+					events.add(JournalEvent.statusChanged(f.getId(), e.getId(), applicantId,
+							RegisterColumns.TEMP_ADMITTED));
+				}
+				for (int applicantId : delta.getNotAdmitted()) {
+					events.add(JournalEvent.statusChanged(f.getId(), e.getId(), applicantId,
+							RegisterColumns.TEMP_NOT_ADMITTED));
+				}
 			}
 			if (trCode == ServiceHelper.NO_TRANSACTION) {
 				dao.commitTransaction(innerTrCode);
+				RankingEngine.getInstance().publish(f, e);
+				journal.commit(f.getId(), events);
+				ServiceFactory.getInstance().getDataVersionService().registerChanged(f.getId());
+			} else {
+				journal.stage(f.getId(), events);
 			}
 		} catch (DAOException ex) {
 			try {
@@ -347,14 +461,109 @@ public class RegisterServiceImpl implements RegisterService {
 			} catch (TransactionException ex1) {
 				throw new ServiceException("SERVICE : Unable to recalculate (transaction)", ex1);
 			}
+			RankingEngine.getInstance().invalidate(f.getId());
+			JournalManager.getInstance().discard(f.getId());
 			throw new ServiceException("SERVICE : Unable to recalculate register", ex);
+		} finally {
+			lock.unlock();
 		}
 
 	}
 
+	/**
+	 * Симуляция вариантов плана набора факультета без изменения данных.
+	 * <p>
+	 * Рейтинг факультета в рамках последнего набора берется из
+	 * {@link RankingEngine} (при необходимости загружается из источника
+	 * данных) и один раз копируется в {@link PlanSimulator}, после чего все
+	 * варианты плана оцениваются в памяти. В источник данных ничего не
+	 * записывается.
+	 * 
+	 * @param f
+	 *            факультет
+	 * @param plans
+	 *            варианты плана набора
+	 * @return результаты симуляции в порядке вариантов; пустой список - не
+	 *         найдено ни одного набора
+	 * @throws ServiceException
+	 *             при попытке чтения информации из источника произошла ошибка
+	 */
+	@Override
+	public List<PlanScenario> simulatePlans(Faculty f, int[] plans) throws ServiceException {
+		LOGGER.debug("SERVICE : RegisterServiceImpl.simulatePlans()");
+		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
+		if (e == null) {
+			return new ArrayList<PlanScenario>();
+		}
+		try {
+			PlanSimulator simulator = RankingEngine.getInstance().getRanking(f, e, ServiceHelper.NO_TRANSACTION)
+					.getSimulator();
+			List<PlanScenario> scenarios = simulator.simulate(plans);
+			LOGGER.debug("SERVICE : RegisterServiceImpl.simulatePlans (scenarios = {})", scenarios);
+			return scenarios;
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to simulate plans", ex);
+		}
+	}
+
+	/**
+	 * Получение места абитуриента в рейтинге факультета, на который он
+	 * записан.
+	 * <p>
+	 * Место определяется по опубликованному снимку рейтинга факультета
+	 * ({@link RankingEngine#getSnapshot(Faculty, Enroll)}) за O(log n) без
+	 * блокировок и обращений к источнику данных. Если снимок еще не
+	 * опубликован, он строится по актуальному факультету.
+	 * 
+	 * @param a
+	 *            абитуриент (с записью ведомости)
+	 * @return место абитуриента в рейтинге; null - абитуриент не записан на
+	 *         факультет
+	 * @throws ServiceException
+	 *             при попытке чтения информации из источника произошла ошибка
+	 */
+	@Override
+	public ApplicantRank getApplicantRank(Applicant a) throws ServiceException {
+		LOGGER.debug("SERVICE : RegisterServiceImpl.getApplicantRank()");
+		RegisterRecord r = a.getRecord();
+		if (r == null || r.getFaculty() == null || r.getEnroll() == null) {
+			return null;
+		}
+		try {
+			RankingEngine engine = RankingEngine.getInstance();
+			RankingSnapshot snapshot = engine.getPublishedSnapshot(r.getFaculty().getId(), r.getEnroll().getId());
+			if (snapshot == null) {
+				Faculty f = ServiceFactory.getInstance().getFacultyService().getFaculty(r.getFaculty().getId());
+				if (f == null) {
+					return null;
+				}
+				snapshot = engine.getSnapshot(f, r.getEnroll());
+			}
+			int position = snapshot.getPosition(a.getId());
+			if (position < 0) {
+				return null;
+			}
+			ApplicantRank rank = new ApplicantRank();
+			rank.setPosition(position + 1);
+			rank.setApplicantsNumber(snapshot.size());
+			rank.setAdmittedNumber(snapshot.getAdmittedNumber());
+			rank.setPassRate(snapshot.getPassRate());
+			rank.setGap(snapshot.getTotalScore(position) - snapshot.getPassRate());
+			rank.setAdmitted(position < snapshot.getAdmittedNumber());
+			LOGGER.debug("SERVICE : RegisterServiceImpl.getApplicantRank (rank = {})", rank);
+			return rank;
+		} catch (DAOException ex) {
+			throw new ServiceException("SERVICE : Unable to get applicant rank", ex);
+		}
+	}
+
 	/**
 	 * Получение количества записей в ведомости в рамках статуса абитуриентов и
-	 * указанного факультета
+	 * указанного факультета.
+	 * <p>
+	 * Количество записей определяется по опубликованному снимку рейтинга
+	 * факультета ({@link RankingEngine#getSnapshot(Faculty, Enroll)}) без
+	 * блокировок и обращений к источнику данных.
 	 * 
 	 * @param isAdmitted
 	 *            статус абитуриентов
@@ -373,11 +582,7 @@ public class RegisterServiceImpl implements RegisterService {
 		try {
 			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
 			if (e != null) {
-				DAOFactory factory = DAOFactory.getInstance();
-				RegisterDAO dao = factory.getRegisterDAO();
-				int recordsNumber = dao.getRecordsNumberByStatusAndFaculty(isAdmitted, f, e,
-						ServiceHelper.NO_TRANSACTION);
-				return recordsNumber;
+				return RankingEngine.getInstance().getSnapshot(f, e).getNumber(isAdmitted);
 			}
 			return 0;
 		} catch (DAOException ex) {
@@ -395,6 +600,10 @@ public class RegisterServiceImpl implements RegisterService {
 	 * начать построение списка.
 	 * <p>
 	 * Перед получением количества записей метод получает последний набор.
+	 * Страница записей выбирается из опубликованного снимка рейтинга факультета
+	 * ({@link RankingEngine#getSnapshot(Faculty, Enroll)}) без блокировок и
+	 * обращений к источнику данных, записи упорядочены по рейтингу. Записи
+	 * списка не должны изменяться.
 	 * 
 	 * @param requiredPage
 	 *            номер требуемой страницы
@@ -418,16 +627,13 @@ public class RegisterServiceImpl implements RegisterService {
 		try {
 			Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
 			if (e != null) {
-				DAOFactory factory = DAOFactory.getInstance();
-				RegisterDAO dao = factory.getRegisterDAO();
 				int beginIndex = ServiceHelper.REQUIRED_PAGE_DEFAULT;
 				if (requiredPage != ServiceHelper.REQUIRED_PAGE_DEFAULT
 						&& elementsCount != ServiceHelper.ELEMENTS_MAX_VALUE) {
 					beginIndex = elementsCount * (requiredPage - 1);
 				}
-				List<RegisterRecord> list = dao.getRegisterByStatusAndFaculty(beginIndex, elementsCount, isAdmitted, f,
-						e, ServiceHelper.NO_TRANSACTION);
-				return list;
+				RankingSnapshot snapshot = RankingEngine.getInstance().getSnapshot(f, e);
+				return snapshot.page(isAdmitted, beginIndex, elementsCount);
 			}
 			return null;
 		} catch (DAOException ex) {
@@ -435,6 +641,115 @@ public class RegisterServiceImpl implements RegisterService {
 		}
 	}
 
+	/**
+	 * Выгрузка ведомости абитуриентов последнего набора в файл.
+	 * <p>
+	 * Записи ведомости читаются из источника данных потоково
+	 * ({@link RegisterDAO#exportRegister(Enroll, RecordHandler, int)}) и
+	 * записываются в файл по одной ({@link TableWriter}), поэтому объем
+	 * используемой памяти не зависит от размера ведомости. Записи упорядочены
+	 * по факультетам и рейтингу; для каждой записи указывается позиция в
+	 * рейтинге факультета.
+	 * 
+	 * @param format
+	 *            формат файла: xlsx или csv (любое другое значение)
+	 * @param out
+	 *            поток, в который записывается файл
+	 * @return количество выгруженных записей
+	 * @throws ServiceException
+	 *             при чтении информации из источника или записи файла
+	 *             произошла ошибка
+	 * @see RegisterDAO
+	 */
+	@Override
+	public int exportRegister(String format, OutputStream out) throws ServiceException {
+		LOGGER.debug("SERVICE : RegisterServiceImpl.exportRegister()");
+		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
+		try {
+			TableWriter writer = createTableWriter(format, out);
+			writer.writeRow(EXPORT_HEADER);
+			int count = 0;
+			if (e != null) {
+				RegisterDAO dao = DAOFactory.getInstance().getRegisterDAO();
+				count = dao.exportRegister(e, new ExportHandler(writer, 0), ServiceHelper.NO_TRANSACTION);
+			}
+			writer.finish();
+			LOGGER.debug("SERVICE : RegisterServiceImpl.exportRegister (count = {})", count);
+			return count;
+		} catch (DAOException | IOException ex) {
+			throw new ServiceException("SERVICE : Unable to export register", ex);
+		}
+	}
+
+	/**
+	 * Выгрузка ведомости абитуриентов последнего набора в рамках статуса и
+	 * факультета в файл.
+	 * <p>
+	 * Записи ведомости читаются из источника данных потоково и записываются в
+	 * файл по одной ({@link TableWriter}), поэтому объем используемой памяти
+	 * не зависит от размера ведомости. Записи упорядочены по рейтингу; для
+	 * каждой записи указывается позиция в рейтинге факультета, поэтому при
+	 * выгрузке незачисленных абитуриентов позиции начинаются после позиций
+	 * зачисленных (их количество читается перед выгрузкой).
+	 * 
+	 * @param isAdmitted
+	 *            статус абитуриентов
+	 * @param f
+	 *            факультет
+	 * @param format
+	 *            формат файла: xlsx или csv (любое другое значение)
+	 * @param out
+	 *            поток, в который записывается файл
+	 * @return количество выгруженных записей
+	 * @throws ServiceException
+	 *             при чтении информации из источника или записи файла
+	 *             произошла ошибка
+	 * @see RegisterDAO
+	 */
+	@Override
+	public int exportRegisterByStatusAndFaculty(boolean isAdmitted, Faculty f, String format, OutputStream out)
+			throws ServiceException {
+		LOGGER.debug("SERVICE : RegisterServiceImpl.exportRegisterByStatusAndFaculty()");
+		Enroll e = ServiceFactory.getInstance().getEnrollmentService().getLastEnroll();
+		try {
+			TableWriter writer = createTableWriter(format, out);
+			writer.writeRow(EXPORT_HEADER);
+			int count = 0;
+			if (e != null) {
+				RegisterDAO dao = DAOFactory.getInstance().getRegisterDAO();
+				int offset = 0;
+				if (!isAdmitted) {
+					offset = dao.getRecordsNumberByStatusAndFaculty(true, f, e, ServiceHelper.NO_TRANSACTION);
+				}
+				count = dao.exportRegisterByStatusAndFaculty(isAdmitted, f, e, new ExportHandler(writer, offset),
+						ServiceHelper.NO_TRANSACTION);
+			}
+			writer.finish();
+			LOGGER.debug("SERVICE : RegisterServiceImpl.exportRegisterByStatusAndFaculty (count = {})", count);
+			return count;
+		} catch (DAOException | IOException ex) {
+			throw new ServiceException("SERVICE : Unable to export register by status and faculty", ex);
+		}
+	}
+
+	/**
+	 * Создание объекта записи таблицы в указанном формате
+	 * 
+	 * @param format
+	 *            формат файла: xlsx или csv (любое другое значение)
+	 * @param out
+	 *            поток, в который записывается файл
+	 * @return объект записи таблицы
+	 * @throws IOException
+	 *             при записи начала файла произошла ошибка
+	 */
+	private TableWriter createTableWriter(String format, OutputStream out) throws IOException {
+		if (XLSX_FORMAT.equalsIgnoreCase(format)) {
+			return new XlsxWriter(out, EXPORT_SHEET_NAME);
+		}
+		return new CsvWriter(out);
+	}
+
 	/**
 	 * Подсчет суммарного балла абитуриента, который складывается из баллов по
 	 * дисциплинам и балла аттестата.
@@ -451,4 +766,65 @@ public class RegisterServiceImpl implements RegisterService {
 		return totalScore;
 	}
 
+	/**
+	 * Класс <code>ExportHandler</code> записывает получаемые записи ведомости
+	 * строками таблицы выгрузки, вычисляя позицию абитуриента в рейтинге
+	 * факультета (записи поступают упорядоченными по факультетам и рейтингу).
+	 *
+	 * @author Daria Krupenko
+	 * @see RecordHandler
+	 *
+	 */
+	private static class ExportHandler implements RecordHandler {
+
+		/**
+		 * Объект записи таблицы
+		 */
+		private final TableWriter writer;
+
+		/**
+		 * Идентификатор факультета предыдущей записи
+		 */
+		private int facultyId = -1;
+
+		/**
+		 * Количество записей рейтинга факультета, предшествующих первой
+		 * выгружаемой записи
+		 */
+		private final int offset;
+
+		/**
+		 * Позиция предыдущей записи в рейтинге факультета
+		 */
+		private int position;
+
+		/**
+		 * Конструирует обработчик записей ведомости
+		 * 
+		 * @param writer
+		 *            объект записи таблицы
+		 * @param offset
+		 *            количество записей рейтинга факультета, предшествующих
+		 *            первой выгружаемой записи (0 - выгружается весь рейтинг)
+		 */
+		ExportHandler(TableWriter writer, int offset) {
+			this.writer = writer;
+			this.offset = offset;
+		}
+
+		@Override
+		public void handle(RegisterRecord r) throws IOException {
+			Faculty f = r.getFaculty();
+			if (f.getId() != facultyId) {
+				facultyId = f.getId();
+				position = offset;
+			}
+			position++;
+			Applicant a = r.getApplicant();
+			writer.writeRow(f.getTitle(), position, a.getId(), a.getName(), a.getEmail(), a.getPhone(),
+					r.getCertificateScore(), r.getTotalScore(), r.getStatus());
+		}
+
+	}
+
 }
@@ -0,0 +1,329 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.RegisterDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+import main.by.epam.admissionweb.dao.exception.TransactionException;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.service.DataVersionService;
+import main.by.epam.admissionweb.service.ServiceFactory;
+import main.by.epam.admissionweb.service.exception.ServiceException;
+
+/**
+ * Класс <code>RegistrationPipeline</code> выполняет запись абитуриентов на
+ * факультеты группами ("group commit").
+ * <p>
+ * Записи ведомости помещаются в очередь своего факультета. Поток, захвативший
+ * блокировку факультета ({@link FacultyLockManager}), забирает из очереди все
+ * накопившиеся записи (не более заданного количества) и сохраняет их в одной
+ * транзакции: записи вставляются пакетом, рейтинг факультета обновляется для
+ * каждой записи, а ведомость пересчитывается один раз на всю группу. Пока
+ * группа сохраняется, следующие записи накапливаются в очереди, поэтому чем
+ * выше нагрузка на факультет, тем больше группа.
+ * <p>
+ * Каждый вызывающий поток ожидает результат своей записи, поэтому запись
+ * остается синхронной для вызывающего кода. Если группу не удалось сохранить,
+ * ее записи сохраняются по одной, и ошибка одной записи не влияет на
+ * остальные.
+ * <p>
+ * После фиксации группы события записи абитуриентов и изменения статусов
+ * записываются в журнал ведомости ({@link JournalManager}).
+ * <p>
+ * Максимальный размер группы задается в файле свойств сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>RegistrationPipeline</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see RegisterServiceImpl
+ * @see ServiceParameter
+ *
+ */
+class RegistrationPipeline {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Максимальный размер группы по умолчанию
+	 */
+	private static final int BATCH_SIZE_DEFAULT = 50;
+
+	/**
+	 * Объект класса <code>RegistrationPipeline</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final RegistrationPipeline INSTANCE = new RegistrationPipeline();
+
+	/**
+	 * Очереди записей (ключ - id факультета)
+	 */
+	private final ConcurrentMap<Integer, Queue<Registration>> queues = new ConcurrentHashMap<Integer, Queue<Registration>>();
+
+	/**
+	 * Максимальный размер группы
+	 */
+	private final int batchSize;
+
+	private RegistrationPipeline() {
+		batchSize = Math.max(1, ServiceResourceManager.getInstance().getIntValue(ServiceParameter.REGISTER_BATCH_SIZE,
+				BATCH_SIZE_DEFAULT));
+	}
+
+	/**
+	 * Получение объекта класса <code>RegistrationPipeline</code>
+	 *
+	 * @return объект класса <code>RegistrationPipeline</code>
+	 */
+	static RegistrationPipeline getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Запись абитуриента на факультет. Метод возвращает управление после того,
+	 * как группа, в которую попала запись, сохранена.
+	 *
+	 * @param r
+	 *            запись ведомости, прошедшая валидацию
+	 * @return сохраненная запись ведомости
+	 * @throws ServiceException
+	 *             при сохранении записи произошла ошибка
+	 */
+	RegisterRecord submit(RegisterRecord r) throws ServiceException {
+		int facultyId = r.getFaculty().getId();
+		Queue<Registration> queue = queues.get(facultyId);
+		if (queue == null) {
+			queue = new ConcurrentLinkedQueue<Registration>();
+			Queue<Registration> existing = queues.putIfAbsent(facultyId, queue);
+			if (existing != null) {
+				queue = existing;
+			}
+		}
+		Registration registration = new Registration(r);
+		queue.add(registration);
+		Lock lock = FacultyLockManager.getInstance().getLock(facultyId);
+		lock.lock();
+		try {
+			while (!registration.task.isDone()) {
+				List<Registration> batch = new ArrayList<Registration>();
+				Registration next = null;
+				while (batch.size() < batchSize && (next = queue.poll()) != null) {
+					batch.add(next);
+				}
+				try {
+					process(batch);
+				} finally {
+					for (Registration processed : batch) {
+						if (!processed.task.isDone()) {
+							processed.complete(new ServiceException("SERVICE : Registration was not completed", null));
+						}
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		return getResult(registration.task);
+	}
+
+	/**
+	 * Сохранение группы записей одного факультета. Записи разных наборов
+	 * сохраняются в разных транзакциях.
+	 *
+	 * @param batch
+	 *            группа записей
+	 */
+	private void process(List<Registration> batch) {
+		Map<Integer, List<Registration>> byEnroll = new LinkedHashMap<Integer, List<Registration>>();
+		for (Registration registration : batch) {
+			int enrollId = registration.record.getEnroll().getId();
+			List<Registration> list = byEnroll.get(enrollId);
+			if (list == null) {
+				list = new ArrayList<Registration>();
+				byEnroll.put(enrollId, list);
+			}
+			list.add(registration);
+		}
+		for (List<Registration> list : byEnroll.values()) {
+			try {
+				commit(list);
+			} catch (ServiceException ex) {
+				if (list.size() == 1) {
+					list.get(0).complete(ex);
+				} else {
+					LOGGER.debug("SERVICE : RegistrationPipeline.process (batch of {} failed, retrying one by one)",
+							list.size());
+					for (Registration registration : list) {
+						try {
+							commit(Collections.singletonList(registration));
+						} catch (ServiceException ex1) {
+							registration.complete(ex1);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Сохранение записей одного факультета и набора в одной транзакции,
+	 * состоящей из пакетной вставки записей и однократного пересчета
+	 * ведомости
+	 *
+	 * @param list
+	 *            записи
+	 * @throws ServiceException
+	 *             при сохранении записей произошла ошибка; транзакция отменена
+	 */
+	private void commit(List<Registration> list) throws ServiceException {
+		RegisterDAO dao = DAOFactory.getInstance().getRegisterDAO();
+		RegisterRecord first = list.get(0).record;
+		List<RegisterRecord> records = new ArrayList<RegisterRecord>(list.size());
+		for (Registration registration : list) {
+			records.add(registration.record);
+		}
+		int trCode = 0;
+		try {
+			trCode = dao.beginTransaction();
+			dao.createRecords(records, trCode);
+			RankingEngine engine = RankingEngine.getInstance();
+			for (RegisterRecord r : records) {
+				engine.add(r);
+			}
+		} catch (DAOException ex) {
+			try {
+				dao.rollbackTransaction(trCode);
+			} catch (TransactionException ex1) {
+				throw new ServiceException("SERVICE : Unable to registry applicant (transaction)", ex1);
+			} finally {
+				RankingEngine.getInstance().invalidate(first.getFaculty().getId());
+				JournalManager.getInstance().discard(first.getFaculty().getId());
+			}
+			throw new ServiceException("SERVICE : Unable to registry applicant", ex);
+		}
+		ServiceFactory.getInstance().getRegisterService().recalculateRegister(first.getFaculty(), first.getEnroll(),
+				trCode);
+		try {
+			dao.commitTransaction(trCode);
+		} catch (DAOException ex) {
+			RankingEngine.getInstance().invalidate(first.getFaculty().getId());
+			JournalManager.getInstance().discard(first.getFaculty().getId());
+			throw new ServiceException("SERVICE : Unable to registry applicant", ex);
+		}
+		RankingEngine.getInstance().publish(first.getFaculty(), first.getEnroll());
+		List<JournalEvent> events = new ArrayList<JournalEvent>(records.size());
+		for (RegisterRecord r : records) {
+			events.add(JournalEvent.registered(r.getFaculty().getId(), r.getEnroll().getId(), r.getApplicant().getId(),
+					r.getTotalScore(), r.getCertificateScore()));
+		}
+		JournalManager.getInstance().commit(first.getFaculty().getId(), events);
+		LOGGER.debug("SERVICE : RegistrationPipeline.commit (faculty = {}, records = {})",
+				first.getFaculty().getId(), records.size());
+		DataVersionService vService = ServiceFactory.getInstance().getDataVersionService();
+		vService.registerChanged(first.getFaculty().getId());
+		for (Registration registration : list) {
+			vService.applicantChanged(registration.record.getApplicant().getId());
+			registration.complete(null);
+		}
+	}
+
+	/**
+	 * Ожидание и получение результата записи
+	 *
+	 * @param task
+	 *            результат записи
+	 * @return сохраненная запись ведомости
+	 * @throws ServiceException
+	 *             запись завершилась ошибкой или ожидание было прервано
+	 */
+	private RegisterRecord getResult(FutureTask<RegisterRecord> task) throws ServiceException {
+		try {
+			return task.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ServiceException("SERVICE : Interrupted while waiting for the registration", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof ServiceException) {
+				throw (ServiceException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ServiceException("SERVICE : Registration failed", cause);
+		}
+	}
+
+	/**
+	 * Статический вложенный класс <code>Registration</code> представляет
+	 * собой запись ведомости, ожидающую сохранения, и ее результат.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Registration {
+
+		/**
+		 * Запись ведомости
+		 */
+		private final RegisterRecord record;
+
+		/**
+		 * Ошибка сохранения записи
+		 */
+		private ServiceException error;
+
+		/**
+		 * Результат записи: завершается после сохранения группы
+		 */
+		private final FutureTask<RegisterRecord> task;
+
+		Registration(RegisterRecord record) {
+			this.record = record;
+			task = new FutureTask<RegisterRecord>(new Callable<RegisterRecord>() {
+				@Override
+				public RegisterRecord call() throws ServiceException {
+					if (error != null) {
+						throw error;
+					}
+					return Registration.this.record;
+				}
+			});
+		}
+
+		/**
+		 * Завершение записи
+		 *
+		 * @param error
+		 *            ошибка сохранения; null - запись сохранена
+		 */
+		void complete(ServiceException error) {
+			this.error = error;
+			task.run();
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.exception.DAOException;
+
+/**
+ * Класс <code>RequestCoalescer</code> объединяет одинаковые параллельные
+ * операции чтения данных ("single-flight").
+ * <p>
+ * Операция идентифицируется именем и списком аргументов. Если операция с тем
+ * же именем и теми же аргументами уже выполняется, вызывающий поток не
+ * обращается к источнику данных, а ожидает завершения выполняющейся операции
+ * и получает ее результат (или ее исключение). Результат не кэшируется:
+ * операция, начатая после завершения предыдущей, снова обращается к
+ * источнику данных.
+ * <p>
+ * Результат разделяется между всеми ожидавшими потоками, поэтому объединять
+ * можно только операции чтения вне транзакций, результат которых не
+ * изменяется вызывающим кодом.
+ * <p>
+ * Операция, начатая до фиксации изменения, может вернуть прежние данные.
+ * Если результат операции выводится на страницу с тегом версии
+ * (<code>ETag</code>), в аргументы операции включается текущая версия
+ * данных ({@link main.by.epam.admissionweb.service.DataVersionService}):
+ * вызов, получивший новую версию после изменения, не присоединяется к
+ * операции, начатой с прежней версией, и не получает прежние данные под
+ * новым тегом.
+ * <p>
+ * Класс ведет счетчики вызовов, фактических обращений к источнику данных и
+ * объединенных вызовов.
+ * <p>
+ * Получение объекта класса <code>RequestCoalescer</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ *
+ */
+public class RequestCoalescer {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Объект класса <code>RequestCoalescer</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+	/**
+	 * Выполняющиеся операции (ключ - имя операции и аргументы)
+	 */
+	private final ConcurrentMap<List<Object>, FutureTask<?>> inFlight = new ConcurrentHashMap<List<Object>, FutureTask<?>>();
+
+	/**
+	 * Общее количество вызовов
+	 */
+	private final AtomicLong callsNumber = new AtomicLong();
+
+	/**
+	 * Количество фактических обращений к источнику данных
+	 */
+	private final AtomicLong executionsNumber = new AtomicLong();
+
+	/**
+	 * Количество вызовов, получивших результат выполняющейся операции
+	 */
+	private final AtomicLong coalescedNumber = new AtomicLong();
+
+	private RequestCoalescer() {
+	}
+
+	/**
+	 * Получение объекта класса <code>RequestCoalescer</code>
+	 *
+	 * @return объект класса <code>RequestCoalescer</code>
+	 */
+	public static RequestCoalescer getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Выполнение операции чтения с объединением одинаковых параллельных
+	 * вызовов.
+	 *
+	 * @param operation
+	 *            имя операции
+	 * @param call
+	 *            операция чтения данных
+	 * @param args
+	 *            аргументы операции (должны корректно реализовывать
+	 *            <code>equals()</code> и <code>hashCode()</code>)
+	 * @return результат операции
+	 * @throws DAOException
+	 *             при выполнении операции произошла ошибка
+	 */
+	public <V> V execute(String operation, Callable<V> call, Object... args) throws DAOException {
+		List<Object> key = new ArrayList<Object>(args.length + 1);
+		key.add(operation);
+		key.addAll(Arrays.asList(args));
+		callsNumber.incrementAndGet();
+		FutureTask<V> task = new FutureTask<V>(call);
+		FutureTask<?> running = inFlight.putIfAbsent(key, task);
+		if (running == null) {
+			executionsNumber.incrementAndGet();
+			try {
+				task.run();
+			} finally {
+				inFlight.remove(key, task);
+			}
+			return getResult(task);
+		}
+		long coalesced = coalescedNumber.incrementAndGet();
+		LOGGER.debug("SERVICE : RequestCoalescer.execute (coalesced {}, total coalesced = {})", key, coalesced);
+		@SuppressWarnings("unchecked")
+		FutureTask<V> runningTask = (FutureTask<V>) running;
+		return getResult(runningTask);
+	}
+
+	/**
+	 * Получение общего количества вызовов
+	 *
+	 * @return количество вызовов
+	 */
+	public long getCallsNumber() {
+		return callsNumber.get();
+	}
+
+	/**
+	 * Получение количества фактических обращений к источнику данных
+	 *
+	 * @return количество обращений
+	 */
+	public long getExecutionsNumber() {
+		return executionsNumber.get();
+	}
+
+	/**
+	 * Получение количества объединенных вызовов
+	 *
+	 * @return количество вызовов, получивших результат выполняющейся операции
+	 */
+	public long getCoalescedNumber() {
+		return coalescedNumber.get();
+	}
+
+	/**
+	 * Ожидание и получение результата операции
+	 *
+	 * @param task
+	 *            операция
+	 * @return результат операции
+	 * @throws DAOException
+	 *             операция завершилась ошибкой или ожидание было прервано
+	 */
+	private <V> V getResult(FutureTask<V> task) throws DAOException {
+		try {
+			return task.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new DAOException("SERVICE : Interrupted while waiting for the coalesced call", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof DAOException) {
+				throw (DAOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DAOException("SERVICE : Coalesced call failed", cause);
+		}
+	}
+
+}
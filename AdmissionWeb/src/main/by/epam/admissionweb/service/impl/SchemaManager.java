@@ -0,0 +1,151 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import main.by.epam.admissionweb.dao.DAOFactory;
+import main.by.epam.admissionweb.dao.SchemaDAO;
+import main.by.epam.admissionweb.dao.exception.DAOException;
+
+/**
+ * Класс <code>SchemaManager</code> при запуске приложения обновляет схему
+ * базы данных версионными миграциями ({@link SchemaDAO#migrate(int)}) и
+ * проверяет планы выполнения запросов DAO-объектов: запросы, читающие
+ * таблицу целиком, записываются в лог как предупреждения.
+ * <p>
+ * Миграции изменяют структуру больших таблиц (секционирование ведомости,
+ * индексы) и не могут быть отменены, поэтому по умолчанию они при запуске не
+ * применяются (<code>schema.migrate = false</code>): приложение только
+ * сравнивает версию схемы с версией последней миграции и записывает в лог
+ * ошибку, если схема устарела. Миграции применяются явно, в период
+ * обслуживания, когда приложение не принимает заявления, одним из способов:
+ * <ul>
+ * <li>однократный запуск приложения с <code>schema.migrate = true</code>,
+ * после которого значение возвращается в <code>false</code>;</li>
+ * <li>выполнение скриптов <code>dao/impl/migration/V00N__*.sql</code> по
+ * возрастанию версий клиентом mysql (скрипты используют его директиву
+ * <code>DELIMITER</code>) с добавлением после каждого скрипта строки
+ * <code>INSERT INTO schema_version(version, name) VALUES(N, 'V00N__...')</code>
+ * (таблица <code>schema_version</code> создается приложением или вручную с
+ * той же структурой).</li>
+ * </ul>
+ * Если миграция не удалась, она остается не отмеченной и может быть
+ * повторена после устранения причины (например, повторяющихся логинов
+ * абитуриентов, которые миграция V006 записывает в таблицу
+ * <code>applicants_login_duplicates</code>).
+ * <p>
+ * Обновление схемы, версия схемы существующей базы данных, проверка планов и
+ * порог количества строк таблицы, начиная с которого чтение таблицы целиком
+ * считается проблемой, задаются в файле свойств сервис-объектов.
+ * <p>
+ * Получение объекта класса <code>SchemaManager</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see SchemaDAO
+ * @see ServiceParameter
+ *
+ */
+public class SchemaManager {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Версия схемы существующей базы данных по умолчанию
+	 */
+	private static final int BASELINE_DEFAULT = 1;
+
+	/**
+	 * Порог количества строк таблицы по умолчанию
+	 */
+	private static final int EXPLAIN_MIN_ROWS_DEFAULT = 1000;
+
+	/**
+	 * Объект класса <code>SchemaManager</code>, создается один раз при
+	 * загрузке класса в память
+	 */
+	private static final SchemaManager INSTANCE = new SchemaManager();
+
+	/**
+	 * Обновлять ли схему при запуске
+	 */
+	private final boolean isMigrate;
+
+	/**
+	 * Версия схемы существующей базы данных
+	 */
+	private final int baseline;
+
+	/**
+	 * Проверять ли планы выполнения запросов при запуске
+	 */
+	private final boolean isExplain;
+
+	/**
+	 * Порог количества строк таблицы
+	 */
+	private final int explainMinRows;
+
+	private SchemaManager() {
+		ServiceResourceManager manager = ServiceResourceManager.getInstance();
+		isMigrate = Boolean.parseBoolean(manager.getValue(ServiceParameter.SCHEMA_MIGRATE, "false").trim());
+		baseline = manager.getIntValue(ServiceParameter.SCHEMA_BASELINE, BASELINE_DEFAULT);
+		isExplain = Boolean.parseBoolean(manager.getValue(ServiceParameter.SCHEMA_EXPLAIN, "true").trim());
+		explainMinRows = manager.getIntValue(ServiceParameter.SCHEMA_EXPLAIN_MIN_ROWS, EXPLAIN_MIN_ROWS_DEFAULT);
+	}
+
+	/**
+	 * Получение объекта класса <code>SchemaManager</code>
+	 *
+	 * @return объект класса <code>SchemaManager</code>
+	 */
+	public static SchemaManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Обновление схемы и проверка планов выполнения запросов (вызывается при
+	 * запуске приложения после инициализации пула соединений). Ошибка
+	 * обновления схемы записывается в лог, планы выполнения в этом случае не
+	 * проверяются. Если обновление схемы отключено, в лог записывается ошибка
+	 * о непримененных миграциях.
+	 */
+	public void start() {
+		SchemaDAO dao = DAOFactory.getInstance().getSchemaDAO();
+		try {
+			if (isMigrate) {
+				int applied = dao.migrate(baseline);
+				LOGGER.info("SERVICE : Database schema version {} ({} migrations applied)", dao.getSchemaVersion(),
+						applied);
+			} else {
+				int version = dao.getSchemaVersion();
+				if (version < dao.getLatestVersion()) {
+					LOGGER.error("SERVICE : Database schema version {} is older than {}, migrations are not applied"
+							+ " automatically (schema.migrate = false)", version, dao.getLatestVersion());
+				} else {
+					LOGGER.info("SERVICE : Database schema version {}", version);
+				}
+			}
+		} catch (DAOException ex) {
+			LOGGER.error("SERVICE : Unable to migrate database schema", ex);
+			return;
+		}
+		if (isExplain) {
+			try {
+				List<String> scans = dao.findFullScans(explainMinRows);
+				for (String scan : scans) {
+					LOGGER.warn("SERVICE : Query plan check : {}", scan);
+				}
+				LOGGER.info("SERVICE : Query plan check found {} full table scans", scans.size());
+			} catch (DAOException ex) {
+				LOGGER.error("SERVICE : Unable to check query plans", ex);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+package main.by.epam.admissionweb.service.impl;
+
+/**
+ * Класс <code>ServiceParameter</code> содержит строковые константы,
+ * представляющие собой названия свойств сервис-объектов.
+ * <p>
+ * Данные свойства сохраняются в файле свойств.
+ * <p>
+ * Класс <code>ServiceParameter</code> не может быть наследован
+ * 
+ * @author Daria Krupenko
+ * @see ServiceResourceManager
+ *
+ */
+public final class ServiceParameter {
+
+	/**
+	 * Имя свойства режима кэширования статистики факультетов (stale - отдавать
+	 * последнее вычисленное значение и обновлять его в фоне, none - без
+	 * кэширования)
+	 */
+	public static final String STATISTICS_CACHE_MODE = "statistics.cache.mode";
+
+	/**
+	 * Имя свойства допустимого времени устаревания статистики факультетов (в
+	 * миллисекундах)
+	 */
+	public static final String STATISTICS_CACHE_STALENESS = "statistics.cache.staleness";
+
+	/**
+	 * Имя свойства максимального количества абитуриентов в кэше абитуриентов
+	 */
+	public static final String APPLICANT_CACHE_SIZE = "applicant.cache.size";
+
+	/**
+	 * Имя свойства режима пересчета ведомости (delta - сохранять только
+	 * изменившиеся статусы, full - обновлять статусы всех абитуриентов
+	 * факультета)
+	 */
+	public static final String REGISTER_RECALCULATION_MODE = "register.recalculation.mode";
+
+	/**
+	 * Имя свойства количества блокировок факультетов
+	 */
+	public static final String FACULTY_LOCK_STRIPES = "faculty.lock.stripes";
+
+	/**
+	 * Имя свойства максимального количества записей ведомости, сохраняемых
+	 * одной группой
+	 */
+	public static final String REGISTER_BATCH_SIZE = "register.batch.size";
+
+	/**
+	 * Имя свойства количества потоков построения рейтингов при подведении
+	 * итогов набора
+	 */
+	public static final String ENROLL_COMPLETION_PARALLELISM = "enroll.completion.parallelism";
+
+	/**
+	 * Имя свойства размера пакета обновления статусов при подведении итогов
+	 * набора
+	 */
+	public static final String ENROLL_COMPLETION_BATCH_SIZE = "enroll.completion.batch.size";
+
+	/**
+	 * Имя свойства пути к файлу журнала событий ведомости (пустое значение -
+	 * журнал не ведется)
+	 */
+	public static final String REGISTER_JOURNAL_PATH = "register.journal.path";
+
+	/**
+	 * Имя свойства количества событий, после которого журнал событий
+	 * ведомости сбрасывается на диск
+	 */
+	public static final String REGISTER_JOURNAL_SYNC_BATCH = "register.journal.sync.batch";
+
+	/**
+	 * Имя свойства периода сброса журнала событий ведомости на диск (в
+	 * миллисекундах)
+	 */
+	public static final String REGISTER_JOURNAL_SYNC_INTERVAL = "register.journal.sync.interval";
+
+	/**
+	 * Имя свойства пути к файлу контрольной точки ведомостей (пустое значение
+	 * - контрольные точки не создаются)
+	 */
+	public static final String REGISTER_CHECKPOINT_PATH = "register.checkpoint.path";
+
+	/**
+	 * Имя свойства периода создания контрольных точек ведомостей (в секундах)
+	 */
+	public static final String REGISTER_CHECKPOINT_INTERVAL = "register.checkpoint.interval";
+
+	/**
+	 * Имя свойства обновления схемы базы данных при запуске (true/false; по
+	 * умолчанию false - миграции применяются явно)
+	 */
+	public static final String SCHEMA_MIGRATE = "schema.migrate";
+
+	/**
+	 * Имя свойства версии схемы существующей базы данных, в которой миграции
+	 * еще не применялись
+	 */
+	public static final String SCHEMA_BASELINE = "schema.baseline";
+
+	/**
+	 * Имя свойства проверки планов выполнения запросов при запуске
+	 * (true/false)
+	 */
+	public static final String SCHEMA_EXPLAIN = "schema.explain";
+
+	/**
+	 * Имя свойства количества строк таблицы, начиная с которого чтение таблицы
+	 * целиком считается проблемой при проверке планов выполнения запросов
+	 */
+	public static final String SCHEMA_EXPLAIN_MIN_ROWS = "schema.explain.min.rows";
+
+	/**
+	 * Имя свойства использования фильтра логинов абитуриентов при проверке
+	 * доступности логина (true/false)
+	 */
+	public static final String LOGIN_FILTER = "login.filter";
+
+	/**
+	 * Имя свойства вероятности ложного срабатывания фильтра логинов (в
+	 * процентах)
+	 */
+	public static final String LOGIN_FILTER_FALSE_POSITIVE_PERCENT = "login.filter.false.positive.percent";
+
+	/**
+	 * Имя свойства количества строк файла, сохраняемых одной транзакцией при
+	 * импорте абитуриентов
+	 */
+	public static final String IMPORT_BATCH_SIZE = "import.batch.size";
+
+	/**
+	 * Имя свойства количества потоков валидации строк файла при импорте
+	 * абитуриентов
+	 */
+	public static final String IMPORT_PARALLELISM = "import.parallelism";
+
+	private ServiceParameter() {
+	}
+
+}
@@ -0,0 +1,91 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Класс <code>ServiceResourceManager</code> предназначен для извлечения
+ * настроек сервис-объектов (режимы кэширования, размеры пакетов, интервалы
+ * фоновых задач и т.д.) из файла свойств.
+ * <p>
+ * Получение объекта класса <code>ServiceResourceManager</code> осуществляется
+ * путем вызова статического метода <code>getInstance()</code> данного класса.
+ * <p>
+ * При работе с файлом свойств используется объект класса
+ * <code>ResourceBundle</code>. Если свойство отсутствует в файле свойств,
+ * используется значение по умолчанию, переданное вызывающим методом.
+ * 
+ * @author Daria Krupenko
+ * @see ServiceParameter
+ * @see ResourceBundle
+ *
+ */
+public class ServiceResourceManager {
+
+	/**
+	 * Название файла свойств сервис-объектов
+	 */
+	private static final String SERVICE_PROPERTIES = "main.by.epam.admissionweb.service.impl.service";
+
+	/**
+	 * Объект класса <code>ServiceResourceManager</code>, создается один раз
+	 * при загрузке класса в память
+	 */
+	private static final ServiceResourceManager INSTANCE = new ServiceResourceManager();
+
+	/**
+	 * Объект <code>ResourceBundle</code> для работы с файлом свойств
+	 */
+	private ResourceBundle bundle = ResourceBundle.getBundle(SERVICE_PROPERTIES);
+
+	private ServiceResourceManager() {
+	}
+
+	/**
+	 * Получение объекта класса <code>ServiceResourceManager</code>
+	 * 
+	 * @return объект класса <code>ServiceResourceManager</code>
+	 */
+	public static ServiceResourceManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Получение значения свойства по указанному в параметре <code>key</code>
+	 * ключу.
+	 * 
+	 * @param key
+	 *            имя свойства
+	 * @param defaultValue
+	 *            значение по умолчанию
+	 * @return значение свойства; <code>defaultValue</code> - если свойство не
+	 *         задано
+	 */
+	public String getValue(String key, String defaultValue) {
+		try {
+			return bundle.getString(key).trim();
+		} catch (MissingResourceException ex) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Получение целочисленного значения свойства по указанному в параметре
+	 * <code>key</code> ключу.
+	 * 
+	 * @param key
+	 *            имя свойства
+	 * @param defaultValue
+	 *            значение по умолчанию
+	 * @return значение свойства; <code>defaultValue</code> - если свойство не
+	 *         задано или имеет неверный формат
+	 */
+	public int getIntValue(String key, int defaultValue) {
+		try {
+			return Integer.parseInt(getValue(key, String.valueOf(defaultValue)));
+		} catch (NumberFormatException ex) {
+			return defaultValue;
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.IOException;
+
+/**
+ * Интерфейс <code>TableWriter</code> представляет собой потоковую запись
+ * таблицы в файл определенного формата: строки записываются по одной и не
+ * накапливаются в памяти.
+ * <p>
+ * Значения ячеек типа <code>Number</code> записываются как числа, остальные
+ * значения - как строки (null - пустая ячейка).
+ *
+ * @author Daria Krupenko
+ * @see CsvWriter
+ * @see XlsxWriter
+ *
+ */
+public interface TableWriter {
+
+	/**
+	 * Запись строки таблицы
+	 *
+	 * @param cells
+	 *            значения ячеек строки
+	 * @throws IOException
+	 *             при записи произошла ошибка
+	 */
+	public void writeRow(Object... cells) throws IOException;
+
+	/**
+	 * Завершение записи таблицы. Поток, в который записывается таблица, не
+	 * закрывается.
+	 *
+	 * @throws IOException
+	 *             при записи произошла ошибка
+	 */
+	public void finish() throws IOException;
+
+}
@@ -0,0 +1,225 @@
+package main.by.epam.admissionweb.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Класс <code>XlsxWriter</code> выполняет потоковую запись таблицы в формате
+ * Office Open XML (XLSX) с одним листом.
+ * <p>
+ * Файл XLSX представляет собой ZIP-архив XML-документов. Служебные документы
+ * архива записываются при создании объекта, а документ листа - по мере
+ * записи строк: каждая строка сжимается и передается в поток сразу, поэтому
+ * объем используемой памяти не зависит от количества строк. Строковые
+ * значения записываются непосредственно в ячейки (inline strings) без общей
+ * таблицы строк, которую пришлось бы накапливать в памяти.
+ *
+ * @author Daria Krupenko
+ * @see TableWriter
+ *
+ */
+public class XlsxWriter implements TableWriter {
+
+	/**
+	 * Документ типов содержимого архива
+	 */
+	private static final String CONTENT_TYPES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+			+ "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+			+ "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+			+ "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+			+ "<Override PartName=\"/xl/workbook.xml\""
+			+ " ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+			+ "<Override PartName=\"/xl/worksheets/sheet1.xml\""
+			+ " ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+			+ "</Types>";
+
+	/**
+	 * Документ связей архива
+	 */
+	private static final String RELATIONSHIPS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+			+ "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+			+ "<Relationship Id=\"rId1\""
+			+ " Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\""
+			+ " Target=\"xl/workbook.xml\"/></Relationships>";
+
+	/**
+	 * Документ книги (имя листа подставляется при записи)
+	 */
+	private static final String WORKBOOK = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+			+ "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\""
+			+ " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+			+ "<sheets><sheet name=\"%s\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>";
+
+	/**
+	 * Документ связей книги
+	 */
+	private static final String WORKBOOK_RELATIONSHIPS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+			+ "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+			+ "<Relationship Id=\"rId1\""
+			+ " Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\""
+			+ " Target=\"worksheets/sheet1.xml\"/></Relationships>";
+
+	/**
+	 * Начало документа листа
+	 */
+	private static final String SHEET_BEGIN = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+			+ "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>";
+
+	/**
+	 * Окончание документа листа
+	 */
+	private static final String SHEET_END = "</sheetData></worksheet>";
+
+	/**
+	 * Максимальная длина имени листа
+	 */
+	private static final int SHEET_NAME_MAX_LENGTH = 31;
+
+	/**
+	 * Поток записи архива
+	 */
+	private final ZipOutputStream zip;
+
+	/**
+	 * Буферизованный поток записи документа листа
+	 */
+	private final Writer writer;
+
+	/**
+	 * Номер следующей строки листа
+	 */
+	private int rowNumber = 1;
+
+	/**
+	 * Создание объекта записи таблицы и запись служебных документов архива
+	 *
+	 * @param out
+	 *            поток, в который записывается таблица
+	 * @param sheetName
+	 *            имя листа
+	 * @throws IOException
+	 *             при записи произошла ошибка
+	 */
+	public XlsxWriter(OutputStream out, String sheetName) throws IOException {
+		zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+		writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+		writeEntry("[Content_Types].xml", CONTENT_TYPES);
+		writeEntry("_rels/.rels", RELATIONSHIPS);
+		String name = sheetName.replaceAll("[\\\\/?*:\\[\\]]", " ");
+		if (name.length() > SHEET_NAME_MAX_LENGTH) {
+			name = name.substring(0, SHEET_NAME_MAX_LENGTH);
+		}
+		writeEntry("xl/workbook.xml", String.format(WORKBOOK, escape(name)));
+		writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+		zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+		writer.write(SHEET_BEGIN);
+	}
+
+	@Override
+	public void writeRow(Object... cells) throws IOException {
+		writer.write("<row r=\"");
+		writer.write(Integer.toString(rowNumber));
+		writer.write("\">");
+		for (int i = 0; i < cells.length; i++) {
+			Object cell = cells[i];
+			if (cell == null) {
+				continue;
+			}
+			writer.write("<c r=\"");
+			writer.write(getColumnName(i));
+			writer.write(Integer.toString(rowNumber));
+			if (cell instanceof Number) {
+				writer.write("\"><v>");
+				writer.write(cell.toString());
+				writer.write("</v></c>");
+			} else {
+				writer.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+				writer.write(escape(cell.toString()));
+				writer.write("</t></is></c>");
+			}
+		}
+		writer.write("</row>");
+		rowNumber++;
+	}
+
+	@Override
+	public void finish() throws IOException {
+		writer.write(SHEET_END);
+		writer.flush();
+		zip.closeEntry();
+		zip.finish();
+	}
+
+	/**
+	 * Запись служебного документа архива
+	 *
+	 * @param name
+	 *            имя документа в архиве
+	 * @param content
+	 *            содержимое документа
+	 * @throws IOException
+	 *             при записи произошла ошибка
+	 */
+	private void writeEntry(String name, String content) throws IOException {
+		zip.putNextEntry(new ZipEntry(name));
+		writer.write(content);
+		writer.flush();
+		zip.closeEntry();
+	}
+
+	/**
+	 * Получение буквенного имени столбца (A, B, ..., Z, AA, ...)
+	 *
+	 * @param index
+	 *            номер столбца (начиная с 0)
+	 * @return имя столбца
+	 */
+	private static String getColumnName(int index) {
+		StringBuilder name = new StringBuilder();
+		for (int i = index + 1; i > 0; i = (i - 1) / 26) {
+			name.insert(0, (char) ('A' + (i - 1) % 26));
+		}
+		return name.toString();
+	}
+
+	/**
+	 * Экранирование специальных символов XML и удаление символов, недопустимых
+	 * в документе XML
+	 *
+	 * @param value
+	 *            строковое значение
+	 * @return экранированное значение
+	 */
+	private static String escape(String value) {
+		StringBuilder result = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '&':
+				result.append("&amp;");
+				break;
+			case '<':
+				result.append("&lt;");
+				break;
+			case '>':
+				result.append("&gt;");
+				break;
+			case '"':
+				result.append("&quot;");
+				break;
+			default:
+				if (c >= ' ' || c == '\t' || c == '\n' || c == '\r') {
+					result.append(c);
+				}
+			}
+		}
+		return result.toString();
+	}
+
+}
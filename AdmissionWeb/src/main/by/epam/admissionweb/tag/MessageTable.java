@@ -0,0 +1,216 @@
+package main.by.epam.admissionweb.tag;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.StringTokenizer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Класс <code>MessageTable</code> представляет собой таблицу сообщений
+ * интернационализации, загружаемую один раз при запуске приложения.
+ * <p>
+ * Для каждого поддерживаемого языка таблица хранит все сообщения ресурса
+ * интернационализации (с учетом сообщений базового ресурса). Шаблоны
+ * сообщений, содержащие параметры, заранее разбираются в объекты
+ * <code>MessageFormat</code>. Поэтому при выводе сообщения не требуется ни
+ * поиск ресурса, ни разбор шаблона.
+ * <p>
+ * Сообщения выводятся так же, как тегом <code>fmt:message</code>: сообщение
+ * без параметров выводится без изменений, сообщение с параметрами
+ * форматируется, отсутствующее сообщение выводится в виде
+ * <code>???key???</code>.
+ * <p>
+ * Получение объекта класса <code>MessageTable</code> осуществляется путем
+ * вызова статического метода <code>getInstance()</code> данного класса.
+ *
+ * @author Daria Krupenko
+ * @see MessageTag
+ * @see MessageFormat
+ *
+ */
+public class MessageTable {
+
+	/**
+	 * Логгер
+	 */
+	private static final Logger LOGGER = LogManager.getRootLogger();
+
+	/**
+	 * Разделитель языков в списке поддерживаемых языков
+	 */
+	private static final String DELIMETER = ",";
+
+	/**
+	 * Признак параметра в шаблоне сообщения
+	 */
+	private static final char PARAM_SIGN = '{';
+
+	/**
+	 * Символ экранирования в шаблоне сообщения
+	 */
+	private static final char QUOTE_SIGN = '\'';
+
+	/**
+	 * Обрамление отсутствующего сообщения
+	 */
+	private static final String UNDEFINED_KEY = "???";
+
+	/**
+	 * Объект класса <code>MessageTable</code>, создается один раз при загрузке
+	 * класса в память
+	 */
+	private static final MessageTable INSTANCE = new MessageTable();
+
+	/**
+	 * Сообщения базового ресурса
+	 */
+	private volatile Map<String, Message> rootMessages = Collections.emptyMap();
+
+	/**
+	 * Сообщения поддерживаемых языков (ключ - код языка)
+	 */
+	private volatile Map<String, Map<String, Message>> localeMessages = Collections.emptyMap();
+
+	private MessageTable() {
+	}
+
+	/**
+	 * Получение объекта класса <code>MessageTable</code>
+	 *
+	 * @return объект класса <code>MessageTable</code>
+	 */
+	public static MessageTable getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Загрузка сообщений ресурса интернационализации (вызывается при запуске
+	 * приложения)
+	 *
+	 * @param basename
+	 *            базовое имя ресурса интернационализации
+	 * @param locales
+	 *            поддерживаемые языки, перечисленные через запятую
+	 */
+	public void load(String basename, String locales) {
+		ResourceBundle.Control control = ResourceBundle.Control
+				.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+		Map<String, Map<String, Message>> newLocaleMessages = new HashMap<String, Map<String, Message>>();
+		if (locales != null) {
+			StringTokenizer tokenizer = new StringTokenizer(locales, DELIMETER);
+			while (tokenizer.hasMoreTokens()) {
+				String lang = tokenizer.nextToken().trim();
+				Locale locale = new Locale(lang);
+				ResourceBundle bundle = ResourceBundle.getBundle(basename, locale, control);
+				newLocaleMessages.put(lang, compile(bundle, locale));
+			}
+		}
+		rootMessages = compile(ResourceBundle.getBundle(basename, Locale.ROOT, control), Locale.ROOT);
+		localeMessages = newLocaleMessages;
+		LOGGER.debug("TAG : MessageTable.load (basename = {}, locales = {}, messages = {})", basename,
+				newLocaleMessages.keySet(), rootMessages.size());
+	}
+
+	/**
+	 * Получение сообщения для указанного языка.
+	 * <p>
+	 * Если язык не поддерживается, сообщение извлекается из базового ресурса.
+	 *
+	 * @param locale
+	 *            язык
+	 * @param key
+	 *            ключ сообщения
+	 * @param args
+	 *            параметры сообщения (может быть пустым или null)
+	 * @return текст сообщения
+	 */
+	public String getMessage(Locale locale, String key, Object[] args) {
+		Map<String, Message> messages = null;
+		if (locale != null) {
+			messages = localeMessages.get(locale.getLanguage());
+		}
+		if (messages == null) {
+			messages = rootMessages;
+		}
+		Message message = messages.get(key);
+		if (message == null) {
+			return UNDEFINED_KEY + key + UNDEFINED_KEY;
+		}
+		return message.format(args);
+	}
+
+	/**
+	 * Разбор всех сообщений ресурса
+	 *
+	 * @param bundle
+	 *            ресурс интернационализации
+	 * @param locale
+	 *            язык ресурса (используется при форматировании параметров)
+	 * @return сообщения ресурса (ключ - ключ сообщения)
+	 */
+	private Map<String, Message> compile(ResourceBundle bundle, Locale locale) {
+		Map<String, Message> messages = new HashMap<String, Message>();
+		for (String key : bundle.keySet()) {
+			messages.put(key, new Message(bundle.getString(key), locale));
+		}
+		return messages;
+	}
+
+	/**
+	 * Статический вложенный класс <code>Message</code> представляет собой
+	 * сообщение вместе с заранее разобранным шаблоном.
+	 *
+	 * @author Daria Krupenko
+	 *
+	 */
+	private static class Message {
+
+		/**
+		 * Текст сообщения
+		 */
+		private final String text;
+
+		/**
+		 * Разобранный шаблон (null - шаблон не содержит параметров и символов
+		 * экранирования, и форматирование не изменяет текст)
+		 */
+		private final MessageFormat format;
+
+		Message(String text, Locale locale) {
+			this.text = text;
+			MessageFormat messageFormat = null;
+			if (text.indexOf(PARAM_SIGN) >= 0 || text.indexOf(QUOTE_SIGN) >= 0) {
+				try {
+					messageFormat = new MessageFormat(text, locale);
+				} catch (IllegalArgumentException ex) {
+					LOGGER.warn("TAG : Invalid message pattern: {}", text);
+				}
+			}
+			format = messageFormat;
+		}
+
+		/**
+		 * Форматирование сообщения. Объект <code>MessageFormat</code> не
+		 * является потокобезопасным, поэтому форматирование синхронизировано.
+		 *
+		 * @param args
+		 *            параметры сообщения
+		 * @return текст сообщения
+		 */
+		String format(Object[] args) {
+			if (args == null || args.length == 0 || format == null) {
+				return text;
+			}
+			synchronized (format) {
+				return format.format(args);
+			}
+		}
+	}
+
+}
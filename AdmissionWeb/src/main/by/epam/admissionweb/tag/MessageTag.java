@@ -0,0 +1,128 @@
+package main.by.epam.admissionweb.tag;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.jstl.core.Config;
+import javax.servlet.jsp.tagext.BodyTagSupport;
+
+/**
+ * Класс <code>MessageTag</code> является подклассом класса
+ * <code>BodyTagSupport</code> и представляет собой обработчик
+ * пользовательского тега <b><code>adm:message</code></b>.
+ * <p>
+ * Пользовательский тег <b><code>adm:message</code></b> выводит сообщение
+ * интернационализации с ключом, указанным в атрибуте <b><code>key</code></b>
+ * данного тега. В отличие от тега <code>fmt:message</code>, сообщение
+ * извлекается из таблицы {@link MessageTable}, загруженной при запуске
+ * приложения, и записывается непосредственно в <code>JspWriter</code>; ресурс
+ * интернационализации при обработке запроса не используется.
+ * <p>
+ * Язык сообщения определяется так же, как для тегов <code>fmt</code>
+ * (устанавливается тегом <code>fmt:setLocale</code>); если язык не установлен,
+ * используется язык запроса клиента.
+ * <p>
+ * Параметры сообщения указываются во вложенных тегах <b>
+ * <code>adm:param</code></b>.
+ *
+ * @author Daria Krupenko
+ * @see MessageTable
+ * @see ParamTag
+ *
+ */
+public class MessageTag extends BodyTagSupport {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Ключ сообщения
+	 */
+	private String key;
+
+	/**
+	 * Параметры сообщения
+	 */
+	private final List<Object> params = new ArrayList<Object>();
+
+	/**
+	 * Получение ключа сообщения
+	 *
+	 * @return ключ сообщения
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Установка ключа сообщения
+	 * <p>
+	 * Вызывается со страницы JSP при указании атрибута <code>key</code> тега
+	 * <code>adm:message</code>
+	 *
+	 * @param key
+	 *            ключ сообщения
+	 */
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * Добавление параметра сообщения (вызывается вложенным тегом
+	 * <code>adm:param</code>)
+	 *
+	 * @param param
+	 *            значение параметра
+	 */
+	public void addParam(Object param) {
+		params.add(param);
+	}
+
+	/**
+	 * Подготовка к обработке тега: очистка параметров, оставшихся от
+	 * предыдущего использования обработчика
+	 */
+	@Override
+	public int doStartTag() throws JspException {
+		params.clear();
+		return EVAL_BODY_BUFFERED;
+	}
+
+	/**
+	 * Вывод сообщения с учетом языка и параметров, указанных во вложенных
+	 * тегах
+	 *
+	 * @throws JspException
+	 *             если при выводе сообщения произошла ошибка
+	 */
+	@Override
+	public int doEndTag() throws JspException {
+		String message = MessageTable.getInstance().getMessage(getLocale(), key, params.toArray());
+		try {
+			pageContext.getOut().write(message);
+		} catch (IOException ex) {
+			throw new JspException("Unable to write string processed by <adm:message> tag", ex);
+		}
+		return EVAL_PAGE;
+	}
+
+	/**
+	 * Определение языка сообщения
+	 *
+	 * @return язык, установленный тегом <code>fmt:setLocale</code>, либо язык
+	 *         запроса клиента
+	 */
+	private Locale getLocale() {
+		Object localeObj = Config.find(pageContext, Config.FMT_LOCALE);
+		if (localeObj instanceof Locale) {
+			return (Locale) localeObj;
+		}
+		if (localeObj instanceof String && !((String) localeObj).isEmpty()) {
+			return new Locale((String) localeObj);
+		}
+		return pageContext.getRequest().getLocale();
+	}
+
+}
@@ -0,0 +1,68 @@
+package main.by.epam.admissionweb.tag;
+
+import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.tagext.TagSupport;
+
+/**
+ * Класс <code>ParamTag</code> является подклассом класса
+ * <code>TagSupport</code> и представляет собой обработчик пользовательского
+ * тега <b><code>adm:param</code></b>.
+ * <p>
+ * Пользовательский тег <b><code>adm:param</code></b> является тегом без тела и
+ * задает значение очередного параметра сообщения, выводимого охватывающим
+ * тегом <b><code>adm:message</code></b>. Значение указывается в атрибуте <b>
+ * <code>value</code></b> данного тега.
+ *
+ * @author Daria Krupenko
+ * @see MessageTag
+ *
+ */
+public class ParamTag extends TagSupport {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Значение параметра
+	 */
+	private Object value;
+
+	/**
+	 * Получение значения параметра
+	 *
+	 * @return значение параметра
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Установка значения параметра
+	 * <p>
+	 * Вызывается со страницы JSP при указании атрибута <code>value</code> тега
+	 * <code>adm:param</code>
+	 *
+	 * @param value
+	 *            значение параметра
+	 */
+	public void setValue(Object value) {
+		this.value = value;
+	}
+
+	/**
+	 * Передача значения параметра охватывающему тегу
+	 * <code>adm:message</code>
+	 *
+	 * @throws JspException
+	 *             если тег находится вне тега <code>adm:message</code>
+	 */
+	@Override
+	public int doEndTag() throws JspException {
+		MessageTag parent = (MessageTag) findAncestorWithClass(this, MessageTag.class);
+		if (parent == null) {
+			throw new JspException("<adm:param> tag must be nested in <adm:message> tag");
+		}
+		parent.addParam(value);
+		return EVAL_PAGE;
+	}
+
+}
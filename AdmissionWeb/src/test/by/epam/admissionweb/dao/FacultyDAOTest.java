@@ -1,7 +1,9 @@
 package test.by.epam.admissionweb.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -60,7 +62,8 @@ public class FacultyDAOTest {
 	/**
 	 * JUnit Test, который заключается в создании нового факультета, записи его
 	 * в источник данных, затем факультет обновляется и изменения снова вносятся
-	 * в источник данных. После этого факультет удаляется.
+	 * в источник данных. Обновление устаревшей версии факультета отклоняется.
+	 * После этого факультет удаляется.
 	 * <p>
 	 * Данные действия не рассматриваются как единая бизнес-транзакция
 	 * 
@@ -81,9 +84,16 @@ public class FacultyDAOTest {
 		int id = dao.createFaculty(f, NO_TRANSACTION);
 		f.setId(id);
 		f.setPlan(10);
-		dao.updateFaculty(f, NO_TRANSACTION);
+		assertTrue(dao.updateFaculty(f, true, true, NO_TRANSACTION));
+		assertEquals(1, f.getVersion());
 		Faculty fDb = dao.getFaculty(id, null, NO_TRANSACTION);
 		assertEquals(10, fDb.getPlan());
+		assertEquals(1, fDb.getVersion());
+		f.setVersion(0);
+		f.setPlan(20);
+		assertFalse(dao.updateFaculty(f, true, true, NO_TRANSACTION));
+		fDb = dao.getFaculty(id, null, NO_TRANSACTION);
+		assertEquals(10, fDb.getPlan());
 		dao.deleteFaculty(id, NO_TRANSACTION);
 		Faculty deletedF = dao.getFaculty(id, null, NO_TRANSACTION);
 		assertNull(deletedF);
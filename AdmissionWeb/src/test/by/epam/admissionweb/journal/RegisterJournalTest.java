@@ -0,0 +1,173 @@
+package test.by.epam.admissionweb.journal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import main.by.epam.admissionweb.journal.JournalEvent;
+import main.by.epam.admissionweb.journal.JournalReader;
+import main.by.epam.admissionweb.journal.JournalReplayer;
+import main.by.epam.admissionweb.journal.RegisterJournal;
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>RegisterJournalTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования журнала событий ведомости
+ * {@link RegisterJournal} и восстановления состояния ведомостей по журналу
+ * {@link JournalReplayer}.
+ *
+ * @author Daria Krupenko
+ * @see RegisterJournal
+ * @see JournalReplayer
+ *
+ */
+public class RegisterJournalTest {
+
+	private File file;
+
+	@Before
+	public void createFile() throws IOException {
+		file = File.createTempFile("register", ".journal");
+		file.delete();
+	}
+
+	@After
+	public void deleteFile() {
+		file.delete();
+	}
+
+	/**
+	 * Тестирование записи и чтения событий с переходом между отображаемыми
+	 * областями и повторным открытием журнала
+	 */
+	@Test
+	public void testAppendAndRead() throws IOException {
+		RegisterJournal journal = new RegisterJournal(file, 10, 4);
+		for (int i = 1; i <= 25; i++) {
+			assertEquals(i, journal.append(JournalEvent.registered(1, 2, i, 100 + i, 50)));
+		}
+		journal.close();
+		journal = new RegisterJournal(file, 10, 4);
+		assertEquals(25, journal.getSequence());
+		assertEquals(26, journal.append(JournalEvent.cancelled(1, 2, 5)));
+		journal.close();
+		JournalReader reader = new JournalReader(file);
+		for (int i = 1; i <= 25; i++) {
+			JournalEvent e = reader.next();
+			assertEquals(JournalEvent.REGISTERED, e.getType());
+			assertEquals(i, e.getSequence());
+			assertEquals(i, e.getApplicantId());
+			assertEquals(100 + i, e.getTotalScore());
+		}
+		JournalEvent e = reader.next();
+		assertEquals(JournalEvent.CANCELLED, e.getType());
+		assertEquals(5, e.getApplicantId());
+		assertNull(reader.next());
+		reader.close();
+	}
+
+	/**
+	 * Тестирование чтения журнала с поврежденной последней записью
+	 */
+	@Test
+	public void testTornRecord() throws IOException {
+		RegisterJournal journal = new RegisterJournal(file, 100, 1);
+		for (int i = 1; i <= 3; i++) {
+			journal.append(JournalEvent.registered(1, 2, i, 200, 60));
+		}
+		long size = journal.getSize();
+		journal.close();
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		raf.seek(size - 10);
+		raf.writeInt(0x12345678);
+		raf.close();
+		journal = new RegisterJournal(file, 100, 1);
+		assertEquals(2, journal.getSequence());
+		journal.append(JournalEvent.registered(1, 2, 4, 210, 60));
+		journal.close();
+		JournalReplayer replayer = JournalReplayer.replay(file);
+		assertEquals(3, replayer.getEventsNumber());
+		assertEquals(3, replayer.getSequence());
+		FacultyRanking ranking = replayer.getRanking(1, 2);
+		assertEquals(3, ranking.size());
+		assertEquals(4, ranking.getCutoff(1).getApplicantId());
+		assertEquals(-1, ranking.getPosition(3));
+	}
+
+	/**
+	 * Тестирование восстановления рейтингов, статусов и планов в сравнении с
+	 * рейтингом, изменяемым напрямую
+	 */
+	@Test
+	public void testReplay() throws IOException {
+		Random random = new Random(41);
+		RegisterJournal journal = new RegisterJournal(file, 64, 16);
+		Map<Integer, FacultyRanking> expected = new HashMap<Integer, FacultyRanking>();
+		Map<Integer, Integer> statuses = new HashMap<Integer, Integer>();
+		int plan = 0;
+		for (int i = 0; i < 2000; i++) {
+			int facultyId = random.nextInt(3) + 1;
+			int applicantId = random.nextInt(300);
+			int operation = random.nextInt(10);
+			FacultyRanking ranking = expected.get(facultyId);
+			if (ranking == null) {
+				ranking = new FacultyRanking();
+				expected.put(facultyId, ranking);
+			}
+			if (operation < 6) {
+				if (statuses.containsKey(applicantId)) {
+					continue;
+				}
+				int total = random.nextInt(300);
+				int certificate = random.nextInt(100);
+				ranking.add(new RankKey(applicantId, total, certificate));
+				statuses.put(applicantId, (int) RegisterColumns.TEMP_NOT_ADMITTED);
+				journal.append(JournalEvent.registered(facultyId, 7, applicantId, total, certificate));
+			} else if (operation < 8) {
+				if (ranking.remove(applicantId) == null) {
+					continue;
+				}
+				statuses.remove(applicantId);
+				journal.append(JournalEvent.cancelled(facultyId, 7, applicantId));
+			} else if (operation < 9) {
+				if (ranking.getKey(applicantId) == null) {
+					continue;
+				}
+				byte code = (byte) random.nextInt(4);
+				statuses.put(applicantId, (int) code);
+				journal.append(JournalEvent.statusChanged(facultyId, 7, applicantId, code));
+			} else {
+				plan = random.nextInt(50);
+				journal.append(JournalEvent.planChanged(1, 7, plan));
+			}
+		}
+		journal.close();
+		JournalReplayer replayer = JournalReplayer.replay(file);
+		for (Map.Entry<Integer, FacultyRanking> entry : expected.entrySet()) {
+			RankKey[] keys = entry.getValue().toArray();
+			RankKey[] replayed = replayer.getRanking(entry.getKey(), 7).toArray();
+			assertEquals(keys.length, replayed.length);
+			for (int i = 0; i < keys.length; i++) {
+				assertEquals(0, keys[i].compareTo(replayed[i]));
+			}
+		}
+		for (int applicantId = 0; applicantId < 300; applicantId++) {
+			Integer code = statuses.get(applicantId);
+			assertEquals(code == null ? -1 : code.intValue(), replayer.getStatusCode(7, applicantId));
+		}
+		assertEquals(plan, replayer.getPlan(1));
+	}
+
+}
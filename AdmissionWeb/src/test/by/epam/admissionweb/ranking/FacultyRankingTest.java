@@ -0,0 +1,92 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.StatusDelta;
+
+/**
+ * Класс <code>FacultyRankingTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования рейтинга факультета {@link FacultyRanking}.
+ *
+ * @author Daria Krupenko
+ * @see FacultyRanking
+ *
+ */
+public class FacultyRankingTest {
+
+	/**
+	 * Тестирование проходного балла и статусов рейтинга факультета
+	 */
+	@Test
+	public void testFacultyRanking() {
+		FacultyRanking ranking = new FacultyRanking();
+		ranking.add(new RankKey(1, 200, 70));
+		ranking.add(new RankKey(2, 220, 80));
+		assertEquals(0, ranking.getPassRate(3));
+		assertNull(ranking.getCutoff(3));
+		ranking.add(new RankKey(3, 210, 90));
+		assertEquals(200, ranking.getPassRate(3));
+		assertEquals(210, ranking.getPassRate(2));
+		assertTrue(ranking.isAdmitted(3, 2));
+		assertFalse(ranking.isAdmitted(1, 2));
+		assertEquals(2, ranking.getPosition(1));
+		ranking.add(new RankKey(1, 230, 70));
+		assertEquals(0, ranking.getPosition(1));
+		assertEquals(3, ranking.size());
+		assertEquals(new RankKey(2, 220, 80), ranking.remove(2));
+		assertEquals(210, ranking.getPassRate(2));
+		assertEquals(-1, ranking.getPosition(2));
+		assertEquals(0, ranking.getPassRate(0));
+	}
+
+	/**
+	 * Тестирование изменения статусов: после применения каждого изменения
+	 * сохраненные статусы должны совпадать с полным пересчетом
+	 */
+	@Test
+	public void testSync() {
+		Random random = new Random(7);
+		FacultyRanking ranking = new FacultyRanking();
+		int plan = 20;
+		assertNull(ranking.sync(plan));
+		ranking.markSynced(plan);
+		Set<Integer> persisted = new HashSet<Integer>();
+		for (int i = 0; i < 3000; i++) {
+			int operation = random.nextInt(10);
+			if (operation < 6) {
+				ranking.add(new RankKey(random.nextInt(200), random.nextInt(100), random.nextInt(10)));
+			} else if (operation < 9) {
+				int applicantId = random.nextInt(200);
+				if (ranking.remove(applicantId) != null) {
+					persisted.remove(applicantId);
+				}
+			} else {
+				plan = random.nextInt(40);
+			}
+			if (random.nextInt(3) == 0) {
+				continue;
+			}
+			StatusDelta delta = ranking.sync(plan);
+			persisted.addAll(delta.getAdmitted());
+			persisted.removeAll(delta.getNotAdmitted());
+			assertEquals(ranking.getPassRate(plan), delta.getPassRate());
+			Set<Integer> expected = new HashSet<Integer>();
+			for (int j = 0; j < Math.min(plan, ranking.size()); j++) {
+				expected.add(ranking.getCutoff(j + 1).getApplicantId());
+			}
+			assertEquals(expected, persisted);
+		}
+	}
+
+}
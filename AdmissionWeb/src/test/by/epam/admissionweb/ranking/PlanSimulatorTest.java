@@ -0,0 +1,50 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.PlanScenario;
+import main.by.epam.admissionweb.ranking.PlanSimulator;
+import main.by.epam.admissionweb.ranking.RankKey;
+
+/**
+ * Класс <code>PlanSimulatorTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования симуляции вариантов плана набора
+ * {@link PlanSimulator}.
+ *
+ * @author Daria Krupenko
+ * @see PlanSimulator
+ *
+ */
+public class PlanSimulatorTest {
+
+	/**
+	 * Тестирование симуляции вариантов плана набора
+	 */
+	@Test
+	public void testSimulator() {
+		FacultyRanking ranking = new FacultyRanking();
+		ranking.add(new RankKey(1, 250, 90));
+		ranking.add(new RankKey(2, 240, 80));
+		ranking.add(new RankKey(3, 240, 70));
+		ranking.add(new RankKey(4, 240, 60));
+		ranking.add(new RankKey(5, 200, 100));
+		PlanSimulator simulator = ranking.getSimulator();
+		List<PlanScenario> scenarios = simulator.simulate(new int[] { 0, 1, 2, 5, 7 });
+		assertEquals(0, scenarios.get(0).getAdmittedNumber());
+		assertEquals(-1, scenarios.get(0).getCutoffApplicantId());
+		assertEquals(250, scenarios.get(1).getPassRate());
+		assertEquals(0, scenarios.get(1).getTiedNumber());
+		assertEquals(240, scenarios.get(2).getPassRate());
+		assertEquals(2, scenarios.get(2).getCutoffApplicantId());
+		assertEquals(2, scenarios.get(2).getTiedNumber());
+		assertEquals(ranking.getPassRate(5), scenarios.get(3).getPassRate());
+		assertEquals(5, scenarios.get(4).getAdmittedNumber());
+		assertEquals(0, scenarios.get(4).getPassRate());
+	}
+
+}
@@ -0,0 +1,58 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.ranking.RadixSort;
+import main.by.epam.admissionweb.ranking.RankKey;
+
+/**
+ * Класс <code>RadixSortTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования упаковки ключей рейтинга {@link RankKey} и
+ * поразрядной сортировки {@link RadixSort}.
+ *
+ * @author Daria Krupenko
+ * @see RankKey
+ * @see RadixSort
+ *
+ */
+public class RadixSortTest {
+
+	/**
+	 * Тестирование упаковки ключей и поразрядной сортировки в сравнении с
+	 * сортировкой объектов ключей
+	 */
+	@Test
+	public void testPackedSort() {
+		Random random = new Random(40);
+		int n = 5000;
+		RankKey[] keys = new RankKey[n];
+		long[] packed = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = new RankKey(random.nextInt(Integer.MAX_VALUE), random.nextInt(400), random.nextInt(101));
+			packed[i] = keys[i].getPacked();
+			assertEquals(keys[i].getApplicantId(), RankKey.unpackApplicantId(packed[i]));
+			assertEquals(keys[i].getTotalScore(), RankKey.unpackTotalScore(packed[i]));
+			assertEquals(keys[i].getCertificateScore(), RankKey.unpackCertificateScore(packed[i]));
+		}
+		Arrays.sort(keys);
+		RadixSort.sort(packed);
+		for (int i = 0; i < n; i++) {
+			assertEquals(keys[i].getPacked(), packed[i]);
+		}
+		long[] signed = new long[n];
+		for (int i = 0; i < n; i++) {
+			signed[i] = random.nextLong();
+		}
+		long[] expected = signed.clone();
+		Arrays.sort(expected);
+		RadixSort.sort(signed);
+		assertTrue(Arrays.equals(expected, signed));
+	}
+
+}
@@ -0,0 +1,99 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Faculty;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.ranking.FacultyRanking;
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RankingSnapshot;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>RankingSnapshotTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования снимка рейтинга факультета
+ * {@link RankingSnapshot}.
+ *
+ * @author Daria Krupenko
+ * @see RankingSnapshot
+ *
+ */
+public class RankingSnapshotTest {
+
+	/**
+	 * Тестирование снимка рейтинга: места абитуриентов и страницы по статусам
+	 */
+	@Test
+	public void testSnapshot() {
+		FacultyRanking ranking = new FacultyRanking();
+		int[] ids = { 10, 3, 7, 42, 5 };
+		for (int i = 0; i < ids.length; i++) {
+			ranking.add(new RankKey(ids[i], 200 + i * 10, 50));
+		}
+		RankKey[] keys = ranking.toArray();
+		RegisterColumns columns = new RegisterColumns(null, null);
+		for (RankKey key : keys) {
+			columns.put(record(key.getApplicantId(), key.getTotalScore()));
+		}
+		RankingSnapshot snapshot = new RankingSnapshot(keys, columns, faculty(2), true);
+		assertEquals(2, snapshot.getNumber(true));
+		assertEquals(3, snapshot.getNumber(false));
+		assertEquals(0, snapshot.getPosition(5));
+		assertEquals(4, snapshot.getPosition(10));
+		assertEquals(-1, snapshot.getPosition(8));
+		assertEquals(42, snapshot.getApplicantId(1));
+		assertEquals(240, snapshot.getTotalScore(0));
+		assertEquals(7, snapshot.getRecord(7).getApplicant().getId());
+		assertEquals("TEMP_ADMITTED", snapshot.getRecord(42).getStatus());
+		assertEquals("TEMP_NOT_ADMITTED", snapshot.getRecord(7).getStatus());
+		List<RegisterRecord> page = snapshot.page(false, 1, 5);
+		assertEquals(2, page.size());
+		assertEquals(3, page.get(0).getApplicant().getId());
+		assertTrue(snapshot.page(true, 2, 10).isEmpty());
+		assertEquals(0, new RankingSnapshot(keys, columns, faculty(10), true).getNumber(false));
+	}
+
+	/**
+	 * Тестирование проходного балла снимка рейтинга
+	 */
+	@Test
+	public void testPassRate() {
+		FacultyRanking ranking = new FacultyRanking();
+		int[] ids = { 10, 3, 7, 42, 5 };
+		for (int i = 0; i < ids.length; i++) {
+			ranking.add(new RankKey(ids[i], 200 + i * 10, 50));
+		}
+		RankKey[] keys = ranking.toArray();
+		RegisterColumns columns = new RegisterColumns(null, null);
+		for (RankKey key : keys) {
+			columns.put(record(key.getApplicantId(), key.getTotalScore()));
+		}
+		assertEquals(230, new RankingSnapshot(keys, columns, faculty(2), true).getPassRate());
+		assertEquals(0, new RankingSnapshot(keys, columns, faculty(10), true).getPassRate());
+	}
+
+	private static RegisterRecord record(int applicantId, int totalScore) {
+		Applicant a = new Applicant();
+		a.setId(applicantId);
+		a.setName("name" + applicantId);
+		RegisterRecord r = new RegisterRecord();
+		r.setApplicant(a);
+		r.setTotalScore(totalScore);
+		r.setCertificateScore(50);
+		r.setStatus("TEMP_NOT_ADMITTED");
+		return r;
+	}
+
+	private static Faculty faculty(int plan) {
+		Faculty f = new Faculty();
+		f.setPlan(plan);
+		return f;
+	}
+
+}
@@ -0,0 +1,76 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.ranking.RankKey;
+import main.by.epam.admissionweb.ranking.RankingTree;
+
+/**
+ * Класс <code>RankingTreeTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования ключей рейтинга {@link RankKey} и дерева
+ * рейтинга {@link RankingTree}.
+ *
+ * @author Daria Krupenko
+ * @see RankKey
+ * @see RankingTree
+ *
+ */
+public class RankingTreeTest {
+
+	/**
+	 * Тестирование порядка ключей рейтинга
+	 */
+	@Test
+	public void testKeyOrder() {
+		RankKey a = new RankKey(1, 250, 90);
+		RankKey b = new RankKey(2, 250, 80);
+		RankKey c = new RankKey(3, 250, 80);
+		RankKey d = new RankKey(4, 240, 100);
+		assertTrue(a.compareTo(b) < 0);
+		assertTrue(b.compareTo(c) < 0);
+		assertTrue(c.compareTo(d) < 0);
+		assertEquals(0, a.compareTo(new RankKey(1, 250, 90)));
+	}
+
+	/**
+	 * Тестирование вставки, удаления, выбора по месту и определения места в
+	 * сравнении с отсортированным множеством
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(42);
+		RankingTree tree = new RankingTree();
+		TreeSet<RankKey> expected = new TreeSet<RankKey>();
+		List<RankKey> inserted = new ArrayList<RankKey>();
+		for (int i = 0; i < 5000; i++) {
+			if (inserted.isEmpty() || random.nextInt(3) > 0) {
+				RankKey key = new RankKey(random.nextInt(2000), random.nextInt(50), random.nextInt(10));
+				assertEquals(expected.add(key), tree.insert(key));
+				inserted.add(key);
+			} else {
+				RankKey key = inserted.remove(random.nextInt(inserted.size()));
+				assertEquals(expected.remove(key), tree.remove(key));
+			}
+			assertEquals(expected.size(), tree.size());
+		}
+		int index = 0;
+		for (RankKey key : expected) {
+			assertEquals(key, tree.select(index));
+			assertEquals(index, tree.rank(key));
+			assertTrue(tree.contains(key));
+			index++;
+		}
+		assertNull(tree.select(-1));
+		assertNull(tree.select(expected.size()));
+	}
+
+}
@@ -0,0 +1,96 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.ranking.RegisterCheckpoint;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>RegisterCheckpointTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования контрольной точки ведомостей
+ * {@link RegisterCheckpoint}.
+ *
+ * @author Daria Krupenko
+ * @see RegisterCheckpoint
+ *
+ */
+public class RegisterCheckpointTest {
+
+	/**
+	 * Тестирование сохранения колоночного хранилища в контрольную точку и
+	 * восстановления из нее
+	 */
+	@Test
+	public void testCheckpoint() throws IOException {
+		Discipline math = new Discipline();
+		math.setId(1);
+		math.setTitle("Математика");
+		Discipline physics = new Discipline();
+		physics.setId(2);
+		physics.setTitle("Physics");
+		RegisterColumns columns = new RegisterColumns(null, null);
+		for (int i = 1; i <= 100; i++) {
+			Map<Discipline, Integer> scores = new TreeMap<Discipline, Integer>();
+			scores.put(math, i % 101);
+			if (i % 3 == 0) {
+				scores.put(physics, 100 - i);
+			}
+			Applicant a = new Applicant();
+			a.setId(i);
+			a.setName("name" + i);
+			RegisterRecord r = new RegisterRecord();
+			r.setApplicant(a);
+			r.setTotalScore(150 + i);
+			r.setStatus("TEMP_NOT_ADMITTED");
+			r.setScores(scores);
+			columns.put(r);
+		}
+		columns.remove(50);
+		columns.setStatusCode(columns.rowOf(7), RegisterColumns.TEMP_ADMITTED);
+		File file = File.createTempFile("register", ".checkpoint");
+		try {
+			List<byte[]> sections = new ArrayList<byte[]>();
+			sections.add(RegisterCheckpoint.serialize(3, columns, 42));
+			sections.add(RegisterCheckpoint.serialize(4, new RegisterColumns(null, null), 43));
+			RegisterCheckpoint.write(file, 9, sections);
+			RegisterCheckpoint checkpoint = RegisterCheckpoint.read(file);
+			assertEquals(9, checkpoint.getEnrollId());
+			assertEquals(2, checkpoint.getFacultyIds().size());
+			assertEquals(42, checkpoint.getSequence(3));
+			assertEquals(-1, checkpoint.getSequence(5));
+			assertNull(checkpoint.getColumns(5, null, null));
+			assertEquals(0, checkpoint.getColumns(4, null, null).size());
+			RegisterColumns restored = checkpoint.getColumns(3, null, null);
+			assertEquals(columns.size(), restored.size());
+			for (int i = 1; i <= 100; i++) {
+				int row = columns.rowOf(i);
+				assertEquals(row, restored.rowOf(i));
+				if (row >= 0) {
+					assertEquals(columns.materialize(row), restored.materialize(row));
+				}
+			}
+			assertEquals(RegisterColumns.TEMP_ADMITTED, restored.getStatusCode(restored.rowOf(7)));
+			RegisterRecord added = restored.materialize(restored.rowOf(7));
+			added.getApplicant().setId(101);
+			added.setTotalScore(300);
+			restored.put(added);
+			assertEquals(columns.size() + 1, restored.size());
+			assertEquals(300, restored.getTotalScore(restored.rowOf(101)));
+		} finally {
+			file.delete();
+		}
+	}
+}
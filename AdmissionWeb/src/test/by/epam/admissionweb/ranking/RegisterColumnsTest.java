@@ -0,0 +1,83 @@
+package test.by.epam.admissionweb.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.entity.Applicant;
+import main.by.epam.admissionweb.entity.Discipline;
+import main.by.epam.admissionweb.entity.RegisterRecord;
+import main.by.epam.admissionweb.ranking.RegisterColumns;
+
+/**
+ * Класс <code>RegisterColumnsTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования колоночного хранилища ведомости
+ * {@link RegisterColumns}.
+ *
+ * @author Daria Krupenko
+ * @see RegisterColumns
+ *
+ */
+public class RegisterColumnsTest {
+
+	/**
+	 * Тестирование колоночного хранилища ведомости: замена и удаление строк,
+	 * баллы по дисциплинам и построение записи ведомости
+	 */
+	@Test
+	public void testColumns() {
+		Discipline math = discipline(1, "Math");
+		Discipline physics = discipline(2, "Physics");
+		RegisterColumns columns = new RegisterColumns(null, null);
+		Map<Discipline, Integer> scores = new TreeMap<Discipline, Integer>();
+		scores.put(math, 90);
+		columns.put(record(1, 190, scores));
+		scores = new TreeMap<Discipline, Integer>();
+		scores.put(physics, 80);
+		scores.put(math, 70);
+		columns.put(record(2, 250, scores));
+		columns.put(record(3, 150, null));
+		assertEquals(3, columns.size());
+		assertEquals(2, columns.getDisciplinesNumber());
+		assertTrue(columns.remove(1));
+		assertFalse(columns.remove(1));
+		assertEquals(2, columns.size());
+		assertEquals(-1, columns.rowOf(1));
+		assertEquals(3, columns.getApplicantId(columns.rowOf(3)));
+		RegisterRecord r = columns.materialize(columns.rowOf(2));
+		assertEquals(250, r.getTotalScore());
+		assertEquals(Integer.valueOf(70), r.getScores().get(math));
+		assertEquals(Integer.valueOf(80), r.getScores().get(physics));
+		assertEquals("name2", r.getApplicant().getName());
+		assertTrue(columns.materialize(columns.rowOf(3)).getScores().isEmpty());
+		columns.put(record(3, 160, null));
+		assertEquals(2, columns.size());
+		assertEquals(160, columns.getTotalScore(columns.rowOf(3)));
+	}
+
+	private static RegisterRecord record(int applicantId, int totalScore, Map<Discipline, Integer> scores) {
+		Applicant a = new Applicant();
+		a.setId(applicantId);
+		a.setName("name" + applicantId);
+		RegisterRecord r = new RegisterRecord();
+		r.setApplicant(a);
+		r.setTotalScore(totalScore);
+		r.setCertificateScore(50);
+		r.setStatus("TEMP_NOT_ADMITTED");
+		r.setScores(scores);
+		return r;
+	}
+
+	private static Discipline discipline(int id, String title) {
+		Discipline d = new Discipline();
+		d.setId(id);
+		d.setTitle(title);
+		return d;
+	}
+
+}
@@ -0,0 +1,64 @@
+package test.by.epam.admissionweb.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.service.impl.CsvReader;
+
+/**
+ * Класс <code>CsvReaderTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования потокового чтения записей CSV
+ * {@link CsvReader}.
+ *
+ * @author Daria Krupenko
+ * @see CsvReader
+ *
+ */
+public class CsvReaderTest {
+
+	/**
+	 * Тестирование чтения простых записей, пропуска пустых строк и метки
+	 * порядка байтов, а также номеров строк записей
+	 */
+	@Test
+	public void testSimpleRecords() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("\uFEFFlogin,password\r\n\r\nivanov,secret,\n"));
+		assertArrayEquals(new String[] { "login", "password" }, reader.readRecord());
+		assertEquals(1, reader.getRecordLineNumber());
+		assertArrayEquals(new String[] { "ivanov", "secret", "" }, reader.readRecord());
+		assertEquals(3, reader.getRecordLineNumber());
+		assertNull(reader.readRecord());
+	}
+
+	/**
+	 * Тестирование чтения полей в кавычках, содержащих запятые, кавычки и
+	 * переводы строки
+	 */
+	@Test
+	public void testQuotedFields() throws IOException {
+		CsvReader reader = new CsvReader(
+				new StringReader("\"Minsk, \"\"Nezavisimosti\"\" 4\",\"1:80;2:75\"\n\"line1\nline2\",x\nlast,1"));
+		assertArrayEquals(new String[] { "Minsk, \"Nezavisimosti\" 4", "1:80;2:75" }, reader.readRecord());
+		assertArrayEquals(new String[] { "line1\nline2", "x" }, reader.readRecord());
+		assertEquals(2, reader.getRecordLineNumber());
+		assertArrayEquals(new String[] { "last", "1" }, reader.readRecord());
+		assertEquals(4, reader.getRecordLineNumber());
+		assertNull(reader.readRecord());
+	}
+
+	/**
+	 * Тестирование ошибки чтения незакрытого поля в кавычках
+	 */
+	@Test(expected = IOException.class)
+	public void testUnterminatedQuote() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("ivanov,\"secret\n"));
+		reader.readRecord();
+	}
+
+}
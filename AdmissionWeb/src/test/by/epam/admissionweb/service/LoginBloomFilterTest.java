@@ -0,0 +1,78 @@
+package test.by.epam.admissionweb.service;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.service.impl.LoginBloomFilter;
+
+/**
+ * Класс <code>LoginBloomFilterTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования фильтра Блума логинов абитуриентов
+ * {@link LoginBloomFilter}.
+ *
+ * @author Daria Krupenko
+ * @see LoginBloomFilter
+ *
+ */
+public class LoginBloomFilterTest {
+
+	/**
+	 * Количество логинов, добавляемых в фильтр
+	 */
+	private static final int LOGINS_NUMBER = 10000;
+
+	/**
+	 * Вероятность ложного срабатывания фильтра
+	 */
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	/**
+	 * Тестирование отсутствия ложноотрицательных ответов: каждый добавленный
+	 * логин (в том числе в другом регистре) возможно содержится в фильтре
+	 */
+	@Test
+	public void testNoFalseNegatives() {
+		LoginBloomFilter filter = new LoginBloomFilter(LOGINS_NUMBER, FALSE_POSITIVE_RATE);
+		for (int i = 0; i < LOGINS_NUMBER; i++) {
+			filter.add("applicant" + i);
+		}
+		for (int i = 0; i < LOGINS_NUMBER; i++) {
+			assertTrue(filter.mightContain("applicant" + i));
+		}
+		assertTrue(filter.mightContain("APPLICANT42"));
+	}
+
+	/**
+	 * Тестирование доли ложных срабатываний для логинов, не добавленных в
+	 * фильтр
+	 */
+	@Test
+	public void testFalsePositiveRate() {
+		LoginBloomFilter filter = new LoginBloomFilter(LOGINS_NUMBER, FALSE_POSITIVE_RATE);
+		for (int i = 0; i < LOGINS_NUMBER; i++) {
+			filter.add("applicant" + i);
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < LOGINS_NUMBER; i++) {
+			if (filter.mightContain("student" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < LOGINS_NUMBER * FALSE_POSITIVE_RATE * 3);
+	}
+
+	/**
+	 * Тестирование пустого фильтра
+	 */
+	@Test
+	public void testEmpty() {
+		LoginBloomFilter filter = new LoginBloomFilter(0, FALSE_POSITIVE_RATE);
+		assertFalse(filter.mightContain("applicant"));
+		filter.add("applicant");
+		assertTrue(filter.mightContain("applicant"));
+		assertFalse(filter.mightContain(""));
+	}
+
+}
@@ -0,0 +1,109 @@
+package test.by.epam.admissionweb.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Test;
+
+import main.by.epam.admissionweb.service.impl.CsvReader;
+import main.by.epam.admissionweb.service.impl.CsvWriter;
+import main.by.epam.admissionweb.service.impl.TableWriter;
+import main.by.epam.admissionweb.service.impl.XlsxWriter;
+
+/**
+ * Класс <code>TableWriterTest</code> представляет собой JUnit Test Case и
+ * предназначен для тестирования потоковой записи таблиц в форматах CSV
+ * {@link CsvWriter} и XLSX {@link XlsxWriter}.
+ *
+ * @author Daria Krupenko
+ * @see TableWriter
+ *
+ */
+public class TableWriterTest {
+
+	/**
+	 * Тестирование записи таблицы CSV и ее чтения {@link CsvReader}, включая
+	 * поля с запятыми, кавычками, переводами строки и пустые ячейки
+	 */
+	@Test
+	public void testCsvRoundTrip() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TableWriter writer = new CsvWriter(out);
+		writer.writeRow("faculty", "position", "name");
+		writer.writeRow("Law, \"International\"", 1, "line1\nline2");
+		writer.writeRow("Economics", 2, null);
+		writer.finish();
+		CsvReader reader = new CsvReader(
+				new InputStreamReader(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8));
+		assertArrayEquals(new String[] { "faculty", "position", "name" }, reader.readRecord());
+		assertArrayEquals(new String[] { "Law, \"International\"", "1", "line1\nline2" }, reader.readRecord());
+		assertArrayEquals(new String[] { "Economics", "2", "" }, reader.readRecord());
+		assertNull(reader.readRecord());
+	}
+
+	/**
+	 * Тестирование экранирования текстовых полей CSV, начинающихся с символов
+	 * формул; числовые ячейки не экранируются
+	 */
+	@Test
+	public void testCsvFormulaEscape() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TableWriter writer = new CsvWriter(out);
+		writer.writeRow("=HYPERLINK(\"x\")", "+1", "-1", "@SUM(A1)", -1, "a=b");
+		writer.finish();
+		CsvReader reader = new CsvReader(
+				new InputStreamReader(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8));
+		assertArrayEquals(new String[] { "'=HYPERLINK(\"x\")", "'+1", "'-1", "'@SUM(A1)", "-1", "a=b" },
+				reader.readRecord());
+		assertNull(reader.readRecord());
+	}
+
+	/**
+	 * Тестирование состава архива XLSX и содержимого листа: числовых ячеек,
+	 * строковых ячеек с экранированными символами и имен ячеек
+	 */
+	@Test
+	public void testXlsxContent() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TableWriter writer = new XlsxWriter(out, "Register");
+		writer.writeRow("name", "total_score");
+		writer.writeRow("<Ivanov & Co>", 250);
+		writer.finish();
+		List<String> names = new ArrayList<String>();
+		String sheet = null;
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				names.add(entry.getName());
+				if ("xl/worksheets/sheet1.xml".equals(entry.getName())) {
+					ByteArrayOutputStream content = new ByteArrayOutputStream();
+					byte[] buffer = new byte[1024];
+					int n;
+					while ((n = zip.read(buffer)) != -1) {
+						content.write(buffer, 0, n);
+					}
+					sheet = new String(content.toByteArray(), StandardCharsets.UTF_8);
+				}
+			}
+		}
+		assertEquals(5, names.size());
+		assertEquals("[Content_Types].xml", names.get(0));
+		assertTrue(names.contains("xl/workbook.xml"));
+		assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+		assertTrue(sheet.contains("<row r=\"2\"><c r=\"A2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">"
+				+ "&lt;Ivanov &amp; Co&gt;</t></is></c><c r=\"B2\"><v>250</v></c></row>"));
+	}
+
+}